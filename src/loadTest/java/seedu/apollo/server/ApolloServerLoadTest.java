@@ -0,0 +1,88 @@
+package seedu.apollo.server;
+
+import org.junit.jupiter.api.Test;
+import seedu.apollo.module.ModuleList;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures how many requests per second the {@link ApolloServer} handles when 1000 users send a command at once.
+ * Run with {@code gradlew loadTest}, which is not part of {@code gradlew check}.
+ */
+class ApolloServerLoadTest {
+
+    private static final int USERS = 1000;
+
+    private static Logger logger = Logger.getLogger("ApolloServerLoadTest");
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @Test
+    void commands_thousandUsersAtOnce_expectAllServed() throws IOException {
+        ApolloServer server = new ApolloServer(new InetSocketAddress("localhost", 0),
+                Files.createTempDirectory("apollo-users"), new ModuleList());
+        server.start();
+        try {
+            // the first command of each user also loads their session from disk
+            double firstRate = sendToEveryUser(server, "todo read chapter ");
+            double loadedRate = sendToEveryUser(server, "todo revise chapter ");
+            report(String.format("%d users at once: %.0f requests/s with new sessions, "
+                    + "%.0f requests/s with loaded sessions", USERS, firstRate, loadedRate));
+        } finally {
+            server.stop();
+        }
+    }
+
+    /**
+     * Logs a result to the console. The handler is only added now, as Apollo resets every log handler
+     * when the first of its own loggers is set up.
+     */
+    private static void report(String message) {
+        if (logger.getHandlers().length == 0) {
+            ConsoleHandler handler = new ConsoleHandler();
+            handler.setLevel(Level.INFO);
+            logger.addHandler(handler);
+            logger.setUseParentHandlers(false);
+        }
+        logger.log(Level.INFO, message);
+    }
+
+    /**
+     * Sends one command for every user without waiting for any response, so that all of them are in flight at once.
+     *
+     * @return Number of requests served per second.
+     */
+    private double sendToEveryUser(ApolloServer server, String command) {
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < USERS; i++) {
+            HttpRequest request = HttpRequest.newBuilder(
+                    URI.create("http://localhost:" + server.getPort() + "/users/user" + i + "/commands"))
+                    .POST(HttpRequest.BodyPublishers.ofString(command + i))
+                    .build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        for (int i = 0; i < USERS; i++) {
+            HttpResponse<String> response = responses.get(i).join();
+            assertEquals(200, response.statusCode());
+            assertTrue(response.body().contains(command.trim() + " " + i));
+        }
+        return USERS / ((System.nanoTime() - start) / 1e9);
+    }
+
+}
@@ -1,15 +1,28 @@
 package seedu.apollo;
 
-import seedu.apollo.calendar.Calendar;
-import seedu.apollo.command.Command;
+import seedu.apollo.calendar.Semester;
+import seedu.apollo.calendar.SemesterUtils;
+import seedu.apollo.daemon.ApolloClient;
+import seedu.apollo.daemon.ApolloDaemon;
+import seedu.apollo.engine.ApolloEngine;
+import seedu.apollo.engine.StartupPipeline;
+import seedu.apollo.metrics.FlightRecording;
+import seedu.apollo.metrics.Metrics;
+import seedu.apollo.module.ModuleCatalogue;
 import seedu.apollo.module.ModuleList;
+import seedu.apollo.reminder.ReminderService;
+import seedu.apollo.server.ApolloServer;
+import seedu.apollo.storage.SqlStorageBackend;
 import seedu.apollo.storage.Storage;
-import seedu.apollo.task.TaskList;
-import seedu.apollo.ui.Parser;
 import seedu.apollo.ui.Ui;
 
 import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.rmi.UnexpectedException;
+import java.time.LocalDate;
 
 /**
  * Main class for running Apollo.
@@ -18,63 +31,152 @@ public class Apollo {
 
     public static final String FILE_PATH = "save.txt";
     private static final String MODULE_DATA_FILEPATH = "moduleData.txt";
+    private static final String DATABASE_PATH = "save" + SqlStorageBackend.DATABASE_EXTENSION;
 
-    private static Storage storage;
-    private static TaskList taskList;
-    private static ModuleList moduleList;
-    private static ModuleList moduleData;
-    private static Calendar calendar;
+    private static ApolloEngine engine;
     private static Ui ui;
 
 
     /**
-     * Initialises Ui, Storage, and TaskList.
+     * Initialises Ui, and loads the tasks and modules into the engine.
      *
      * @param filePath Location of the local save file.
      */
     public Apollo(String filePath, String moduleDataFilePath) {
+        this(filePath, moduleDataFilePath, false);
+    }
+
+    /**
+     * Initialises Ui, and loads the tasks and modules into the engine.
+     *
+     * @param filePath      Location of the local save file.
+     * @param isTimingShown Whether to print how long each phase of startup took.
+     */
+    public Apollo(String filePath, String moduleDataFilePath, boolean isTimingShown) {
+        this(filePath, moduleDataFilePath, isTimingShown, Storage.DEFAULT_ARCHIVE_AFTER_DAYS);
+    }
+
+    /**
+     * Initialises Ui, and loads the tasks and modules into the engine.
+     *
+     * @param filePath         Location of the local save file.
+     * @param isTimingShown    Whether to print how long each phase of startup took.
+     * @param archiveAfterDays Number of days done tasks are kept in the save file before they are archived.
+     */
+    public Apollo(String filePath, String moduleDataFilePath, boolean isTimingShown, int archiveAfterDays) {
+        this(new Storage(filePath, moduleDataFilePath), isTimingShown, archiveAfterDays);
+    }
+
+    /**
+     * Initialises Ui, and loads the tasks and modules into the engine.
+     *
+     * @param storage          Where the tasks and modules are saved.
+     * @param isTimingShown    Whether to print how long each phase of startup took.
+     * @param archiveAfterDays Number of days done tasks are kept in the save file before they are archived.
+     */
+    public Apollo(Storage storage, boolean isTimingShown, int archiveAfterDays) {
         ui = new Ui();
-        storage = new Storage(filePath, moduleDataFilePath);
-        calendar = new Calendar();
+        storage.setArchiveAfterDays(archiveAfterDays);
+        StartupPipeline startup = new StartupPipeline(storage, ui);
         try {
-            moduleData = storage.loadModuleData();
-            moduleList = storage.loadModuleList(ui, moduleData, calendar);
-            taskList = storage.loadTaskList(ui);
-            storage.updateTask(taskList);
+            engine = startup.run();
             ui.printWelcomeMessage();
+            if (isTimingShown) {
+                ui.printStartupTiming(startup.getPhaseNanos());
+            }
         } catch (IOException e) {
             ui.printErrorForIO();
         }
     }
 
     /**
-     * Reads, executes, and prints outputs of user commands continually.
+     * Reads, executes, and prints outputs of user commands continually,
+     * reminding the user of upcoming deadlines and events in between.
      * Stops after ExitCommand is called.
      *
      * @throws IOException If there are issues with saving to the hard disk.
      */
     public void run() throws IOException {
-        assert (ui != null & storage != null & taskList != null & moduleData != null & moduleList != null) :
-                "Initialising Apollo";
-        boolean isExit = false;
-        while (!isExit) {
-            String fullCommand = ui.readCommand();
-            ui.showLine();
-            Command c = Parser.getCommand(fullCommand, ui, taskList.size(), moduleData);
-            if (c != null) {
-                c.execute(taskList, ui, storage, moduleList, moduleData, calendar);
-                isExit = c.isExit;
+        assert (ui != null & engine != null) : "Initialising Apollo";
+        ReminderService reminders = new ReminderService(ui);
+        engine.setReminders(reminders);
+        reminders.start();
+        try {
+            boolean isExit = false;
+            while (!isExit) {
+                String fullCommand = ui.readCommand();
+                ui.showLine();
+                isExit = executeCommand(fullCommand, ui);
+                ui.showLine();
             }
-            ui.showLine();
+        } finally {
+            reminders.stop();
         }
     }
 
+    /**
+     * Parses and executes a single command on the currently loaded data.
+     *
+     * @param fullCommand Command line input from user.
+     * @param commandUi   Prints outputs of the command.
+     * @return {@code true} if the command exits Apollo, {@code false} otherwise.
+     * @throws UnexpectedException If an unexpected error occurs.
+     */
+    public boolean executeCommand(String fullCommand, Ui commandUi) throws UnexpectedException {
+        return engine.execute(fullCommand, commandUi);
+    }
+
     /**
      * Initialises and runs Apollo.
+     * With {@code --daemon}, keeps running in the background and serves commands sent with {@code --client}.
+     * With {@code --serve}, serves many users over HTTP instead.
      */
     public static void main(String[] args) {
+        LaunchOptions options;
         try {
-            new Apollo(FILE_PATH, MODULE_DATA_FILEPATH).run();
+            options = LaunchOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            new Ui().printInvalidLaunchOption(e);
+            return;
+        }
+
+        if (options.isRecording() && !options.isClient()) {
+            startRecording(options.getRecordingFile());
+        }
+        if (options.hasStatsFile()) {
+            writeStatsOnExit(options.getStatsFile());
+        }
+        if (options.isClient()) {
+            sendToDaemon(options.getClientCommand());
+            return;
+        }
+        ModuleCatalogue catalogue = new ModuleCatalogue(ModuleCatalogue.loadSemesters(),
+                new Storage(FILE_PATH, MODULE_DATA_FILEPATH), ModuleCatalogue.DEFAULT_CACHED_SHARDS);
+        if (!chooseSemester(options, catalogue)) {
+            return;
+        }
+        if (options.isServer()) {
+            startServer(options.getServerPort(), catalogue);
+            return;
+        }
+
+        try {
+            String moduleSaveFile = SemesterUtils.getSemester().getModuleSaveFile();
+            Storage storage = options.isUsingDatabase()
+                    ? new Storage(new SqlStorageBackend(DATABASE_PATH, moduleSaveFile))
+                    : new Storage(FILE_PATH, moduleSaveFile);
+            Apollo apollo = new Apollo(storage, options.isTimingShown(), options.getArchiveAfterDays());
+            if (engine == null) {
+                // the saved data could not be loaded, which has already been reported
+                System.exit(1);
+            }
+            if (options.isDaemon()) {
+                if (!new ApolloDaemon(apollo, Path.of(ApolloDaemon.SOCKET_PATH)).run(ui)) {
+                    System.exit(1);
+                }
+            } else {
+                apollo.run();
+            }
         } catch (UnexpectedException unexpectedException) {
             ui.printUnexpectedException(unexpectedException);
         } catch (IOException ioException) {
@@ -83,4 +185,87 @@ public class Apollo {
         System.exit(0);
     }
 
+    /**
+     * Chooses the semester to plan for, which is the one given on launch or otherwise the one containing today.
+     * Only the module data of this semester is loaded on startup.
+     *
+     * @param options   Options Apollo was launched with.
+     * @param catalogue Semesters that module data is available for.
+     * @return {@code true} if a semester was chosen, {@code false} if the given semester does not exist.
+     */
+    private static boolean chooseSemester(LaunchOptions options, ModuleCatalogue catalogue) {
+        Semester semester = options.hasSemester()
+                ? catalogue.findSemester(options.getSemesterCode())
+                : catalogue.chooseSemester(LocalDate.now());
+        if (semester == null) {
+            new Ui().printUnknownSemester(options.getSemesterCode(), catalogue.getSemesters());
+            return false;
+        }
+        SemesterUtils.setSemester(semester);
+        return true;
+    }
+
+    /**
+     * Forwards a single command to a running daemon, without loading any data.
+     *
+     * @param fullCommand Command line to be executed by the daemon.
+     */
+    private static void sendToDaemon(String fullCommand) {
+        try {
+            ApolloClient.send(Path.of(ApolloDaemon.SOCKET_PATH), fullCommand, System.out);
+        } catch (IOException e) {
+            new Ui().printDaemonNotRunning();
+        }
+    }
+
+    /**
+     * Starts a flight recording, which is written to a file once Apollo exits.
+     *
+     * @param recordingFile Location of the file to write to.
+     */
+    private static void startRecording(String recordingFile) {
+        try {
+            FlightRecording.start(Path.of(recordingFile));
+        } catch (IOException e) {
+            new Ui().printErrorForIO();
+        }
+    }
+
+    /**
+     * Writes the latencies of all commands run to a file once Apollo exits, including when it is stopped with Ctrl-C.
+     *
+     * @param statsFile Location of the file to write to.
+     */
+    private static void writeStatsOnExit(String statsFile) {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try (PrintStream out = new PrintStream(statsFile, StandardCharsets.UTF_8)) {
+                new Ui(out).printStats(Metrics.getParseLatency(), Metrics.getCommandLatencies(),
+                        Metrics.getStorageLatencies());
+            } catch (IOException e) {
+                new Ui().printErrorForIO();
+            }
+        }));
+    }
+
+    /**
+     * Starts serving users over HTTP, with each user's save files kept in a directory of their own.
+     * The module data of other semesters can be looked up, and is loaded the first time it is asked for.
+     * The server keeps running in the background until Apollo is stopped.
+     *
+     * @param port      Port to listen on.
+     * @param catalogue Module data of every semester.
+     */
+    private static void startServer(int port, ModuleCatalogue catalogue) {
+        Ui serverUi = new Ui();
+        try {
+            ModuleList sharedModuleData = catalogue.getModules(SemesterUtils.getSemester());
+            ApolloServer server = new ApolloServer(new InetSocketAddress(port), Path.of(ApolloServer.USERS_DIRECTORY),
+                    sharedModuleData, catalogue);
+            server.start();
+            serverUi.printServerStarted(server.getPort());
+        } catch (IOException e) {
+            serverUi.printErrorForIO();
+        }
+    }
+
 }
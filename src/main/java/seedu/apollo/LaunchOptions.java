@@ -0,0 +1,216 @@
+package seedu.apollo;
+
+import seedu.apollo.server.ApolloServer;
+import seedu.apollo.storage.Storage;
+
+import java.util.Arrays;
+
+/**
+ * Options passed to Apollo on the command line when it is launched.
+ */
+public class LaunchOptions {
+
+    // Flags understood by Apollo on launch
+    public static final String FLAG_DAEMON = "--daemon";
+    public static final String FLAG_CLIENT = "--client";
+    public static final String FLAG_SERVE = "--serve";
+    public static final String FLAG_STATS_FILE = "--stats-file";
+    public static final String FLAG_RECORD = "--record";
+    public static final String FLAG_TIMING = "--timing";
+    public static final String FLAG_SEMESTER = "--semester";
+    public static final String FLAG_ARCHIVE_AFTER = "--archive-after";
+    public static final String FLAG_DATABASE = "--database";
+
+    private boolean isDaemon = false;
+    private String clientCommand = null;
+    private Integer serverPort = null;
+    private String statsFile = null;
+    private String recordingFile = null;
+    private boolean isTimingShown = false;
+    private String semesterCode = null;
+    private int archiveAfterDays = Storage.DEFAULT_ARCHIVE_AFTER_DAYS;
+    private boolean isUsingDatabase = false;
+
+    /**
+     * Parses the command line arguments Apollo was launched with.
+     *
+     * @param args Command line arguments.
+     * @return LaunchOptions describing the arguments.
+     * @throws IllegalArgumentException If an argument is not understood.
+     */
+    public static LaunchOptions parse(String[] args) throws IllegalArgumentException {
+        LaunchOptions options = new LaunchOptions();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+            case FLAG_DAEMON:
+                options.isDaemon = true;
+                break;
+            case FLAG_CLIENT:
+                // everything after the flag is the command to forward to the daemon
+                String[] command = Arrays.copyOfRange(args, i + 1, args.length);
+                if (command.length == 0) {
+                    throw new IllegalArgumentException(FLAG_CLIENT);
+                }
+                options.clientCommand = String.join(" ", command);
+                i = args.length;
+                break;
+            case FLAG_SERVE:
+                // the port is optional
+                options.serverPort = ApolloServer.DEFAULT_PORT;
+                if (i + 1 < args.length && args[i + 1].matches("\\d{1,5}")) {
+                    i++;
+                    options.serverPort = Integer.parseInt(args[i]);
+                    if (options.serverPort > 65535) {
+                        throw new IllegalArgumentException(args[i]);
+                    }
+                }
+                break;
+            case FLAG_STATS_FILE:
+                if (i + 1 == args.length) {
+                    throw new IllegalArgumentException(FLAG_STATS_FILE);
+                }
+                i++;
+                options.statsFile = args[i];
+                break;
+            case FLAG_RECORD:
+                if (i + 1 == args.length) {
+                    throw new IllegalArgumentException(FLAG_RECORD);
+                }
+                i++;
+                options.recordingFile = args[i];
+                break;
+            case FLAG_TIMING:
+                options.isTimingShown = true;
+                break;
+            case FLAG_SEMESTER:
+                if (i + 1 == args.length) {
+                    throw new IllegalArgumentException(FLAG_SEMESTER);
+                }
+                i++;
+                options.semesterCode = args[i];
+                break;
+            case FLAG_ARCHIVE_AFTER:
+                if (i + 1 == args.length || !args[i + 1].matches("\\d{1,5}")) {
+                    throw new IllegalArgumentException(FLAG_ARCHIVE_AFTER);
+                }
+                i++;
+                options.archiveAfterDays = Integer.parseInt(args[i]);
+                break;
+            case FLAG_DATABASE:
+                options.isUsingDatabase = true;
+                break;
+            default:
+                throw new IllegalArgumentException(args[i]);
+            }
+        }
+        if (options.isDaemon && options.isClient()) {
+            throw new IllegalArgumentException(FLAG_CLIENT);
+        }
+        if (options.isServer() && (options.isDaemon || options.isClient())) {
+            throw new IllegalArgumentException(FLAG_SERVE);
+        }
+        return options;
+    }
+
+    /**
+     * Checks if Apollo should run as a daemon serving commands over a socket.
+     *
+     * @return {@code true} if Apollo should run as a daemon, {@code false} otherwise.
+     */
+    public boolean isDaemon() {
+        return isDaemon;
+    }
+
+    /**
+     * Checks if Apollo should only forward a single command to a running daemon.
+     *
+     * @return {@code true} if Apollo should run as a client, {@code false} otherwise.
+     */
+    public boolean isClient() {
+        return clientCommand != null;
+    }
+
+    public String getClientCommand() {
+        return clientCommand;
+    }
+
+    /**
+     * Checks if Apollo should serve many users over HTTP.
+     *
+     * @return {@code true} if Apollo should run as a server, {@code false} otherwise.
+     */
+    public boolean isServer() {
+        return serverPort != null;
+    }
+
+    public int getServerPort() {
+        return serverPort;
+    }
+
+    /**
+     * Checks if the latencies of commands should be written to a file when Apollo exits.
+     *
+     * @return {@code true} if a file for the latencies was given, {@code false} otherwise.
+     */
+    public boolean hasStatsFile() {
+        return statsFile != null;
+    }
+
+    public String getStatsFile() {
+        return statsFile;
+    }
+
+    /**
+     * Checks if a flight recording should be made while Apollo runs.
+     *
+     * @return {@code true} if a file for the recording was given, {@code false} otherwise.
+     */
+    public boolean isRecording() {
+        return recordingFile != null;
+    }
+
+    public String getRecordingFile() {
+        return recordingFile;
+    }
+
+    /**
+     * Checks if Apollo should print how long each phase of startup took.
+     *
+     * @return {@code true} if startup timings should be printed, {@code false} otherwise.
+     */
+    public boolean isTimingShown() {
+        return isTimingShown;
+    }
+
+    /**
+     * Checks if a semester to plan for was chosen, instead of the one containing today's date.
+     *
+     * @return {@code true} if a semester was given, {@code false} otherwise.
+     */
+    public boolean hasSemester() {
+        return semesterCode != null;
+    }
+
+    public String getSemesterCode() {
+        return semesterCode;
+    }
+
+    /**
+     * Returns the number of days done tasks are kept in the save file before they are moved to the archive.
+     *
+     * @return Number of days, which is {@link Storage#DEFAULT_ARCHIVE_AFTER_DAYS} unless another was given.
+     */
+    public int getArchiveAfterDays() {
+        return archiveAfterDays;
+    }
+
+    /**
+     * Checks if tasks and modules should be saved in an embedded database instead of text files.
+     *
+     * @return {@code true} if a database should be used, {@code false} otherwise.
+     */
+    public boolean isUsingDatabase() {
+        return isUsingDatabase;
+    }
+
+}
@@ -7,9 +7,16 @@ import seedu.apollo.module.Timetable;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
+import static seedu.apollo.calendar.SemesterUtils.getWeekNumber;
+import static seedu.apollo.calendar.SemesterUtils.getWeekStart;
 import static seedu.apollo.utils.DayTypeUtil.determineDay;
 
 /**
@@ -18,6 +25,8 @@ import static seedu.apollo.utils.DayTypeUtil.determineDay;
 
 public class Calendar extends ArrayList<ArrayList<CalendarModule>> {
 
+    private final OccupancyBitmap occupancy = new OccupancyBitmap();
+
     /**
      *  Constructor for Calendar.
      */
@@ -35,26 +44,196 @@ public class Calendar extends ArrayList<ArrayList<CalendarModule>> {
      */
 
     public void addModule(Module module) throws InvalidSaveFile {
+        if (module.getModuleTimetable() == null) {
+            return;
+        }
+        for (Timetable timetable : module.getModuleTimetable()) {
+            addLesson(module, timetable);
+        }
+    }
 
-        try {
-            for (Timetable timetable : module.getModuleTimetable()) {
-                CalendarModule calendarModule = new CalendarModule(module.getCode(),
-                        module.getTitle(), module.getModuleCredits());
-
-                calendarModule.setSchedule(timetable);
-                int index = determineDay(calendarModule.getDay());
-                if (index == -1) {
-                    throw new InvalidSaveFile();
-                }
+    /**
+     * Adds a single lesson of a module to the calendar.
+     *
+     * @param module    The module the lesson belongs to.
+     * @param timetable The lesson to be added.
+     * @throws InvalidSaveFile If the lesson is not on a valid day.
+     */
+    public void addLesson(Module module, Timetable timetable) throws InvalidSaveFile {
+        int index = determineDay(timetable.getDay());
+        if (index == -1) {
+            throw new InvalidSaveFile();
+        }
 
-                this.get(index).add(calendarModule);
-                this.sortDayByTime(this.get(index));
+        CalendarModule calendarModule = new CalendarModule(module.getCode(), module.getTitle(),
+                module.getModuleCredits());
+        calendarModule.setSchedule(timetable);
+        this.get(index).add(calendarModule);
+        this.sortDayByTime(this.get(index));
+        occupancy.add(timetable);
+    }
 
+    /**
+     * Adds many lessons to the calendar at once, sorting each day they fall on only once.
+     * No lesson is added if any of them is not on a valid day.
+     *
+     * @param lessons The lessons to be added, each with the module it belongs to.
+     * @throws InvalidSaveFile If a lesson is not on a valid day.
+     */
+    public void addLessons(List<CalendarModule> lessons) throws InvalidSaveFile {
+        for (CalendarModule lesson : lessons) {
+            if (determineDay(lesson.getSchedule().getDay()) == -1) {
+                throw new InvalidSaveFile();
+            }
+        }
+        boolean[] isChanged = new boolean[7];
+        for (CalendarModule lesson : lessons) {
+            int index = determineDay(lesson.getSchedule().getDay());
+            this.get(index).add(lesson);
+            occupancy.add(lesson.getSchedule());
+            isChanged[index] = true;
+        }
+        for (int i = 0; i < 7; i++) {
+            if (isChanged[i]) {
+                this.sortDayByTime(this.get(i));
             }
-        } catch (NullPointerException e) {
+        }
+    }
+
+    /**
+     * Removes a single lesson of a module from the calendar.
+     *
+     * @param module    The module the lesson belongs to.
+     * @param timetable The lesson to be removed.
+     */
+    public void removeLesson(Module module, Timetable timetable) {
+        int index = determineDay(timetable.getDay());
+        if (index == -1) {
             return;
         }
+        boolean isRemoved = this.get(index).removeIf(lesson -> lesson.getCode().equals(module.getCode())
+                && lesson.getSchedule() == timetable);
+        if (isRemoved) {
+            refreshOccupancy(index, timetable);
+        }
+    }
+
+    /**
+     * Removes all lessons of a module from the calendar.
+     *
+     * @param module The module to be removed.
+     */
+    public void removeModule(Module module) {
+        for (int i = 0; i < 7; i++) {
+            ArrayList<CalendarModule> removed = new ArrayList<>();
+            for (CalendarModule lesson : this.get(i)) {
+                if (lesson.getCode().equals(module.getCode())) {
+                    removed.add(lesson);
+                }
+            }
+            this.get(i).removeAll(removed);
+            for (CalendarModule lesson : removed) {
+                refreshOccupancy(i, lesson.getSchedule());
+            }
+        }
+    }
+
+    /**
+     * Checks if the lesson clashes with any lesson in the calendar, in any week they both take place.
+     *
+     * @param timetable The lesson to be checked.
+     * @return True if the lesson clashes with a lesson in the calendar.
+     */
+    public boolean isClashing(Timetable timetable) {
+        return occupancy.isOccupied(timetable);
+    }
+
+    /**
+     * Checks if any lesson in the calendar takes place while an event is happening.
+     * Each lesson is only compared against the weeks it takes place in,
+     * so the check takes as long for an event lasting months as for one lasting an hour.
+     *
+     * @param from The time that the event starts.
+     * @param to   The time that the event ends.
+     * @return True if the event overlaps with any lesson. Events that only touch a lesson do not clash with it.
+     */
+    public boolean isClashing(LocalDateTime from, LocalDateTime to) {
+        for (int day = 0; day < 7; day++) {
+            for (CalendarModule lesson : this.get(day)) {
+                if (lesson.getSchedule() != null && isDuring(lesson.getSchedule(), day, from, to)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if any week's occurrence of a lesson overlaps with the given period.
+     *
+     * @param timetable The lesson to be checked.
+     * @param day       The day of the week the lesson is on, starting from {@code 0} for Monday.
+     * @param from      The start of the period.
+     * @param to        The end of the period.
+     * @return True if the lesson takes place during the period.
+     */
+    private static boolean isDuring(Timetable timetable, int day, LocalDateTime from, LocalDateTime to) {
+        LocalTime startTime;
+        LocalTime endTime;
+        try {
+            startTime = LocalTime.parse(timetable.getStartTime(), Timetable.parsePattern);
+            endTime = LocalTime.parse(timetable.getEndTime(), Timetable.parsePattern);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
 
+        for (int week : timetable.getWeeks()) {
+            LocalDate weekStart = getWeekStart(week);
+            if (weekStart == null) {
+                continue;
+            }
+            LocalDate date = weekStart.plusDays(day);
+            if (date.atTime(startTime).isBefore(to) && date.atTime(endTime).isAfter(from)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns when each lesson takes place between two dates, in the teaching weeks those dates fall in.
+     *
+     * @param from The first date to return lessons for.
+     * @param to   The last date to return lessons for.
+     * @return The times of the lessons, ignoring lessons with invalid times.
+     */
+    public List<FreeTimeFinder.Interval> getLessonTimes(LocalDate from, LocalDate to) {
+        List<FreeTimeFinder.Interval> lessonTimes = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            int week = getWeekNumber(date);
+            if (week <= 0) {
+                continue;
+            }
+            for (CalendarModule lesson : getLessonsForDay(week, date.getDayOfWeek().getValue() - 1)) {
+                int start = OccupancyBitmap.toMinutes(lesson.getSchedule().getStartTime());
+                int end = OccupancyBitmap.toMinutes(lesson.getSchedule().getEndTime());
+                if (start >= 0 && end > start) {
+                    lessonTimes.add(new FreeTimeFinder.Interval(date.atStartOfDay().plusMinutes(start),
+                            date.atStartOfDay().plusMinutes(end)));
+                }
+            }
+        }
+        return lessonTimes;
+    }
+
+    /**
+     * Frees the slots of a removed lesson, then takes up those shared with lessons still on the same day.
+     */
+    private void refreshOccupancy(int index, Timetable removed) {
+        occupancy.remove(removed);
+        for (CalendarModule lesson : this.get(index)) {
+            occupancy.add(lesson.getSchedule());
+        }
     }
 
     /**
@@ -66,16 +245,15 @@ public class Calendar extends ArrayList<ArrayList<CalendarModule>> {
      */
     public ArrayList<CalendarModule> getLessonsForDay(int week, int day) {
 
-        ArrayList<CalendarModule> calendarModules = this.get(day);
-        ArrayList<CalendarModule> modulesForDay = new ArrayList<>(calendarModules);
-
-        for (CalendarModule lesson : modulesForDay) {
-            if (!lesson.isCurrentWeek(week)) {
-                calendarModules.remove(lesson);
+        // the lessons are copied, as the calendar must not change when it is only being viewed
+        ArrayList<CalendarModule> modulesForDay = new ArrayList<>();
+        for (CalendarModule lesson : this.get(day)) {
+            if (lesson.isCurrentWeek(week)) {
+                modulesForDay.add(lesson);
             }
         }
 
-        return calendarModules;
+        return modulesForDay;
     }
 
 
@@ -86,6 +264,7 @@ public class Calendar extends ArrayList<ArrayList<CalendarModule>> {
         for (int i = 0; i < 7; i++) {
             this.get(i).clear();
         }
+        occupancy.clear();
     }
 
     /**
@@ -0,0 +1,99 @@
+package seedu.apollo.calendar;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Finds the times the user is free, given the times they are busy with lessons and events.
+ * Busy times are sorted by when they start, then swept through once, so overlapping busy times merge
+ * and every gap between them is found in a single pass.
+ * Times outside of {@link #DAY_START} and {@link #DAY_END} are treated as busy, so free times never span a night.
+ */
+public class FreeTimeFinder {
+
+    public static final LocalTime DAY_START = LocalTime.of(8, 0);
+    public static final LocalTime DAY_END = LocalTime.of(22, 0);
+
+    private final List<Interval> busyTimes = new ArrayList<>();
+
+    /**
+     * Marks a period as busy. Periods that end before they start are ignored.
+     *
+     * @param from The start of the period.
+     * @param to   The end of the period.
+     */
+    public void addBusy(LocalDateTime from, LocalDateTime to) {
+        if (from.isBefore(to)) {
+            busyTimes.add(new Interval(from, to));
+        }
+    }
+
+    /**
+     * Returns the free times within a period that are at least as long as the given length.
+     *
+     * @param from      The start of the period to search.
+     * @param to        The end of the period to search.
+     * @param minLength The shortest free time to return.
+     * @return Free times in the period, in chronological order.
+     */
+    public List<Interval> findFreeTimes(LocalDateTime from, LocalDateTime to, Duration minLength) {
+        List<Interval> sorted = new ArrayList<>(busyTimes);
+        for (LocalDate date = from.toLocalDate(); !date.isAfter(to.toLocalDate()); date = date.plusDays(1)) {
+            sorted.add(new Interval(date.atStartOfDay(), date.atTime(DAY_START)));
+            sorted.add(new Interval(date.atTime(DAY_END), date.plusDays(1).atStartOfDay()));
+        }
+        sorted.sort(Comparator.comparing(Interval::getStart));
+
+        List<Interval> freeTimes = new ArrayList<>();
+        LocalDateTime freeFrom = from;
+        for (Interval busy : sorted) {
+            if (!busy.getStart().isBefore(to)) {
+                break;
+            }
+            addIfLongEnough(freeTimes, freeFrom, busy.getStart(), minLength);
+            if (busy.getEnd().isAfter(freeFrom)) {
+                freeFrom = busy.getEnd();
+            }
+        }
+        addIfLongEnough(freeTimes, freeFrom, to, minLength);
+        return freeTimes;
+    }
+
+    private static void addIfLongEnough(List<Interval> freeTimes, LocalDateTime from, LocalDateTime to,
+                                        Duration minLength) {
+        if (from.isBefore(to) && Duration.between(from, to).compareTo(minLength) >= 0) {
+            freeTimes.add(new Interval(from, to));
+        }
+    }
+
+    /**
+     * A period of time, from its start up to but not including its end.
+     */
+    public static class Interval {
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+
+        public Interval(LocalDateTime start, LocalDateTime end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        public LocalDateTime getStart() {
+            return start;
+        }
+
+        public LocalDateTime getEnd() {
+            return end;
+        }
+
+        public Duration getLength() {
+            return Duration.between(start, end);
+        }
+    }
+
+}
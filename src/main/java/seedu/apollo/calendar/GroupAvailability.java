@@ -0,0 +1,140 @@
+package seedu.apollo.calendar;
+
+import seedu.apollo.module.Module;
+import seedu.apollo.module.ModuleList;
+import seedu.apollo.module.Timetable;
+import seedu.apollo.storage.Storage;
+import seedu.apollo.task.Event;
+import seedu.apollo.task.RecurringEvent;
+import seedu.apollo.task.Task;
+import seedu.apollo.task.TaskList;
+import seedu.apollo.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * When the members of a group are busy, loaded from the save files of each member.
+ * The lessons of every member are combined into one {@link OccupancyBitmap}, so finding the times all members
+ * are free takes the same time for hundreds of members as for one.
+ * Events still have to be kept one by one, as they take place on particular dates rather than every teaching week.
+ * Recurring events are kept as their rules, and only expanded over the period being searched.
+ */
+public class GroupAvailability {
+
+    public static final String TASK_SAVE_FILE = "save.txt";
+
+    private final OccupancyBitmap lessons = new OccupancyBitmap();
+    private final List<FreeTimeFinder.Interval> events = new ArrayList<>();
+    private final List<RecurringEvent> recurringEvents = new ArrayList<>();
+    private int memberCount = 0;
+
+    /**
+     * Loads the lessons and events of every member of a group, several members at a time.
+     * Members are resolved against the same module data, which is only read.
+     *
+     * @param memberDirectories Directories containing the save files of each member.
+     * @param allModules        Module data of the current semester.
+     * @return When the members are busy.
+     * @throws IOException If the save files of a member cannot be read.
+     */
+    public static GroupAvailability load(List<Path> memberDirectories, ModuleList allModules) throws IOException {
+        try {
+            return memberDirectories.parallelStream().collect(GroupAvailability::new,
+                    (group, directory) -> group.addMember(directory, allModules), GroupAvailability::addAll);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Checks if a directory contains the save files of a member.
+     *
+     * @param directory The directory to be checked.
+     * @return True if the directory contains a module save file for the current semester.
+     */
+    public static boolean isMemberDirectory(Path directory) {
+        return Files.isRegularFile(directory.resolve(SemesterUtils.getSemester().getModuleSaveFile()));
+    }
+
+    private void addMember(Path directory, ModuleList allModules) {
+        // warnings about corrupted save files of other members are not shown
+        Ui silentUi = new Ui(new PrintStream(new ByteArrayOutputStream(), false, StandardCharsets.UTF_8));
+        Path taskFile = directory.resolve(TASK_SAVE_FILE);
+        Storage storage = new Storage(taskFile.toString(),
+                directory.resolve(SemesterUtils.getSemester().getModuleSaveFile()).toString());
+        try {
+            for (Module module : storage.loadModuleList(silentUi, allModules, new Calendar())) {
+                if (module.getModuleTimetable() == null) {
+                    continue;
+                }
+                for (Timetable lesson : module.getModuleTimetable()) {
+                    lessons.add(lesson);
+                }
+            }
+            if (Files.isRegularFile(taskFile)) {
+                for (Task task : storage.loadTaskList(silentUi)) {
+                    if (task instanceof Event) {
+                        Event event = (Event) task;
+                        events.add(new FreeTimeFinder.Interval(event.getFromDate(), event.getToDate()));
+                    } else if (task instanceof RecurringEvent) {
+                        recurringEvents.add((RecurringEvent) task);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        memberCount++;
+    }
+
+    private void addAll(GroupAvailability other) {
+        lessons.addAll(other.lessons);
+        events.addAll(other.events);
+        recurringEvents.addAll(other.recurringEvents);
+        memberCount += other.memberCount;
+    }
+
+    public int getMemberCount() {
+        return memberCount;
+    }
+
+    /**
+     * Returns the times within a period that every member is free, for at least the given length.
+     *
+     * @param from      The start of the period to search.
+     * @param to        The end of the period to search.
+     * @param minLength The shortest free time to return.
+     * @return Common free times in the period, in chronological order.
+     */
+    public List<FreeTimeFinder.Interval> findFreeTimes(LocalDateTime from, LocalDateTime to, Duration minLength) {
+        FreeTimeFinder finder = new FreeTimeFinder();
+        for (LocalDate date = from.toLocalDate(); !date.isAfter(to.toLocalDate()); date = date.plusDays(1)) {
+            int day = date.getDayOfWeek().getValue() - 1;
+            LocalDateTime midnight = date.atStartOfDay();
+            for (int[] minutes : lessons.getOccupiedMinutes(SemesterUtils.getWeekNumber(date), day)) {
+                finder.addBusy(midnight.plusMinutes(minutes[0]), midnight.plusMinutes(minutes[1]));
+            }
+        }
+        for (FreeTimeFinder.Interval event : events) {
+            finder.addBusy(event.getStart(), event.getEnd());
+        }
+        for (RecurringEvent event : recurringEvents) {
+            for (LocalDateTime start : event.getRecurrence().getStartsBetween(from, to)) {
+                finder.addBusy(start, start.plus(event.getLength()));
+            }
+        }
+        return finder.findFreeTimes(from, to, minLength);
+    }
+
+}
@@ -0,0 +1,260 @@
+package seedu.apollo.calendar;
+
+import seedu.apollo.module.Timetable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static seedu.apollo.utils.DayTypeUtil.determineDay;
+
+/**
+ * Times taken up by lessons in each teaching week of the semester.
+ * Each week is a bitset of 5-minute slots from Monday 0000 to Sunday 2400,
+ * so checking a lesson for clashes only takes a few word-wise ANDs for each of its weeks.
+ * Lesson times that do not fall on a slot boundary are rounded outwards to the nearest slots.
+ */
+public class OccupancyBitmap {
+
+    public static final int SLOT_MINUTES = 5;
+    public static final int TEACHING_WEEKS = 13;
+
+    private static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    private static final int SLOTS_PER_WEEK = 7 * SLOTS_PER_DAY;
+    private static final int WORDS_PER_WEEK = (SLOTS_PER_WEEK + Long.SIZE - 1) / Long.SIZE;
+
+    private final long[][] occupied = new long[TEACHING_WEEKS][WORDS_PER_WEEK];
+
+    /**
+     * Initialises a bitmap with every slot free.
+     */
+    public OccupancyBitmap() {
+    }
+
+    /**
+     * Initialises a bitmap with the same slots taken up as another bitmap.
+     *
+     * @param other The bitmap to be copied.
+     */
+    public OccupancyBitmap(OccupancyBitmap other) {
+        for (int week = 0; week < TEACHING_WEEKS; week++) {
+            System.arraycopy(other.occupied[week], 0, occupied[week], 0, WORDS_PER_WEEK);
+        }
+    }
+
+    /**
+     * Checks if any slot of the lesson is already taken up, in any of the weeks it takes place.
+     * Lessons that only touch, such as one ending at 1000 and another starting at 1000, do not clash.
+     *
+     * @param lesson The lesson to be checked.
+     * @return True if the lesson clashes with a lesson that has been added.
+     */
+    public boolean isOccupied(Timetable lesson) {
+        int from = getFirstSlot(lesson);
+        int to = getEndSlot(lesson);
+        if (from < 0 || to <= from) {
+            return false;
+        }
+        for (int week : lesson.getWeeks()) {
+            if (!isTeachingWeek(week)) {
+                continue;
+            }
+            long[] words = occupied[week - 1];
+            for (int word = from / Long.SIZE; word <= (to - 1) / Long.SIZE; word++) {
+                if ((words[word] & getMask(word, from, to)) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Marks the slots of the lesson as taken up, in every week it takes place.
+     *
+     * @param lesson The lesson to be added.
+     */
+    public void add(Timetable lesson) {
+        setSlots(lesson, true);
+    }
+
+    /**
+     * Marks the slots of the lesson as free, in every week it takes place.
+     * Slots shared with other lessons are freed as well, so those lessons have to be added again.
+     *
+     * @param lesson The lesson to be removed.
+     */
+    public void remove(Timetable lesson) {
+        setSlots(lesson, false);
+    }
+
+    /**
+     * Checks if any slot is taken up in both this bitmap and another bitmap.
+     *
+     * @param other The bitmap to be checked against.
+     * @return True if the two bitmaps share a taken up slot.
+     */
+    public boolean intersects(OccupancyBitmap other) {
+        for (int week = 0; week < TEACHING_WEEKS; week++) {
+            long[] words = occupied[week];
+            long[] otherWords = other.occupied[week];
+            for (int word = 0; word < WORDS_PER_WEEK; word++) {
+                if ((words[word] & otherWords[word]) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Marks every slot taken up in another bitmap as taken up in this bitmap.
+     *
+     * @param other The bitmap to be added.
+     */
+    public void addAll(OccupancyBitmap other) {
+        for (int week = 0; week < TEACHING_WEEKS; week++) {
+            for (int word = 0; word < WORDS_PER_WEEK; word++) {
+                occupied[week][word] |= other.occupied[week][word];
+            }
+        }
+    }
+
+    /**
+     * Marks every slot taken up in another bitmap as free in this bitmap.
+     *
+     * @param other The bitmap to be removed.
+     */
+    public void removeAll(OccupancyBitmap other) {
+        for (int week = 0; week < TEACHING_WEEKS; week++) {
+            for (int word = 0; word < WORDS_PER_WEEK; word++) {
+                occupied[week][word] &= ~other.occupied[week][word];
+            }
+        }
+    }
+
+    /**
+     * Returns the periods of a day that are taken up, merging slots that follow each other.
+     *
+     * @param week The teaching week, starting from {@code 1}.
+     * @param day  The day of the week, starting from {@code 0} for Monday.
+     * @return Start and end of each period in minutes after midnight, in chronological order.
+     */
+    public List<int[]> getOccupiedMinutes(int week, int day) {
+        List<int[]> periods = new ArrayList<>();
+        if (!isTeachingWeek(week)) {
+            return periods;
+        }
+        long[] words = occupied[week - 1];
+        int start = -1;
+        for (int slot = day * SLOTS_PER_DAY; slot < (day + 1) * SLOTS_PER_DAY; slot++) {
+            boolean isOccupied = (words[slot / Long.SIZE] & (1L << (slot % Long.SIZE))) != 0;
+            if (isOccupied && start == -1) {
+                start = slot;
+            } else if (!isOccupied && start != -1) {
+                periods.add(toMinutesOfDay(start, slot, day));
+                start = -1;
+            }
+        }
+        if (start != -1) {
+            periods.add(toMinutesOfDay(start, (day + 1) * SLOTS_PER_DAY, day));
+        }
+        return periods;
+    }
+
+    private static int[] toMinutesOfDay(int fromSlot, int toSlot, int day) {
+        int dayStart = day * SLOTS_PER_DAY;
+        return new int[]{(fromSlot - dayStart) * SLOT_MINUTES, (toSlot - dayStart) * SLOT_MINUTES};
+    }
+
+    /**
+     * Marks every slot as free.
+     */
+    public void clear() {
+        for (long[] words : occupied) {
+            Arrays.fill(words, 0);
+        }
+    }
+
+    private void setSlots(Timetable lesson, boolean isOccupied) {
+        int from = getFirstSlot(lesson);
+        int to = getEndSlot(lesson);
+        if (from < 0 || to <= from) {
+            return;
+        }
+        for (int week : lesson.getWeeks()) {
+            if (!isTeachingWeek(week)) {
+                continue;
+            }
+            long[] words = occupied[week - 1];
+            for (int word = from / Long.SIZE; word <= (to - 1) / Long.SIZE; word++) {
+                if (isOccupied) {
+                    words[word] |= getMask(word, from, to);
+                } else {
+                    words[word] &= ~getMask(word, from, to);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the bits of a word that lie within the slots {@code [from, to)} of a week.
+     */
+    private static long getMask(int word, int from, int to) {
+        int low = Math.max(from - word * Long.SIZE, 0);
+        int high = Math.min(to - word * Long.SIZE, Long.SIZE);
+        long belowHigh = (high == Long.SIZE) ? -1L : (1L << high) - 1;
+        return belowHigh & (-1L << low);
+    }
+
+    private static boolean isTeachingWeek(int week) {
+        return week >= 1 && week <= TEACHING_WEEKS;
+    }
+
+    /**
+     * Returns the slot of the week the lesson starts in, or {@code -1} if its day or start time is invalid.
+     */
+    private static int getFirstSlot(Timetable lesson) {
+        int day = determineDay(lesson.getDay());
+        int minutes = toMinutes(lesson.getStartTime());
+        if (day == -1 || minutes < 0) {
+            return -1;
+        }
+        return day * SLOTS_PER_DAY + minutes / SLOT_MINUTES;
+    }
+
+    /**
+     * Returns the slot of the week right after the lesson ends, or {@code -1} if its day or end time is invalid.
+     */
+    private static int getEndSlot(Timetable lesson) {
+        int day = determineDay(lesson.getDay());
+        int minutes = toMinutes(lesson.getEndTime());
+        if (day == -1 || minutes < 0) {
+            return -1;
+        }
+        return day * SLOTS_PER_DAY + (minutes + SLOT_MINUTES - 1) / SLOT_MINUTES;
+    }
+
+    /**
+     * Converts a time in HHmm format to minutes after midnight.
+     *
+     * @param time Time in HHmm format, e.g. 1630.
+     * @return Minutes after midnight, or {@code -1} if the time is invalid.
+     */
+    static int toMinutes(String time) {
+        if (time == null || time.length() != 4) {
+            return -1;
+        }
+        try {
+            int hours = Integer.parseInt(time.substring(0, 2));
+            int minutes = Integer.parseInt(time.substring(2));
+            if (hours < 0 || minutes < 0 || minutes >= 60 || hours * 60 + minutes > 24 * 60) {
+                return -1;
+            }
+            return hours * 60 + minutes;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+}
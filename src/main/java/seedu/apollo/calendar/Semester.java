@@ -0,0 +1,162 @@
+package seedu.apollo.calendar;
+
+import java.time.LocalDate;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+
+/**
+ * A semester of the academic calendar, with the module data that is offered in it.
+ * Every semester has one recess week, and its remaining weeks are numbered from the first Monday of the semester.
+ * The week of every day in the semester is worked out once, so looking up a week only takes an array access.
+ */
+public class Semester {
+
+    /**
+     * The semester Apollo was first released for, used when no other semesters are listed.
+     */
+    public static final Semester AY2223_S2 = new Semester("AY2223S2", "AY22/23 Semester 2",
+            LocalDate.of(2023, 1, 9), LocalDate.of(2023, 2, 19), LocalDate.of(2023, 2, 27),
+            LocalDate.of(2023, 5, 6), "data.json", "moduleData.txt");
+
+    private final String code;
+    private final String name;
+    private final LocalDate start;
+    private final LocalDate recessStart;
+    private final LocalDate recessEnd;
+    private final LocalDate end;
+    private final String dataFile;
+    private final String moduleSaveFile;
+    private final int weeksBeforeRecess;
+    private final long startEpochDay;
+    // week code of each day of the semester, indexed by days since the start of the semester
+    private final byte[] weekCodes;
+    // the Monday each week starts on, indexed by week number
+    private final LocalDate[] weekStarts;
+
+    /**
+     * Initialises the semester with its dates and files.
+     *
+     * @param code           Short code of the semester, e.g. AY2223S2.
+     * @param name           Name of the semester shown to the user, e.g. AY22/23 Semester 2.
+     * @param start          The Monday of the first week.
+     * @param recessStart    The Sunday before recess week.
+     * @param recessEnd      The Monday after recess week.
+     * @param end            The last day of the semester, including the examination weeks.
+     * @param dataFile       Name of the resource containing the modules offered in the semester.
+     * @param moduleSaveFile Name of the file the user's modules for the semester are saved to.
+     */
+    public Semester(String code, String name, LocalDate start, LocalDate recessStart, LocalDate recessEnd,
+                    LocalDate end, String dataFile, String moduleSaveFile) {
+        this.code = code;
+        this.name = name;
+        this.start = start;
+        this.recessStart = recessStart;
+        this.recessEnd = recessEnd;
+        this.end = end;
+        this.dataFile = dataFile;
+        this.moduleSaveFile = moduleSaveFile;
+        this.weeksBeforeRecess = (int) DAYS.between(start, recessEnd) / 7 - 1;
+        this.startEpochDay = start.toEpochDay();
+        this.weekCodes = new byte[(int) DAYS.between(start, end) + 1];
+        for (int i = 0; i < weekCodes.length; i++) {
+            weekCodes[i] = (byte) computeWeekNumber(start.plusDays(i));
+        }
+        this.weekStarts = new LocalDate[computeWeekNumber(end) + 1];
+        for (int week = 1; week < weekStarts.length; week++) {
+            weekStarts[week] = computeWeekStart(week);
+        }
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LocalDate getStart() {
+        return start;
+    }
+
+    public LocalDate getEnd() {
+        return end;
+    }
+
+    public String getDataFile() {
+        return dataFile;
+    }
+
+    public String getModuleSaveFile() {
+        return moduleSaveFile;
+    }
+
+    /**
+     * Checks if a date falls within the semester.
+     *
+     * @param date The date to be checked.
+     * @return True if the date is between the start and end of the semester, inclusive.
+     */
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(start) && !date.isAfter(end);
+    }
+
+    /**
+     * Returns the week number of the semester for a particular date.
+     *
+     * @param date The date to be checked.
+     * @return The week number, {@code 0} if the date is outside the semester, or {@code -1} during recess week.
+     */
+    public int getWeekNumber(LocalDate date) {
+        long day = date.toEpochDay() - startEpochDay;
+        if (day < 0 || day >= weekCodes.length) {
+            return 0;
+        }
+        return weekCodes[(int) day];
+    }
+
+    /**
+     * Returns the Monday that a week of the semester starts on.
+     *
+     * @param week The week number of the semester, starting from {@code 1}.
+     * @return The date the week starts on, or {@code null} if the week is not part of the semester.
+     */
+    public LocalDate getWeekStart(int week) {
+        if (week < 1 || week >= weekStarts.length) {
+            return null;
+        }
+        return weekStarts[week];
+    }
+
+    private int computeWeekNumber(LocalDate date) {
+        if (!contains(date)) {
+            return 0;
+        }
+
+        if (date.isBefore(recessEnd) && date.isAfter(recessStart)) {
+            return -1;
+        }
+
+        if (!date.isBefore(recessEnd)) {
+            return (int) DAYS.between(recessEnd, date) / 7 + 1 + weeksBeforeRecess;
+        }
+        return (int) DAYS.between(start, date) / 7 + 1;
+    }
+
+    private LocalDate computeWeekStart(int week) {
+        LocalDate weekStart;
+        if (week <= weeksBeforeRecess) {
+            weekStart = start.plusWeeks(week - 1);
+        } else {
+            weekStart = recessEnd.plusWeeks(week - weeksBeforeRecess - 1);
+        }
+
+        return weekStart.isAfter(end) ? null : weekStart;
+    }
+
+    @Override
+    public String toString() {
+        return code + ": " + name;
+    }
+
+}
@@ -2,14 +2,31 @@ package seedu.apollo.calendar;
 
 import java.time.LocalDate;
 
-import static java.time.temporal.ChronoUnit.DAYS;
-
+/**
+ * Week numbers of the semester Apollo is currently planning for.
+ */
 public class SemesterUtils {
 
-    private static final LocalDate SEMESTER_START = LocalDate.of(2023, 1, 9);
-    private static final LocalDate SEMESTER_END = LocalDate.of(2023, 5, 6);
-    private static final LocalDate RECESS_START = LocalDate.of(2023, 2, 19);
-    private static final LocalDate RECESS_END = LocalDate.of(2023, 2, 27);
+    private static volatile Semester semester = Semester.AY2223_S2;
+
+    /**
+     * Returns the semester Apollo is currently planning for.
+     *
+     * @return The current semester.
+     */
+    public static Semester getSemester() {
+        return semester;
+    }
+
+    /**
+     * Changes the semester Apollo is planning for, which should only be done on startup.
+     *
+     * @param newSemester The semester to plan for.
+     */
+    public static void setSemester(Semester newSemester) {
+        assert newSemester != null : "Semester should not be null";
+        semester = newSemester;
+    }
 
     /**
      * Returns the week number of the semester for a particular date.
@@ -18,42 +35,16 @@ public class SemesterUtils {
      * @return The week number of the semester.
      */
     public static int getWeekNumber(LocalDate date) {
-
-        int daysBetween;
-        int weekNumber;
-
-        if (date.isBefore(SEMESTER_START) || date.isAfter(SEMESTER_END)) {
-            return 0;
-        }
-
-        if (date.isBefore(RECESS_END) && date.isAfter(RECESS_START)) {
-            return -1;
-        }
-
-        if (date.isAfter(RECESS_END) || date.isEqual(RECESS_END)) {
-            daysBetween = (int) DAYS.between(RECESS_END, date);
-
-            weekNumber = determineWeekNumber(daysBetween);
-            weekNumber += 6;
-        } else {
-            daysBetween = (int) DAYS.between(SEMESTER_START, date);
-            weekNumber = determineWeekNumber(daysBetween);
-        }
-
-        return weekNumber;
+        return semester.getWeekNumber(date);
     }
 
     /**
-     * Returns the calculated week number based on the day interval between two dates.
+     * Returns the Monday that a week of the semester starts on.
      *
-     * @param daysBetween The day interval between two dates.
-     * @return The calculated week number of the semester.
+     * @param week The week number of the semester, starting from {@code 1}.
+     * @return The date the week starts on, or {@code null} if the week is not part of the semester.
      */
-    private static int determineWeekNumber(int daysBetween) {
-        int weekNumber;
-
-        weekNumber = daysBetween / 7 + 1;
-
-        return weekNumber;
+    public static LocalDate getWeekStart(int week) {
+        return semester.getWeekStart(week);
     }
 }
@@ -0,0 +1,76 @@
+package seedu.apollo.calendar;
+
+import seedu.apollo.module.LessonType;
+
+import java.util.List;
+
+/**
+ * A clash-free choice of classes for a set of modules, found by {@link TimetablePlanner}.
+ */
+public class TimetablePlan {
+
+    private final List<PlannedClass> classes;
+    private final int daysOnCampus;
+    private final int idleMinutes;
+
+    /**
+     * Initialises the plan.
+     *
+     * @param classes      The class chosen for each lesson type of each module.
+     * @param daysOnCampus Number of days of the week with at least one lesson.
+     * @param idleMinutes  Total minutes spent waiting between lessons on the same day.
+     */
+    public TimetablePlan(List<PlannedClass> classes, int daysOnCampus, int idleMinutes) {
+        this.classes = List.copyOf(classes);
+        this.daysOnCampus = daysOnCampus;
+        this.idleMinutes = idleMinutes;
+    }
+
+    public List<PlannedClass> getClasses() {
+        return classes;
+    }
+
+    public int getDaysOnCampus() {
+        return daysOnCampus;
+    }
+
+    public int getIdleMinutes() {
+        return idleMinutes;
+    }
+
+    /**
+     * The class chosen for one lesson type of a module.
+     * Classes taking place at exactly the same times are interchangeable, so they are chosen together.
+     */
+    public static class PlannedClass {
+        private final String moduleCode;
+        private final LessonType lessonType;
+        private final List<String> classNumbers;
+
+        /**
+         * Initialises the chosen class.
+         *
+         * @param moduleCode   Code of the module.
+         * @param lessonType   Lesson type the class was chosen for.
+         * @param classNumbers Class numbers of the interchangeable classes, any of which may be added.
+         */
+        public PlannedClass(String moduleCode, LessonType lessonType, List<String> classNumbers) {
+            this.moduleCode = moduleCode;
+            this.lessonType = lessonType;
+            this.classNumbers = List.copyOf(classNumbers);
+        }
+
+        public String getModuleCode() {
+            return moduleCode;
+        }
+
+        public LessonType getLessonType() {
+            return lessonType;
+        }
+
+        public List<String> getClassNumbers() {
+            return classNumbers;
+        }
+    }
+
+}
@@ -0,0 +1,407 @@
+package seedu.apollo.calendar;
+
+import seedu.apollo.calendar.TimetablePlan.PlannedClass;
+import seedu.apollo.module.LessonType;
+import seedu.apollo.module.Module;
+import seedu.apollo.module.Timetable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static seedu.apollo.utils.DayTypeUtil.determineDay;
+
+/**
+ * Searches every combination of classes of a set of modules for the best clash-free timetables.
+ * Each class is turned into an {@link OccupancyBitmap} once, so checking it against the classes chosen so far
+ * only takes a few word-wise ANDs, and branches that clash are pruned straight away.
+ * The first few levels of the search are split across a {@link ForkJoinPool}, and the search stops
+ * once its time budget runs out, keeping the best timetables found so far.
+ * Timetables with fewer days on campus are better, followed by those with less time between lessons.
+ */
+public class TimetablePlanner {
+
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofSeconds(2);
+    public static final int DEFAULT_PLAN_COUNT = 3;
+
+    // levels of the search whose branches are forked, below which branches are searched on the same thread
+    private static final int FORK_DEPTH = 2;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final ForkJoinPool pool;
+    private final Duration timeBudget;
+    private final int planCount;
+
+    /**
+     * Initialises the planner with the default time budget and number of plans, using the common pool.
+     */
+    public TimetablePlanner() {
+        this(ForkJoinPool.commonPool(), DEFAULT_TIME_BUDGET, DEFAULT_PLAN_COUNT);
+    }
+
+    /**
+     * Initialises the planner.
+     *
+     * @param pool       Pool the search is run on.
+     * @param timeBudget How long the search may run before returning the best timetables found so far.
+     * @param planCount  Maximum number of timetables to return.
+     */
+    public TimetablePlanner(ForkJoinPool pool, Duration timeBudget, int planCount) {
+        assert planCount > 0 : "Planner should return at least one plan";
+        this.pool = pool;
+        this.timeBudget = timeBudget;
+        this.planCount = planCount;
+    }
+
+    /**
+     * Finds the best clash-free timetables for a set of modules.
+     * A class is chosen for every lesson type of every module, and none of the chosen classes may clash with
+     * each other or with the lessons the user is already taking.
+     *
+     * @param modules      Modules from the module data to plan the classes of.
+     * @param fixedLessons Lessons that are already taken and cannot be moved.
+     * @return The best timetables found, from best to worst.
+     */
+    public Result plan(List<Module> modules, List<Timetable> fixedLessons) {
+        Search search = new Search(getGroups(modules), fixedLessons, System.nanoTime() + timeBudget.toNanos());
+        pool.invoke(new SearchTask(search, 0, new OccupancyBitmap(search.fixed), search.fixedDays,
+                new int[search.groups.length]));
+        return search.getResult();
+    }
+
+    /**
+     * Returns the lesson types of every module, each with the classes that may be chosen for it,
+     * ordered so that the lesson types with the fewest classes are chosen first.
+     */
+    private static Group[] getGroups(List<Module> modules) {
+        List<Group> groups = new ArrayList<>();
+        for (int i = 0; i < modules.size(); i++) {
+            Module module = modules.get(i);
+            for (LessonType lessonType : module.getLessonTypes()) {
+                groups.add(new Group(module.getCode(), i, lessonType, getOptions(module.getLessons(lessonType))));
+            }
+        }
+        groups.sort(Comparator.comparingInt(group -> group.options.size()));
+        return groups.toArray(new Group[0]);
+    }
+
+    /**
+     * Groups the lessons of a lesson type into classes, merging classes that take place at the same times.
+     */
+    private static List<Option> getOptions(List<Timetable> lessons) {
+        Map<String, List<Timetable>> classes = new LinkedHashMap<>();
+        for (Timetable lesson : lessons) {
+            classes.computeIfAbsent(lesson.getClassNumber(), classNumber -> new ArrayList<>()).add(lesson);
+        }
+        Map<String, Option> options = new LinkedHashMap<>();
+        for (Map.Entry<String, List<Timetable>> entry : classes.entrySet()) {
+            Option option = options.computeIfAbsent(getTimes(entry.getValue()), times -> new Option(entry.getValue()));
+            option.classNumbers.add(entry.getKey());
+        }
+        return new ArrayList<>(options.values());
+    }
+
+    private static String getTimes(List<Timetable> lessons) {
+        List<String> times = new ArrayList<>();
+        for (Timetable lesson : lessons) {
+            times.add(lesson.getDay() + " " + lesson.getStartTime() + "-" + lesson.getEndTime() + " "
+                    + lesson.getWeeks());
+        }
+        times.sort(null);
+        return times.toString();
+    }
+
+    /**
+     * Returns the days of the week the lessons take place on, one bit per day.
+     */
+    private static int getDays(List<Timetable> lessons) {
+        int days = 0;
+        for (Timetable lesson : lessons) {
+            int day = determineDay(lesson.getDay());
+            if (day != -1) {
+                days |= 1 << day;
+            }
+        }
+        return days;
+    }
+
+    /**
+     * Returns the start and end of each lesson in minutes from Monday 0000, ignoring lessons with invalid times.
+     */
+    private static int[][] getIntervals(List<Timetable> lessons) {
+        List<int[]> intervals = new ArrayList<>();
+        for (Timetable lesson : lessons) {
+            int day = determineDay(lesson.getDay());
+            int start = OccupancyBitmap.toMinutes(lesson.getStartTime());
+            int end = OccupancyBitmap.toMinutes(lesson.getEndTime());
+            if (day != -1 && start >= 0 && end > start) {
+                intervals.add(new int[]{day * MINUTES_PER_DAY + start, day * MINUTES_PER_DAY + end});
+            }
+        }
+        return intervals.toArray(new int[0][]);
+    }
+
+    /**
+     * The best timetables found by a search.
+     */
+    public static class Result {
+        private final List<TimetablePlan> plans;
+        private final boolean isComplete;
+
+        private Result(List<TimetablePlan> plans, boolean isComplete) {
+            this.plans = plans;
+            this.isComplete = isComplete;
+        }
+
+        public List<TimetablePlan> getPlans() {
+            return plans;
+        }
+
+        /**
+         * Checks if every combination of classes was searched before the time budget ran out.
+         *
+         * @return True if no better timetable exists than those found.
+         */
+        public boolean isComplete() {
+            return isComplete;
+        }
+    }
+
+    /**
+     * A lesson type of a module, and the classes that may be chosen for it.
+     */
+    private static class Group {
+        private final String moduleCode;
+        private final int moduleIndex;
+        private final LessonType lessonType;
+        private final List<Option> options;
+
+        private Group(String moduleCode, int moduleIndex, LessonType lessonType, List<Option> options) {
+            this.moduleCode = moduleCode;
+            this.moduleIndex = moduleIndex;
+            this.lessonType = lessonType;
+            this.options = options;
+        }
+    }
+
+    /**
+     * Classes of a lesson type that take place at the same times, so choosing any one of them is the same.
+     */
+    private static class Option {
+        private final List<String> classNumbers = new ArrayList<>();
+        private final OccupancyBitmap slots = new OccupancyBitmap();
+        private final int days;
+        private final int[][] intervals;
+
+        private Option(List<Timetable> lessons) {
+            for (Timetable lesson : lessons) {
+                slots.add(lesson);
+            }
+            days = getDays(lessons);
+            intervals = getIntervals(lessons);
+        }
+    }
+
+    /**
+     * A complete choice of classes, holding the index of the option chosen for each group.
+     */
+    private static class Candidate {
+        private final int[] choice;
+        private final int daysOnCampus;
+        private final int idleMinutes;
+
+        private Candidate(int[] choice, int daysOnCampus, int idleMinutes) {
+            this.choice = choice;
+            this.daysOnCampus = daysOnCampus;
+            this.idleMinutes = idleMinutes;
+        }
+    }
+
+    /**
+     * State shared by every branch of one search.
+     */
+    private class Search {
+        private final Comparator<Candidate> ranking = Comparator.<Candidate>comparingInt(c -> c.daysOnCampus)
+                .thenComparingInt(c -> c.idleMinutes)
+                .thenComparing((first, second) -> Arrays.compare(first.choice, second.choice));
+
+        private final Group[] groups;
+        private final OccupancyBitmap fixed = new OccupancyBitmap();
+        private final int fixedDays;
+        private final int[][] fixedIntervals;
+        private final long deadline;
+        private final AtomicBoolean isTimedOut = new AtomicBoolean(false);
+        // the best candidates found so far, with the worst of them at the head
+        private final PriorityQueue<Candidate> best = new PriorityQueue<>(ranking.reversed());
+        // days on campus of the worst candidate kept, once enough candidates have been found
+        private volatile int worstDays = Integer.MAX_VALUE;
+
+        private Search(Group[] groups, List<Timetable> fixedLessons, long deadline) {
+            this.groups = groups;
+            this.deadline = deadline;
+            for (Timetable lesson : fixedLessons) {
+                fixed.add(lesson);
+            }
+            this.fixedDays = getDays(fixedLessons);
+            this.fixedIntervals = getIntervals(fixedLessons);
+        }
+
+        /**
+         * Checks if a branch cannot lead to a timetable better than those already found, or if time is up.
+         */
+        private boolean isPruned(int days) {
+            if (isTimedOut.get()) {
+                return true;
+            }
+            if (System.nanoTime() - deadline > 0) {
+                isTimedOut.set(true);
+                return true;
+            }
+            return Integer.bitCount(days) > worstDays;
+        }
+
+        /**
+         * Tries every class of the groups from {@code depth} onwards, undoing each choice after trying it.
+         */
+        private void explore(int depth, OccupancyBitmap taken, int days, int[] choice) {
+            if (isPruned(days)) {
+                return;
+            }
+            if (depth == groups.length) {
+                offer(choice.clone(), days);
+                return;
+            }
+            List<Option> options = groups[depth].options;
+            for (int i = 0; i < options.size(); i++) {
+                Option option = options.get(i);
+                if (taken.intersects(option.slots)) {
+                    continue;
+                }
+                taken.addAll(option.slots);
+                choice[depth] = i;
+                explore(depth + 1, taken, days | option.days, choice);
+                taken.removeAll(option.slots);
+            }
+        }
+
+        private void offer(int[] choice, int days) {
+            Candidate candidate = new Candidate(choice, Integer.bitCount(days), getIdleMinutes(choice));
+            synchronized (best) {
+                best.add(candidate);
+                if (best.size() > planCount) {
+                    best.poll();
+                }
+                if (best.size() == planCount) {
+                    worstDays = best.peek().daysOnCampus;
+                }
+            }
+        }
+
+        /**
+         * Returns the total time between lessons on the same day, counting the lessons of every week together.
+         */
+        private int getIdleMinutes(int[] choice) {
+            List<int[]> intervals = new ArrayList<>(Arrays.asList(fixedIntervals));
+            for (int depth = 0; depth < groups.length; depth++) {
+                intervals.addAll(Arrays.asList(groups[depth].options.get(choice[depth]).intervals));
+            }
+            intervals.sort(Comparator.comparingInt(interval -> interval[0]));
+            int idleMinutes = 0;
+            int lastEnd = -1;
+            for (int[] interval : intervals) {
+                boolean isSameDay = lastEnd > 0 && (lastEnd - 1) / MINUTES_PER_DAY == interval[0] / MINUTES_PER_DAY;
+                if (isSameDay && interval[0] > lastEnd) {
+                    idleMinutes += interval[0] - lastEnd;
+                }
+                lastEnd = Math.max(lastEnd, interval[1]);
+            }
+            return idleMinutes;
+        }
+
+        private Result getResult() {
+            List<Candidate> candidates;
+            synchronized (best) {
+                candidates = new ArrayList<>(best);
+            }
+            candidates.sort(ranking);
+            List<TimetablePlan> plans = new ArrayList<>();
+            for (Candidate candidate : candidates) {
+                plans.add(toPlan(candidate));
+            }
+            return new Result(plans, !isTimedOut.get());
+        }
+
+        private TimetablePlan toPlan(Candidate candidate) {
+            Integer[] order = new Integer[groups.length];
+            for (int depth = 0; depth < groups.length; depth++) {
+                order[depth] = depth;
+            }
+            Arrays.sort(order, Comparator.<Integer>comparingInt(depth -> groups[depth].moduleIndex)
+                    .thenComparing(depth -> groups[depth].lessonType));
+            List<PlannedClass> classes = new ArrayList<>();
+            for (int depth : order) {
+                Group group = groups[depth];
+                Option option = group.options.get(candidate.choice[depth]);
+                classes.add(new PlannedClass(group.moduleCode, group.lessonType, option.classNumbers));
+            }
+            return new TimetablePlan(classes, candidate.daysOnCampus, candidate.idleMinutes);
+        }
+    }
+
+    /**
+     * Searches one branch, forking a task for each class of the group at {@code depth}
+     * until {@link #FORK_DEPTH} is reached.
+     */
+    private static class SearchTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        // tasks are only forked within one search, and are never serialised
+        private final transient Search search;
+        private final int depth;
+        private final transient OccupancyBitmap taken;
+        private final int days;
+        private final int[] choice;
+
+        private SearchTask(Search search, int depth, OccupancyBitmap taken, int days, int[] choice) {
+            this.search = search;
+            this.depth = depth;
+            this.taken = taken;
+            this.days = days;
+            this.choice = choice;
+        }
+
+        @Override
+        protected void compute() {
+            if (depth >= FORK_DEPTH || depth == search.groups.length) {
+                search.explore(depth, taken, days, choice);
+                return;
+            }
+            if (search.isPruned(days)) {
+                return;
+            }
+            List<Option> options = search.groups[depth].options;
+            List<SearchTask> branches = new ArrayList<>();
+            for (int i = 0; i < options.size(); i++) {
+                Option option = options.get(i);
+                if (taken.intersects(option.slots)) {
+                    continue;
+                }
+                OccupancyBitmap branchTaken = new OccupancyBitmap(taken);
+                branchTaken.addAll(option.slots);
+                int[] branchChoice = choice.clone();
+                branchChoice[depth] = i;
+                branches.add(new SearchTask(search, depth + 1, branchTaken, days | option.days, branchChoice));
+            }
+            invokeAll(branches);
+        }
+    }
+
+}
@@ -37,6 +37,36 @@ public abstract class Command implements LoggerInterface {
                         Calendar calendar) throws UnexpectedException {
     }
 
+    /**
+     * Checks if the command only reads the current data, so that it may be executed alongside other readers.
+     *
+     * @param taskList TaskList containing all currently saved tasks.
+     * @return {@code true} if executing the command does not modify any data, {@code false} otherwise.
+     */
+    public boolean isReadOnly(TaskList taskList) {
+        return false;
+    }
+
+    /**
+     * Checks if the command uses the module data, the modules of the user or their lessons,
+     * and so has to wait for the module data to finish loading.
+     *
+     * @return {@code true} if the command uses modules or lessons, {@code false} otherwise.
+     */
+    public boolean isUsingModules() {
+        return true;
+    }
+
+    /**
+     * Checks if the command reads or writes files named by the user, rather than only their own save files,
+     * which users of an {@link seedu.apollo.server.ApolloServer} must not be able to do.
+     *
+     * @return {@code true} if the command opens files named by the user, {@code false} otherwise.
+     */
+    public boolean isUsingLocalFiles() {
+        return false;
+    }
+
     protected void setExit() {
         isExit = true;
     }
@@ -5,7 +5,6 @@ import seedu.apollo.exception.module.DuplicateModuleException;
 import seedu.apollo.exception.module.LessonAddedException;
 import seedu.apollo.exception.utils.IllegalCommandException;
 import seedu.apollo.exception.utils.InvalidSaveFile;
-import seedu.apollo.module.CalendarModule;
 import seedu.apollo.module.LessonType;
 import seedu.apollo.module.Module;
 import seedu.apollo.module.ModuleList;
@@ -14,17 +13,15 @@ import seedu.apollo.storage.Storage;
 import seedu.apollo.ui.Ui;
 import seedu.apollo.command.Command;
 import seedu.apollo.exception.module.InvalidModule;
+import seedu.apollo.metrics.ClashCheckEvent;
 import seedu.apollo.task.TaskList;
 
 import java.io.IOException;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.List;
 import java.util.logging.Level;
 
 import static seedu.apollo.utils.DayTypeUtil.determineDay;
-import static seedu.apollo.utils.LessonTypeUtil.determineLessonType;
 
 
 public class AddModuleCommand extends Command {
@@ -72,7 +69,7 @@ public class AddModuleCommand extends Command {
                 handleSingleCommand(moduleList, allModules, ui);
             }
 
-            storage.updateModule(moduleList, calendar);
+            storage.updateModule(moduleList);
         } catch (IOException e) {
             logger.log(Level.SEVERE, "IO Exception", e);
             ui.printErrorForIO();
@@ -120,71 +117,56 @@ public class AddModuleCommand extends Command {
      * @throws IllegalCommandException If the command is invalid.
      * @throws ClassNotFoundException If the lesson type is invalid.
      * @throws LessonAddedException If the lesson already exists.
+     * @throws InvalidSaveFile If a lesson is not on a valid day.
      */
     private void handleMultiCommand(ModuleList moduleList, ModuleList allModules, String[] args, Ui ui,
                                     Calendar calendar) throws IllegalCommandException, ClassNotFoundException,
-            LessonAddedException {
+            LessonAddedException, InvalidSaveFile {
 
         LessonType lessonType = this.getLessonType(args[1]);
-        Module searchModule = null;
-        for (Module module: allModules){
-            if (module.getCode().equalsIgnoreCase(this.module.getCode())){
-                searchModule = module;
-                break;
-            }
-        }
+        Module searchModule = allModules.findModule(this.module.getCode());
         assert searchModule != null : "AddModuleCommand: Module not found";
 
-        if (this.isAdded(moduleList, module)) {
-            int index = 0;
-            for (Module module: moduleList) {
-                if (module.getCode().equals(this.module.getCode())){
-                    this.module.setTimetable(module.getModuleTimetable());
-                    break;
-                }
-                index++;
-            }
-            module.setTimetable(moduleList.get(index).getModuleTimetable());
-            if (module.hasLessonType(lessonType)){
+        Module addedModule = moduleList.findModule(this.module.getCode());
+        if (addedModule != null) {
+            if (addedModule.hasLessonType(lessonType)) {
                 throw new LessonAddedException();
             }
-
-            addTimetable(searchModule, lessonType, args[2], ui, calendar);
-            moduleList.get(index).setTimetable(module.getModuleTimetable());
+            addTimetable(searchModule, addedModule, lessonType, args[2], ui, calendar);
         } else {
             module.createNewTimeTable();
-            addTimetable(searchModule, lessonType, args[2], ui, calendar);
+            addTimetable(searchModule, module, lessonType, args[2], ui, calendar);
             moduleList.add(module);
         }
     }
 
     /**
-     * Adds the timetable to the module.
+     * Adds the lessons of a class to the module.
      *
      * @param searchModule The module to be searched.
+     * @param addedModule The module the lessons are added to.
      * @param lessonType The lesson type to be added.
-     * @param args The arguments of the command.
-     * @throws ClassNotFoundException If the lesson type is invalid.
+     * @param args The class number to be added.
+     * @throws ClassNotFoundException If the module has no such class.
+     * @throws InvalidSaveFile If a lesson of the class is not on a valid day.
      */
-    private void addTimetable(Module searchModule, LessonType lessonType, String args, Ui ui, Calendar calendar)
-            throws ClassNotFoundException {
-        boolean isFound = false;
-        ArrayList<Timetable> listCopy = new ArrayList<>(searchModule.getModuleTimetable());
-        for (Timetable timetable: listCopy){
-            LessonType searchLessonType = determineLessonType(timetable.getLessonType());
-            assert searchLessonType != null : "AddModuleCommand: Invalid lesson type";
-            if (searchLessonType.equals(lessonType) && timetable.getClassNumber().equals(args)){
-                if (module.getModuleTimetable() == null){
-                    module.createNewTimeTable();
-                }
-                module.getModuleTimetable().add(timetable);
-                checkClashingLesson(calendar, timetable, ui);
-                isFound = true;
-            }
+    private void addTimetable(Module searchModule, Module addedModule, LessonType lessonType, String args, Ui ui,
+                              Calendar calendar) throws ClassNotFoundException, InvalidSaveFile {
+        List<Timetable> lessons = searchModule.getLessons(lessonType, args);
+        if (lessons.isEmpty()) {
+            throw new ClassNotFoundException();
         }
 
-        if (!isFound){
-            throw new ClassNotFoundException();
+        // lessons of the same class are checked against the calendar before any of them are added to it
+        for (Timetable timetable : lessons) {
+            ClashCheckEvent check = new ClashCheckEvent();
+            check.begin();
+            checkClashingLesson(calendar, timetable, ui);
+            commitClashCheck(check, calendar, timetable);
+        }
+        for (Timetable timetable : lessons) {
+            addedModule.addLesson(timetable);
+            calendar.addLesson(addedModule, timetable);
         }
     }
 
@@ -195,99 +177,37 @@ public class AddModuleCommand extends Command {
      * @return The lesson types available for this module.
      */
     public ArrayList<LessonType> getLessonTypes(Module module) {
-        ArrayList<LessonType> lessonTypes = new ArrayList<>();
-        for (Timetable timetable : module.getModuleTimetable()) {
-            LessonType lessonType = determineLessonType(timetable.getLessonType());
-            if (!lessonTypes.contains(lessonType) && lessonType != null) {
-                lessonTypes.add(lessonType);
-            }
-        }
-        return lessonTypes;
-    }
-
-    /**
-     * Checks if the lesson clashes with another lesson.
-     *
-     * @param calendar The calendar of the user containing timetable information.
-     * @param timetable The timetable of the lesson to be checked.
-     * @param ui The ui of the user for message printing.
-     */
-    private void checkClashingLesson(Calendar calendar, Timetable timetable, Ui ui) {
-        String day = timetable.getDay();
-        int index = determineDay(day);
-
-        if (index == -1) {
-            return;
-        }
-
-        ArrayList<CalendarModule> calendarModules = calendar.get(index);
-
-        if (calendarModules.size() == 0) {
-            return;
-        }
-
-        for (CalendarModule lessonModule: calendarModules) {
-            Timetable schedule = lessonModule.getSchedule();
-            if (isLessonClashing(schedule, timetable) && isSameWeek(schedule, timetable)) {
-                ui.printClashingLesson();
-                break;
-            }
-        }
+        return new ArrayList<>(module.getLessonTypes());
     }
 
     /**
-     * Checks if a lesson clashes with another lesson.
+     * Records how long checking a new lesson for clashes took, while a flight recording is running.
      *
-     * @param schedule The lesson to be checked.
-     * @param timetable The lesson to be checked against.
-     * @return True if the timetable clashes with another timetable.
+     * @param check     Event started before the check.
+     * @param calendar  The calendar of the user containing timetable information.
+     * @param timetable The timetable of the lesson that was checked.
      */
-    private boolean isLessonClashing(Timetable schedule, Timetable timetable) {
-
-        SimpleDateFormat format = new SimpleDateFormat("HHmm");
-        try {
-            Date start1 = format.parse(schedule.getStartTime());
-            Date start2 = format.parse(timetable.getStartTime());
-            Date end1 = format.parse(schedule.getEndTime());
-            Date end2 = format.parse(timetable.getEndTime());
-
-            if (start1.equals(start2) || end1.equals(end2)) {
-                return true;
-            }
-
-            if (start1.after(start2) && start1.before(end2)) {
-                return true;
-            }
-
-            if (start2.after(start1) && start2.before(end1)) {
-                return true;
-            }
-
-        } catch (ParseException e) {
-            return false;
+    private void commitClashCheck(ClashCheckEvent check, Calendar calendar, Timetable timetable) {
+        check.end();
+        if (check.shouldCommit()) {
+            int index = determineDay(timetable.getDay());
+            check.item = "lesson";
+            check.candidates = (index == -1) ? 0 : calendar.get(index).size();
+            check.commit();
         }
-        return false;
     }
 
     /**
-     * Checks if the two lessons occur in the same week.
+     * Checks if the lesson clashes with another lesson.
      *
-     * @param timetable1 The timetable to be checked.
-     * @param timetable2 The timetable to be checked against.
-     * @return True if the timetable is in the same week.
+     * @param calendar The calendar of the user containing timetable information.
+     * @param timetable The timetable of the lesson to be checked.
+     * @param ui The ui of the user for message printing.
      */
-    private boolean isSameWeek(Timetable timetable1, Timetable timetable2) {
-
-        ArrayList<Integer> week1 = timetable1.getWeeks();
-        ArrayList<Integer> week2 = timetable2.getWeeks();
-
-        for (int weeks: week1) {
-            if (week2.contains(weeks)) {
-                return true;
-            }
+    private void checkClashingLesson(Calendar calendar, Timetable timetable, Ui ui) {
+        if (calendar.isClashing(timetable)) {
+            ui.printClashingLesson();
         }
-
-        return false;
     }
 
     //@@author irving11119
@@ -2,7 +2,6 @@ package seedu.apollo.command.module;
 import seedu.apollo.calendar.Calendar;
 import seedu.apollo.exception.module.ClassNotFoundException;
 import seedu.apollo.exception.utils.IllegalCommandException;
-import seedu.apollo.exception.utils.InvalidSaveFile;
 import seedu.apollo.module.LessonType;
 import seedu.apollo.module.Timetable;
 import seedu.apollo.storage.Storage;
@@ -14,9 +13,7 @@ import seedu.apollo.ui.Ui;
 import seedu.apollo.task.TaskList;
 
 import java.io.IOException;
-import java.util.ArrayList;
-
-import static seedu.apollo.utils.LessonTypeUtil.determineLessonType;
+import java.util.List;
 
 /**
  * For {@code delmod} command.
@@ -40,17 +37,17 @@ public class DeleteModuleCommand extends Command {
                         Calendar calendar){
         try {
             if (args.length == 3) {
-                handleMultiCommand(moduleList, ui);
+                handleMultiCommand(moduleList, ui, calendar);
             } else {
-                handleSingleCommand(moduleList, ui);
+                handleSingleCommand(moduleList, ui, calendar);
             }
 
-            storage.updateModule(moduleList, calendar);
+            storage.updateModule(moduleList);
 
         } catch (ModuleNotFoundException e) {
             ui.printUnsuccessfulModuleDelete(args[0]);
             ui.printTotalModularCredits(moduleList);
-        } catch (IOException | InvalidSaveFile e) {
+        } catch (IOException e) {
             ui.printErrorForIO();
         } catch (NumberFormatException e) {
             ui.printErrorForModIdx(moduleList.size());
@@ -63,9 +60,10 @@ public class DeleteModuleCommand extends Command {
      *
      * @param moduleList ModuleList to be deleted from.
      * @param ui Ui to print messages.
+     * @param calendar Calendar to remove the lessons of the module from.
      * @throws ModuleNotFoundException If the module is not found.
      */
-    private void handleSingleCommand(ModuleList moduleList, Ui ui) throws ModuleNotFoundException,
+    private void handleSingleCommand(ModuleList moduleList, Ui ui, Calendar calendar) throws ModuleNotFoundException,
             NumberFormatException {
         String listParam = args[0];
         String moduleCode;
@@ -75,7 +73,7 @@ public class DeleteModuleCommand extends Command {
                 throw new NumberFormatException();
             }
             moduleCode = moduleList.get(index - 1).getCode();
-            moduleList.remove(index - 1);
+            calendar.removeModule(moduleList.remove(index - 1));
         } else {
             moduleCode = listParam;
             Module toDelete = moduleList.findModule(listParam);
@@ -83,6 +81,7 @@ public class DeleteModuleCommand extends Command {
                 throw new ModuleNotFoundException();
             }
             moduleList.remove(toDelete);
+            calendar.removeModule(toDelete);
         }
         ui.printModuleDeleteMessage(moduleCode, moduleList);
     }
@@ -93,9 +92,10 @@ public class DeleteModuleCommand extends Command {
      *
      * @param moduleList ModuleList to be deleted from.
      * @param ui Ui to print messages.
+     * @param calendar Calendar to remove the lessons from.
      * @throws ModuleNotFoundException If the module is not found.
      */
-    private void handleMultiCommand(ModuleList moduleList, Ui ui) throws ModuleNotFoundException {
+    private void handleMultiCommand(ModuleList moduleList, Ui ui, Calendar calendar) throws ModuleNotFoundException {
         String moduleCode = args[0];
         String command = args[1];
         String lessonNumber = args[2];
@@ -108,7 +108,7 @@ public class DeleteModuleCommand extends Command {
                 throw new ModuleNotFoundException();
             }
 
-            this.deleteTimetable(toDelete, lessonType, lessonNumber);
+            this.deleteTimetable(toDelete, lessonType, lessonNumber, calendar);
             ui.printModuleLessonDeleteMessage(moduleCode, lessonType, lessonNumber);
         } catch (IllegalCommandException e) {
             ui.printInvalidCommand();
@@ -123,35 +123,21 @@ public class DeleteModuleCommand extends Command {
      * @param module Module to be deleted from.
      * @param lessonType Type of lesson to be deleted.
      * @param lessonNumber Number of lesson to be deleted.
+     * @param calendar Calendar to remove the lesson from.
      * @throws ClassNotFoundException If the lesson is not found.
      */
-    private void deleteTimetable(Module module, LessonType lessonType, String lessonNumber)
+    private void deleteTimetable(Module module, LessonType lessonType, String lessonNumber, Calendar calendar)
             throws ClassNotFoundException {
 
-        boolean isFound = false;
-
-        if (module.getModuleTimetable() == null) {
-            throw new ClassNotFoundException();
-        }
-
-        ArrayList<Timetable> copyList = new ArrayList<>(module.getModuleTimetable());
-
-        //searches for lesson of specified type and number
-        for (Timetable timetable :copyList) {
-            String classNumber = timetable.getClassNumber();
-            String type = timetable.getLessonType();
-            LessonType lessonType1 = determineLessonType(type);
-
-            if (lessonType1 == lessonType && classNumber.equals(lessonNumber)) {
-                module.getModuleTimetable().remove(timetable);
-                isFound = true;
-            }
-        }
+        List<Timetable> lessons = module.getLessons(lessonType, lessonNumber);
 
         // if the lesson is not found, throws an exception
-        if (!isFound) {
+        if (!module.removeLessons(lessonType, lessonNumber)) {
             throw new ClassNotFoundException();
         }
+        for (Timetable lesson : lessons) {
+            calendar.removeLesson(module, lesson);
+        }
     }
 
     //@@author irving11119
@@ -0,0 +1,217 @@
+package seedu.apollo.command.module;
+
+import seedu.apollo.calendar.Calendar;
+import seedu.apollo.calendar.OccupancyBitmap;
+import seedu.apollo.command.Command;
+import seedu.apollo.exception.module.InvalidModule;
+import seedu.apollo.exception.utils.IllegalCommandException;
+import seedu.apollo.exception.utils.InvalidSaveFile;
+import seedu.apollo.metrics.ClashCheckEvent;
+import seedu.apollo.module.CalendarModule;
+import seedu.apollo.module.LessonType;
+import seedu.apollo.module.Module;
+import seedu.apollo.module.ModuleList;
+import seedu.apollo.module.Timetable;
+import seedu.apollo.storage.Storage;
+import seedu.apollo.task.TaskList;
+import seedu.apollo.ui.Ui;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.regex.Pattern;
+
+import static seedu.apollo.utils.LessonTypeUtil.determineShareLinkType;
+
+/**
+ * Import Module Command class that adds every module and class in a NUSMods share link at once,
+ * e.g. {@code https://nusmods.com/timetable/sem-2/share?CS2113=LEC:1,TUT:03&CS2101=SEC:G04}.
+ * Unlike adding the classes one by one, the link is read without going online, every class is checked for clashes
+ * in one pass over the timetable, and the module list is only saved once.
+ */
+public class ImportModuleCommand extends Command {
+
+    // keys of a share link that are not module codes, such as hidden modules, are other settings of the timetable
+    private static final Pattern MODULE_CODE = Pattern.compile("[A-Za-z]{2,4}\\d{4}[A-Za-z]{0,3}");
+
+    private final Map<String, ModuleChoice> choices = new LinkedHashMap<>();
+    private final List<String> unknownClasses = new ArrayList<>();
+
+    /**
+     * Constructor for ImportModuleCommand, which finds the lessons of every class in the link.
+     *
+     * @param param      The NUSMods share link.
+     * @param allModules The list of all modules.
+     * @throws InvalidModule If the link has a module that is not in the list of all modules.
+     * @throws IllegalCommandException If the link has no modules.
+     */
+    public ImportModuleCommand(String param, ModuleList allModules) throws InvalidModule, IllegalCommandException {
+        super("ImportModuleCommand");
+        assert (param != null) : "ImportModuleCommand: Link should not be null!";
+        assert (allModules != null) : "ImportModuleCommand: Module list should not be null!";
+
+        for (String pair : getQuery(param.trim()).split("&")) {
+            String[] keyAndValue = pair.split("=", 2);
+            String moduleCode = decode(keyAndValue[0]).trim();
+            if (!MODULE_CODE.matcher(moduleCode).matches()) {
+                continue;
+            }
+            Module module = allModules.findModule(moduleCode);
+            if (module == null) {
+                throw new InvalidModule();
+            }
+            ModuleChoice choice = choices.computeIfAbsent(module.getCode(), code -> new ModuleChoice(module));
+            if (keyAndValue.length == 2) {
+                addClasses(choice, decode(keyAndValue[1]));
+            }
+        }
+        if (choices.isEmpty()) {
+            throw new IllegalCommandException();
+        }
+    }
+
+    /**
+     * Returns the query string of a link, or the whole input if it is not a link.
+     */
+    private static String getQuery(String link) {
+        int fragment = link.indexOf('#');
+        String query = (fragment == -1) ? link : link.substring(0, fragment);
+        return query.substring(query.indexOf('?') + 1);
+    }
+
+    private static String decode(String text) {
+        try {
+            return URLDecoder.decode(text, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return text;
+        }
+    }
+
+    /**
+     * Finds the lessons of each class in a module's part of the link, such as {@code LEC:1,TUT:03}.
+     * Classes that the module does not have are noted, rather than stopping the rest of the link from being added.
+     */
+    private void addClasses(ModuleChoice choice, String classes) {
+        for (String lessonClass : classes.split(",")) {
+            if (lessonClass.isBlank()) {
+                continue;
+            }
+            String[] typeAndNumber = lessonClass.split(":", 2);
+            LessonType lessonType = (typeAndNumber.length == 2) ? determineShareLinkType(typeAndNumber[0].trim())
+                    : null;
+            List<Timetable> lessons = (lessonType == null) ? List.of()
+                    : choice.module.getLessons(lessonType, typeAndNumber[1].trim());
+            if (lessons.isEmpty()) {
+                unknownClasses.add(choice.module.getCode() + " " + lessonClass.trim());
+                continue;
+            }
+            choice.classes.add(new ClassChoice(lessonType, lessons));
+        }
+    }
+
+    @Override
+    public void execute(TaskList taskList, Ui ui, Storage storage, ModuleList moduleList, ModuleList allModules,
+                        Calendar calendar) {
+        List<Module> newModules = new ArrayList<>();
+        List<CalendarModule> newLessons = new ArrayList<>();
+        // lessons being imported, which are checked for clashes with each other as well as with the calendar
+        OccupancyBitmap imported = new OccupancyBitmap();
+        int classCount = 0;
+        int clashCount = 0;
+        int addedCount = 0;
+
+        ClashCheckEvent check = new ClashCheckEvent();
+        check.begin();
+        for (ModuleChoice choice : choices.values()) {
+            Module module = moduleList.findModule(choice.module.getCode());
+            if (module == null) {
+                module = new Module(choice.module.getCode(), choice.module.getTitle(),
+                        choice.module.getModuleCredits());
+                newModules.add(module);
+            }
+            for (ClassChoice lessonClass : choice.classes) {
+                if (module.hasLessonType(lessonClass.lessonType)) {
+                    addedCount++;
+                    continue;
+                }
+                boolean isClashing = false;
+                for (Timetable timetable : lessonClass.lessons) {
+                    isClashing |= calendar.isClashing(timetable) || imported.isOccupied(timetable);
+                }
+                for (Timetable timetable : lessonClass.lessons) {
+                    imported.add(timetable);
+                    module.addLesson(timetable);
+                    newLessons.add(toCalendarModule(module, timetable));
+                }
+                classCount++;
+                clashCount += isClashing ? 1 : 0;
+            }
+        }
+        commitClashCheck(check, calendar);
+
+        try {
+            calendar.addLessons(newLessons);
+            moduleList.addAll(newModules);
+            moduleList.sortModules();
+            if (!newModules.isEmpty() || !newLessons.isEmpty()) {
+                storage.updateModule(moduleList);
+            }
+            ui.printModulesImported(newModules.size(), classCount, clashCount, addedCount, unknownClasses,
+                    moduleList);
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "IO Exception", e);
+            ui.printErrorForIO();
+        } catch (InvalidSaveFile e) {
+            ui.printErrorForIO();
+        }
+    }
+
+    private static CalendarModule toCalendarModule(Module module, Timetable timetable) {
+        CalendarModule lesson = new CalendarModule(module.getCode(), module.getTitle(), module.getModuleCredits());
+        lesson.setSchedule(timetable);
+        return lesson;
+    }
+
+    /**
+     * Records how long checking every imported lesson for clashes took, while a flight recording is running.
+     */
+    private static void commitClashCheck(ClashCheckEvent check, Calendar calendar) {
+        check.end();
+        if (check.shouldCommit()) {
+            check.item = "timetable";
+            check.candidates = calendar.stream().mapToInt(List::size).sum();
+            check.commit();
+        }
+    }
+
+    /**
+     * A module in the link, with the classes chosen for it.
+     */
+    private static class ModuleChoice {
+        private final Module module;
+        private final List<ClassChoice> classes = new ArrayList<>();
+
+        private ModuleChoice(Module module) {
+            this.module = module;
+        }
+    }
+
+    /**
+     * A class in the link, with its lessons found in the module data.
+     */
+    private static class ClassChoice {
+        private final LessonType lessonType;
+        private final List<Timetable> lessons;
+
+        private ClassChoice(LessonType lessonType, List<Timetable> lessons) {
+            this.lessonType = lessonType;
+            this.lessons = lessons;
+        }
+    }
+
+}
@@ -13,6 +13,11 @@ public class ListModuleCommand extends Command {
         super("ListModuleCommand");
     }
 
+    @Override
+    public boolean isReadOnly(TaskList taskList) {
+        return true;
+    }
+
     @Override
     public void execute(TaskList taskList, Ui ui, Storage storage, ModuleList moduleList, ModuleList allModules,
                         Calendar calendar) {
@@ -20,8 +20,6 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.stream.Collectors;
 
-import static seedu.apollo.utils.LessonTypeUtil.determineLessonType;
-
 public class ListModuleWithLessonCommand extends Command {
 
     private String[] args;
@@ -56,6 +54,11 @@ public class ListModuleWithLessonCommand extends Command {
 
     }
 
+    @Override
+    public boolean isReadOnly(TaskList taskList) {
+        return true;
+    }
+
     @Override
     public void execute(TaskList taskList, Ui ui, Storage storage, ModuleList moduleList, ModuleList allModules,
                         Calendar calendar) {
@@ -157,19 +160,7 @@ public class ListModuleWithLessonCommand extends Command {
      * @return The ArrayList of timetable with lesson types in the module list.
      */
     private ArrayList<Timetable> copyLessonTypeIntoTimetable(LessonType lessonType) {
-        ArrayList<Timetable> timetableList = new ArrayList<>(module.getModuleTimetable());
-        ArrayList<Timetable> timetableInModuleList = new ArrayList<>();
-
-        for (Timetable timetable : timetableList) {
-            LessonType checkType = determineLessonType(timetable.getLessonType());
-            assert (checkType != null) : "ListModuleWithLessonCommand: Lesson type should not be null!";
-
-            if (checkType.equals(lessonType)) {
-                timetableInModuleList.add(timetable);
-            }
-
-        }
-        return timetableInModuleList;
+        return new ArrayList<>(module.getLessons(lessonType));
     }
 
     /**
@@ -179,14 +170,7 @@ public class ListModuleWithLessonCommand extends Command {
      * @return The lesson types available for this module.
      */
     private ArrayList<LessonType> getLessonTypes(Module module) {
-        ArrayList<LessonType> lessonTypes = new ArrayList<>();
-        for (Timetable timetable : module.getModuleTimetable()) {
-            LessonType lessonType = determineLessonType(timetable.getLessonType());
-            if (!lessonTypes.contains(lessonType) && lessonType != null) {
-                lessonTypes.add(lessonType);
-            }
-        }
-        return lessonTypes;
+        return new ArrayList<>(module.getLessonTypes());
     }
 
     /**
@@ -239,13 +223,7 @@ public class ListModuleWithLessonCommand extends Command {
 
     private boolean isExistLessonType(ModuleList allModules, LessonType lessonType) {
         Module checkMod = allModules.findModule(args[0]);
-        ArrayList<LessonType> checkLesson = getLessonTypes(checkMod);
-        for (LessonType toCheckType : checkLesson) {
-            if (toCheckType.equals(lessonType)) {
-                return true;
-            }
-        }
-        return false;
+        return checkMod.hasLessonType(lessonType);
     }
 
 }
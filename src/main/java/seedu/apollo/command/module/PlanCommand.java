@@ -0,0 +1,93 @@
+package seedu.apollo.command.module;
+
+import seedu.apollo.calendar.Calendar;
+import seedu.apollo.calendar.TimetablePlanner;
+import seedu.apollo.command.Command;
+import seedu.apollo.exception.module.InvalidModule;
+import seedu.apollo.module.Module;
+import seedu.apollo.module.ModuleList;
+import seedu.apollo.module.Timetable;
+import seedu.apollo.storage.Storage;
+import seedu.apollo.task.TaskList;
+import seedu.apollo.ui.Ui;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plan Command class that suggests the best clash-free classes to take for a set of modules.
+ * Lessons already added for other modules are kept, so the suggested classes do not clash with them either.
+ */
+public class PlanCommand extends Command {
+
+    private final List<Module> modules;
+    private final TimetablePlanner planner;
+
+    /**
+     * Constructor for PlanCommand.
+     *
+     * @param params     The module codes to plan for, separated by spaces.
+     * @param allModules The list of all modules.
+     * @throws InvalidModule If any of the module codes is invalid.
+     */
+    public PlanCommand(String params, ModuleList allModules) throws InvalidModule {
+        this(params, allModules, new TimetablePlanner());
+    }
+
+    /**
+     * Constructor for PlanCommand with a specific planner.
+     *
+     * @param params     The module codes to plan for, separated by spaces.
+     * @param allModules The list of all modules.
+     * @param planner    Searches for the best timetables.
+     * @throws InvalidModule If any of the module codes is invalid.
+     */
+    public PlanCommand(String params, ModuleList allModules, TimetablePlanner planner) throws InvalidModule {
+        super("PlanCommand");
+        assert (params != null) : "PlanCommand: Module codes should not be null!";
+        assert (allModules != null) : "PlanCommand: Module list should not be null!";
+
+        Map<String, Module> found = new LinkedHashMap<>();
+        for (String moduleCode : params.trim().split("\\s+")) {
+            Module module = allModules.findModule(moduleCode);
+            if (module == null) {
+                throw new InvalidModule();
+            }
+            found.putIfAbsent(module.getCode(), module);
+        }
+        this.modules = new ArrayList<>(found.values());
+        this.planner = planner;
+    }
+
+    @Override
+    public boolean isReadOnly(TaskList taskList) {
+        return true;
+    }
+
+    @Override
+    public void execute(TaskList taskList, Ui ui, Storage storage, ModuleList moduleList, ModuleList allModules,
+                        Calendar calendar) {
+        TimetablePlanner.Result result = planner.plan(modules, getFixedLessons(moduleList));
+        ui.printPlans(modules, result.getPlans(), result.isComplete());
+    }
+
+    /**
+     * Returns the lessons the user has added for modules that are not being planned.
+     *
+     * @param moduleList The modules of the user.
+     * @return Lessons that the planned classes must not clash with.
+     */
+    private List<Timetable> getFixedLessons(ModuleList moduleList) {
+        List<Timetable> fixedLessons = new ArrayList<>();
+        for (Module module : moduleList) {
+            boolean isPlanned = modules.stream().anyMatch(planned -> planned.getCode().equals(module.getCode()));
+            if (!isPlanned && module.getModuleTimetable() != null) {
+                fixedLessons.addAll(module.getModuleTimetable());
+            }
+        }
+        return fixedLessons;
+    }
+
+}
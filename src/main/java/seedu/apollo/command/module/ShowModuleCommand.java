@@ -16,8 +16,6 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.stream.Collectors;
 
-import static seedu.apollo.utils.LessonTypeUtil.determineLessonType;
-
 public class ShowModuleCommand extends Command {
     private String[] args;
     private Module module;
@@ -51,6 +49,11 @@ public class ShowModuleCommand extends Command {
 
     }
 
+    @Override
+    public boolean isReadOnly(TaskList taskList) {
+        return true;
+    }
+
     @Override
     public void execute(TaskList taskList, Ui ui, Storage storage, ModuleList moduleList, ModuleList allModules,
                         Calendar calendar)  {
@@ -86,14 +89,7 @@ public class ShowModuleCommand extends Command {
      * @return The lesson types available for this module.
      */
     private ArrayList<LessonType> getLessonTypes(Module module) {
-        ArrayList<LessonType> lessonTypes = new ArrayList<>();
-        for (Timetable timetable : module.getModuleTimetable()) {
-            LessonType lessonType = determineLessonType(timetable.getLessonType());
-            if (!lessonTypes.contains(lessonType) && lessonType != null) {
-                lessonTypes.add(lessonType);
-            }
-        }
-        return lessonTypes;
+        return new ArrayList<>(module.getLessonTypes());
     }
 
     /**
@@ -108,12 +104,10 @@ public class ShowModuleCommand extends Command {
         if (lessonType == null) {
             throw new IllegalCommandException();
         }
-        ArrayList<Timetable> copyList = new ArrayList<>();
-        ArrayList<Timetable> timetableList = module.getModuleTimetable();
-        if (timetableList == null) {
+        if (module.getModuleTimetable() == null) {
             throw new IllegalCommandException();
         }
-        copyLessonTypeIntoTimetable(lessonType, copyList, timetableList);
+        ArrayList<Timetable> copyList = new ArrayList<>(module.getLessons(lessonType));
         printModuleInformationWithLesson(ui, lessonType, copyList);
 
     }
@@ -134,25 +128,6 @@ public class ShowModuleCommand extends Command {
         }
     }
 
-    /**
-     * Add a copy of the specific lesson type information into the timetable.
-     *
-     * @param lessonType Specific lesson type to add.
-     * @param copyList The ArrayList of module information with lesson types.
-     * @param timetableList The ArrayList of the module timetable.
-     */
-    private static void copyLessonTypeIntoTimetable(LessonType lessonType, ArrayList<Timetable> copyList,
-                                                    ArrayList<Timetable> timetableList) {
-        for (Timetable timetable : timetableList) {
-            LessonType checkType = determineLessonType(timetable.getLessonType());
-            assert (checkType != null) : "ShowModuleCommand: Lesson type should not be null!";
-
-            if (checkType.equals(lessonType)) {
-                copyList.add(timetable);
-            }
-        }
-    }
-
     /**
      * Sorts the timetable by lesson type, class number and class time .
      *
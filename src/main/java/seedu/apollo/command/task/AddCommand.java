@@ -1,7 +1,10 @@
 package seedu.apollo.command.task;
 
 import seedu.apollo.calendar.Calendar;
+import seedu.apollo.calendar.Semester;
+import seedu.apollo.calendar.SemesterUtils;
 import seedu.apollo.exception.task.DateOverException;
+import seedu.apollo.metrics.ClashCheckEvent;
 import seedu.apollo.module.CalendarModule;
 import seedu.apollo.task.Task;
 import seedu.apollo.ui.Parser;
@@ -10,6 +13,9 @@ import seedu.apollo.command.Command;
 import seedu.apollo.exception.task.DateOrderException;
 import seedu.apollo.task.Deadline;
 import seedu.apollo.task.Event;
+import seedu.apollo.task.Recurrence;
+import seedu.apollo.task.RecurringDeadline;
+import seedu.apollo.task.RecurringEvent;
 import seedu.apollo.module.ModuleList;
 import seedu.apollo.task.TaskList;
 import seedu.apollo.ui.Ui;
@@ -24,20 +30,22 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
 import java.util.ArrayList;
 
 import static seedu.apollo.calendar.SemesterUtils.getWeekNumber;
 import static seedu.apollo.ui.Parser.COMMAND_DEADLINE_WORD;
+import static seedu.apollo.task.RecurringDeadline.UNTIL_PATTERN;
 import static seedu.apollo.ui.Parser.COMMAND_EVENT_WORD;
+import static seedu.apollo.ui.Parser.COMMAND_RECURRING_DEADLINE_WORD;
+import static seedu.apollo.ui.Parser.COMMAND_RECURRING_EVENT_WORD;
 import static seedu.apollo.ui.Parser.COMMAND_TODO_WORD;
 
 
 /**
  * Add Command class that adds a Task to the existing TaskList.
- * Handles {@code todo}, {@code deadline}, and {@code event} commands.
+ * Handles {@code todo}, {@code deadline}, {@code event}, {@code rdeadline}, and {@code revent} commands.
  */
 public class AddCommand extends Command {
 
@@ -46,11 +54,12 @@ public class AddCommand extends Command {
     protected String by;
     protected String from;
     protected String to;
+    protected String until;
 
     /**
      * Initialises the class with the type and description of the task given in the command.
      *
-     * @param command Type of task being added (ToDo, Deadline, or Event).
+     * @param command Type of task being added (ToDo, Deadline, Event, or their recurring versions).
      * @param param   Description of task given by user (including date(s) for Deadline, Event).
      * @throws InvalidDeadline     If the Deadline being added has the wrong format.
      * @throws InvalidEvent        If the Event being added has the wrong format.
@@ -60,17 +69,25 @@ public class AddCommand extends Command {
         super("AddCommand");
         this.command = command;
         assert (command.equals(COMMAND_TODO_WORD) | command.equals(COMMAND_DEADLINE_WORD) |
-                command.equals(COMMAND_EVENT_WORD)) : "AddCommand: Invalid Add Command";
+                command.equals(COMMAND_EVENT_WORD) | command.equals(COMMAND_RECURRING_DEADLINE_WORD) |
+                command.equals(COMMAND_RECURRING_EVENT_WORD)) : "AddCommand: Invalid Add Command";
+        if (command.equals(COMMAND_RECURRING_DEADLINE_WORD) || command.equals(COMMAND_RECURRING_EVENT_WORD)) {
+            String[] paramAndUntil = Parser.parseRecurrence(param);
+            param = paramAndUntil[0];
+            this.until = paramAndUntil[1];
+        }
         switch (command) {
         case COMMAND_TODO_WORD:
             this.desc = param;
             break;
         case COMMAND_DEADLINE_WORD:
+        case COMMAND_RECURRING_DEADLINE_WORD:
             String[] paramAndBy = Parser.parseDeadline(param);
             this.desc = paramAndBy[0];
             this.by = paramAndBy[1];
             break;
         case COMMAND_EVENT_WORD:
+        case COMMAND_RECURRING_EVENT_WORD:
             String[] paramAndFromTo = Parser.parseEvent(param);
             this.desc = paramAndFromTo[0];
             this.from = paramAndFromTo[1];
@@ -81,6 +98,16 @@ public class AddCommand extends Command {
         }
     }
 
+    /**
+     * Checks if the task being added has to be checked for clashes with lessons.
+     *
+     * @return {@code true} if the task is a deadline or event, {@code false} if it is a todo.
+     */
+    @Override
+    public boolean isUsingModules() {
+        return !command.equals(COMMAND_TODO_WORD);
+    }
+
     /**
      * Executes adding a Task to the TaskList and updating the hard disk.
      *
@@ -143,20 +170,69 @@ public class AddCommand extends Command {
             break;
         case COMMAND_DEADLINE_WORD:
             Deadline deadline = new Deadline(desc, by);
+            ClashCheckEvent deadlineCheck = new ClashCheckEvent();
+            deadlineCheck.begin();
             warnDeadlineClash(ui, taskList, calendar, deadline.getByDate());
+            commitClashCheck(deadlineCheck, COMMAND_DEADLINE_WORD, taskList, calendar);
             taskList.add(deadline);
             break;
         case COMMAND_EVENT_WORD:
             Event event = new Event(desc, from, to);
+            ClashCheckEvent eventCheck = new ClashCheckEvent();
+            eventCheck.begin();
             warnEventTaskClash(taskList, ui, event);
             warnEventModuleClash(ui, calendar, event);
+            commitClashCheck(eventCheck, COMMAND_EVENT_WORD, taskList, calendar);
             taskList.add(event);
             break;
+        case COMMAND_RECURRING_DEADLINE_WORD:
+            RecurringDeadline recurringDeadline = new RecurringDeadline(desc, by, parseUntil());
+            ClashCheckEvent recurringDeadlineCheck = new ClashCheckEvent();
+            recurringDeadlineCheck.begin();
+            warnDeadlineClash(ui, taskList, calendar, recurringDeadline.getRecurrence().getFirstStart());
+            commitClashCheck(recurringDeadlineCheck, COMMAND_RECURRING_DEADLINE_WORD, taskList, calendar);
+            taskList.add(recurringDeadline);
+            break;
+        case COMMAND_RECURRING_EVENT_WORD:
+            RecurringEvent recurringEvent = new RecurringEvent(desc, from, to, parseUntil());
+            ClashCheckEvent recurringEventCheck = new ClashCheckEvent();
+            recurringEventCheck.begin();
+            warnRecurringEventClash(taskList, ui, calendar, recurringEvent);
+            commitClashCheck(recurringEventCheck, COMMAND_RECURRING_EVENT_WORD, taskList, calendar);
+            taskList.add(recurringEvent);
+            break;
         default:
             throw new UnexpectedException("Adding Task");
         }
     }
 
+    /**
+     * Parses the last date a recurring task repeats until.
+     *
+     * @return The last date, or {@code null} if none was given.
+     * @throws DateTimeParseException If the date is not in the format {@code dd-MM-yyyy}.
+     */
+    private LocalDate parseUntil() throws DateTimeParseException {
+        return (until == null) ? null : LocalDate.parse(until, UNTIL_PATTERN);
+    }
+
+    /**
+     * Records how long checking a new task for clashes took, while a flight recording is running.
+     *
+     * @param check    Event started before the check.
+     * @param item     Type of the new task.
+     * @param taskList Existing tasks.
+     * @param calendar Existing lessons.
+     */
+    private void commitClashCheck(ClashCheckEvent check, String item, TaskList taskList, Calendar calendar) {
+        check.end();
+        if (check.shouldCommit()) {
+            check.item = item;
+            check.candidates = taskList.size() + calendar.stream().mapToInt(ArrayList::size).sum();
+            check.commit();
+        }
+    }
+
     /**
      * Checks and print warning message to user when event clashes with other tasks.
      * Will not print anything if there are no clashes.
@@ -166,14 +242,76 @@ public class AddCommand extends Command {
      * @param event The event to be added.
      */
     private void warnEventTaskClash(TaskList taskList, Ui ui, Event event) {
-        if (isClashingEvent(taskList, event.getToDate(), event.getFromDate())) {
+        if (isClashingEvent(taskList, event.getToDate(), event.getFromDate())
+                || isClashingRecurringEvent(taskList, event.getFromDate(), event.getToDate())) {
             ui.printClashingEventMessage();
         }
-        if (isClashingEventWithDeadline(taskList, event.getToDate(), event.getFromDate())) {
+        if (isClashingEventWithDeadline(taskList, event.getToDate(), event.getFromDate())
+                || isClashingRecurringDeadline(taskList, event.getFromDate(), event.getToDate())) {
             ui.printClashingEventWithDeadlineMessage();
         }
     }
 
+    /**
+     * Checks and prints warning messages to user when any week's occurrence of a recurring event clashes with
+     * other tasks or lessons. Each task is checked against the rule of the recurring event rather than against
+     * each occurrence, so the check takes as long for an event repeating for years as for one repeating for a week.
+     *
+     * @param taskList Existing tasks.
+     * @param ui       For printing warning messages.
+     * @param calendar Existing lessons.
+     * @param event    The recurring event to be added.
+     */
+    private void warnRecurringEventClash(TaskList taskList, Ui ui, Calendar calendar, RecurringEvent event) {
+        boolean isClashingTask = false;
+        boolean isClashingDeadline = false;
+        Recurrence recurrence = event.getRecurrence();
+        for (Task task : taskList) {
+            if (task instanceof Event) {
+                Event other = (Event) task;
+                isClashingTask = isClashingTask || recurrence.isWithin(other.getFromDate(), other.getToDate());
+            } else if (task instanceof RecurringEvent) {
+                isClashingTask = isClashingTask || recurrence.isDuring(((RecurringEvent) task).getRecurrence());
+            } else if (task instanceof Deadline) {
+                LocalDateTime by = ((Deadline) task).getByDate();
+                isClashingDeadline = isClashingDeadline || recurrence.isDuring(by, by);
+            } else if (task instanceof RecurringDeadline) {
+                isClashingDeadline = isClashingDeadline
+                        || recurrence.isDuring(((RecurringDeadline) task).getRecurrence());
+            }
+        }
+        if (isClashingTask) {
+            ui.printClashingEventMessage();
+        }
+        if (isClashingDeadline) {
+            ui.printClashingEventWithDeadlineMessage();
+        }
+        if (isClashingRecurringLesson(calendar, event)) {
+            ui.printClashingEventModuleMessage();
+        }
+    }
+
+    /**
+     * Checks if any week's occurrence of a recurring event clashes with a lesson.
+     * Lessons only take place in the weeks of the semester, so only the occurrences in those weeks are checked.
+     *
+     * @param calendar Existing lessons.
+     * @param event    The recurring event to be added.
+     * @return {@code true} if there is a clash, {@code false} otherwise.
+     */
+    private static boolean isClashingRecurringLesson(Calendar calendar, RecurringEvent event) {
+        Semester semester = SemesterUtils.getSemester();
+        // the last week of the semester may end after the semester does
+        LocalDateTime semesterStart = semester.getStart().atStartOfDay();
+        LocalDateTime semesterEnd = semester.getEnd().plusWeeks(1).atStartOfDay();
+        for (LocalDateTime from : event.getRecurrence().getStartsBetween(semesterStart, semesterEnd)) {
+            if (calendar.isClashing(from, from.plus(event.getLength()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Checks if the user has added a deadline task that is similar to the format of a deadline task.
      * @param ui    For printing warning message.
@@ -253,120 +391,50 @@ public class AddCommand extends Command {
     }
 
     /**
-     * Checks and warns if an event user wants to add clashes with existing lessons.
+     * Checks if an event user wants to add clashes with any week's occurrence of existing recurring events.
      *
-     * @param ui       For printing warning message.
-     * @param calendar The timetable of lessons stored in an ArrayList.
-     * @param event    The event to be added.
+     * @param taskList The ArrayList containing the tasks.
+     * @param from     The time that event starts.
+     * @param to       The time that event ends.
+     * @return {@code true} if there is a clash, {@code false} otherwise.
      */
-    private void warnEventModuleClash(Ui ui, Calendar calendar, Event event) {
-        LocalDateTime eventStart = event.getFromDate();
-        LocalDateTime eventEnd = event.getToDate();
-        LocalDateTime currentDay = eventStart;
-
-        do {
-            DayOfWeek currentDayOfWeek = currentDay.getDayOfWeek();
-            int currentDayIndex = currentDayOfWeek.getValue() - 1;
-            String currentDayString = currentDay.format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
-            if (isClashingEventModule(calendar.get(currentDayIndex), eventStart, eventEnd, currentDayString)) {
-                ui.printClashingEventModuleMessage();
-                return;
+    private boolean isClashingRecurringEvent(TaskList taskList, LocalDateTime from, LocalDateTime to) {
+        for (Task task : taskList) {
+            if (task instanceof RecurringEvent && ((RecurringEvent) task).isDuring(from, to)) {
+                return true;
             }
-
-            currentDay = currentDay.plusDays(1);
-        } while (!currentDay.isAfter(eventEnd));
+        }
+        return false;
     }
 
     /**
-     * Checks if an event user wants to add clashes with existing lessons.
+     * Checks if an event user wants to add clashes with any week's due date of existing recurring deadlines.
      *
-     * @param calendarModule The ArrayList containing the lessons.
-     * @param eventStart     The time that event starts.
-     * @param eventEnd       The time that event ends.
-     * @param currentDate    The date of which being checked.
-     * @return true if there is a clash, false otherwise.
+     * @param taskList The ArrayList containing the tasks.
+     * @param from     The time that event starts.
+     * @param to       The time that event ends.
+     * @return {@code true} if there is a clash, {@code false} otherwise.
      */
-    private boolean isClashingEventModule(ArrayList<CalendarModule> calendarModule, LocalDateTime eventStart,
-                                          LocalDateTime eventEnd, String currentDate) {
-
-        DateTimeFormatter formatterFull = DateTimeFormatter.ofPattern("dd/MM/yyyy HHmm");
-        DateTimeFormatter formatterPartial = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-        for (CalendarModule module : calendarModule) {
-            if (module.getSchedule() == null) {
-                continue;
-            }
-
-            LocalDate date = LocalDate.parse(currentDate, formatterPartial);
-
-            int currentWeek = getWeekNumber(date);
-
-            ArrayList<Integer> weeks = module.getSchedule().getWeeks();
-
-            if (!weeks.contains(currentWeek)) {
-                continue;
-            }
-
-            String moduleStartString = currentDate + " " + module.getSchedule().getStartTime();
-            String moduleEndString = currentDate + " " + module.getSchedule().getEndTime();
-            LocalDateTime lessonStart = LocalDateTime.parse(moduleStartString, formatterFull);
-            LocalDateTime lessonEnd = LocalDateTime.parse(moduleEndString, formatterFull);
-
-            if (isEventLessonClashing(eventStart, eventEnd, lessonStart, lessonEnd) &&
-                    isDuringSemester(eventStart,eventEnd)) {
-
+    private boolean isClashingRecurringDeadline(TaskList taskList, LocalDateTime from, LocalDateTime to) {
+        for (Task task : taskList) {
+            if (task instanceof RecurringDeadline && ((RecurringDeadline) task).getRecurrence().isDuring(from, to)) {
                 return true;
             }
         }
         return false;
     }
 
-
-    /**
-     * Checks if event occurs during the academic semester 1 or 2
-     * @param eventStart The start time of the event
-     * @param eventEnd  The end time of the event
-     * @return {@code true} If event occurs during semester, {@code false} otherwise.
-     */
-    private boolean isDuringSemester(LocalDateTime eventStart,LocalDateTime eventEnd) {
-        LocalDateTime startSemesterTwo = LocalDateTime.of(2023, 1, 9, 0, 0);
-        LocalDateTime endSemesterTwo= LocalDateTime.of(2023,5,7,0,0);
-        LocalDateTime startSemesterOne = LocalDateTime.of(2023,8,14,0,0);
-        LocalDateTime endSemesterOne = LocalDateTime.of(2023,11,10,0,0);
-        return (!startSemesterTwo.isAfter(eventEnd) && !endSemesterTwo.isBefore(eventStart))
-                || (!startSemesterOne.isAfter(eventEnd) && !endSemesterOne.isBefore(eventStart));
-    }
-
-
-
     /**
-     * Checks if an event and lesson overlap.
+     * Checks and warns if an event user wants to add clashes with existing lessons.
      *
-     * @param eventStart The start time of the event.
-     * @param eventEnd   The end time of the event.
-     * @param lessonStart The start time of the lesson.
-     * @param lessonEnd   The end time of the lesson.
-     * @return true if there is a clash, false otherwise.
+     * @param ui       For printing warning message.
+     * @param calendar The timetable of lessons stored in an ArrayList.
+     * @param event    The event to be added.
      */
-    private boolean isEventLessonClashing(LocalDateTime eventStart, LocalDateTime eventEnd, LocalDateTime lessonStart,
-                                          LocalDateTime lessonEnd) {
-
-        if (eventStart.isEqual(lessonStart) && eventEnd.isEqual(lessonEnd)) {
-            return true;
-        }
-
-        if (eventStart.isBefore(lessonStart) && eventEnd.isAfter(lessonEnd)) {
-            return true;
-        }
-
-        if (eventStart.isAfter(lessonStart) && eventEnd.isBefore(lessonEnd)) {
-            return true;
-        }
-
-        if (eventStart.isBefore(lessonStart) && eventEnd.isBefore(lessonEnd)) {
-            return true;
+    private void warnEventModuleClash(Ui ui, Calendar calendar, Event event) {
+        if (calendar.isClashing(event.getFromDate(), event.getToDate())) {
+            ui.printClashingEventModuleMessage();
         }
-
-        return eventStart.isAfter(lessonStart) && eventEnd.isAfter(lessonEnd);
     }
 
 }
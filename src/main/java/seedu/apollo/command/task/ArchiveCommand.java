@@ -0,0 +1,59 @@
+package seedu.apollo.command.task;
+
+import seedu.apollo.calendar.Calendar;
+import seedu.apollo.command.Command;
+import seedu.apollo.module.ModuleList;
+import seedu.apollo.storage.Storage;
+import seedu.apollo.task.TaskList;
+import seedu.apollo.ui.Ui;
+
+import java.io.IOException;
+import java.util.logging.Level;
+
+/**
+ * Archive Command class that lists the Tasks moved to the archive after being done for a while.
+ * The archive is only read by this command and {@code find --all}, never on startup.
+ */
+public class ArchiveCommand extends Command {
+
+    private final String keyword;
+
+    /**
+     * Initialises the class with the keyword to shortlist archived Tasks for.
+     *
+     * @param keyword User input of the keyword, which is empty to list every archived Task.
+     */
+    public ArchiveCommand(String keyword) {
+        super("ArchiveCommand");
+        assert (keyword != null) : "ArchiveCommand: Keyword should not be null!";
+        this.keyword = keyword.trim();
+    }
+
+    @Override
+    public boolean isUsingModules() {
+        return false;
+    }
+
+    @Override
+    public boolean isReadOnly(TaskList taskList) {
+        return true;
+    }
+
+    /**
+     * Reads the archive and prints the archived Tasks that contain the keyword.
+     *
+     * @param storage Contains the archive.
+     * @param ui      Prints the archived Tasks to user.
+     */
+    @Override
+    public void execute(TaskList taskList, Ui ui, Storage storage, ModuleList moduleList, ModuleList allModules,
+                        Calendar calendar) {
+        try {
+            ui.printArchivedList(storage.findArchivedTasks(keyword), keyword);
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "IO Exception", e);
+            ui.printErrorForIO();
+        }
+    }
+
+}
@@ -8,9 +8,11 @@ import seedu.apollo.storage.Storage;
 import seedu.apollo.module.ModuleList;
 import seedu.apollo.task.TaskList;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.logging.Level;
 
 /**
  * Date Command class that shortlists Tasks that occur on the given date.
@@ -36,16 +38,39 @@ public class DateCommand extends Command {
         }
     }
 
+    @Override
+    public boolean isUsingModules() {
+        return false;
+    }
+
+    @Override
+    public boolean isReadOnly(TaskList taskList) {
+        return true;
+    }
+
     /**
-     * Shortlists and prints Tasks from the TaskList that occur during the given date.
+     * Shortlists and prints Tasks from the TaskList that occur during the given date,
+     * after the Tasks that are over that occurred during it, if the date is not in the future.
      *
      * @param taskList The existing TaskList.
      * @param ui Prints shortlisted Tasks to user.
+     * @param storage Contains the Tasks that are over.
      */
     @Override
     public void execute(TaskList taskList, Ui ui, Storage storage, ModuleList moduleList, ModuleList allModules,
                         Calendar calendar) {
-        ui.printDateList(taskList.getTasksOnDate(date), date);
+        TaskList happeningTasks = new TaskList();
+        try {
+            if (!date.isAfter(LocalDate.now())) {
+                happeningTasks.addAll(storage.getPastTasksOnDate(date));
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "IO Exception", e);
+            ui.printErrorForIO();
+            return;
+        }
+        happeningTasks.addAll(taskList.getTasksOnDate(date));
+        ui.printDateList(happeningTasks, date);
     }
 
 }
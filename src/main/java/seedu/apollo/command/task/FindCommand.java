@@ -5,35 +5,76 @@ import seedu.apollo.storage.Storage;
 import seedu.apollo.ui.Ui;
 import seedu.apollo.command.Command;
 import seedu.apollo.module.ModuleList;
+import seedu.apollo.task.Task;
 import seedu.apollo.task.TaskList;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.logging.Level;
+
 /**
  * Find Command class that shortlists Tasks that contain a given keyword.
  */
 public class FindCommand extends Command {
 
     protected String keyword;
+    // whether archived Tasks are searched as well
+    private final boolean isSearchingArchive;
+
     /**
      * Initialises the class with the given keyword to shortlist for.
      *
      * @param keyword User input of the keyword.
      */
     public FindCommand(String keyword) {
+        this(keyword, false);
+    }
+
+    /**
+     * Initialises the class with the given keyword to shortlist for.
+     *
+     * @param keyword            User input of the keyword.
+     * @param isSearchingArchive Whether to search archived Tasks as well, for {@code find --all}.
+     */
+    public FindCommand(String keyword, boolean isSearchingArchive) {
         super("FindCommand");
         this.keyword = keyword;
+        this.isSearchingArchive = isSearchingArchive;
+    }
+
+    @Override
+    public boolean isUsingModules() {
+        return false;
+    }
+
+    @Override
+    public boolean isReadOnly(TaskList taskList) {
+        return true;
     }
 
     /**
-     * Shortlists and prints Tasks from the TaskList that contain the given keyword.
+     * Shortlists and prints Tasks from the TaskList and Tasks that are over that contain the given keyword,
+     * followed by archived Tasks that contain it if the archive is searched.
      *
      * @param taskList The existing TaskList.
      * @param ui       Prints shortlisted Tasks to user.
+     * @param storage  Contains the Tasks that are over and the archive.
      */
     @Override
     public void execute(TaskList taskList, Ui ui, Storage storage, ModuleList moduleList, ModuleList allModules,
                         Calendar calendar) {
         assert (keyword != null) : "FindCommand: Keyword should not be null!";
-        ui.printFoundList(taskList.findTasks(keyword));
+        try {
+            ArrayList<Task> foundTasks = taskList.findTasks(keyword);
+            foundTasks.addAll(storage.findPastTasks(keyword));
+            ui.printFoundList(foundTasks);
+            if (isSearchingArchive) {
+                ui.printArchivedList(storage.findArchivedTasks(keyword), keyword);
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "IO Exception", e);
+            ui.printErrorForIO();
+        }
     }
 
 }
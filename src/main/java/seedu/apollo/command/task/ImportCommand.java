@@ -0,0 +1,281 @@
+package seedu.apollo.command.task;
+
+import seedu.apollo.calendar.Calendar;
+import seedu.apollo.calendar.FreeTimeFinder;
+import seedu.apollo.calendar.Semester;
+import seedu.apollo.calendar.SemesterUtils;
+import seedu.apollo.command.Command;
+import seedu.apollo.exception.task.DateOrderException;
+import seedu.apollo.exception.task.DateOverException;
+import seedu.apollo.exception.utils.IllegalCommandException;
+import seedu.apollo.module.ModuleList;
+import seedu.apollo.storage.IcsReader;
+import seedu.apollo.storage.IcsReader.IcsEvent;
+import seedu.apollo.storage.Storage;
+import seedu.apollo.task.Deadline;
+import seedu.apollo.task.Event;
+import seedu.apollo.task.Recurrence;
+import seedu.apollo.task.RecurringDeadline;
+import seedu.apollo.task.RecurringEvent;
+import seedu.apollo.task.Task;
+import seedu.apollo.task.TaskList;
+import seedu.apollo.ui.Ui;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Import Command class that adds every event in an iCalendar file to the TaskList at once.
+ * Unlike adding the events one by one, the save file is only written once,
+ * and clashes are found with one sort of every task and lesson in the period the events cover.
+ */
+public class ImportCommand extends Command {
+
+    public static final String ICS_FORMAT = "ics";
+    public static final String DEADLINE_PREFIX = "Deadline: ";
+
+    private final Path file;
+
+    /**
+     * Initialises the command with the format and location of the file to read.
+     *
+     * @param params User input in the format {@code ics FILE}.
+     * @throws IllegalCommandException If the format is not supported, or no file is given.
+     */
+    public ImportCommand(String params) throws IllegalCommandException {
+        super("ImportCommand");
+        assert params != null : "ImportCommand: params should not be null!";
+        String[] args = params.trim().split("\\s+", 2);
+        if (args.length != 2 || !args[0].equals(ICS_FORMAT)) {
+            throw new IllegalCommandException();
+        }
+        this.file = Paths.get(args[1].trim());
+    }
+
+    @Override
+    public boolean isUsingLocalFiles() {
+        return true;
+    }
+
+    /**
+     * Reads every event in the file, adds those that can be stored to the TaskList, and saves it once.
+     * Events that are over, repeat in ways Apollo cannot store, or are already in the TaskList are skipped.
+     *
+     * @param taskList The TaskList to be added to.
+     * @param ui       Prints a summary of the import.
+     * @param storage  Gets updated once after every event has been added.
+     * @param calendar Existing lessons, which imported events are checked for clashes with.
+     */
+    @Override
+    public void execute(TaskList taskList, Ui ui, Storage storage, ModuleList moduleList, ModuleList allModules,
+                        Calendar calendar) {
+        ImportSummary summary = new ImportSummary();
+        List<Task> imported = new ArrayList<>();
+        Set<String> existing = new HashSet<>();
+        for (Task task : taskList) {
+            existing.add(task.toString());
+        }
+
+        try (IcsReader reader = new IcsReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            IcsEvent event;
+            while ((event = reader.next()) != null) {
+                Task task = toTask(event, summary);
+                if (task == null) {
+                    continue;
+                }
+                if (!existing.add(task.toString())) {
+                    summary.duplicateCount++;
+                    continue;
+                }
+                imported.add(task);
+            }
+            summary.invalidCount += reader.getInvalidCount();
+        } catch (IOException e) {
+            ui.printErrorForIO();
+            return;
+        }
+
+        int clashCount = countClashing(taskList, imported, calendar);
+        taskList.addAll(imported);
+        if (!imported.isEmpty()) {
+            try {
+                storage.updateTask(taskList);
+            } catch (IOException e) {
+                ui.printErrorForIO();
+            }
+        }
+        ui.printImported(imported.size(), clashCount, summary.pastCount, summary.unsupportedCount,
+                summary.duplicateCount, summary.invalidCount, file.toString());
+    }
+
+    /**
+     * Converts an event read from the file into a task, counting it as skipped if it cannot be stored.
+     * Events with {@link #DEADLINE_PREFIX} in their title, or that take no time, become deadlines.
+     *
+     * @return The task, or {@code null} if it was skipped.
+     */
+    private static Task toTask(IcsEvent event, ImportSummary summary) {
+        if (!event.isSupported()) {
+            summary.unsupportedCount++;
+            return null;
+        }
+        boolean isDeadline = event.getSummary().startsWith(DEADLINE_PREFIX) || event.getStart().equals(event.getEnd());
+        String description = toDescription(isDeadline
+                ? event.getSummary().substring(Math.min(DEADLINE_PREFIX.length(), event.getSummary().length()))
+                : event.getSummary());
+        String from = event.getStart().format(Task.storePattern);
+        String to = event.getEnd().format(Task.storePattern);
+        try {
+            if (event.isRecurring()) {
+                return isDeadline
+                        ? new RecurringDeadline(description, from, event.getUntil())
+                        : new RecurringEvent(description, from, to, event.getUntil());
+            }
+            return isDeadline ? new Deadline(description, from) : new Event(description, from, to);
+        } catch (DateOverException e) {
+            summary.pastCount++;
+        } catch (DateOrderException e) {
+            summary.invalidCount++;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the title of an event as a description that can be saved and read back,
+     * which must fit on one line and not contain words that look like flags.
+     */
+    private static String toDescription(String title) {
+        String description = title.replaceAll("\\s+-+", " ").replaceAll("\\s+", " ").trim();
+        return description.isEmpty() ? "(no title)" : description;
+    }
+
+    /**
+     * Counts the imported tasks that overlap with any other task or lesson, including other imported tasks.
+     * Every event, deadline, lesson and occurrence of a recurring task in the period covered by the imported tasks
+     * is sorted once by start time. A time clashes with an earlier one if it starts before the latest end so far,
+     * and with a later one if the next time starts before it ends.
+     *
+     * @param taskList Existing tasks.
+     * @param imported Tasks being imported.
+     * @param calendar Existing lessons.
+     * @return Number of imported tasks with a clash.
+     */
+    private static int countClashing(TaskList taskList, List<Task> imported, Calendar calendar) {
+        if (imported.isEmpty()) {
+            return 0;
+        }
+        List<Span> spans = new ArrayList<>();
+        for (int i = 0; i < imported.size(); i++) {
+            addSpans(spans, imported.get(i), i, LocalDateTime.MIN, LocalDateTime.MAX);
+        }
+        LocalDateTime periodStart = spans.stream().map(span -> span.start).min(Comparator.naturalOrder()).get();
+        LocalDateTime periodEnd = spans.stream().map(span -> span.end).max(Comparator.naturalOrder()).get();
+        for (Task task : taskList) {
+            addSpans(spans, task, -1, periodStart, periodEnd);
+        }
+        addLessonSpans(spans, calendar, periodStart.toLocalDate(), periodEnd.toLocalDate());
+
+        spans.sort(Comparator.comparing((Span span) -> span.start).thenComparing(span -> span.end));
+        boolean[] isClashing = new boolean[imported.size()];
+        LocalDateTime latestEnd = LocalDateTime.MIN;
+        for (int i = 0; i < spans.size(); i++) {
+            Span span = spans.get(i);
+            boolean isClashingEarlier = span.start.isBefore(latestEnd);
+            boolean isClashingLater = i + 1 < spans.size() && spans.get(i + 1).start.isBefore(span.end);
+            if (span.owner >= 0 && (isClashingEarlier || isClashingLater)) {
+                isClashing[span.owner] = true;
+            }
+            if (span.end.isAfter(latestEnd)) {
+                latestEnd = span.end;
+            }
+        }
+
+        int clashCount = 0;
+        for (boolean isTaskClashing : isClashing) {
+            clashCount += isTaskClashing ? 1 : 0;
+        }
+        return clashCount;
+    }
+
+    /**
+     * Adds the times a task takes place within a period, expanding recurring tasks into their occurrences.
+     */
+    private static void addSpans(List<Span> spans, Task task, int owner, LocalDateTime from, LocalDateTime to) {
+        if (task instanceof Deadline) {
+            LocalDateTime by = ((Deadline) task).getByDate();
+            spans.add(new Span(by, by, owner));
+        } else if (task instanceof Event) {
+            spans.add(new Span(((Event) task).getFromDate(), ((Event) task).getToDate(), owner));
+        } else if (task instanceof RecurringDeadline) {
+            Recurrence recurrence = ((RecurringDeadline) task).getRecurrence();
+            for (LocalDateTime by : recurrence.getStartsBetween(max(from, recurrence.getFirstStart()),
+                    min(to, recurrence.getLastStart()))) {
+                spans.add(new Span(by, by, owner));
+            }
+        } else if (task instanceof RecurringEvent) {
+            RecurringEvent event = (RecurringEvent) task;
+            Recurrence recurrence = event.getRecurrence();
+            for (LocalDateTime start : recurrence.getStartsBetween(max(from, recurrence.getFirstStart()),
+                    min(to, recurrence.getLastStart()))) {
+                spans.add(new Span(start, start.plus(event.getLength()), owner));
+            }
+        }
+    }
+
+    private static void addLessonSpans(List<Span> spans, Calendar calendar, LocalDate from, LocalDate to) {
+        Semester semester = SemesterUtils.getSemester();
+        LocalDate first = from.isBefore(semester.getStart()) ? semester.getStart() : from;
+        LocalDate last = to.isAfter(semester.getEnd()) ? semester.getEnd() : to;
+        if (first.isAfter(last)) {
+            return;
+        }
+        for (FreeTimeFinder.Interval lesson : calendar.getLessonTimes(first, last)) {
+            spans.add(new Span(lesson.getStart(), lesson.getEnd(), -1));
+        }
+    }
+
+    private static LocalDateTime max(LocalDateTime first, LocalDateTime second) {
+        return first.isAfter(second) ? first : second;
+    }
+
+    private static LocalDateTime min(LocalDateTime first, LocalDateTime second) {
+        return first.isBefore(second) ? first : second;
+    }
+
+    /**
+     * A time that a task or lesson takes place.
+     */
+    private static class Span {
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        // index of the imported task it belongs to, or -1 if it belongs to an existing task or lesson
+        private final int owner;
+
+        private Span(LocalDateTime start, LocalDateTime end, int owner) {
+            this.start = start;
+            this.end = end;
+            this.owner = owner;
+        }
+    }
+
+    /**
+     * Numbers of events skipped for each reason.
+     */
+    private static class ImportSummary {
+        private int pastCount = 0;
+        private int unsupportedCount = 0;
+        private int duplicateCount = 0;
+        private int invalidCount = 0;
+    }
+
+}
@@ -3,30 +3,149 @@ package seedu.apollo.command.task;
 import seedu.apollo.calendar.Calendar;
 import seedu.apollo.storage.Storage;
 import seedu.apollo.command.Command;
+import seedu.apollo.exception.utils.IllegalCommandException;
 import seedu.apollo.module.ModuleList;
+import seedu.apollo.task.Task;
 import seedu.apollo.task.TaskList;
 import seedu.apollo.ui.Ui;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+
+import static seedu.apollo.ui.Parser.COMMAND_DEADLINE_WORD;
+import static seedu.apollo.ui.Parser.COMMAND_EVENT_WORD;
+import static seedu.apollo.ui.Parser.COMMAND_RECURRING_DEADLINE_WORD;
+import static seedu.apollo.ui.Parser.COMMAND_RECURRING_EVENT_WORD;
+import static seedu.apollo.ui.Parser.COMMAND_TODO_WORD;
+import static seedu.apollo.ui.Parser.FILTER_DONE;
+
 /**
- * List Command class that shows user a list of all the Tasks they have input.
+ * List Command class that shows user a list of all the Tasks they have input,
+ * or only those with the given tags, type and status.
+ * Tasks that are over are only counted, unless {@code --all} asks for them to be loaded and listed as well.
  */
 public class ListCommand extends Command {
 
+    public static final String FILTER_UNDONE = "--undone";
+    public static final String FILTER_TYPE = "--type";
+    public static final String FILTER_ALL = "--all";
+
+    private final List<String> tags = new ArrayList<>();
+    // null if the Tasks are not filtered by type or status
+    private String type;
+    private Boolean isDone;
+    private final boolean isFiltered;
+    private boolean isIncludingPast = false;
+
     public ListCommand() {
         super("ListCommand");
+        this.isFiltered = false;
+    }
+
+    /**
+     * Initialises the class with the filters that the listed Tasks must all match,
+     * such as {@code #CS2113 --undone --type deadline}.
+     *
+     * @param params Tags, {@code --done} or {@code --undone}, {@code --type TYPE} and {@code --all}, in any order.
+     * @throws IllegalCommandException If a filter is not recognised, or contradicts another filter.
+     */
+    public ListCommand(String params) throws IllegalCommandException {
+        super("ListCommand");
+        assert params != null : "ListCommand: params should not be null!";
+        String[] words = params.trim().split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            String word = words[i];
+            if (word.startsWith(Task.TAG_PREFIX) && word.length() > Task.TAG_PREFIX.length()) {
+                tags.add(word);
+            } else if (word.equals(FILTER_DONE) || word.equals(FILTER_UNDONE)) {
+                setDoneFilter(word.equals(FILTER_DONE));
+            } else if (word.equals(FILTER_TYPE) && i + 1 < words.length && type == null) {
+                type = getTaskType(words[++i]);
+            } else if (word.equals(FILTER_ALL)) {
+                isIncludingPast = true;
+            } else {
+                throw new IllegalCommandException();
+            }
+        }
+        this.isFiltered = !tags.isEmpty() || type != null || isDone != null;
+    }
+
+    private void setDoneFilter(boolean isDone) throws IllegalCommandException {
+        if (this.isDone != null && this.isDone != isDone) {
+            throw new IllegalCommandException();
+        }
+        this.isDone = isDone;
+    }
+
+    /**
+     * Returns the type of Task that is added by a command word, as given by {@link Task#getType()}.
+     *
+     * @throws IllegalCommandException If the word does not add a Task.
+     */
+    private static String getTaskType(String commandWord) throws IllegalCommandException {
+        switch (commandWord.toLowerCase()) {
+        case COMMAND_TODO_WORD:
+            return "todo";
+        case COMMAND_DEADLINE_WORD:
+            return "deadline";
+        case COMMAND_EVENT_WORD:
+            return "event";
+        case COMMAND_RECURRING_DEADLINE_WORD:
+            return "recurring deadline";
+        case COMMAND_RECURRING_EVENT_WORD:
+            return "recurring event";
+        default:
+            throw new IllegalCommandException();
+        }
+    }
+
+    @Override
+    public boolean isUsingModules() {
+        return false;
+    }
+
+    /**
+     * Checks if the TaskList can be listed without being sorted first.
+     *
+     * @param taskList TaskList containing all currently saved tasks.
+     * @return {@code true} if the TaskList is already sorted, {@code false} otherwise.
+     */
+    @Override
+    public boolean isReadOnly(TaskList taskList) {
+        return taskList.isSortedByDay();
     }
 
     /**
-     * Prints out all Tasks from the TaskList.
+     * Prints out all Tasks from the TaskList, or those matching the filters, sorting them first if needed.
+     * With {@code --all}, the Tasks that are over are loaded and printed after them.
      *
      * @param taskList The existing TaskList.
      * @param ui       Prints shortlisted Tasks to user.
+     * @param storage  Counts and loads the Tasks that are over.
      */
     @Override
     public void execute(TaskList taskList, Ui ui, Storage storage, ModuleList moduleList, ModuleList allModules,
                         Calendar calendar) {
-        taskList.sortTaskByDay();
-        ui.printList(taskList);
+        if (!taskList.isSortedByDay()) {
+            taskList.sortTaskByDay();
+        }
+        try {
+            if (isFiltered) {
+                ui.printFilteredList(taskList, taskList.filter(tags, type, isDone));
+            } else {
+                ui.printList(taskList, isIncludingPast ? 0 : storage.getPastTaskCount());
+            }
+            if (isIncludingPast) {
+                TaskList pastTasks = new TaskList();
+                pastTasks.addAll(storage.loadPastTasks(null));
+                ui.printPastList(pastTasks, pastTasks.filter(tags, type, isDone));
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "IO Exception", e);
+            ui.printErrorForIO();
+        }
     }
 
 }
@@ -4,58 +4,120 @@ import seedu.apollo.calendar.Calendar;
 import seedu.apollo.storage.Storage;
 import seedu.apollo.command.Command;
 import seedu.apollo.module.ModuleList;
+import seedu.apollo.task.Deadline;
+import seedu.apollo.task.Event;
+import seedu.apollo.task.RecurringDeadline;
+import seedu.apollo.task.RecurringEvent;
+import seedu.apollo.task.Task;
 import seedu.apollo.task.TaskList;
 import seedu.apollo.ui.Ui;
 
 import java.io.IOException;
 import java.rmi.UnexpectedException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 
 import static seedu.apollo.ui.Parser.COMMAND_DELETE_WORD;
 import static seedu.apollo.ui.Parser.COMMAND_MARK_WORD;
 import static seedu.apollo.ui.Parser.COMMAND_UNMARK_WORD;
 
 /**
- * Mark and Delete Command class that modifies an existing Task from the TaskList.
- * Handles {@code mark}, {@code unmark}, and {@code delete} commands.
+ * Mark and Delete Command class that modifies existing Tasks from the TaskList.
+ * Handles {@code mark}, {@code unmark}, and {@code delete} commands, for one Task, a list of indexes and ranges
+ * such as {@code 1,4,9-12}, or every Task matching filters such as {@code --done} and {@code --before DATE}.
+ * Many Tasks are modified as one batch, with the TaskList compacted once and saved once.
  */
 public class ModifyCommand extends Command {
 
     protected String command;
     protected int idx;
+    // indexes of the tasks to be modified, or null if they are chosen by filters when the command is executed
+    protected BitSet indexes;
+    protected boolean isDoneOnly;
+    protected LocalDate before;
 
     /**
-     * Initialises the class with the type and description of the task given in the command.
+     * Initialises the class with the type of modification and the indexes of the tasks given in the command.
      *
      * @param command Type of modification command being executed (mark, unmark, delete).
-     * @param param Contains the index of the task to be modified.
+     * @param param Contains the indexes of the tasks to be modified, separated by commas, e.g. {@code 1,4,9-12}.
      * @param size Current number of tasks in TaskList.
-     * @throws NumberFormatException If idx cannot be parsed, or is outside the current range of tasks.
+     * @throws NumberFormatException If an index cannot be parsed, or is outside the current range of tasks.
      */
     public ModifyCommand(String command, String param, int size) throws NumberFormatException {
         super("ModifyCommand");
         assert (command.equals(COMMAND_MARK_WORD) | command.equals(COMMAND_UNMARK_WORD) |
                 command.equals(COMMAND_DELETE_WORD)) : "ModifyCommand: Invalid Modify Command";
         assert param != null : "ModifyCommand: param cannot be null!";
-        int idx = Integer.parseInt(param) - 1;
-        if (idx < 0 || idx >= size) {
-            throw new NumberFormatException();
-        }
         this.command = command;
-        this.idx = idx;
+        this.indexes = parseIndexes(param, size);
+        this.idx = indexes.nextSetBit(0);
     }
 
     /**
-     * Executes the modification of a Task in the TaskList based on data in the class.
+     * Initialises the class with the type of modification and the filters that choose the tasks to be modified.
+     * Tasks must match every filter given.
+     *
+     * @param command Type of modification command being executed (mark, unmark, delete).
+     * @param isDoneOnly Whether only tasks that are done are modified.
+     * @param before Date that tasks must be over by to be modified, or {@code null} for tasks at any time.
+     */
+    public ModifyCommand(String command, boolean isDoneOnly, LocalDate before) {
+        super("ModifyCommand");
+        assert (command.equals(COMMAND_MARK_WORD) | command.equals(COMMAND_UNMARK_WORD) |
+                command.equals(COMMAND_DELETE_WORD)) : "ModifyCommand: Invalid Modify Command";
+        this.command = command;
+        this.isDoneOnly = isDoneOnly;
+        this.before = before;
+    }
+
+    /**
+     * Parses indexes and ranges of indexes separated by commas, such as {@code 1,4,9-12}.
+     *
+     * @throws NumberFormatException If an index cannot be parsed, is outside the current range of tasks,
+     *     or a range ends before it starts.
+     */
+    private static BitSet parseIndexes(String param, int size) throws NumberFormatException {
+        BitSet indexes = new BitSet(size);
+        for (String part : param.split(",", -1)) {
+            String[] range = part.split("-", -1);
+            if (range.length > 2) {
+                throw new NumberFormatException();
+            }
+            int first = Integer.parseInt(range[0].trim()) - 1;
+            int last = Integer.parseInt(range[range.length - 1].trim()) - 1;
+            if (first < 0 || last >= size || last < first) {
+                throw new NumberFormatException();
+            }
+            indexes.set(first, last + 1);
+        }
+        return indexes;
+    }
+
+    @Override
+    public boolean isUsingModules() {
+        return false;
+    }
+
+    /**
+     * Executes the modification of the Tasks in the TaskList based on data in the class.
      *
      * @param taskList The TaskList of existing Tasks.
      * @param ui Prints success or error message to user.
-     * @param storage Gets updated after the TaskList has been modified.
+     * @param storage Gets updated once after the TaskList has been modified.
      * @throws UnexpectedException If the command stored is not recognised.
      */
     @Override
     public void execute(TaskList taskList, Ui ui, Storage storage, ModuleList moduleList, ModuleList allModules,
                         Calendar calendar)
             throws UnexpectedException, IndexOutOfBoundsException, NumberFormatException {
+        if (indexes == null || indexes.cardinality() > 1) {
+            executeBatch(taskList, ui, storage);
+            return;
+        }
         switch(command) {
         case COMMAND_MARK_WORD:
             markTask(taskList, ui);
@@ -80,10 +142,96 @@ public class ModifyCommand extends Command {
         }
     }
 
+    /**
+     * Modifies every chosen Task, saving the TaskList once if any of them changed.
+     */
+    private void executeBatch(TaskList taskList, Ui ui, Storage storage) throws UnexpectedException {
+        BitSet chosen = (indexes != null) ? indexes : getMatching(taskList);
+        List<Task> modified;
+        switch (command) {
+        case COMMAND_MARK_WORD:
+            modified = setDone(taskList, chosen, true);
+            ui.printMarkedTasks(modified, chosen.cardinality() - modified.size(), true);
+            break;
+        case COMMAND_UNMARK_WORD:
+            modified = setDone(taskList, chosen, false);
+            ui.printMarkedTasks(modified, chosen.cardinality() - modified.size(), false);
+            break;
+        case COMMAND_DELETE_WORD:
+            modified = taskList.removeTasks(chosen);
+            ui.printDeletedTasks(modified, taskList.size());
+            break;
+        default:
+            throw new UnexpectedException("Modifying Task");
+        }
+        if (modified.isEmpty()) {
+            return;
+        }
+        try {
+            storage.updateTask(taskList);
+        } catch (IOException e) {
+            ui.printErrorForIO();
+        }
+    }
+
+    /**
+     * Returns the indexes of the Tasks that match every filter of the command.
+     */
+    private BitSet getMatching(TaskList taskList) {
+        BitSet matching = taskList.filter(List.of(), null, isDoneOnly ? true : null);
+        if (before != null) {
+            LocalDateTime end = before.atStartOfDay();
+            for (int i = matching.nextSetBit(0); i >= 0; i = matching.nextSetBit(i + 1)) {
+                if (!isOverBy(taskList.get(i), end)) {
+                    matching.clear(i);
+                }
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Checks if a Task is over by a time. ToDos have no time, so they are never over.
+     * A recurring Task is only over once its last occurrence is.
+     */
+    private static boolean isOverBy(Task task, LocalDateTime time) {
+        LocalDateTime end;
+        if (task instanceof Deadline) {
+            end = ((Deadline) task).getByDate();
+        } else if (task instanceof Event) {
+            end = ((Event) task).getToDate();
+        } else if (task instanceof RecurringDeadline) {
+            end = ((RecurringDeadline) task).getRecurrence().getLastStart();
+        } else if (task instanceof RecurringEvent) {
+            RecurringEvent event = (RecurringEvent) task;
+            end = event.getRecurrence().getLastStart().plus(event.getLength());
+        } else {
+            return false;
+        }
+        return !end.isAfter(time);
+    }
+
+    /**
+     * Marks the chosen Tasks as done or not done.
+     *
+     * @return The Tasks that changed, leaving out those that were already marked that way.
+     */
+    private static List<Task> setDone(TaskList taskList, BitSet chosen, boolean isDone) {
+        List<Task> changed = new ArrayList<>();
+        for (int i = chosen.nextSetBit(0); i >= 0; i = chosen.nextSetBit(i + 1)) {
+            Task task = taskList.get(i);
+            if (task.isDone() != isDone) {
+                taskList.setDone(i, isDone);
+                changed.add(task);
+            }
+        }
+        return changed;
+    }
+
     //@@author T-Wan-Lin
     private void markTask(TaskList taskList, Ui ui) throws IndexOutOfBoundsException {
         if (!taskList.get(idx).isDone()){
-            taskList.get(idx).setDone(true);
+            taskList.setDone(idx, true);
             ui.printMarkDone(taskList.get(idx));
         } else {
             ui.printTaskHasBeenMarkedPreviously();
@@ -94,7 +242,7 @@ public class ModifyCommand extends Command {
     //@@author T-Wan-Lin
     private void unmarkTask(TaskList taskList, Ui ui) throws IndexOutOfBoundsException {
         if (taskList.get(idx).isDone()){
-            taskList.get(idx).setDone(false);
+            taskList.setDone(idx, false);
             ui.printMarkNotDone(taskList.get(idx));
         } else {
             ui.printTaskHasBeenUnmarkedPreviously();
@@ -16,6 +16,16 @@ public class ExitCommand extends Command {
         super("ExitCommand");
     }
 
+    @Override
+    public boolean isUsingModules() {
+        return false;
+    }
+
+    @Override
+    public boolean isReadOnly(TaskList taskList) {
+        return true;
+    }
+
     /**
      * Prints exit message.
      * Sets the exit status of the Command to be true.
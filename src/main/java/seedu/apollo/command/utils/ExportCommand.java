@@ -0,0 +1,86 @@
+package seedu.apollo.command.utils;
+
+import seedu.apollo.calendar.Calendar;
+import seedu.apollo.calendar.SemesterUtils;
+import seedu.apollo.command.Command;
+import seedu.apollo.exception.utils.IllegalCommandException;
+import seedu.apollo.module.CalendarModule;
+import seedu.apollo.module.ModuleList;
+import seedu.apollo.storage.IcsWriter;
+import seedu.apollo.storage.Storage;
+import seedu.apollo.task.Task;
+import seedu.apollo.task.TaskList;
+import seedu.apollo.ui.Ui;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+/**
+ * Export Command class that writes the user's lessons and tasks to a file that other calendar apps can open.
+ */
+public class ExportCommand extends Command {
+
+    public static final String ICS_FORMAT = "ics";
+
+    private final Path file;
+
+    /**
+     * Initialises the command with the format and location of the file to write.
+     *
+     * @param params User input in the format {@code ics FILE}.
+     * @throws IllegalCommandException If the format is not supported, or no file is given.
+     */
+    public ExportCommand(String params) throws IllegalCommandException {
+        super("ExportCommand");
+        assert params != null : "ExportCommand: params should not be null!";
+        String[] args = params.trim().split("\\s+", 2);
+        if (args.length != 2 || !args[0].equals(ICS_FORMAT)) {
+            throw new IllegalCommandException();
+        }
+        this.file = Paths.get(args[1].trim());
+    }
+
+    @Override
+    public boolean isReadOnly(TaskList taskList) {
+        return true;
+    }
+
+    @Override
+    public boolean isUsingLocalFiles() {
+        return true;
+    }
+
+    /**
+     * Writes every lesson in the calendar and every task with dates to the file, overwriting it.
+     *
+     * @param taskList Contains the tasks to be exported.
+     * @param ui       Prints how many lessons and tasks were exported.
+     * @param calendar Contains the lessons to be exported.
+     */
+    @Override
+    public void execute(TaskList taskList, Ui ui, Storage storage, ModuleList moduleList, ModuleList allModules,
+                        Calendar calendar) {
+        int lessonCount = 0;
+        int taskCount = 0;
+        try (IcsWriter writer = new IcsWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8),
+                SemesterUtils.getSemester())) {
+            for (ArrayList<CalendarModule> day : calendar) {
+                for (CalendarModule lesson : day) {
+                    lessonCount += writer.writeLesson(lesson) ? 1 : 0;
+                }
+            }
+            for (Task task : taskList) {
+                taskCount += writer.writeTask(task) ? 1 : 0;
+            }
+        } catch (IOException e) {
+            ui.printErrorForIO();
+            return;
+        }
+        ui.printExported(lessonCount, taskCount, file.toString());
+    }
+
+}
@@ -0,0 +1,187 @@
+package seedu.apollo.command.utils;
+
+import seedu.apollo.calendar.Calendar;
+import seedu.apollo.calendar.FreeTimeFinder;
+import seedu.apollo.command.Command;
+import seedu.apollo.exception.task.InvalidDateTime;
+import seedu.apollo.exception.utils.IllegalCommandException;
+import seedu.apollo.module.ModuleList;
+import seedu.apollo.storage.Storage;
+import seedu.apollo.task.Event;
+import seedu.apollo.task.RecurringEvent;
+import seedu.apollo.task.Task;
+import seedu.apollo.task.TaskList;
+import seedu.apollo.ui.Ui;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Free Command class that finds the times the user has no lessons or events, for at least a given length of time.
+ */
+public class FreeCommand extends Command {
+
+    private static final Pattern LENGTH_PATTERN = Pattern.compile("(?:(\\d+)h)?(?:(\\d+)m)?");
+    private static final DateTimeFormatter DATE_PATTERN = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Singapore");
+
+    protected final Duration minLength;
+    protected final LocalDate fromDate;
+    protected final LocalDate toDate;
+    // words after the length that are not flags or their values
+    protected final List<String> arguments = new ArrayList<>();
+
+    /**
+     * Initialises the command with the length of free time to look for, and optionally the dates to look between.
+     * Without dates, the rest of the current week is searched.
+     *
+     * @param params User input in the format {@code LENGTH [-from dd-MM-yyyy] [-to dd-MM-yyyy]}, e.g. {@code 1h30m}.
+     * @throws IllegalCommandException If the length or flags are invalid, or the dates are in the wrong order.
+     * @throws InvalidDateTime If a date does not fit the above format.
+     */
+    public FreeCommand(String params) throws IllegalCommandException, InvalidDateTime {
+        this("FreeCommand", params);
+        if (!arguments.isEmpty()) {
+            throw new IllegalCommandException();
+        }
+    }
+
+    /**
+     * Initialises a command that searches for free time, keeping any other words in {@link #arguments}.
+     *
+     * @param commandName Name of the command, used for logging.
+     * @param params      User input starting with the length of free time, followed by flags and other words.
+     * @throws IllegalCommandException If the length or flags are invalid, or the dates are in the wrong order.
+     * @throws InvalidDateTime If a date does not fit the format {@code dd-MM-yyyy}.
+     */
+    protected FreeCommand(String commandName, String params) throws IllegalCommandException, InvalidDateTime {
+        super(commandName);
+        assert params != null : "FreeCommand: params should not be null!";
+
+        String[] args = params.trim().split("\\s+");
+        this.minLength = parseLength(args[0]);
+
+        LocalDate from = null;
+        LocalDate to = null;
+        for (int i = 1; i < args.length; i++) {
+            boolean isFlag = args[i].equals("-from") || args[i].equals("-to");
+            if (isFlag && i + 1 == args.length) {
+                throw new IllegalCommandException();
+            }
+            switch (args[i]) {
+            case "-from":
+                from = parseDate(args[++i]);
+                break;
+            case "-to":
+                to = parseDate(args[++i]);
+                break;
+            default:
+                if (args[i].startsWith("-")) {
+                    throw new IllegalCommandException();
+                }
+                arguments.add(args[i]);
+            }
+        }
+        this.fromDate = from;
+        this.toDate = to;
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new IllegalCommandException();
+        }
+    }
+
+    private static Duration parseLength(String length) throws IllegalCommandException {
+        Matcher matcher = LENGTH_PATTERN.matcher(length);
+        if (length.isEmpty() || !matcher.matches()) {
+            throw new IllegalCommandException();
+        }
+        try {
+            long hours = (matcher.group(1) == null) ? 0 : Long.parseLong(matcher.group(1));
+            long minutes = (matcher.group(2) == null) ? 0 : Long.parseLong(matcher.group(2));
+            Duration minLength = Duration.ofHours(hours).plusMinutes(minutes);
+            if (minLength.isZero()) {
+                throw new IllegalCommandException();
+            }
+            return minLength;
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new IllegalCommandException();
+        }
+    }
+
+    private static LocalDate parseDate(String date) throws InvalidDateTime {
+        try {
+            return LocalDate.parse(date, DATE_PATTERN);
+        } catch (DateTimeParseException e) {
+            throw new InvalidDateTime();
+        }
+    }
+
+    /**
+     * Returns when to start searching, which is the start of the first date given, or now if there is none.
+     *
+     * @return The start of the search.
+     */
+    protected LocalDateTime getSearchStart() {
+        if (fromDate != null) {
+            return fromDate.atStartOfDay();
+        }
+        return LocalDateTime.now(ZONE_ID).truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    /**
+     * Returns the last date to search, which is the last date given, or the Sunday after the search starts.
+     *
+     * @param from The start of the search.
+     * @return The last date to search, inclusive.
+     */
+    protected LocalDate getLastDate(LocalDateTime from) {
+        return (toDate != null) ? toDate : from.toLocalDate().with(DayOfWeek.SUNDAY);
+    }
+
+    @Override
+    public boolean isReadOnly(TaskList taskList) {
+        return true;
+    }
+
+    /**
+     * Prints the free times between the dates, around the lessons in the calendar and every event.
+     *
+     * @param taskList Contains the events the user is busy with.
+     * @param ui       Prints the free times.
+     * @param calendar Contains the lessons the user is busy with.
+     */
+    @Override
+    public void execute(TaskList taskList, Ui ui, Storage storage, ModuleList moduleList, ModuleList allModules,
+                        Calendar calendar) {
+        LocalDateTime from = getSearchStart();
+        LocalDate lastDate = getLastDate(from);
+        LocalDateTime to = lastDate.plusDays(1).atStartOfDay();
+
+        FreeTimeFinder finder = new FreeTimeFinder();
+        for (FreeTimeFinder.Interval lesson : calendar.getLessonTimes(from.toLocalDate(), lastDate)) {
+            finder.addBusy(lesson.getStart(), lesson.getEnd());
+        }
+        for (Task task : taskList) {
+            if (task instanceof Event) {
+                Event event = (Event) task;
+                finder.addBusy(event.getFromDate(), event.getToDate());
+            } else if (task instanceof RecurringEvent) {
+                RecurringEvent event = (RecurringEvent) task;
+                for (LocalDateTime start : event.getRecurrence().getStartsBetween(from, to)) {
+                    finder.addBusy(start, start.plus(event.getLength()));
+                }
+            }
+        }
+        ui.printFreeTimes(finder.findFreeTimes(from, to, minLength), minLength, from.toLocalDate(), lastDate);
+    }
+
+}
@@ -16,6 +16,16 @@ public class HelpCommand extends Command {
         super("HelpCommand");
     }
 
+    @Override
+    public boolean isUsingModules() {
+        return false;
+    }
+
+    @Override
+    public boolean isReadOnly(TaskList taskList) {
+        return true;
+    }
+
     /**
      * Prints list of all available Commands and their abilities.
      *
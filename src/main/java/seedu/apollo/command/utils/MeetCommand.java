@@ -0,0 +1,96 @@
+package seedu.apollo.command.utils;
+
+import seedu.apollo.calendar.Calendar;
+import seedu.apollo.calendar.GroupAvailability;
+import seedu.apollo.exception.task.InvalidDateTime;
+import seedu.apollo.exception.utils.IllegalCommandException;
+import seedu.apollo.module.ModuleList;
+import seedu.apollo.storage.Storage;
+import seedu.apollo.task.TaskList;
+import seedu.apollo.ui.Ui;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Meet Command class that finds the times every member of a group is free, from the save files of each member.
+ * The user's own lessons and tasks are not included unless their save files are listed as well.
+ */
+public class MeetCommand extends FreeCommand {
+
+    /**
+     * Initialises the command with the length of free time to look for and the save files of the group.
+     *
+     * @param params User input in the format {@code LENGTH [-from dd-MM-yyyy] [-to dd-MM-yyyy] DIRECTORY...}.
+     *               Each directory either contains the save files of one member,
+     *               or has one subdirectory of save files for each member.
+     * @throws IllegalCommandException If the length or flags are invalid, or no directories are given.
+     * @throws InvalidDateTime If a date does not fit the format {@code dd-MM-yyyy}.
+     */
+    public MeetCommand(String params) throws IllegalCommandException, InvalidDateTime {
+        super("MeetCommand", params);
+        if (arguments.isEmpty()) {
+            throw new IllegalCommandException();
+        }
+    }
+
+    @Override
+    public boolean isUsingLocalFiles() {
+        return true;
+    }
+
+    /**
+     * Prints the times every member is free between the dates.
+     *
+     * @param ui         Prints the common free times.
+     * @param allModules Module data the lessons of every member are looked up in.
+     */
+    @Override
+    public void execute(TaskList taskList, Ui ui, Storage storage, ModuleList moduleList, ModuleList allModules,
+                        Calendar calendar) {
+        try {
+            List<Path> memberDirectories = getMemberDirectories();
+            if (memberDirectories.isEmpty()) {
+                ui.printNoMembersFound();
+                return;
+            }
+            GroupAvailability group = GroupAvailability.load(memberDirectories, allModules);
+
+            LocalDateTime from = getSearchStart();
+            LocalDate lastDate = getLastDate(from);
+            LocalDateTime to = lastDate.plusDays(1).atStartOfDay();
+            ui.printCommonFreeTimes(group.getMemberCount(), group.findFreeTimes(from, to, minLength), minLength,
+                    from.toLocalDate(), lastDate);
+        } catch (IOException e) {
+            ui.printErrorForIO();
+        }
+    }
+
+    /**
+     * Returns the directories holding the save files of each member, in the order they were given.
+     */
+    private List<Path> getMemberDirectories() throws IOException {
+        List<Path> memberDirectories = new ArrayList<>();
+        for (String argument : arguments) {
+            Path path = Paths.get(argument);
+            if (GroupAvailability.isMemberDirectory(path)) {
+                memberDirectories.add(path);
+            } else if (Files.isDirectory(path)) {
+                try (Stream<Path> children = Files.list(path)) {
+                    memberDirectories.addAll(children.filter(GroupAvailability::isMemberDirectory).sorted()
+                            .collect(Collectors.toList()));
+                }
+            }
+        }
+        return memberDirectories;
+    }
+
+}
@@ -0,0 +1,41 @@
+package seedu.apollo.command.utils;
+
+import seedu.apollo.calendar.Calendar;
+import seedu.apollo.command.Command;
+import seedu.apollo.metrics.Metrics;
+import seedu.apollo.module.ModuleList;
+import seedu.apollo.storage.Storage;
+import seedu.apollo.task.TaskList;
+import seedu.apollo.ui.Ui;
+
+/**
+ * Stats Command class that shows how long commands and save file accesses have taken so far.
+ */
+public class StatsCommand extends Command {
+
+    public StatsCommand() {
+        super("StatsCommand");
+    }
+
+    @Override
+    public boolean isUsingModules() {
+        return false;
+    }
+
+    @Override
+    public boolean isReadOnly(TaskList taskList) {
+        return true;
+    }
+
+    /**
+     * Prints the latencies collected since Apollo was started.
+     *
+     * @param ui Prints the latencies.
+     */
+    @Override
+    public void execute(TaskList taskList, Ui ui, Storage storage, ModuleList moduleList, ModuleList allModules,
+                        Calendar calendar) {
+        ui.printStats(Metrics.getParseLatency(), Metrics.getCommandLatencies(), Metrics.getStorageLatencies());
+    }
+
+}
@@ -20,6 +20,11 @@ public class WeekCommand extends Command {
         super("WeekCommand");
     }
 
+    @Override
+    public boolean isReadOnly(TaskList taskList) {
+        return true;
+    }
+
     @Override
     public void execute(TaskList taskList, Ui ui, Storage storage, ModuleList moduleList, ModuleList allModules,
                         Calendar calendar) {
@@ -0,0 +1,39 @@
+package seedu.apollo.daemon;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Thin client that forwards a single command line to a running {@link ApolloDaemon},
+ * and copies the output of the command to the console.
+ */
+public class ApolloClient {
+
+    /**
+     * Sends a command to the daemon, and streams its output back.
+     *
+     * @param socketPath  Location of the socket the daemon listens on.
+     * @param fullCommand Command line to be executed by the daemon.
+     * @param out         Stream that the output of the command is copied to.
+     * @throws IOException If the daemon is not running, or the connection to it fails.
+     */
+    public static void send(Path socketPath, String fullCommand, PrintStream out) throws IOException {
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(UnixDomainSocketAddress.of(socketPath));
+            channel.write(StandardCharsets.UTF_8.encode(fullCommand + "\n"));
+            channel.shutdownOutput();
+
+            InputStream in = Channels.newInputStream(channel);
+            in.transferTo(out);
+            out.flush();
+        }
+    }
+
+}
@@ -0,0 +1,175 @@
+package seedu.apollo.daemon;
+
+import seedu.apollo.Apollo;
+import seedu.apollo.ui.Ui;
+import seedu.apollo.utils.LoggerInterface;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.ConnectException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.rmi.UnexpectedException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Daemon that keeps Apollo's tasks, modules and module data loaded in memory,
+ * and executes single commands forwarded by {@link ApolloClient} over a Unix domain socket.
+ * Each client is served on its own thread, so a client that never sends its command does not hold up the others.
+ */
+public class ApolloDaemon implements LoggerInterface {
+
+    // Location of the socket, relative to the directory Apollo is run from
+    public static final String SOCKET_PATH = "apollo.sock";
+
+    // how long commands still running when the daemon stops are given to finish
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private static Logger logger = Logger.getLogger("ApolloDaemon");
+
+    private final Apollo apollo;
+    private final Path socketPath;
+
+    /**
+     * Initialises the daemon with an already loaded instance of Apollo.
+     *
+     * @param apollo     Apollo instance that commands are executed on.
+     * @param socketPath Location of the Unix domain socket to listen on.
+     */
+    public ApolloDaemon(Apollo apollo, Path socketPath) {
+        setUpLogger(logger);
+        this.apollo = apollo;
+        this.socketPath = socketPath;
+    }
+
+    /**
+     * Accepts clients and executes their commands, each on its own thread.
+     * Commands are kept from modifying the data at the same time by the engine of Apollo.
+     * Stops after a client sends a command that exits Apollo.
+     * Does not start if another daemon is already listening on the socket.
+     *
+     * @param ui Prints status messages of the daemon.
+     * @return {@code false} if another daemon is already running, {@code true} once this daemon has stopped.
+     * @throws IOException If the socket cannot be created or accepted on.
+     */
+    public boolean run(Ui ui) throws IOException {
+        if (isSocketInUse()) {
+            ui.printDaemonAlreadyRunning(socketPath.toString());
+            return false;
+        }
+        // a stale socket is left behind if a previous daemon was killed
+        Files.deleteIfExists(socketPath);
+        // threads of clients that never send their command do not keep Apollo from exiting
+        ExecutorService clients = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "apollo-daemon-client");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server.bind(UnixDomainSocketAddress.of(socketPath));
+            ui.printDaemonStarted(socketPath.toString());
+            while (true) {
+                SocketChannel client;
+                try {
+                    client = server.accept();
+                } catch (ClosedChannelException e) {
+                    // a client sent a command that exits Apollo
+                    break;
+                }
+                clients.execute(() -> serveAndClose(client, server));
+            }
+        } finally {
+            clients.shutdown();
+            awaitCommands(clients);
+            Files.deleteIfExists(socketPath);
+        }
+        return true;
+    }
+
+    /**
+     * Serves a client on a thread of its own, and stops accepting clients if its command exits Apollo.
+     *
+     * @param client Connection to the client.
+     * @param server Socket the daemon accepts clients on.
+     */
+    private void serveAndClose(SocketChannel client, ServerSocketChannel server) {
+        try (client) {
+            if (serve(client)) {
+                server.close();
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Lost connection to client", e);
+        }
+    }
+
+    /**
+     * Waits for the commands that are still running to finish, so that their changes are saved.
+     */
+    private static void awaitCommands(ExecutorService clients) {
+        try {
+            clients.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Checks if another daemon is listening on the socket, by connecting to it.
+     * A socket that refuses the connection was left behind by a daemon that was killed.
+     *
+     * @return {@code true} if the socket accepts connections, {@code false} if it is stale or missing.
+     * @throws IOException If the socket cannot be connected to for any other reason.
+     */
+    private boolean isSocketInUse() throws IOException {
+        if (!Files.exists(socketPath)) {
+            return false;
+        }
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(UnixDomainSocketAddress.of(socketPath));
+            return true;
+        } catch (ConnectException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads one command line from the client and streams the output of the command back to it.
+     *
+     * @param client Connection to the client.
+     * @return {@code true} if the command exits Apollo, {@code false} otherwise.
+     * @throws IOException If the connection to the client fails.
+     */
+    private boolean serve(SocketChannel client) throws IOException {
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(Channels.newInputStream(client), StandardCharsets.UTF_8));
+        PrintStream out = new PrintStream(Channels.newOutputStream(client), false, StandardCharsets.UTF_8);
+        String fullCommand = reader.readLine();
+        if (fullCommand == null) {
+            return false;
+        }
+
+        Ui clientUi = new Ui(out);
+        boolean isExit = false;
+        try {
+            isExit = apollo.executeCommand(fullCommand, clientUi);
+        } catch (UnexpectedException e) {
+            clientUi.printUnexpectedException(e);
+        }
+        out.flush();
+        return isExit;
+    }
+
+}
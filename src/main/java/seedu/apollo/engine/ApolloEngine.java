@@ -0,0 +1,312 @@
+package seedu.apollo.engine;
+
+import seedu.apollo.calendar.Calendar;
+import seedu.apollo.command.Command;
+import seedu.apollo.metrics.CommandExecutionEvent;
+import seedu.apollo.metrics.Metrics;
+import seedu.apollo.module.CalendarModule;
+import seedu.apollo.module.Module;
+import seedu.apollo.module.ModuleList;
+import seedu.apollo.reminder.ReminderService;
+import seedu.apollo.storage.Storage;
+import seedu.apollo.task.Task;
+import seedu.apollo.task.TaskList;
+import seedu.apollo.ui.Parser;
+import seedu.apollo.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.rmi.UnexpectedException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Tasks, modules and lessons of one user, which may be used by many threads at once.
+ * Commands that only read the data are executed concurrently, while commands that modify it are executed one at a time.
+ * The module data may still be loading, in which case only commands that use modules wait for it.
+ */
+public class ApolloEngine {
+
+    private final Storage storage;
+    private final TaskList taskList;
+    private final CompletableFuture<LoadedModules> modules;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock readLock = lock.readLock();
+    private final Lock writeLock = lock.writeLock();
+
+    // reminds the user of upcoming tasks, if Apollo is running in the foreground
+    private ReminderService reminders;
+    // whether commands may open files named by the user, which only the user of the console may do
+    private volatile boolean isLocalFilesAllowed = true;
+
+    /**
+     * Loads the tasks and modules of the user from their save files.
+     *
+     * @param storage    Save files of the user.
+     * @param moduleData Module data, which must not be modified.
+     * @param ui         Prints warnings about corrupted save files.
+     * @throws IOException If the save files cannot be read or created.
+     */
+    public ApolloEngine(Storage storage, ModuleList moduleData, Ui ui) throws IOException {
+        this.storage = storage;
+        Calendar calendar = new Calendar();
+        ModuleList moduleList = storage.loadModuleList(ui, moduleData, calendar);
+        this.modules = CompletableFuture.completedFuture(new LoadedModules(moduleData, moduleList, calendar));
+        this.taskList = storage.loadTaskList(ui);
+        int archivedCount = storage.archiveDoneTasks(taskList);
+        if (archivedCount > 0) {
+            ui.printArchivedOnLoad(archivedCount);
+        }
+        if (storage.isTaskFileOutdated() || archivedCount > 0) {
+            storage.updateTask(taskList);
+        }
+    }
+
+    /**
+     * Initialises the engine with tasks that have already been loaded, and modules that may still be loading.
+     *
+     * @param storage  Save files of the user.
+     * @param taskList Tasks of the user.
+     * @param modules  Module data, modules and lessons of the user, once they are loaded.
+     */
+    ApolloEngine(Storage storage, TaskList taskList, CompletableFuture<LoadedModules> modules) {
+        this.storage = storage;
+        this.taskList = taskList;
+        this.modules = modules;
+    }
+
+    /**
+     * Parses and executes a single command, collecting everything it prints.
+     *
+     * @param fullCommand Command line input from user.
+     * @return Result of the command.
+     * @throws UnexpectedException If an unexpected error occurs.
+     */
+    public CommandResult execute(String fullCommand) throws UnexpectedException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(buffer, false, StandardCharsets.UTF_8);
+        boolean isExit = execute(fullCommand, new Ui(out));
+        out.flush();
+        return new CommandResult(fullCommand, buffer.toString(StandardCharsets.UTF_8), isExit);
+    }
+
+    /**
+     * Parses and executes a single command, printing its outputs as it runs.
+     *
+     * @param fullCommand Command line input from user.
+     * @param ui          Prints outputs of the command.
+     * @return {@code true} if the command exits Apollo, {@code false} otherwise.
+     * @throws UnexpectedException If an unexpected error occurs.
+     */
+    public boolean execute(String fullCommand, Ui ui) throws UnexpectedException {
+        try {
+            return executeWithLock(fullCommand, ui);
+        } catch (UncheckedIOException e) {
+            // the module data could not be loaded
+            ui.printErrorForIO();
+            return false;
+        }
+    }
+
+    private boolean executeWithLock(String fullCommand, Ui ui) throws UnexpectedException {
+        Command c;
+        int parsedSize;
+        readLock.lock();
+        try {
+            parsedSize = taskList.size();
+            c = parse(fullCommand, ui, parsedSize);
+            if (c == null) {
+                return false;
+            }
+            if (c.isReadOnly(taskList)) {
+                return run(c, fullCommand, ui);
+            }
+        } finally {
+            readLock.unlock();
+        }
+
+        writeLock.lock();
+        try {
+            // task indexes are checked against the number of tasks, which may have changed in between
+            if (taskList.size() != parsedSize) {
+                c = parse(fullCommand, ui, taskList.size());
+                if (c == null) {
+                    return false;
+                }
+            }
+            boolean isExit = run(c, fullCommand, ui);
+            if (reminders != null) {
+                reminders.update(taskList);
+            }
+            return isExit;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Keeps a reminder service up to date with the tasks, after every command that may add or delete tasks.
+     *
+     * @param reminders Reminds the user of upcoming tasks.
+     */
+    public void setReminders(ReminderService reminders) {
+        writeLock.lock();
+        try {
+            this.reminders = reminders;
+            reminders.update(taskList);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Allows or refuses commands that open files named by the user, such as {@code export},
+     * which must be refused when the user is not on the machine the files are on.
+     *
+     * @param isLocalFilesAllowed {@code true} if such commands may be executed, {@code false} otherwise.
+     */
+    public void setLocalFilesAllowed(boolean isLocalFilesAllowed) {
+        this.isLocalFilesAllowed = isLocalFilesAllowed;
+    }
+
+    private Command parse(String fullCommand, Ui ui, int size) throws UnexpectedException {
+        long start = System.nanoTime();
+        try {
+            return Parser.getLazyCommand(fullCommand, ui, size, () -> awaitModules().moduleData);
+        } finally {
+            Metrics.recordParse(System.nanoTime() - start);
+        }
+    }
+
+    private boolean run(Command c, String fullCommand, Ui ui) throws UnexpectedException {
+        if (c.isUsingLocalFiles() && !isLocalFilesAllowed) {
+            ui.printLocalFilesNotAllowed();
+            return false;
+        }
+        // commands that do not use modules are not given them, unless they happen to be loaded already
+        boolean isModulesReady = modules.isDone() && !modules.isCompletedExceptionally();
+        LoadedModules loaded = (c.isUsingModules() || isModulesReady) ? awaitModules() : null;
+        ModuleList moduleData = (loaded == null) ? null : loaded.moduleData;
+        ModuleList moduleList = (loaded == null) ? null : loaded.moduleList;
+        Calendar calendar = (loaded == null) ? null : loaded.calendar;
+
+        String commandWord = Parser.getCommandWord(fullCommand);
+        CommandExecutionEvent event = new CommandExecutionEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            c.execute(taskList, ui, storage, moduleList, moduleData, calendar);
+            return c.isExit;
+        } finally {
+            Metrics.recordCommand(commandWord, System.nanoTime() - start);
+            event.command = commandWord;
+            event.taskCount = taskList.size();
+            event.moduleCount = (moduleList == null) ? 0 : moduleList.size();
+            event.commit();
+        }
+    }
+
+    /**
+     * Waits for the module data, and the modules and lessons of the user, to finish loading.
+     *
+     * @return Module data, modules and lessons of the user.
+     * @throws UncheckedIOException If the module data or the module save file could not be read.
+     */
+    private LoadedModules awaitModules() throws UncheckedIOException {
+        try {
+            return modules.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw (UncheckedIOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns all tasks, in the order last listed to the user.
+     *
+     * @return Unmodifiable copy of the tasks.
+     */
+    public List<Task> getTasks() {
+        readLock.lock();
+        try {
+            return List.copyOf(taskList);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns all tasks containing the given keyword in their description.
+     *
+     * @param keyword The given keyword to check for.
+     * @return Unmodifiable list of the shortlisted tasks.
+     */
+    public List<Task> findTasks(String keyword) {
+        readLock.lock();
+        try {
+            return List.copyOf(taskList.findTasks(keyword));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns all tasks that overlap with the given date.
+     *
+     * @param date The given date to check for.
+     * @return Unmodifiable list of the shortlisted tasks.
+     */
+    public List<Task> getTasksOnDate(LocalDate date) {
+        readLock.lock();
+        try {
+            return List.copyOf(taskList.getTasksOnDate(date));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns all modules added by the user, waiting for them to finish loading.
+     *
+     * @return Unmodifiable copy of the modules.
+     * @throws UncheckedIOException If the modules could not be loaded.
+     */
+    public List<Module> getModules() {
+        LoadedModules loaded = awaitModules();
+        readLock.lock();
+        try {
+            return List.copyOf(loaded.moduleList);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the lessons on a day of the given week of the semester.
+     *
+     * @param week The week of the semester.
+     * @param day  The day of the week, starting from {@code 0} for Monday.
+     * @return Unmodifiable list of the lessons, sorted by time.
+     * @throws UncheckedIOException If the lessons could not be loaded.
+     */
+    public List<CalendarModule> getLessonsForDay(int week, int day) {
+        LoadedModules loaded = awaitModules();
+        readLock.lock();
+        try {
+            return List.copyOf(loaded.calendar.getLessonsForDay(week, day));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package seedu.apollo.engine;
+
+/**
+ * Result of a command executed by the {@link ApolloEngine}.
+ */
+public class CommandResult {
+
+    private final String command;
+    private final String output;
+    private final boolean isExit;
+
+    /**
+     * Initialises the result with the command and everything it printed.
+     *
+     * @param command Command line that was executed.
+     * @param output  Messages printed by the command.
+     * @param isExit  Whether the command exits Apollo.
+     */
+    public CommandResult(String command, String output, boolean isExit) {
+        this.command = command;
+        this.output = output;
+        this.isExit = isExit;
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    public String getOutput() {
+        return output;
+    }
+
+    public boolean isExit() {
+        return isExit;
+    }
+
+}
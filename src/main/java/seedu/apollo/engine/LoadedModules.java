@@ -0,0 +1,22 @@
+package seedu.apollo.engine;
+
+import seedu.apollo.calendar.Calendar;
+import seedu.apollo.module.ModuleList;
+
+/**
+ * Module data of the semester, together with the modules of the user and their lessons,
+ * which can only be loaded after the module data.
+ */
+class LoadedModules {
+
+    final ModuleList moduleData;
+    final ModuleList moduleList;
+    final Calendar calendar;
+
+    LoadedModules(ModuleList moduleData, ModuleList moduleList, Calendar calendar) {
+        this.moduleData = moduleData;
+        this.moduleList = moduleList;
+        this.calendar = calendar;
+    }
+
+}
@@ -0,0 +1,112 @@
+package seedu.apollo.engine;
+
+import seedu.apollo.calendar.Calendar;
+import seedu.apollo.module.ModuleList;
+import seedu.apollo.storage.Storage;
+import seedu.apollo.task.TaskList;
+import seedu.apollo.ui.Ui;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Loads the module data and save files on startup, doing independent steps at the same time.
+ * Only the task save file has to be loaded before Apollo is ready, as the tasks do not depend on the module data.
+ * The module data is loaded in the background, followed by the module save file as soon as the module data is ready.
+ * Tasks that were done long ago are moved to the archive once the tasks are loaded,
+ * and the task save file is only rewritten if some of its tasks were dropped or archived.
+ */
+public class StartupPipeline {
+
+    // Names of the phases of startup
+    public static final String PHASE_MODULE_DATA = "loadModuleData";
+    public static final String PHASE_TASK_LIST = "loadTaskList";
+    public static final String PHASE_MODULE_LIST = "loadModuleList";
+    public static final String PHASE_ARCHIVE = "archiveTasks";
+    public static final String PHASE_UPDATE_TASK = "updateTask";
+    public static final String PHASE_READY = "ready";
+
+    private final Storage storage;
+    private final Ui ui;
+    private final Map<String, Long> phaseNanos = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * Initialises the pipeline without loading anything.
+     *
+     * @param storage Save files of the user.
+     * @param ui      Prints warnings about corrupted save files.
+     */
+    public StartupPipeline(Storage storage, Ui ui) {
+        this.storage = storage;
+        this.ui = ui;
+    }
+
+    /**
+     * Loads the tasks, and starts loading the module data and modules in the background.
+     *
+     * @return Engine that is ready to execute commands which do not use modules.
+     * @throws IOException If the task save file cannot be read or created.
+     */
+    public ApolloEngine run() throws IOException {
+        long start = System.nanoTime();
+        CompletableFuture<LoadedModules> modules = CompletableFuture.supplyAsync(() -> {
+            ModuleList moduleData = timed(PHASE_MODULE_DATA, storage::loadModuleData);
+            Calendar calendar = new Calendar();
+            ModuleList moduleList = timed(PHASE_MODULE_LIST, () -> storage.loadModuleList(ui, moduleData, calendar));
+            return new LoadedModules(moduleData, moduleList, calendar);
+        });
+
+        try {
+            TaskList taskList = timed(PHASE_TASK_LIST, () -> storage.loadTaskList(ui));
+            int archivedCount = timed(PHASE_ARCHIVE, () -> storage.archiveDoneTasks(taskList));
+            if (archivedCount > 0) {
+                ui.printArchivedOnLoad(archivedCount);
+            }
+            if (storage.isTaskFileOutdated() || archivedCount > 0) {
+                timed(PHASE_UPDATE_TASK, () -> {
+                    storage.updateTask(taskList);
+                    return null;
+                });
+            }
+            phaseNanos.put(PHASE_READY, System.nanoTime() - start);
+            return new ApolloEngine(storage, taskList, modules);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Returns how long each phase of startup took, in the order they finished.
+     * Phases that were skipped, or are still running in the background, are left out.
+     *
+     * @return Wall time of each phase in nanoseconds.
+     */
+    public Map<String, Long> getPhaseNanos() {
+        synchronized (phaseNanos) {
+            return new LinkedHashMap<>(phaseNanos);
+        }
+    }
+
+    private <T> T timed(String phase, Loader<T> loader) {
+        long start = System.nanoTime();
+        try {
+            return loader.load();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            phaseNanos.put(phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Single phase of startup, which may fail to read or write a file.
+     */
+    private interface Loader<T> {
+        T load() throws IOException;
+    }
+
+}
@@ -0,0 +1,26 @@
+package seedu.apollo.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event emitted when a new task or lesson is checked for clashes.
+ */
+@Name("seedu.apollo.ClashCheck")
+@Label("Clash Check")
+@Category("Apollo")
+@Description("Checking of a new task or lesson against existing tasks and lessons")
+public class ClashCheckEvent extends Event {
+
+    @Label("Checked Item")
+    @Description("Kind of item being added, such as deadline, event or lesson")
+    public String item;
+
+    @Label("Candidates")
+    @Description("Number of existing tasks and lessons it was checked against")
+    public int candidates;
+
+}
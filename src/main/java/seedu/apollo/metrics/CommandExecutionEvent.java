@@ -0,0 +1,29 @@
+package seedu.apollo.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event emitted for every command executed.
+ */
+@Name("seedu.apollo.CommandExecution")
+@Label("Command Execution")
+@Category("Apollo")
+@Description("Parsing and execution of a single command")
+public class CommandExecutionEvent extends Event {
+
+    @Label("Command")
+    public String command;
+
+    @Label("Task Count")
+    @Description("Number of tasks after the command was executed")
+    public int taskCount;
+
+    @Label("Module Count")
+    @Description("Number of modules after the command was executed")
+    public int moduleCount;
+
+}
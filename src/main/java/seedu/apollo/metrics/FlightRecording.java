@@ -0,0 +1,40 @@
+package seedu.apollo.metrics;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+/**
+ * Flight recording of Apollo's own events, together with the JVM's usual profiling data
+ * such as garbage collection and allocations. The recording can be opened in JDK Mission Control.
+ */
+public class FlightRecording {
+
+    /**
+     * Starts recording, and writes the recording to a file once Apollo exits.
+     *
+     * @param file Location of the recording file.
+     * @throws IOException If the recording cannot be started.
+     */
+    public static void start(Path file) throws IOException {
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration("profile");
+        } catch (ParseException e) {
+            throw new IOException(e);
+        }
+        Recording recording = new Recording(configuration);
+        recording.setName("Apollo");
+        recording.enable(CommandExecutionEvent.class);
+        recording.enable(StorageWriteEvent.class);
+        recording.enable(ModuleDataLoadEvent.class);
+        recording.enable(ClashCheckEvent.class);
+        recording.setDestination(file);
+        recording.setDumpOnExit(true);
+        recording.start();
+    }
+
+}
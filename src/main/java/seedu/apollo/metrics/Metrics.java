@@ -0,0 +1,69 @@
+package seedu.apollo.metrics;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latencies of parsing, executing commands and accessing save files, collected over the lifetime of Apollo.
+ * Commands are grouped by their command word, and save file accesses by the kind of access.
+ */
+public class Metrics {
+
+    private static final LatencyHistogram parseLatency = new LatencyHistogram();
+    private static final Map<String, LatencyHistogram> commandLatencies = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> storageLatencies = new ConcurrentHashMap<>();
+
+    /**
+     * Records the time taken to parse a command line.
+     *
+     * @param nanos Time taken in nanoseconds.
+     */
+    public static void recordParse(long nanos) {
+        parseLatency.record(nanos);
+    }
+
+    /**
+     * Records the time taken to execute a command.
+     *
+     * @param commandWord Command word of the command, such as {@code todo}.
+     * @param nanos       Time taken in nanoseconds.
+     */
+    public static void recordCommand(String commandWord, long nanos) {
+        commandLatencies.computeIfAbsent(commandWord, word -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * Records the time taken to read or write a save file.
+     *
+     * @param operation Kind of access, such as {@code updateTask}.
+     * @param nanos     Time taken in nanoseconds.
+     */
+    public static void recordStorage(String operation, long nanos) {
+        storageLatencies.computeIfAbsent(operation, op -> new LatencyHistogram()).record(nanos);
+    }
+
+    public static LatencyHistogram getParseLatency() {
+        return parseLatency;
+    }
+
+    /**
+     * Returns the latencies of each command word that has been executed.
+     *
+     * @return Latencies sorted by command word.
+     */
+    public static SortedMap<String, LatencyHistogram> getCommandLatencies() {
+        return new TreeMap<>(commandLatencies);
+    }
+
+    /**
+     * Returns the latencies of each kind of save file access that has happened.
+     *
+     * @return Latencies sorted by kind of access.
+     */
+    public static SortedMap<String, LatencyHistogram> getStorageLatencies() {
+        return new TreeMap<>(storageLatencies);
+    }
+
+}
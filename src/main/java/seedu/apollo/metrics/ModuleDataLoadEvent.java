@@ -0,0 +1,21 @@
+package seedu.apollo.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event emitted when the module data of the semester is loaded.
+ */
+@Name("seedu.apollo.ModuleDataLoad")
+@Label("Module Data Load")
+@Category("Apollo")
+@Description("Parsing of the module data of the semester")
+public class ModuleDataLoadEvent extends Event {
+
+    @Label("Modules Parsed")
+    public int modulesParsed;
+
+}
@@ -0,0 +1,29 @@
+package seedu.apollo.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event emitted whenever a save file is overwritten.
+ */
+@Name("seedu.apollo.StorageWrite")
+@Label("Save File Write")
+@Category("Apollo")
+@Description("Overwriting of the save file of the tasks or modules")
+public class StorageWriteEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Bytes Written")
+    @DataAmount
+    public long bytesWritten;
+
+}
@@ -1,6 +1,14 @@
 package seedu.apollo.module;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import static seedu.apollo.utils.LessonTypeUtil.determineLessonType;
 
 /**
@@ -13,6 +21,9 @@ public class Module {
     private String moduleCredits;
     private ArrayList<Timetable> timetable;
 
+    // built from the timetable on first lookup, and not saved with the module data
+    private transient volatile LessonIndex lessonIndex;
+
     /**
      * Initialises the Module with its corresponding code and name.
      *
@@ -54,6 +65,7 @@ public class Module {
 
     public void setTimetable(ArrayList<Timetable> timetable) {
         this.timetable = timetable;
+        this.lessonIndex = null;
     }
 
     /**
@@ -79,6 +91,7 @@ public class Module {
      */
     public void createNewTimeTable() {
         this.timetable = new ArrayList<>();
+        this.lessonIndex = null;
     }
 
     /**
@@ -88,19 +101,91 @@ public class Module {
      * @return True if the module has a lesson of the specified lesson type.
      */
     public Boolean hasLessonType(LessonType lessonType) {
+        return getLessonIndex().lessonTypes.contains(lessonType);
+    }
+
+    /**
+     * Retrieves the lesson types the module has.
+     *
+     * @return Unmodifiable set of the lesson types, in the order they are declared in {@link LessonType}.
+     */
+    public Set<LessonType> getLessonTypes() {
+        return Collections.unmodifiableSet(getLessonIndex().lessonTypes);
+    }
+
+    /**
+     * Retrieves all lessons of the specified lesson type, grouped by class number.
+     *
+     * @param lessonType The lesson type to be retrieved.
+     * @return Lessons of the lesson type, or an empty list if the module has none.
+     */
+    public List<Timetable> getLessons(LessonType lessonType) {
+        Map<String, List<Timetable>> classes = getLessonIndex().lessons.get(lessonType);
+        if (classes == null) {
+            return List.of();
+        }
+        List<Timetable> lessons = new ArrayList<>();
+        for (List<Timetable> classLessons : classes.values()) {
+            lessons.addAll(classLessons);
+        }
+        return lessons;
+    }
 
+    /**
+     * Retrieves the lessons of a class, which may take place more than once a week.
+     *
+     * @param lessonType  The lesson type of the class.
+     * @param classNumber The class number, e.g. 1 for Tutorial 1.
+     * @return Unmodifiable list of the lessons of the class, or an empty list if there is no such class.
+     */
+    public List<Timetable> getLessons(LessonType lessonType, String classNumber) {
+        Map<String, List<Timetable>> classes = getLessonIndex().lessons.get(lessonType);
+        if (classes == null) {
+            return List.of();
+        }
+        return classes.getOrDefault(classNumber, List.of());
+    }
+
+    /**
+     * Adds a lesson to the module's timetable, unless it has already been added.
+     *
+     * @param lesson The lesson to be added.
+     */
+    public void addLesson(Timetable lesson) {
         if (this.timetable == null) {
+            createNewTimeTable();
+        }
+        if (!this.timetable.contains(lesson)) {
+            this.timetable.add(lesson);
+            this.lessonIndex = null;
+        }
+    }
+
+    /**
+     * Removes all lessons of a class from the module's timetable.
+     *
+     * @param lessonType  The lesson type of the class.
+     * @param classNumber The class number of the class.
+     * @return True if any lesson was removed.
+     */
+    public boolean removeLessons(LessonType lessonType, String classNumber) {
+        List<Timetable> lessons = getLessons(lessonType, classNumber);
+        if (lessons.isEmpty()) {
             return false;
         }
+        this.timetable.removeAll(lessons);
+        this.lessonIndex = null;
+        return true;
+    }
 
-        for (Timetable timetable : this.timetable) {
-            LessonType checkLessonType = determineLessonType(timetable.getLessonType());
-            assert checkLessonType != null : "Lesson type should not be null";
-            if (checkLessonType.equals(lessonType)) {
-                return true;
-            }
+    private LessonIndex getLessonIndex() {
+        LessonIndex index = lessonIndex;
+        if (index == null) {
+            // modules in the module data are shared between threads, which may each build the same index
+            index = new LessonIndex(timetable);
+            lessonIndex = index;
         }
-        return false;
+        return index;
     }
 
     public CalendarModule toCalendarModule() {
@@ -110,4 +195,32 @@ public class Module {
         }
         return calendarModule;
     }
+
+    /**
+     * Lessons of a module, looked up by lesson type and class number.
+     * The index is never modified once built, and is rebuilt whenever the timetable changes.
+     */
+    private static class LessonIndex {
+        private final EnumMap<LessonType, Map<String, List<Timetable>>> lessons = new EnumMap<>(LessonType.class);
+        private final EnumSet<LessonType> lessonTypes = EnumSet.noneOf(LessonType.class);
+
+        private LessonIndex(List<Timetable> timetable) {
+            if (timetable == null) {
+                return;
+            }
+            for (Timetable lesson : timetable) {
+                LessonType lessonType = determineLessonType(lesson.getLessonType());
+                if (lessonType == null) {
+                    continue;
+                }
+                lessonTypes.add(lessonType);
+                lessons.computeIfAbsent(lessonType, type -> new LinkedHashMap<>())
+                        .computeIfAbsent(lesson.getClassNumber(), classNumber -> new ArrayList<>())
+                        .add(lesson);
+            }
+            for (Map<String, List<Timetable>> classes : lessons.values()) {
+                classes.replaceAll((classNumber, classLessons) -> Collections.unmodifiableList(classLessons));
+            }
+        }
+    }
 }
@@ -0,0 +1,177 @@
+package seedu.apollo.module;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import seedu.apollo.calendar.Semester;
+import seedu.apollo.storage.Storage;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Module data of every semester Apollo knows about, split into one shard per semester.
+ * Shards are only loaded when they are first asked for, and only the most recently used ones are kept in memory,
+ * so knowing about more semesters does not slow down startup or take up more memory.
+ */
+public class ModuleCatalogue {
+
+    public static final String SEMESTERS_FILE = "semesters.json";
+    public static final int DEFAULT_CACHED_SHARDS = 2;
+
+    private final List<Semester> semesters;
+    private final Storage storage;
+    private final Map<String, ModuleList> shards;
+
+    /**
+     * Initialises the catalogue without loading any shards.
+     *
+     * @param semesters       Semesters that module data is available for.
+     * @param storage         Loads the module data of a semester.
+     * @param maxCachedShards Number of shards kept in memory at once.
+     */
+    public ModuleCatalogue(List<Semester> semesters, Storage storage, int maxCachedShards) {
+        assert !semesters.isEmpty() : "There should be at least one semester";
+        this.semesters = List.copyOf(semesters);
+        this.storage = storage;
+        this.shards = new LinkedHashMap<>(maxCachedShards + 1, 1f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ModuleList> eldest) {
+                return size() > maxCachedShards;
+            }
+        };
+    }
+
+    /**
+     * Reads the semesters listed in {@value #SEMESTERS_FILE}.
+     * Falls back to {@link Semester#AY2223_S2} if the list is missing or cannot be read.
+     *
+     * @return Semesters that module data is available for, in the order they are listed.
+     */
+    public static List<Semester> loadSemesters() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        try (InputStream in = classLoader.getResourceAsStream(SEMESTERS_FILE)) {
+            if (in == null) {
+                return List.of(Semester.AY2223_S2);
+            }
+            Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+            List<SemesterEntry> entries = new Gson().fromJson(reader, new TypeToken<List<SemesterEntry>>() {
+            }.getType());
+            List<Semester> semesters = new ArrayList<>();
+            for (SemesterEntry entry : entries) {
+                semesters.add(entry.toSemester());
+            }
+            return semesters.isEmpty() ? List.of(Semester.AY2223_S2) : semesters;
+        } catch (IOException | JsonParseException | DateTimeParseException | NullPointerException e) {
+            return List.of(Semester.AY2223_S2);
+        }
+    }
+
+    public List<Semester> getSemesters() {
+        return semesters;
+    }
+
+    /**
+     * Finds a semester by its code, ignoring case.
+     *
+     * @param code Code of the semester, e.g. AY2223S2.
+     * @return The semester, or {@code null} if there is no such semester.
+     */
+    public Semester findSemester(String code) {
+        for (Semester semester : semesters) {
+            if (semester.getCode().equalsIgnoreCase(code)) {
+                return semester;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Chooses the semester to plan for on a date.
+     * This is the semester containing the date, or the latest semester to have started before it,
+     * or the first semester listed if none have started yet.
+     *
+     * @param date The date to choose the semester for.
+     * @return The semester to plan for.
+     */
+    public Semester chooseSemester(LocalDate date) {
+        Semester latest = null;
+        for (Semester semester : semesters) {
+            if (semester.contains(date)) {
+                return semester;
+            }
+            boolean hasStarted = !semester.getStart().isAfter(date);
+            if (hasStarted && (latest == null || semester.getStart().isAfter(latest.getStart()))) {
+                latest = semester;
+            }
+        }
+        return (latest == null) ? semesters.get(0) : latest;
+    }
+
+    /**
+     * Returns the module data of a semester, loading its shard if it is not in memory.
+     * Shards are loaded outside the lock, so looking up shards in memory never waits for a shard to load.
+     *
+     * @param semester The semester to get the module data of.
+     * @return Module data of the semester, which must not be modified.
+     * @throws FileNotFoundException If the shard of the semester is missing.
+     */
+    public ModuleList getModules(Semester semester) throws FileNotFoundException {
+        synchronized (shards) {
+            ModuleList modules = shards.get(semester.getCode());
+            if (modules != null) {
+                return modules;
+            }
+        }
+        ModuleList loaded = storage.loadModuleData(semester.getDataFile());
+        if (loaded == null) {
+            throw new FileNotFoundException(semester.getDataFile());
+        }
+        synchronized (shards) {
+            ModuleList modules = shards.putIfAbsent(semester.getCode(), loaded);
+            return (modules == null) ? loaded : modules;
+        }
+    }
+
+    /**
+     * Returns the codes of the semesters whose shards are in memory, from least to most recently used.
+     *
+     * @return Codes of the cached semesters.
+     */
+    public List<String> getCachedSemesters() {
+        synchronized (shards) {
+            return new ArrayList<>(shards.keySet());
+        }
+    }
+
+    /**
+     * A semester as listed in {@value #SEMESTERS_FILE}.
+     */
+    private static class SemesterEntry {
+        private String code;
+        private String name;
+        private String start;
+        private String recessStart;
+        private String recessEnd;
+        private String end;
+        private String dataFile;
+        private String moduleSaveFile;
+
+        private Semester toSemester() {
+            String saveFile = (moduleSaveFile == null) ? "moduleData-" + code + ".txt" : moduleSaveFile;
+            return new Semester(code, name, LocalDate.parse(start), LocalDate.parse(recessStart),
+                    LocalDate.parse(recessEnd), LocalDate.parse(end), dataFile, saveFile);
+        }
+    }
+
+}
@@ -0,0 +1,215 @@
+package seedu.apollo.reminder;
+
+import seedu.apollo.task.Deadline;
+import seedu.apollo.task.Event;
+import seedu.apollo.task.Recurrence;
+import seedu.apollo.task.RecurringDeadline;
+import seedu.apollo.task.RecurringEvent;
+import seedu.apollo.task.Task;
+import seedu.apollo.ui.Ui;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background service that reminds the user of deadlines and events coming up while Apollo is running,
+ * and tells them when a deadline becomes overdue.
+ * Every reminder is scheduled once on a {@link TimingWheel} ticking every minute when its task is added,
+ * so each tick only looks at the reminders due on it, no matter how many tasks there are.
+ * Recurring tasks only have their next occurrence scheduled, with the one after it scheduled once it is due.
+ */
+public class ReminderService {
+
+    // how long before a deadline is due or an event starts to remind the user
+    static final List<Duration> NOTICES = List.of(Duration.ofDays(1), Duration.ofHours(1));
+
+    private final Ui ui;
+    private final TimingWheel<Reminder> wheel;
+    // tasks currently in the task list, which are the only ones reminded about
+    private Set<Task> tasks = Collections.newSetFromMap(new IdentityHashMap<>());
+    private ScheduledExecutorService ticker;
+
+    /**
+     * Initialises the service with no tasks, starting from the current minute.
+     *
+     * @param ui Prints the reminders.
+     */
+    public ReminderService(Ui ui) {
+        this(ui, LocalDateTime.now());
+    }
+
+    /**
+     * Initialises the service with no tasks, starting from the given time.
+     *
+     * @param ui  Prints the reminders.
+     * @param now The time to start from. Reminders before it are never printed.
+     */
+    ReminderService(Ui ui, LocalDateTime now) {
+        this.ui = ui;
+        this.wheel = new TimingWheel<>(toTick(now));
+    }
+
+    /**
+     * Starts checking for reminders in the background at the start of every minute.
+     */
+    public void start() {
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ApolloReminders");
+            thread.setDaemon(true);
+            return thread;
+        });
+        LocalDateTime now = LocalDateTime.now();
+        long delay = Duration.between(now, now.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1)).toMillis();
+        ticker.scheduleAtFixedRate(() -> advanceTo(LocalDateTime.now()), delay,
+                TimeUnit.MINUTES.toMillis(1), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops checking for reminders.
+     */
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    /**
+     * Brings the service up to date with the task list, after tasks may have been added or deleted.
+     * Only tasks that were not in the task list before have their reminders scheduled.
+     *
+     * @param taskList Every task of the user.
+     */
+    public synchronized void update(List<Task> taskList) {
+        Set<Task> current = Collections.newSetFromMap(new IdentityHashMap<>());
+        current.addAll(taskList);
+        LocalDateTime now = fromTick(wheel.getCurrentTick());
+        for (Task task : current) {
+            if (!tasks.contains(task)) {
+                scheduleNext(task, now);
+            }
+        }
+        // reminders of deleted tasks are dropped when they are due
+        tasks = current;
+    }
+
+    /**
+     * Prints every reminder due up to the given time.
+     *
+     * @param now The current time.
+     */
+    synchronized void advanceTo(LocalDateTime now) {
+        wheel.advanceTo(toTick(now), this::remind);
+    }
+
+    int getScheduledCount() {
+        return wheel.size();
+    }
+
+    private void remind(Reminder reminder) {
+        if (!tasks.contains(reminder.task)) {
+            return;
+        }
+        boolean isRecurring = reminder.task instanceof RecurringDeadline || reminder.task instanceof RecurringEvent;
+        if (isRecurring && reminder.before.isZero()) {
+            scheduleNext(reminder.task, reminder.time.plusMinutes(1));
+        }
+        if (reminder.task.isDone()) {
+            return;
+        }
+        boolean isDeadline = reminder.task instanceof Deadline || reminder.task instanceof RecurringDeadline;
+        if (!reminder.before.isZero()) {
+            ui.printReminder(reminder.task, reminder.before, reminder.time);
+        } else if (isDeadline) {
+            ui.printOverdue(reminder.task, reminder.time);
+        }
+    }
+
+    /**
+     * Schedules the reminders of the next occurrence of a task that is due or starts at or after the given time.
+     */
+    private void scheduleNext(Task task, LocalDateTime after) {
+        LocalDateTime time = getNextTime(task, after);
+        if (time == null) {
+            return;
+        }
+        for (Duration before : NOTICES) {
+            schedule(new Reminder(task, before, time), after);
+        }
+        // deadlines become overdue, and recurring tasks move on to their next occurrence
+        boolean isRecurring = task instanceof RecurringDeadline || task instanceof RecurringEvent;
+        if (task instanceof Deadline || isRecurring) {
+            schedule(new Reminder(task, Duration.ZERO, time), after);
+        }
+    }
+
+    private void schedule(Reminder reminder, LocalDateTime after) {
+        LocalDateTime remindAt = reminder.time.minus(reminder.before);
+        if (!remindAt.isBefore(after)) {
+            wheel.schedule(reminder, toTick(remindAt));
+        }
+    }
+
+    /**
+     * Returns when a task is next due or starts, at or after the given time.
+     *
+     * @return The time, or {@code null} if the task never is.
+     */
+    private static LocalDateTime getNextTime(Task task, LocalDateTime after) {
+        if (task instanceof Deadline) {
+            return ((Deadline) task).getByDate();
+        } else if (task instanceof Event) {
+            return ((Event) task).getFromDate();
+        } else if (task instanceof RecurringDeadline) {
+            return getNextStart(((RecurringDeadline) task).getRecurrence(), after);
+        } else if (task instanceof RecurringEvent) {
+            RecurringEvent event = (RecurringEvent) task;
+            // occurrences that have started but not ended are skipped over
+            return getNextStart(event.getRecurrence(), after.plus(event.getLength()));
+        }
+        return null;
+    }
+
+    private static LocalDateTime getNextStart(Recurrence recurrence, LocalDateTime after) {
+        LocalDateTime lastStart = recurrence.getLastStart();
+        if (after.isAfter(lastStart)) {
+            return null;
+        }
+        Iterator<LocalDateTime> starts = recurrence.getStartsBetween(after, lastStart).iterator();
+        return starts.hasNext() ? starts.next() : null;
+    }
+
+    private static long toTick(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    private static LocalDateTime fromTick(long tick) {
+        return LocalDateTime.ofEpochSecond(tick * 60, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * A reminder of one occurrence of a task.
+     */
+    private static class Reminder {
+        private final Task task;
+        // how long before the task is due or starts, which is zero once it is due
+        private final Duration before;
+        private final LocalDateTime time;
+
+        private Reminder(Task task, Duration before, LocalDateTime time) {
+            this.task = task;
+            this.before = before;
+            this.time = time;
+        }
+    }
+
+}
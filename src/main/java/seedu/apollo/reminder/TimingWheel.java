@@ -0,0 +1,120 @@
+package seedu.apollo.reminder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel that holds items until the tick they are due on.
+ * Each level has 64 slots, with each slot of a level spanning all 64 slots of the level below it,
+ * so four levels cover 64<sup>4</sup> ticks. Scheduling an item and advancing by one tick take constant time
+ * no matter how many items are waiting; items far in the future are only moved down a level
+ * once the wheel gets close to them.
+ *
+ * @param <T> Type of the items scheduled.
+ */
+public class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int LEVELS = 4;
+
+    private final List<List<Entry<T>>> slots = new ArrayList<>();
+    private long currentTick;
+    private int size = 0;
+
+    /**
+     * Initialises an empty wheel.
+     *
+     * @param startTick The tick the wheel starts at. Items due on or before it are expired on the next tick.
+     */
+    public TimingWheel(long startTick) {
+        this.currentTick = startTick;
+        for (int i = 0; i < LEVELS * SLOTS; i++) {
+            slots.add(new ArrayList<>());
+        }
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Schedules an item to expire on the given tick.
+     *
+     * @param item    The item to be scheduled.
+     * @param dueTick The tick the item expires on.
+     */
+    public void schedule(T item, long dueTick) {
+        place(new Entry<>(item, Math.max(dueTick, currentTick + 1)));
+        size++;
+    }
+
+    /**
+     * Advances the wheel one tick at a time up to the given tick, passing on every item that expires on the way
+     * in the order they were due.
+     *
+     * @param tick     The tick to advance to. Nothing happens if the wheel is already past it.
+     * @param onExpiry Receives each expired item.
+     */
+    public void advanceTo(long tick, Consumer<T> onExpiry) {
+        while (currentTick < tick) {
+            currentTick++;
+            cascade();
+            List<Entry<T>> expired = takeSlot(0, slotIndex(currentTick, 0));
+            size -= expired.size();
+            for (Entry<T> entry : expired) {
+                onExpiry.accept(entry.item);
+            }
+        }
+    }
+
+    /**
+     * Moves the items in the slots of higher levels that the wheel has just reached down to lower levels.
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            // a slot of this level is only reached once all the levels below it have gone round
+            if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                return;
+            }
+            for (Entry<T> entry : takeSlot(level, slotIndex(currentTick, level))) {
+                place(entry);
+            }
+        }
+    }
+
+    private void place(Entry<T> entry) {
+        long delay = entry.dueTick - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        slots.get(level * SLOTS + slotIndex(entry.dueTick, level)).add(entry);
+    }
+
+    private List<Entry<T>> takeSlot(int level, int index) {
+        List<Entry<T>> slot = slots.get(level * SLOTS + index);
+        slots.set(level * SLOTS + index, new ArrayList<>());
+        return slot;
+    }
+
+    private static int slotIndex(long tick, int level) {
+        return (int) ((tick >>> (SLOT_BITS * level)) & (SLOTS - 1));
+    }
+
+    private static class Entry<T> {
+        private final T item;
+        private final long dueTick;
+
+        private Entry(T item, long dueTick) {
+            this.item = item;
+            this.dueTick = dueTick;
+        }
+    }
+
+}
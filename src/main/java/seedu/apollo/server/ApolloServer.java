@@ -0,0 +1,234 @@
+package seedu.apollo.server;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import seedu.apollo.calendar.Semester;
+import seedu.apollo.engine.CommandResult;
+import seedu.apollo.module.Module;
+import seedu.apollo.module.ModuleCatalogue;
+import seedu.apollo.module.ModuleList;
+import seedu.apollo.utils.LoggerInterface;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.rmi.UnexpectedException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * HTTP front end that serves many users of Apollo from one process.
+ * Each user sends command lines to {@code POST /users/USER_ID/commands}, and gets back what the command printed.
+ * All users share one copy of the module data, but have their own tasks, modules and save files.
+ * Modules offered in any semester can be looked up with {@code GET /semesters/SEMESTER/modules/MODULE_CODE}.
+ */
+public class ApolloServer implements LoggerInterface {
+
+    public static final int DEFAULT_PORT = 8080;
+    public static final String USERS_DIRECTORY = "users";
+
+    private static final String USERS_PATH = "/users/";
+    private static final String COMMANDS_PATH = "commands";
+    private static final String SEMESTERS_PATH = "/semesters/";
+    private static final String MODULES_PATH = "modules";
+    private static final Pattern USER_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final int BACKLOG = 1024;
+
+    private static Logger logger = Logger.getLogger("ApolloServer");
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final SessionManager sessions;
+    private final ModuleCatalogue catalogue;
+    private final Gson gson = new GsonBuilder().disableHtmlEscaping().create();
+
+    /**
+     * Initialises the server without starting it.
+     *
+     * @param address       Address to listen on, port 0 picks any free port.
+     * @param rootDirectory Directory containing one storage directory per user.
+     * @param moduleData    Module data shared by all users, which must not be modified.
+     * @throws IOException If the server cannot be bound to the address.
+     */
+    public ApolloServer(InetSocketAddress address, Path rootDirectory, ModuleList moduleData) throws IOException {
+        this(address, rootDirectory, moduleData, null);
+    }
+
+    /**
+     * Initialises the server without starting it, also serving the module data of every semester.
+     *
+     * @param address       Address to listen on, port 0 picks any free port.
+     * @param rootDirectory Directory containing one storage directory per user.
+     * @param moduleData    Module data shared by all users, which must not be modified.
+     * @param catalogue     Module data of every semester, or {@code null} to only serve users.
+     * @throws IOException If the server cannot be bound to the address.
+     */
+    public ApolloServer(InetSocketAddress address, Path rootDirectory, ModuleList moduleData,
+                        ModuleCatalogue catalogue) throws IOException {
+        setUpLogger(logger);
+        this.sessions = new SessionManager(rootDirectory, moduleData);
+        this.catalogue = catalogue;
+        this.executor = newRequestExecutor();
+        this.server = HttpServer.create(address, BACKLOG);
+        server.createContext(USERS_PATH, this::handleUserRequest);
+        if (catalogue != null) {
+            server.createContext(SEMESTERS_PATH, this::handleSemesterRequest);
+        }
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Starts accepting requests in the background.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops accepting requests, and waits for requests being handled to finish.
+     */
+    public void stop() {
+        server.stop(1);
+        executor.shutdown();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Runs every request on a thread of its own.
+     * Virtual threads are used when running on Java 21 or above, and platform threads otherwise.
+     *
+     * @return Executor that starts a new thread per request.
+     */
+    private static ExecutorService newRequestExecutor() {
+        try {
+            Method newVirtualThreadExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) newVirtualThreadExecutor.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * Handles {@code POST /users/USER_ID/commands}, where the body of the request is one command line.
+     *
+     * @param exchange Request and response.
+     * @throws IOException If the response cannot be sent.
+     */
+    private void handleUserRequest(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String[] path = exchange.getRequestURI().getPath().substring(USERS_PATH.length()).split("/");
+            if (path.length != 2 || !path[1].equals(COMMANDS_PATH)) {
+                sendError(exchange, 404, "Unknown path");
+                return;
+            }
+            if (!exchange.getRequestMethod().equals("POST")) {
+                sendError(exchange, 405, "Commands must be sent with POST");
+                return;
+            }
+            String userId = path[0];
+            if (!USER_ID_PATTERN.matcher(userId).matches()) {
+                sendError(exchange, 400, "Invalid user id");
+                return;
+            }
+            String fullCommand = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8).trim();
+            if (fullCommand.isEmpty()) {
+                sendError(exchange, 400, "Empty command");
+                return;
+            }
+
+            // the session is kept after the user exits, as other requests of the user may still be using it,
+            // and is only dropped once memory runs low
+            CommandResult response = sessions.getSession(userId).execute(fullCommand);
+            send(exchange, 200, gson.toJson(response));
+        } catch (UnexpectedException e) {
+            logger.log(Level.SEVERE, "Unexpected error executing command", e);
+            sendError(exchange, 500, e.getMessage());
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error accessing save files", e);
+            sendError(exchange, 500, "Something went wrong with the hard disk");
+        }
+    }
+
+    /**
+     * Handles {@code GET /semesters/}, which lists the semesters,
+     * and {@code GET /semesters/SEMESTER/modules/MODULE_CODE}, which shows a module offered in a semester.
+     *
+     * @param exchange Request and response.
+     * @throws IOException If the response cannot be sent.
+     */
+    private void handleSemesterRequest(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                sendError(exchange, 405, "Semesters must be read with GET");
+                return;
+            }
+            String subPath = exchange.getRequestURI().getPath().substring(SEMESTERS_PATH.length());
+            if (subPath.isEmpty()) {
+                send(exchange, 200, gson.toJson(listSemesters()));
+                return;
+            }
+            String[] path = subPath.split("/");
+            if (path.length != 3 || !path[1].equals(MODULES_PATH)) {
+                sendError(exchange, 404, "Unknown path");
+                return;
+            }
+            Semester semester = catalogue.findSemester(path[0]);
+            if (semester == null) {
+                sendError(exchange, 404, "Unknown semester");
+                return;
+            }
+            Module module = catalogue.getModules(semester).findModule(path[2]);
+            if (module == null) {
+                sendError(exchange, 404, "Unknown module");
+                return;
+            }
+            send(exchange, 200, gson.toJson(module));
+        } catch (FileNotFoundException e) {
+            logger.log(Level.SEVERE, "Module data of semester is missing", e);
+            sendError(exchange, 500, "Module data of semester is missing");
+        }
+    }
+
+    private List<Map<String, String>> listSemesters() {
+        List<Map<String, String>> semesters = new ArrayList<>();
+        for (Semester semester : catalogue.getSemesters()) {
+            Map<String, String> entry = new LinkedHashMap<>();
+            entry.put("code", semester.getCode());
+            entry.put("name", semester.getName());
+            entry.put("start", semester.getStart().toString());
+            entry.put("end", semester.getEnd().toString());
+            semesters.add(entry);
+        }
+        return semesters;
+    }
+
+    private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        send(exchange, status, gson.toJson(Map.of("error", message)));
+    }
+
+    private void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+
+}
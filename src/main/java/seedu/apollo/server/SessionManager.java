@@ -0,0 +1,128 @@
+package seedu.apollo.server;
+
+import seedu.apollo.module.ModuleList;
+
+import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads the sessions of users lazily, and keeps them in memory for as long as memory allows.
+ * As every command saves its changes immediately, a session that is evicted under memory pressure
+ * is simply loaded again from its storage directory on the next request.
+ */
+public class SessionManager {
+
+    private final Path rootDirectory;
+    private final ModuleList moduleData;
+    private final ConcurrentHashMap<String, CompletableFuture<SessionReference>> sessions = new ConcurrentHashMap<>();
+    private final ReferenceQueue<UserSession> evicted = new ReferenceQueue<>();
+
+    /**
+     * Initialises the manager with no sessions loaded.
+     *
+     * @param rootDirectory Directory containing one storage directory per user.
+     * @param moduleData    Module data shared by all users.
+     */
+    public SessionManager(Path rootDirectory, ModuleList moduleData) {
+        this.rootDirectory = rootDirectory;
+        this.moduleData = moduleData;
+    }
+
+    /**
+     * Returns the session of a user, loading it from their storage directory if it is not in memory.
+     *
+     * @param userId Id of the user, which must be safe to use as a directory name.
+     * @return Session of the user.
+     * @throws IOException If the save files of the user cannot be read or created.
+     */
+    public UserSession getSession(String userId) throws IOException {
+        removeEvictedSessions();
+        while (true) {
+            // only one thread loads the session of a user, other requests of the same user wait for it,
+            // and the save files are read outside the map so that other users are not held up
+            CompletableFuture<SessionReference> loading = new CompletableFuture<>();
+            CompletableFuture<SessionReference> future = sessions.putIfAbsent(userId, loading);
+            if (future == null) {
+                return load(userId, loading);
+            }
+            UserSession session = await(future).get();
+            if (session != null) {
+                return session;
+            }
+            // the session was cleared by the garbage collector, so it is loaded again
+            sessions.remove(userId, future);
+        }
+    }
+
+    /**
+     * Loads the session of a user from their storage directory, completing the future other requests wait on.
+     */
+    private UserSession load(String userId, CompletableFuture<SessionReference> loading) throws IOException {
+        try {
+            Path directory = rootDirectory.resolve(userId);
+            Files.createDirectories(directory);
+            UserSession session = new UserSession(directory, moduleData);
+            loading.complete(new SessionReference(userId, session, evicted));
+            return session;
+        } catch (IOException | RuntimeException e) {
+            // the next request of the user tries to load the session again
+            sessions.remove(userId, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for the session of a user to be loaded by another request.
+     */
+    private static SessionReference await(CompletableFuture<SessionReference> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of sessions currently held, including ones already cleared by the garbage collector.
+     *
+     * @return Number of sessions held.
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * Drops the map entries of sessions that were cleared by the garbage collector.
+     */
+    private void removeEvictedSessions() {
+        SessionReference reference;
+        while ((reference = (SessionReference) evicted.poll()) != null) {
+            SessionReference cleared = reference;
+            sessions.computeIfPresent(cleared.userId,
+                    (userId, future) -> (future.getNow(null) == cleared) ? null : future);
+        }
+    }
+
+    /**
+     * Soft reference to a session, which remembers which user it belongs to.
+     */
+    private static class SessionReference extends SoftReference<UserSession> {
+        private final String userId;
+
+        SessionReference(String userId, UserSession session, ReferenceQueue<UserSession> queue) {
+            super(session, queue);
+            this.userId = userId;
+        }
+    }
+
+}
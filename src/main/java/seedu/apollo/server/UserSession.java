@@ -0,0 +1,55 @@
+package seedu.apollo.server;
+
+import seedu.apollo.calendar.SemesterUtils;
+import seedu.apollo.engine.ApolloEngine;
+import seedu.apollo.engine.CommandResult;
+import seedu.apollo.module.ModuleList;
+import seedu.apollo.storage.Storage;
+import seedu.apollo.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.rmi.UnexpectedException;
+
+/**
+ * Tasks, modules and lessons of a single user of the {@link ApolloServer},
+ * saved in a storage directory of their own.
+ */
+public class UserSession {
+
+    private final ApolloEngine engine;
+
+    /**
+     * Loads the session of a user from their storage directory.
+     *
+     * @param directory  Directory containing the save files of the user.
+     * @param moduleData Module data shared by all users, which must not be modified.
+     * @throws IOException If the save files cannot be read or created.
+     */
+    public UserSession(Path directory, ModuleList moduleData) throws IOException {
+        Storage storage = new Storage(directory.resolve("save.txt").toString(),
+                directory.resolve(SemesterUtils.getSemester().getModuleSaveFile()).toString());
+
+        // warnings about corrupted save files are not shown to anyone, as there is no console
+        Ui loadUi = new Ui(new PrintStream(new ByteArrayOutputStream(), false, StandardCharsets.UTF_8));
+        this.engine = new ApolloEngine(storage, moduleData, loadUi);
+        // files named in commands would be opened on the server, outside the storage directory of the user
+        engine.setLocalFilesAllowed(false);
+    }
+
+    /**
+     * Parses and executes a single command of the user.
+     * Commands that only read the data of the user may be executed alongside each other.
+     *
+     * @param fullCommand Command line input from user.
+     * @return Result of the command, including everything it printed.
+     * @throws UnexpectedException If an unexpected error occurs.
+     */
+    public CommandResult execute(String fullCommand) throws UnexpectedException {
+        return engine.execute(fullCommand);
+    }
+
+}
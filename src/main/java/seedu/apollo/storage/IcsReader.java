@@ -0,0 +1,374 @@
+package seedu.apollo.storage;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads the VEVENTs of an iCalendar (RFC 5545) file one at a time, so importing a file of thousands of events
+ * only keeps the event being read in memory.
+ * Times are converted to Singapore time, which Apollo stores all times in.
+ */
+public class IcsReader implements Closeable {
+
+    private static final ZoneId ZONE_ID = ZoneId.of(IcsWriter.TIME_ZONE);
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss",
+            Locale.ENGLISH);
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd", Locale.ENGLISH);
+
+    private final BufferedReader in;
+    // the next physical line, read ahead to find out if it continues the current line
+    private String nextLine;
+    private int invalidCount = 0;
+
+    /**
+     * Initialises the reader at the start of a calendar.
+     *
+     * @param in Reader of the calendar file.
+     * @throws IOException If the calendar cannot be read.
+     */
+    public IcsReader(BufferedReader in) throws IOException {
+        this.in = in;
+        this.nextLine = in.readLine();
+    }
+
+    /**
+     * Returns the number of events skipped so far because their times could not be read.
+     *
+     * @return Number of invalid events.
+     */
+    public int getInvalidCount() {
+        return invalidCount;
+    }
+
+    /**
+     * Reads the next event in the calendar, skipping events whose times cannot be read.
+     *
+     * @return The next event, or {@code null} if there are no more events.
+     * @throws IOException If the calendar cannot be read.
+     */
+    public IcsEvent next() throws IOException {
+        String line;
+        while ((line = readLine()) != null) {
+            if (!line.equalsIgnoreCase("BEGIN:VEVENT")) {
+                continue;
+            }
+            IcsEvent event = readEvent();
+            if (event != null) {
+                return event;
+            }
+            invalidCount++;
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * Reads the properties of an event up to its end, ignoring those of components nested in it such as alarms.
+     *
+     * @return The event, or {@code null} if it has no valid start time.
+     */
+    private IcsEvent readEvent() throws IOException {
+        Map<String, Property> properties = new HashMap<>();
+        int depth = 0;
+        String line;
+        while ((line = readLine()) != null) {
+            Property property = Property.parse(line);
+            if (property == null) {
+                continue;
+            }
+            if (property.name.equals("BEGIN")) {
+                depth++;
+            } else if (property.name.equals("END")) {
+                if (depth == 0) {
+                    break;
+                }
+                depth--;
+            } else if (depth == 0) {
+                properties.putIfAbsent(property.name, property);
+            }
+        }
+        try {
+            return IcsEvent.of(properties);
+        } catch (DateTimeException | ArithmeticException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads a content line, joining the lines it was folded onto.
+     *
+     * @return The unfolded line, or {@code null} at the end of the file.
+     */
+    private String readLine() throws IOException {
+        if (nextLine == null) {
+            return null;
+        }
+        StringBuilder line = new StringBuilder(nextLine);
+        nextLine = in.readLine();
+        while (nextLine != null && (nextLine.startsWith(" ") || nextLine.startsWith("\t"))) {
+            line.append(nextLine, 1, nextLine.length());
+            nextLine = in.readLine();
+        }
+        return line.toString();
+    }
+
+    /**
+     * Reads a date or date-time value, converting it to Singapore time.
+     * Date-times without a time zone are taken to already be in Singapore time.
+     */
+    private static LocalDateTime parseTime(Property property) throws DateTimeException {
+        String value = property.value.trim();
+        if (value.length() == 8) {
+            return LocalDate.parse(value, DATE_FORMAT).atStartOfDay();
+        }
+        if (value.endsWith("Z")) {
+            LocalDateTime utc = LocalDateTime.parse(value.substring(0, value.length() - 1), DATE_TIME_FORMAT);
+            return utc.atOffset(ZoneOffset.UTC).atZoneSameInstant(ZONE_ID).toLocalDateTime();
+        }
+        LocalDateTime time = LocalDateTime.parse(value, DATE_TIME_FORMAT);
+        String timeZone = property.params.get("TZID");
+        if (timeZone == null) {
+            return time;
+        }
+        try {
+            return time.atZone(ZoneId.of(timeZone)).withZoneSameInstant(ZONE_ID).toLocalDateTime();
+        } catch (DateTimeException e) {
+            // time zones named differently from the IANA database, such as those of Outlook, are left as they are
+            return time;
+        }
+    }
+
+    /**
+     * A property of a component, such as {@code DTSTART;TZID=Asia/Singapore:20230109T100000}.
+     */
+    private static class Property {
+        private final String name;
+        private final Map<String, String> params = new HashMap<>();
+        private final String value;
+
+        private Property(String name, String value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        /**
+         * Splits a content line into its name, parameters and value.
+         *
+         * @return The property, or {@code null} if the line has no value.
+         */
+        private static Property parse(String line) {
+            int colon = -1;
+            boolean isQuoted = false;
+            for (int i = 0; i < line.length() && colon == -1; i++) {
+                char c = line.charAt(i);
+                if (c == '"') {
+                    isQuoted = !isQuoted;
+                } else if (c == ':' && !isQuoted) {
+                    colon = i;
+                }
+            }
+            if (colon == -1) {
+                return null;
+            }
+            String[] nameAndParams = line.substring(0, colon).split(";");
+            Property property = new Property(nameAndParams[0].trim().toUpperCase(Locale.ENGLISH),
+                    line.substring(colon + 1));
+            for (int i = 1; i < nameAndParams.length; i++) {
+                String[] param = nameAndParams[i].split("=", 2);
+                if (param.length == 2) {
+                    property.params.put(param[0].trim().toUpperCase(Locale.ENGLISH), param[1].replace("\"", ""));
+                }
+            }
+            return property;
+        }
+    }
+
+    /**
+     * An event read from a calendar, with only the details Apollo keeps.
+     */
+    public static class IcsEvent {
+        private final String summary;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final boolean isRecurring;
+        private final boolean isWeekly;
+        // the last date a weekly event may start on, or null if it repeats forever
+        private final LocalDate until;
+
+        private IcsEvent(String summary, LocalDateTime start, LocalDateTime end, boolean isRecurring,
+                         boolean isWeekly, LocalDate until) {
+            this.summary = summary;
+            this.start = start;
+            this.end = end;
+            this.isRecurring = isRecurring;
+            this.isWeekly = isWeekly;
+            this.until = until;
+        }
+
+        private static IcsEvent of(Map<String, Property> properties) throws DateTimeException {
+            Property startProperty = properties.get("DTSTART");
+            if (startProperty == null) {
+                throw new DateTimeException("Event has no start");
+            }
+            LocalDateTime start = parseTime(startProperty);
+            LocalDateTime end;
+            if (properties.containsKey("DTEND")) {
+                end = parseTime(properties.get("DTEND"));
+            } else if (properties.containsKey("DURATION")) {
+                end = start.plus(parseDuration(properties.get("DURATION").value));
+            } else if (startProperty.value.trim().length() == 8) {
+                // an event on a date with no end lasts the whole day
+                end = start.plusDays(1);
+            } else {
+                end = start;
+            }
+            if (end.isBefore(start)) {
+                throw new DateTimeException("Event ends before it starts");
+            }
+
+            Property summary = properties.get("SUMMARY");
+            Property rule = properties.get("RRULE");
+            if (rule == null) {
+                return new IcsEvent(unescape(summary), start, end, false, false, null);
+            }
+            Map<String, String> parts = new HashMap<>();
+            for (String part : rule.value.toUpperCase(Locale.ENGLISH).split(";")) {
+                String[] keyAndValue = part.split("=", 2);
+                parts.put(keyAndValue[0].trim(), (keyAndValue.length == 2) ? keyAndValue[1].trim() : "");
+            }
+            return new IcsEvent(unescape(summary), start, end, true, isWeekly(parts, start),
+                    getUntil(parts, start));
+        }
+
+        /**
+         * Checks if a recurrence rule repeats once a week on the day the event starts, which Apollo can store.
+         */
+        private static boolean isWeekly(Map<String, String> rule, LocalDateTime start) {
+            String day = start.getDayOfWeek().name().substring(0, 2);
+            for (Map.Entry<String, String> part : rule.entrySet()) {
+                switch (part.getKey()) {
+                case "FREQ":
+                    if (!part.getValue().equals("WEEKLY")) {
+                        return false;
+                    }
+                    break;
+                case "INTERVAL":
+                    if (!part.getValue().equals("1")) {
+                        return false;
+                    }
+                    break;
+                case "BYDAY":
+                    if (!part.getValue().equals(day)) {
+                        return false;
+                    }
+                    break;
+                case "COUNT":
+                case "UNTIL":
+                case "WKST":
+                    break;
+                default:
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static LocalDate getUntil(Map<String, String> rule, LocalDateTime start) {
+            if (rule.containsKey("COUNT")) {
+                int count = Integer.parseInt(rule.get("COUNT"));
+                return start.toLocalDate().plusWeeks(Math.max(count, 1) - 1L);
+            }
+            if (rule.containsKey("UNTIL")) {
+                String until = rule.get("UNTIL");
+                Property property = new Property("UNTIL", until);
+                return parseTime(property).toLocalDate();
+            }
+            return null;
+        }
+
+        private static Duration parseDuration(String value) throws DateTimeException {
+            String duration = value.trim().toUpperCase(Locale.ENGLISH);
+            try {
+                if (duration.matches("[+-]?P\\d+W")) {
+                    long weeks = Long.parseLong(duration.replaceAll("[^\\d]", ""));
+                    return Duration.ofDays(weeks * 7);
+                }
+                return Duration.parse(duration);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new DateTimeException("Invalid duration " + value);
+            }
+        }
+
+        /**
+         * Reverses the escaping of a text value, joining lines into one.
+         */
+        private static String unescape(Property property) {
+            if (property == null) {
+                return "";
+            }
+            StringBuilder text = new StringBuilder();
+            String value = property.value;
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '\\' && i + 1 < value.length()) {
+                    char escaped = value.charAt(++i);
+                    text.append((escaped == 'n' || escaped == 'N') ? ' ' : escaped);
+                } else {
+                    text.append(c);
+                }
+            }
+            return text.toString().trim();
+        }
+
+        public String getSummary() {
+            return summary;
+        }
+
+        public LocalDateTime getStart() {
+            return start;
+        }
+
+        public LocalDateTime getEnd() {
+            return end;
+        }
+
+        /**
+         * Checks if the event repeats.
+         *
+         * @return True if the event has a recurrence rule.
+         */
+        public boolean isRecurring() {
+            return isRecurring;
+        }
+
+        /**
+         * Checks if the event repeats in a way Apollo can store, which is once a week on the same day.
+         *
+         * @return True if the event does not repeat, or repeats weekly.
+         */
+        public boolean isSupported() {
+            return !isRecurring || isWeekly;
+        }
+
+        public LocalDate getUntil() {
+            return until;
+        }
+    }
+
+}
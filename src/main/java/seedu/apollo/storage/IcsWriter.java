@@ -0,0 +1,216 @@
+package seedu.apollo.storage;
+
+import seedu.apollo.calendar.Semester;
+import seedu.apollo.module.CalendarModule;
+import seedu.apollo.module.Timetable;
+import seedu.apollo.task.Deadline;
+import seedu.apollo.task.Event;
+import seedu.apollo.task.RecurringDeadline;
+import seedu.apollo.task.RecurringEvent;
+import seedu.apollo.task.Task;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.UUID;
+
+import static seedu.apollo.utils.DayTypeUtil.determineDay;
+
+/**
+ * Writes lessons and tasks to an iCalendar (RFC 5545) file, one VEVENT at a time as they are given,
+ * so exporting takes the same memory for a whole semester as for a single lesson.
+ * A lesson is written as one weekly VEVENT from its first to its last week, with the weeks it skips,
+ * such as recess week, excluded by EXDATE rather than written out as separate occurrences.
+ */
+public class IcsWriter implements Closeable {
+
+    public static final String TIME_ZONE = "Asia/Singapore";
+
+    private static final String CRLF = "\r\n";
+    // lines longer than this many bytes are folded onto the next line
+    private static final int MAX_LINE_BYTES = 75;
+    private static final DateTimeFormatter LOCAL_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss",
+            Locale.ENGLISH);
+    private static final DateTimeFormatter UTC_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'",
+            Locale.ENGLISH);
+
+    private final Writer out;
+    private final Semester semester;
+    private final String timestamp;
+    private int eventCount = 0;
+
+    /**
+     * Starts a calendar, writing its header straight away.
+     *
+     * @param out      Writer the calendar is written to, which should be buffered.
+     * @param semester The semester that the week numbers of lessons belong to.
+     * @throws IOException If the header cannot be written.
+     */
+    public IcsWriter(Writer out, Semester semester) throws IOException {
+        this.out = out;
+        this.semester = semester;
+        this.timestamp = LocalDateTime.now(ZoneOffset.UTC).format(UTC_FORMAT);
+        writeLine("BEGIN:VCALENDAR");
+        writeLine("VERSION:2.0");
+        writeLine("PRODID:-//Apollo//Apollo Timetable//EN");
+        writeLine("CALSCALE:GREGORIAN");
+        // Singapore has not observed daylight saving time since 1982
+        writeLine("BEGIN:VTIMEZONE");
+        writeLine("TZID:" + TIME_ZONE);
+        writeLine("BEGIN:STANDARD");
+        writeLine("DTSTART:19820101T000000");
+        writeLine("TZOFFSETFROM:+0800");
+        writeLine("TZOFFSETTO:+0800");
+        writeLine("TZNAME:SGT");
+        writeLine("END:STANDARD");
+        writeLine("END:VTIMEZONE");
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Writes a lesson as a weekly event over the weeks of the semester it takes place in.
+     * Lessons with no weeks in the semester, or with times that cannot be read, are skipped.
+     *
+     * @param lesson The lesson to be written.
+     * @return True if the lesson was written.
+     * @throws IOException If the lesson cannot be written.
+     */
+    public boolean writeLesson(CalendarModule lesson) throws IOException {
+        Timetable schedule = lesson.getSchedule();
+        int day = determineDay(schedule.getDay());
+        if (day == -1 || schedule.getWeeks() == null) {
+            return false;
+        }
+        LocalTime startTime;
+        LocalTime endTime;
+        try {
+            startTime = LocalTime.parse(schedule.getStartTime(), Timetable.parsePattern);
+            endTime = LocalTime.parse(schedule.getEndTime(), Timetable.parsePattern);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+
+        BitSet weeks = new BitSet();
+        for (Integer week : schedule.getWeeks()) {
+            if (week != null && semester.getWeekStart(week) != null) {
+                weeks.set(week);
+            }
+        }
+        if (weeks.isEmpty()) {
+            return false;
+        }
+        LocalDate first = semester.getWeekStart(weeks.nextSetBit(0)).plusDays(day);
+        LocalDate last = semester.getWeekStart(weeks.length() - 1).plusDays(day);
+
+        String summary = lesson.getCode() + " " + schedule.getLessonType() + " (" + schedule.getClassNumber() + ")";
+        beginEvent(summary, first.atTime(startTime), first.atTime(endTime));
+        writeLine("RRULE:FREQ=WEEKLY;UNTIL=" + last.atTime(LocalTime.MAX).atOffset(ZoneOffset.ofHours(8))
+                .withOffsetSameInstant(ZoneOffset.UTC).format(UTC_FORMAT));
+        for (LocalDate date = first.plusWeeks(1); date.isBefore(last); date = date.plusWeeks(1)) {
+            int week = semester.getWeekNumber(date);
+            if (week <= 0 || !weeks.get(week)) {
+                writeLine("EXDATE;TZID=" + TIME_ZONE + ":" + date.atTime(startTime).format(LOCAL_FORMAT));
+            }
+        }
+        writeLine("DESCRIPTION:" + escape(lesson.getTitle()));
+        writeLine("END:VEVENT");
+        return true;
+    }
+
+    /**
+     * Writes a task with dates as a one-off event, or a weekly event if it recurs.
+     * Deadlines are written as events that start and end when they are due. ToDos are skipped.
+     *
+     * @param task The task to be written.
+     * @return True if the task was written.
+     * @throws IOException If the task cannot be written.
+     */
+    public boolean writeTask(Task task) throws IOException {
+        if (task instanceof Deadline) {
+            LocalDateTime by = ((Deadline) task).getByDate();
+            beginEvent("Deadline: " + task.getDescription(), by, by);
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            beginEvent(task.getDescription(), event.getFromDate(), event.getToDate());
+        } else if (task instanceof RecurringDeadline) {
+            RecurringDeadline deadline = (RecurringDeadline) task;
+            LocalDateTime by = deadline.getRecurrence().getFirstStart();
+            beginEvent("Deadline: " + task.getDescription(), by, by);
+            writeLine("RRULE:FREQ=WEEKLY;COUNT=" + deadline.getRecurrence().getCount());
+        } else if (task instanceof RecurringEvent) {
+            RecurringEvent event = (RecurringEvent) task;
+            LocalDateTime from = event.getRecurrence().getFirstStart();
+            beginEvent(task.getDescription(), from, from.plus(event.getLength()));
+            writeLine("RRULE:FREQ=WEEKLY;COUNT=" + event.getRecurrence().getCount());
+        } else {
+            return false;
+        }
+        writeLine("END:VEVENT");
+        return true;
+    }
+
+    /**
+     * Ends the calendar and closes the underlying writer.
+     *
+     * @throws IOException If the calendar cannot be ended.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            writeLine("END:VCALENDAR");
+        } finally {
+            out.close();
+        }
+    }
+
+    private void beginEvent(String summary, LocalDateTime start, LocalDateTime end) throws IOException {
+        eventCount++;
+        String key = summary + "|" + start + "|" + end + "|" + eventCount;
+        writeLine("BEGIN:VEVENT");
+        writeLine("UID:" + UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)) + "@apollo");
+        writeLine("DTSTAMP:" + timestamp);
+        writeLine("DTSTART;TZID=" + TIME_ZONE + ":" + start.format(LOCAL_FORMAT));
+        writeLine("DTEND;TZID=" + TIME_ZONE + ":" + end.format(LOCAL_FORMAT));
+        writeLine("SUMMARY:" + escape(summary));
+    }
+
+    /**
+     * Escapes the characters that have a meaning in iCalendar text values.
+     */
+    static String escape(String text) {
+        return text.replace("\\", "\\\\").replace(";", "\\;").replace(",", "\\,")
+                .replace("\r\n", "\\n").replace("\n", "\\n");
+    }
+
+    /**
+     * Writes a content line, folding it onto continuation lines that start with a space
+     * whenever it gets too long, without splitting a character.
+     */
+    private void writeLine(String line) throws IOException {
+        int lineBytes = 0;
+        for (int i = 0; i < line.length(); i += Character.charCount(line.codePointAt(i))) {
+            int codePoint = line.codePointAt(i);
+            int bytes = (codePoint < 0x80) ? 1 : (codePoint < 0x800) ? 2 : (codePoint < 0x10000) ? 3 : 4;
+            if (lineBytes + bytes > MAX_LINE_BYTES) {
+                out.write(CRLF + " ");
+                lineBytes = 1;
+            }
+            out.write(Character.toChars(codePoint));
+            lineBytes += bytes;
+        }
+        out.write(CRLF);
+    }
+
+}
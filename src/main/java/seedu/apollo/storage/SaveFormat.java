@@ -0,0 +1,360 @@
+package seedu.apollo.storage;
+
+import seedu.apollo.exception.task.DateOrderException;
+import seedu.apollo.exception.task.DateOverException;
+import seedu.apollo.exception.task.InvalidDeadline;
+import seedu.apollo.exception.task.InvalidEvent;
+import seedu.apollo.exception.utils.DuplicateModuleInTextFileException;
+import seedu.apollo.exception.utils.InvalidSaveFile;
+import seedu.apollo.module.LessonType;
+import seedu.apollo.module.Module;
+import seedu.apollo.module.ModuleList;
+import seedu.apollo.module.Timetable;
+import seedu.apollo.task.Deadline;
+import seedu.apollo.task.Event;
+import seedu.apollo.task.RecurringDeadline;
+import seedu.apollo.task.RecurringEvent;
+import seedu.apollo.task.Task;
+import seedu.apollo.task.ToDo;
+import seedu.apollo.ui.Parser;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+
+import static seedu.apollo.task.RecurringDeadline.UNTIL_PATTERN;
+import static seedu.apollo.utils.LessonTypeUtil.determineLessonType;
+
+/**
+ * Lines that Tasks and Modules are saved as, such as {@code D | X 19-10-2026 | submit report -by 20-10-2026-23:59}
+ * for a Task and {@code CS2113|LECTURE:1|TUTORIAL:03|} for a Module.
+ * Every storage backend saves Tasks and Modules in this form, so that they are read back the same way.
+ */
+final class SaveFormat {
+
+    // ints indicating position of terms in each line of the save file
+    private static final int TYPE_POS = 0;
+    private static final int STATUS_POS = 4;
+    private static final int PARAM_POS = 8;
+    // chars representing type of Tasks within the save file
+    private static final char TXT_TODO_WORD = 'T';
+    private static final char TXT_DEADLINE_WORD = 'D';
+    private static final char TXT_EVENT_WORD = 'E';
+    private static final char TXT_RECURRING_WORD = 'R';
+
+    private SaveFormat() {
+    }
+
+    /**
+     * Returns the line of the save file describing a Task.
+     * The status of a done Task is followed by the date it was done, such as {@code D | X 19-10-2026 | ...}.
+     *
+     * @param task The Task to be saved.
+     * @return Line of the save file, without a line break.
+     * @throws IOException If the type of the Task cannot be saved.
+     */
+    static String toSaveLine(Task task) throws IOException {
+        String desc = task.getDescription();
+        String type = task.getType();
+        String stat = task.getStatus();
+        if (task.getDoneDate() != null) {
+            stat += " " + task.getDoneDate().format(UNTIL_PATTERN);
+        }
+        switch (type) {
+        case "todo":
+            return "T | " + stat + " | " + desc;
+        case "deadline":
+            Deadline tempDeadline = (Deadline) task;
+            String by = tempDeadline.getBy(Task.storePattern);
+            return "D | " + stat + " | " + desc + " -by " + by;
+        case "event":
+            Event tempEvent = (Event) task;
+            String from = tempEvent.getFrom(Task.storePattern);
+            String to = tempEvent.getTo(Task.storePattern);
+            return "E | " + stat + " | " + desc + " -from " + from + " -to " + to;
+        case "recurring deadline":
+            RecurringDeadline tempRecurringDeadline = (RecurringDeadline) task;
+            String firstBy = tempRecurringDeadline.getBy(Task.storePattern);
+            String deadlineUntil = tempRecurringDeadline.getRecurrence().getUntil().format(UNTIL_PATTERN);
+            return "R | " + stat + " | " + desc + " -by " + firstBy + " -until " + deadlineUntil;
+        case "recurring event":
+            RecurringEvent tempRecurringEvent = (RecurringEvent) task;
+            String firstFrom = tempRecurringEvent.getFrom(Task.storePattern);
+            String firstTo = tempRecurringEvent.getTo(Task.storePattern);
+            String eventUntil = tempRecurringEvent.getRecurrence().getUntil().format(UNTIL_PATTERN);
+            return "R | " + stat + " | " + desc + " -from " + firstFrom + " -to " + firstTo
+                    + " -until " + eventUntil;
+        default:
+            throw new IOException();
+        }
+    }
+
+    /**
+     * Returns the time a Task starts, which is its first due date or start for recurring Tasks.
+     *
+     * @param task The Task.
+     * @return Time the Task starts, or {@code null} if it has no date.
+     */
+    static LocalDateTime getStart(Task task) {
+        if (task instanceof Deadline) {
+            return ((Deadline) task).getByDate();
+        } else if (task instanceof Event) {
+            return ((Event) task).getFromDate();
+        } else if (task instanceof RecurringDeadline) {
+            return ((RecurringDeadline) task).getRecurrence().getFirstStart();
+        } else if (task instanceof RecurringEvent) {
+            return ((RecurringEvent) task).getRecurrence().getFirstStart();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the time a Task is over, after which it can no longer be added.
+     *
+     * @param task The Task.
+     * @return Time the Task is over, or {@code null} if it is never over.
+     */
+    static LocalDateTime getEnd(Task task) {
+        if (task instanceof Deadline) {
+            return ((Deadline) task).getByDate();
+        } else if (task instanceof Event) {
+            return ((Event) task).getToDate();
+        } else if (task instanceof RecurringDeadline) {
+            return ((RecurringDeadline) task).getRecurrence().getLastStart();
+        } else if (task instanceof RecurringEvent) {
+            RecurringEvent event = (RecurringEvent) task;
+            return event.getRecurrence().getLastStart().plus(event.getLength());
+        }
+        return null;
+    }
+
+    /**
+     * Interprets a line from the save file, returns it as a new Task.
+     *
+     * @param text Line from the save file.
+     * @param now  Time the Task must not be over by.
+     * @return Corresponding Task to data stored in {@code text}.
+     * @throws InvalidSaveFile If any line in the input data is not of the right format.
+     * @throws DateOverException If the Task is over by {@code now}.
+     */
+    static Task newTask(String text, LocalDateTime now) throws InvalidSaveFile, DateOverException {
+        char type;
+        Boolean isDone;
+        LocalDate doneDate;
+        String param;
+        try {
+            type = getType(text);
+            isDone = isStatusDone(text);
+            doneDate = getDoneDate(text);
+            param = getParam(text);
+        } catch (StringIndexOutOfBoundsException e) {
+            throw new InvalidSaveFile();
+        }
+        Task task;
+        switch (type) {
+        case TXT_TODO_WORD:
+            task = newToDo(isDone, param);
+            break;
+        case TXT_DEADLINE_WORD:
+            task = newDeadline(isDone, param, now);
+            break;
+        case TXT_EVENT_WORD:
+            task = newEvent(isDone, param, now);
+            break;
+        case TXT_RECURRING_WORD:
+            task = newRecurring(isDone, param, now);
+            break;
+        default:
+            throw new InvalidSaveFile();
+        }
+        // done tasks saved before they were dated count as done on the day they are loaded
+        if (isDone && doneDate != null) {
+            task.setDoneDate(doneDate);
+        }
+        return task;
+    }
+
+    /**
+     * Interprets a line from the save file as a Task that may be over.
+     */
+    static Task newPastTask(String text) throws InvalidSaveFile {
+        try {
+            return newTask(text, LocalDateTime.MIN);
+        } catch (DateOverException e) {
+            assert false : "SaveFormat: No task is over before the earliest time!";
+            throw new InvalidSaveFile();
+        }
+    }
+
+    static char getType(String text) throws InvalidSaveFile {
+        char type = text.charAt(TYPE_POS);
+        if (type != TXT_TODO_WORD & type != TXT_DEADLINE_WORD & type != TXT_EVENT_WORD
+                & type != TXT_RECURRING_WORD) {
+            throw new InvalidSaveFile();
+        }
+        return type;
+    }
+
+    private static Boolean isStatusDone(String text) throws InvalidSaveFile {
+        char status = text.charAt(STATUS_POS);
+        if (status == 'X') {
+            return true;
+        } else if (status == ' ') {
+            return false;
+        } else {
+            throw new InvalidSaveFile();
+        }
+    }
+
+    /**
+     * Returns the date after the status of a done Task, or {@code null} if there is none.
+     */
+    static LocalDate getDoneDate(String text) throws InvalidSaveFile {
+        int statusEnd = text.indexOf(" | ", STATUS_POS);
+        if (statusEnd <= STATUS_POS + 1) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(text.substring(STATUS_POS + 1, statusEnd).trim(), UNTIL_PATTERN);
+        } catch (DateTimeParseException e) {
+            throw new InvalidSaveFile();
+        }
+    }
+
+    static String getParam(String text) {
+        int statusEnd = text.indexOf(" | ", STATUS_POS);
+        return (statusEnd == -1) ? text.substring(PARAM_POS) : text.substring(statusEnd + " | ".length());
+    }
+
+    private static ToDo newToDo(Boolean isDone, String param) {
+        ToDo newToDo = new ToDo(param);
+        newToDo.setDone(isDone);
+        return newToDo;
+    }
+
+    private static Deadline newDeadline(Boolean isDone, String param, LocalDateTime now)
+            throws InvalidSaveFile, DateOverException {
+        final String[] paramAndBy;
+        try {
+            paramAndBy = Parser.parseDeadline(param);
+        } catch (InvalidDeadline e) {
+            throw new InvalidSaveFile();
+        }
+        try {
+            Deadline newDeadline = new Deadline(paramAndBy[0], paramAndBy[1], now);
+            newDeadline.setDone(isDone);
+            return newDeadline;
+        } catch (DateTimeParseException e) {
+            throw new InvalidSaveFile();
+        }
+    }
+
+    private static Event newEvent(Boolean isDone, String param, LocalDateTime now)
+            throws InvalidSaveFile, DateOverException {
+        final String[] paramAndFromTo;
+        try {
+            paramAndFromTo = Parser.parseEvent(param);
+        } catch (InvalidEvent e) {
+            throw new InvalidSaveFile();
+        }
+        try {
+            Event newEvent = new Event(paramAndFromTo[0], paramAndFromTo[1], paramAndFromTo[2], now);
+            newEvent.setDone(isDone);
+            return newEvent;
+        } catch (DateTimeParseException | DateOrderException e) {
+            throw new InvalidSaveFile();
+        }
+    }
+
+    /**
+     * Initialises a recurring deadline or event from its rule, depending on whether it has a due date.
+     */
+    private static Task newRecurring(Boolean isDone, String param, LocalDateTime now)
+            throws InvalidSaveFile, DateOverException {
+        String[] paramAndUntil = Parser.parseRecurrence(param);
+        if (paramAndUntil[1] == null) {
+            throw new InvalidSaveFile();
+        }
+        try {
+            LocalDate until = LocalDate.parse(paramAndUntil[1], UNTIL_PATTERN);
+            Task newRecurring;
+            if (paramAndUntil[0].contains(" -by ")) {
+                String[] paramAndBy = Parser.parseDeadline(paramAndUntil[0]);
+                newRecurring = new RecurringDeadline(paramAndBy[0], paramAndBy[1], until, now);
+            } else {
+                String[] paramAndFromTo = Parser.parseEvent(paramAndUntil[0]);
+                newRecurring = new RecurringEvent(paramAndFromTo[0], paramAndFromTo[1], paramAndFromTo[2], until,
+                        now);
+            }
+            newRecurring.setDone(isDone);
+            return newRecurring;
+        } catch (InvalidDeadline | InvalidEvent | DateTimeParseException | DateOrderException e) {
+            throw new InvalidSaveFile();
+        }
+    }
+
+    /**
+     * Returns the line of the module save file describing a Module and its lessons.
+     *
+     * @param module The Module to be saved.
+     * @return Line of the module save file, without a line break.
+     */
+    static String toModuleLine(Module module) {
+        StringBuilder line = new StringBuilder(module.getCode()).append("|");
+        ArrayList<Timetable> timetableList = module.getModuleTimetable();
+        if (timetableList != null) {
+            for (Timetable timetable : timetableList) {
+                line.append(timetable.getLessonType()).append(":").append(timetable.getClassNumber()).append("|");
+            }
+        }
+        return line.toString();
+    }
+
+    /**
+     * Interprets a line from the module save file, returns it as a new Module with its lessons.
+     *
+     * @param moduleInfo    Line from the module save file.
+     * @param allModules    Contains all modules of the semester.
+     * @param newModuleList Modules read so far.
+     * @return Corresponding Module to data stored in {@code moduleInfo}.
+     * @throws InvalidSaveFile If the module does not exist.
+     * @throws DuplicateModuleInTextFileException If the module was already read.
+     */
+    static Module newModule(String moduleInfo, ModuleList allModules, ModuleList newModuleList)
+            throws InvalidSaveFile, DuplicateModuleInTextFileException {
+        String[] moduleInfoArgs = moduleInfo.split("\\|");
+        String moduleCode = moduleInfoArgs[0];
+        if (moduleCode == null) {
+            throw new InvalidSaveFile();
+        }
+        Module newModule = allModules.findModule(moduleCode);
+        if (newModule == null) {
+            throw new InvalidSaveFile();
+        }
+
+        Module module = new Module(newModule.getCode(), newModule.getTitle(), newModule.getModuleCredits());
+        if (Storage.isAdded(newModuleList, module)) {
+            throw new DuplicateModuleInTextFileException();
+        }
+        addLessons(module, newModule, moduleInfoArgs);
+        return module;
+    }
+
+    private static void addLessons(Module module, Module searchModule, String[] moduleInfo) {
+        module.createNewTimeTable();
+
+        for (int i = 1; i < moduleInfo.length; i++) {
+            String[] lessonInfo = moduleInfo[i].split(":");
+            LessonType lessonType = determineLessonType(lessonInfo[0]);
+            if (lessonType == null || lessonInfo.length < 2) {
+                continue;
+            }
+            for (Timetable timetable : searchModule.getLessons(lessonType, lessonInfo[1])) {
+                module.addLesson(timetable);
+            }
+        }
+    }
+
+}
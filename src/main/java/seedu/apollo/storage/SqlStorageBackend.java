@@ -0,0 +1,535 @@
+package seedu.apollo.storage;
+
+import seedu.apollo.calendar.Calendar;
+import seedu.apollo.exception.task.DateOverException;
+import seedu.apollo.exception.utils.DuplicateModuleInTextFileException;
+import seedu.apollo.exception.utils.InvalidSaveFile;
+import seedu.apollo.module.Module;
+import seedu.apollo.module.ModuleList;
+import seedu.apollo.task.Task;
+import seedu.apollo.task.TaskList;
+import seedu.apollo.ui.Ui;
+import seedu.apollo.utils.LoggerInterface;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Saves tasks and modules as rows of an embedded H2 database in a single file, such as {@code save.mv.db}.
+ * Each row holds the same line as the text save files, next to indexed columns for when its task starts and ends,
+ * so that a change only writes the rows of the tasks that changed,
+ * and tasks that are over are found with queries on the indexes instead of being loaded.
+ * Tasks are ordered by a key with gaps between the keys of neighbouring tasks,
+ * so that adding, deleting or moving a few tasks does not write the rows of the tasks around them.
+ * The H2 driver is only needed at runtime, and is found by JDBC when the database is first used.
+ */
+public class SqlStorageBackend implements StorageBackend, LoggerInterface {
+
+    // extension H2 adds to the name of a database
+    public static final String DATABASE_EXTENSION = ".mv.db";
+
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS tasks (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "sort_key BIGINT NOT NULL, line VARCHAR NOT NULL, description VARCHAR NOT NULL, "
+                + "starts_at TIMESTAMP, ends_at TIMESTAMP)",
+        "CREATE INDEX IF NOT EXISTS tasks_ends_at ON tasks (ends_at)",
+        "CREATE INDEX IF NOT EXISTS tasks_starts_at ON tasks (starts_at)",
+        "CREATE TABLE IF NOT EXISTS modules (save_file VARCHAR NOT NULL, code VARCHAR NOT NULL, "
+                + "line VARCHAR NOT NULL, PRIMARY KEY (save_file, code))"
+    };
+
+    // gap between the sort keys of neighbouring tasks when they are first given keys
+    static final long SORT_KEY_GAP = 1L << 32;
+
+    private static Logger logger = Logger.getLogger("SqlStorageBackend");
+
+    private final String databasePath;
+    // modules of each semester are kept apart by the name of the module save file they would otherwise be in
+    private final String moduleSaveFile;
+    private Connection connection;
+
+    // rows of the Tasks in the TaskList, which are the only rows a change to the TaskList can write
+    private final Map<Task, Row> rows = new IdentityHashMap<>();
+    // Tasks that ended before this time were over when the TaskList was loaded, and are not in it
+    private volatile LocalDateTime loadedAt = LocalDateTime.now();
+
+    /**
+     * Initialises the database, without opening or creating it.
+     *
+     * @param databasePath       Location of the database file, such as {@code save.mv.db}.
+     * @param moduleDataFilePath Location of the module save file of the semester, such as {@code moduleData.txt},
+     *                           whose name the modules are saved under.
+     */
+    public SqlStorageBackend(String databasePath, String moduleDataFilePath) {
+        setUpLogger(logger);
+        this.databasePath = databasePath;
+        this.moduleSaveFile = Path.of(moduleDataFilePath).getFileName().toString();
+    }
+
+    @Override
+    public String getTaskLocation() {
+        return databasePath;
+    }
+
+    @Override
+    public String getModuleLocation() {
+        return databasePath;
+    }
+
+    /**
+     * Opens the database the first time it is used, creating its tables if needed.
+     */
+    private synchronized Connection getConnection() throws SQLException {
+        if (connection != null) {
+            return connection;
+        }
+        String name = databasePath.endsWith(DATABASE_EXTENSION)
+                ? databasePath.substring(0, databasePath.length() - DATABASE_EXTENSION.length()) : databasePath;
+        connection = DriverManager.getConnection("jdbc:h2:file:" + Path.of(name).toAbsolutePath());
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : SCHEMA) {
+                statement.execute(sql);
+            }
+        }
+        logger.log(Level.INFO, "Opened database " + databasePath);
+        return connection;
+    }
+
+    /**
+     * Loads the rows of the Tasks that are not over, in the order they were saved in.
+     */
+    @Override
+    public synchronized TaskList loadTaskList(Ui ui) throws IOException {
+        LocalDateTime now = LocalDateTime.now();
+        rows.clear();
+        loadedAt = now;
+        TaskList newTaskList = new TaskList();
+        try (PreparedStatement query = getConnection().prepareStatement("SELECT id, sort_key, line FROM tasks "
+                + "WHERE ends_at IS NULL OR ends_at >= ? ORDER BY sort_key, id")) {
+            query.setObject(1, now);
+            try (ResultSet results = query.executeQuery()) {
+                int counter = 0;
+                while (results.next()) {
+                    counter++;
+                    long id = results.getLong("id");
+                    String line = results.getString("line");
+                    try {
+                        Task task = SaveFormat.newTask(line, now);
+                        rows.put(task, new Row(id, results.getLong("sort_key"), task.getChangeCount(), line));
+                        newTaskList.add(task);
+                    } catch (InvalidSaveFile | DateOverException e) {
+                        // the row is left as it is, as it is not in the TaskList to be saved again
+                        ui.printInvalidSaveFile(counter, databasePath);
+                        logger.log(Level.INFO, "Error in reading task " + id + " from database");
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+        return newTaskList;
+    }
+
+    /**
+     * Rows are written one at a time, so the tasks never have to be saved again after loading.
+     */
+    @Override
+    public boolean isTaskFileOutdated() {
+        return false;
+    }
+
+    /**
+     * Inserts the rows of new Tasks, updates the rows of Tasks that changed or moved,
+     * and deletes the rows of loaded Tasks that are no longer in the TaskList, in one transaction.
+     * Only Tasks that changed since they were last saved are turned into lines again,
+     * and Tasks that only moved only have their sort keys written.
+     *
+     * @return Number of bytes in the lines of the rows written.
+     */
+    @Override
+    public synchronized long updateTask(TaskList taskList) throws IOException {
+        Long[] savedKeys = new Long[taskList.size()];
+        for (int position = 0; position < taskList.size(); position++) {
+            Row row = rows.get(taskList.get(position));
+            savedKeys[position] = (row == null) ? null : row.sortKey;
+        }
+        long[] sortKeys = getSortKeys(savedKeys);
+        Map<Task, Row> newRows = new IdentityHashMap<>();
+        long bytesWritten = 0;
+        try {
+            Connection db = getConnection();
+            db.setAutoCommit(false);
+            try (PreparedStatement insert = db.prepareStatement("INSERT INTO tasks "
+                    + "(sort_key, line, description, starts_at, ends_at) VALUES (?, ?, ?, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+                 PreparedStatement update = db.prepareStatement("UPDATE tasks "
+                         + "SET sort_key = ?, line = ?, description = ?, starts_at = ?, ends_at = ? WHERE id = ?");
+                 PreparedStatement move = db.prepareStatement("UPDATE tasks SET sort_key = ? WHERE id = ?");
+                 PreparedStatement delete = db.prepareStatement("DELETE FROM tasks WHERE id = ?")) {
+                for (int position = 0; position < taskList.size(); position++) {
+                    Task task = taskList.get(position);
+                    long sortKey = sortKeys[position];
+                    int changeCount = task.getChangeCount();
+                    Row row = rows.get(task);
+                    if (row == null) {
+                        String line = SaveFormat.toSaveLine(task);
+                        setRow(insert, sortKey, line, task);
+                        insert.executeUpdate();
+                        try (ResultSet keys = insert.getGeneratedKeys()) {
+                            keys.next();
+                            newRows.put(task, new Row(keys.getLong(1), sortKey, changeCount, line));
+                        }
+                        bytesWritten += line.getBytes(StandardCharsets.UTF_8).length;
+                        continue;
+                    }
+                    String line = (row.changeCount == changeCount) ? row.line : SaveFormat.toSaveLine(task);
+                    if (!line.equals(row.line)) {
+                        setRow(update, sortKey, line, task);
+                        update.setLong(6, row.id);
+                        update.addBatch();
+                        bytesWritten += line.getBytes(StandardCharsets.UTF_8).length;
+                    } else if (sortKey != row.sortKey) {
+                        move.setLong(1, sortKey);
+                        move.setLong(2, row.id);
+                        move.addBatch();
+                    }
+                    newRows.put(task, new Row(row.id, sortKey, changeCount, line));
+                }
+                for (Map.Entry<Task, Row> entry : rows.entrySet()) {
+                    if (!newRows.containsKey(entry.getKey())) {
+                        delete.setLong(1, entry.getValue().id);
+                        delete.addBatch();
+                    }
+                }
+                update.executeBatch();
+                move.executeBatch();
+                delete.executeBatch();
+                db.commit();
+            } catch (SQLException | IOException e) {
+                db.rollback();
+                throw e;
+            } finally {
+                db.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+        rows.clear();
+        rows.putAll(newRows);
+        return bytesWritten;
+    }
+
+    /**
+     * Returns the sort key of each Task, keeping the saved keys of the most Tasks that are still in the same order,
+     * and giving the other Tasks keys in the gaps between them.
+     * If a gap is too small for the Tasks that have to fit in it, every Task is given a new key.
+     *
+     * @param savedKeys Saved sort key of each Task in the TaskList, or {@code null} for Tasks that are not saved.
+     * @return Sort key of each Task, increasing in the order of the TaskList.
+     */
+    static long[] getSortKeys(Long[] savedKeys) {
+        int size = savedKeys.length;
+        long[] sortKeys = new long[size];
+        boolean[] isKept = findLongestIncreasing(savedKeys);
+        int position = 0;
+        while (position < size) {
+            if (isKept[position]) {
+                sortKeys[position] = savedKeys[position];
+                position++;
+                continue;
+            }
+            int end = position;
+            while (end < size && !isKept[end]) {
+                end++;
+            }
+            int count = end - position;
+            long lower;
+            long upper;
+            if (position > 0) {
+                lower = sortKeys[position - 1];
+                upper = (end < size) ? savedKeys[end] : lower + SORT_KEY_GAP * (count + 1);
+            } else if (end < size) {
+                upper = savedKeys[end];
+                lower = upper - SORT_KEY_GAP * (count + 1);
+            } else {
+                lower = 0;
+                upper = SORT_KEY_GAP * (count + 1);
+            }
+            long step = (upper - lower) / (count + 1);
+            if (step == 0) {
+                for (int i = 0; i < size; i++) {
+                    sortKeys[i] = SORT_KEY_GAP * (i + 1);
+                }
+                return sortKeys;
+            }
+            for (int i = 0; i < count; i++) {
+                sortKeys[position + i] = lower + step * (i + 1);
+            }
+            position = end;
+        }
+        return sortKeys;
+    }
+
+    /**
+     * Finds the longest sequence of saved keys that increases in the order of the TaskList, in O(n log n).
+     *
+     * @param savedKeys Saved sort key of each Task, or {@code null} for Tasks that are not saved.
+     * @return Whether each Task is in the sequence.
+     */
+    private static boolean[] findLongestIncreasing(Long[] savedKeys) {
+        int size = savedKeys.length;
+        // position of the last key of the lowest ending sequence of each length, and the key before each key
+        int[] ends = new int[size];
+        int[] previous = new int[size];
+        int length = 0;
+        for (int position = 0; position < size; position++) {
+            if (savedKeys[position] == null) {
+                continue;
+            }
+            long key = savedKeys[position];
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (savedKeys[ends[middle]] < key) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            previous[position] = (low > 0) ? ends[low - 1] : -1;
+            ends[low] = position;
+            if (low == length) {
+                length++;
+            }
+        }
+        boolean[] isKept = new boolean[size];
+        for (int position = (length > 0) ? ends[length - 1] : -1; position >= 0; position = previous[position]) {
+            isKept[position] = true;
+        }
+        return isKept;
+    }
+
+    private static void setRow(PreparedStatement statement, long sortKey, String line, Task task)
+            throws SQLException {
+        statement.setLong(1, sortKey);
+        statement.setString(2, line);
+        statement.setString(3, task.getDescription());
+        statement.setObject(4, SaveFormat.getStart(task));
+        statement.setObject(5, SaveFormat.getEnd(task));
+    }
+
+    @Override
+    public synchronized int getPastTaskCount() throws IOException {
+        try (PreparedStatement query = getConnection().prepareStatement(
+                "SELECT COUNT(*) FROM tasks WHERE ends_at < ?")) {
+            query.setObject(1, loadedAt);
+            try (ResultSet rows = query.executeQuery()) {
+                rows.next();
+                return rows.getInt(1);
+            }
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public List<Task> loadPastTasks(LocalDate from) throws IOException {
+        if (from == null) {
+            return queryPastTasks("SELECT line FROM tasks WHERE ends_at < ? ORDER BY ends_at");
+        }
+        return queryPastTasks("SELECT line FROM tasks WHERE ends_at < ? AND ends_at >= ? ORDER BY ends_at",
+                from.atStartOfDay());
+    }
+
+    /**
+     * Matches the descriptions in the database, so that only the Tasks found are read.
+     */
+    @Override
+    public List<Task> findPastTasks(String keyword) throws IOException {
+        String pattern = "%" + keyword.toLowerCase(Locale.ROOT).replace("\\", "\\\\").replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+        return queryPastTasks("SELECT line FROM tasks WHERE ends_at < ? AND LOWER(description) LIKE ? ESCAPE '\\' "
+                + "ORDER BY ends_at", pattern);
+    }
+
+    /**
+     * Finds the Tasks that start before the end of the date and end after its start with the indexes,
+     * and then the occurrences of recurring Tasks on the date.
+     */
+    @Override
+    public List<Task> getPastTasksOnDate(LocalDate date) throws IOException {
+        List<Task> found = new ArrayList<>();
+        for (Task task : queryPastTasks("SELECT line FROM tasks WHERE ends_at < ? AND ends_at >= ? "
+                + "AND starts_at <= ? ORDER BY starts_at", date.atStartOfDay(), date.atTime(LocalTime.MAX))) {
+            if (task.isOnDate(date)) {
+                found.add(task);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Reads the Tasks that were over when the TaskList was loaded and match a query.
+     *
+     * @param sql        Query whose first parameter is the time the TaskList was loaded.
+     * @param parameters The other parameters of the query.
+     */
+    private synchronized List<Task> queryPastTasks(String sql, Object... parameters) throws IOException {
+        List<Task> found = new ArrayList<>();
+        try (PreparedStatement query = getConnection().prepareStatement(sql)) {
+            query.setObject(1, loadedAt);
+            for (int i = 0; i < parameters.length; i++) {
+                query.setObject(i + 2, parameters[i]);
+            }
+            try (ResultSet rows = query.executeQuery()) {
+                while (rows.next()) {
+                    try {
+                        found.add(SaveFormat.newPastTask(rows.getString("line")));
+                    } catch (InvalidSaveFile e) {
+                        logger.log(Level.INFO, "Error in reading a task from database");
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+        return found;
+    }
+
+    @Override
+    public synchronized ModuleList loadModuleList(Ui ui, ModuleList allModules, Calendar calendar)
+            throws IOException {
+        ModuleList newModuleList = new ModuleList();
+        try (PreparedStatement query = getConnection().prepareStatement(
+                "SELECT line FROM modules WHERE save_file = ? ORDER BY code")) {
+            query.setString(1, moduleSaveFile);
+            try (ResultSet rows = query.executeQuery()) {
+                int counter = 0;
+                while (rows.next()) {
+                    try {
+                        Module module = SaveFormat.newModule(rows.getString("line"), allModules, newModuleList);
+                        calendar.addModule(module);
+                        newModuleList.add(module);
+                        counter++;
+                    } catch (InvalidSaveFile e) {
+                        ui.printInvalidSaveFile(counter, databasePath);
+                    } catch (DuplicateModuleInTextFileException e) {
+                        ui.printDuplicateModuleInTextFile(counter);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+        return newModuleList;
+    }
+
+    /**
+     * Writes only the rows of the Modules that were added, removed, or whose lessons changed, in one transaction.
+     *
+     * @return Number of bytes in the lines of the rows written.
+     */
+    @Override
+    public synchronized long updateModule(ModuleList modules) throws IOException {
+        long bytesWritten = 0;
+        try {
+            Connection db = getConnection();
+            db.setAutoCommit(false);
+            try (PreparedStatement query = db.prepareStatement("SELECT code, line FROM modules WHERE save_file = ?");
+                 PreparedStatement insert = db.prepareStatement(
+                         "INSERT INTO modules (save_file, code, line) VALUES (?, ?, ?)");
+                 PreparedStatement update = db.prepareStatement(
+                         "UPDATE modules SET line = ? WHERE save_file = ? AND code = ?");
+                 PreparedStatement delete = db.prepareStatement(
+                         "DELETE FROM modules WHERE save_file = ? AND code = ?")) {
+                Map<String, String> savedLines = new HashMap<>();
+                query.setString(1, moduleSaveFile);
+                try (ResultSet rows = query.executeQuery()) {
+                    while (rows.next()) {
+                        savedLines.put(rows.getString("code"), rows.getString("line"));
+                    }
+                }
+                Set<String> codes = new HashSet<>();
+                for (Module module : modules) {
+                    String line = SaveFormat.toModuleLine(module);
+                    String savedLine = savedLines.get(module.getCode());
+                    codes.add(module.getCode());
+                    if (line.equals(savedLine)) {
+                        continue;
+                    }
+                    if (savedLine == null) {
+                        insert.setString(1, moduleSaveFile);
+                        insert.setString(2, module.getCode());
+                        insert.setString(3, line);
+                        insert.addBatch();
+                    } else {
+                        update.setString(1, line);
+                        update.setString(2, moduleSaveFile);
+                        update.setString(3, module.getCode());
+                        update.addBatch();
+                    }
+                    bytesWritten += line.getBytes(StandardCharsets.UTF_8).length;
+                }
+                for (String code : savedLines.keySet()) {
+                    if (!codes.contains(code)) {
+                        delete.setString(1, moduleSaveFile);
+                        delete.setString(2, code);
+                        delete.addBatch();
+                    }
+                }
+                insert.executeBatch();
+                update.executeBatch();
+                delete.executeBatch();
+                db.commit();
+            } catch (SQLException e) {
+                db.rollback();
+                throw e;
+            } finally {
+                db.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+        return bytesWritten;
+    }
+
+    /**
+     * Row of a Task in the TaskList, as it was last loaded or saved.
+     */
+    private static class Row {
+        private final long id;
+        private final long sortKey;
+        // change count of the Task when its line was made
+        private final int changeCount;
+        private final String line;
+
+        Row(long id, long sortKey, int changeCount, String line) {
+            this.id = id;
+            this.sortKey = sortKey;
+            this.changeCount = changeCount;
+            this.line = line;
+        }
+    }
+
+}
@@ -3,67 +3,72 @@ package seedu.apollo.storage;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 import seedu.apollo.calendar.Calendar;
-import seedu.apollo.exception.task.DateOverException;
-import seedu.apollo.module.Timetable;
-import seedu.apollo.ui.Parser;
+import seedu.apollo.calendar.SemesterUtils;
+import seedu.apollo.metrics.Metrics;
+import seedu.apollo.metrics.ModuleDataLoadEvent;
+import seedu.apollo.metrics.StorageWriteEvent;
 import seedu.apollo.ui.Ui;
-import seedu.apollo.exception.task.DateOrderException;
-import seedu.apollo.exception.task.InvalidDeadline;
-import seedu.apollo.exception.task.InvalidEvent;
 import seedu.apollo.exception.utils.InvalidSaveFile;
-import seedu.apollo.exception.utils.DuplicateModuleInTextFileException;
 import seedu.apollo.module.Module;
 import seedu.apollo.module.ModuleList;
-import seedu.apollo.task.Deadline;
-import seedu.apollo.task.Event;
 import seedu.apollo.task.Task;
 import seedu.apollo.task.TaskList;
-import seedu.apollo.task.ToDo;
 import seedu.apollo.utils.LoggerInterface;
 
-import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.lang.reflect.Type;
-import java.time.format.DateTimeParseException;
+import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Scanner;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import static seedu.apollo.task.RecurringDeadline.UNTIL_PATTERN;
 
 
 /**
- * Storage class that initialises the task list and updates the save file.
+ * Storage class that initialises the task list and updates the save file,
+ * through a backend that decides how tasks and modules are saved.
  */
 public class Storage implements LoggerInterface {
-    // Location of save file
-    protected static String filePath;
-    protected static String moduleDataFilePath;
-
-    // ints indicating position of terms in each line of the save file
-    private static final int TYPE_POS = 0;
-    private static final int STATUS_POS = 4;
-    private static final int PARAM_POS = 8;
-    // chars representing type of Tasks within the save file
-    private static final char TXT_TODO_WORD = 'T';
-    private static final char TXT_DEADLINE_WORD = 'D';
-    private static final char TXT_EVENT_WORD = 'E';
+
+    public static final int DEFAULT_ARCHIVE_AFTER_DAYS = 30;
 
     private static Logger logger = Logger.getLogger("Storage");
 
+    private final StorageBackend backend;
+    // number of days done tasks are kept in the save file before they are archived
+    private int archiveAfterDays = DEFAULT_ARCHIVE_AFTER_DAYS;
+    private final TaskArchive archive;
+
     /**
-     * Initialise Storage class, set filePath.
+     * Initialise Storage class, saving tasks and modules as text files.
      *
      * @param filePath Location of the local save file.
      */
     public Storage(String filePath, String moduleDataFilePath) {
+        this(new TextStorageBackend(filePath, moduleDataFilePath));
+    }
+
+    /**
+     * Initialise Storage class, saving tasks and modules through a backend.
+     * Archived tasks are kept next to where the backend saves tasks.
+     *
+     * @param backend Where the tasks and modules are saved.
+     */
+    public Storage(StorageBackend backend) {
         setUpLogger(logger);
-        Storage.filePath = filePath;
-        Storage.moduleDataFilePath = moduleDataFilePath;
+        this.backend = backend;
+        this.archive = new TaskArchive(backend.getTaskLocation());
+    }
+
+    public StorageBackend getBackend() {
+        return backend;
     }
 
     /**
@@ -73,31 +78,171 @@ public class Storage implements LoggerInterface {
      * @throws IOException If something goes wrong during the overwriting process.
      */
     public void updateTask(TaskList taskList) throws IOException {
-        FileWriter overwrite = new FileWriter(filePath);
-        for (Task task : taskList) {
-            String desc = task.getDescription();
-            String type = task.getType();
-            String stat = task.getStatus();
-            switch (type) {
-            case "todo":
-                overwrite.write("T | " + stat + " | " + desc + "\n");
-                break;
-            case "deadline":
-                Deadline tempDeadline = (Deadline) task;
-                String by = tempDeadline.getBy(Task.storePattern);
-                overwrite.write("D | " + stat + " | " + desc + " -by " + by + "\n");
-                break;
-            case "event":
-                Event tempEvent = (Event) task;
-                String from = tempEvent.getFrom(Task.storePattern);
-                String to = tempEvent.getTo(Task.storePattern);
-                overwrite.write("E | " + stat + " | " + desc + " -from " + from + " -to " + to + "\n");
-                break;
-            default:
-                throw new IOException();
+        StorageWriteEvent event = new StorageWriteEvent();
+        event.begin();
+        long start = System.nanoTime();
+        long bytesWritten = 0;
+        try {
+            bytesWritten = backend.updateTask(taskList);
+        } finally {
+            Metrics.recordStorage("updateTask", System.nanoTime() - start);
+            commitWriteEvent(event, "updateTask", backend.getTaskLocation(), bytesWritten);
+        }
+    }
+
+    private static void commitWriteEvent(StorageWriteEvent event, String operation, String path,
+                                         long bytesWritten) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.path = path;
+            event.bytesWritten = bytesWritten;
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the number of Tasks that are over and not in the TaskList, without loading them.
+     *
+     * @return Number of Tasks that {@link #loadPastTasks(LocalDate)} would load from the first one.
+     * @throws IOException If the Tasks cannot be counted.
+     */
+    public int getPastTaskCount() throws IOException {
+        return backend.getPastTaskCount();
+    }
+
+    /**
+     * Loads the Tasks that are over and not in the TaskList.
+     *
+     * @param from Earliest date the Tasks may be over on, or {@code null} for every Task.
+     * @return Tasks that are over, which must not be modified.
+     * @throws IOException If the Tasks cannot be read.
+     */
+    public List<Task> loadPastTasks(LocalDate from) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return backend.loadPastTasks(from);
+        } finally {
+            Metrics.recordStorage("loadPastTasks", System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Finds the Tasks that are over and whose descriptions contain a keyword.
+     *
+     * @param keyword Keyword to search for, ignoring case.
+     * @return Tasks that are over, which must not be modified.
+     * @throws IOException If the Tasks cannot be read.
+     */
+    public List<Task> findPastTasks(String keyword) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return backend.findPastTasks(keyword);
+        } finally {
+            Metrics.recordStorage("findPastTasks", System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Finds the Tasks that are over and occurred on a date.
+     *
+     * @param date The date.
+     * @return Tasks that are over, which must not be modified.
+     * @throws IOException If the Tasks cannot be read.
+     */
+    public List<Task> getPastTasksOnDate(LocalDate date) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return backend.getPastTasksOnDate(date);
+        } finally {
+            Metrics.recordStorage("getPastTasksOnDate", System.nanoTime() - start);
+        }
+    }
+
+    public void setArchiveAfterDays(int archiveAfterDays) {
+        assert archiveAfterDays >= 0 : "Storage: Tasks cannot be archived before they are done!";
+        this.archiveAfterDays = archiveAfterDays;
+    }
+
+    public TaskArchive getArchive() {
+        return archive;
+    }
+
+    /**
+     * Moves the Tasks that were done more than {@code archiveAfterDays} days ago from the TaskList to the archive.
+     * The archive is written before the Tasks are removed, so that a failed write loses nothing.
+     * The save file is not updated, and should be overwritten if any Task was archived.
+     *
+     * @param taskList Tasks that were loaded from the save file.
+     * @return Number of Tasks archived.
+     * @throws IOException If the archive cannot be written.
+     */
+    public int archiveDoneTasks(TaskList taskList) throws IOException {
+        LocalDate lastDoneDate = LocalDate.now().minusDays(archiveAfterDays);
+        BitSet oldTasks = new BitSet();
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < taskList.size(); i++) {
+            Task task = taskList.get(i);
+            if (task.isDone() && task.getDoneDate() != null && task.getDoneDate().isBefore(lastDoneDate)) {
+                oldTasks.set(i);
+                lines.add(SaveFormat.toSaveLine(task));
+            }
+        }
+        if (lines.isEmpty()) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        try {
+            archive.append(lines);
+        } finally {
+            Metrics.recordStorage("archiveTasks", System.nanoTime() - start);
+        }
+        taskList.removeTasks(oldTasks);
+        logger.log(Level.INFO, "Archived " + lines.size() + " done tasks.");
+        return lines.size();
+    }
+
+    /**
+     * Finds the archived Tasks whose descriptions contain a keyword.
+     *
+     * @param keyword Keyword to search for, ignoring case.
+     * @return Archived Tasks, such as {@code [T][X] read notes (done: 19-10-2026)}, oldest first.
+     * @throws IOException If the archive cannot be read.
+     */
+    public List<String> findArchivedTasks(String keyword) throws IOException {
+        String lowerKeyword = keyword.toLowerCase(Locale.ROOT);
+        long start = System.nanoTime();
+        try {
+            List<String> found = new ArrayList<>();
+            for (String line : archive.find(line -> getArchivedParam(line).toLowerCase(Locale.ROOT)
+                    .contains(lowerKeyword))) {
+                found.add(toArchivedString(line));
             }
+            return found;
+        } finally {
+            Metrics.recordStorage("findArchivedTasks", System.nanoTime() - start);
+        }
+    }
+
+    private static String getArchivedParam(String line) {
+        try {
+            return SaveFormat.getParam(line);
+        } catch (StringIndexOutOfBoundsException e) {
+            return line;
+        }
+    }
+
+    /**
+     * Returns an archived line of the save file in the form Tasks are listed in.
+     */
+    private static String toArchivedString(String line) {
+        try {
+            LocalDate doneDate = SaveFormat.getDoneDate(line);
+            return "[" + SaveFormat.getType(line) + "][X] " + SaveFormat.getParam(line)
+                    + ((doneDate == null) ? "" : " (done: " + doneDate.format(UNTIL_PATTERN) + ")");
+        } catch (InvalidSaveFile | StringIndexOutOfBoundsException e) {
+            return line;
         }
-        overwrite.close();
     }
 
     /**
@@ -109,47 +254,41 @@ public class Storage implements LoggerInterface {
      * @throws IOException If save file is not found, and a new one cannot be created.
      */
     public TaskList loadTaskList(Ui ui) throws IOException {
-        TaskList newTaskList = new TaskList();
-        File save = new File(filePath);
+        long start = System.nanoTime();
         try {
-            newTaskList = readFileContents(save, ui);
-            return newTaskList;
-        } catch (FileNotFoundException e) {
-            assert (save.createNewFile()) : "Save file creation failed.";
-            logger.log(Level.INFO, "File not found, creating new file.");
-            return newTaskList;
+            return backend.loadTaskList(ui);
+        } finally {
+            Metrics.recordStorage("loadTaskList", System.nanoTime() - start);
         }
     }
 
     /**
-     * Updates the moduleData file stored on the hard disk.
+     * Checks if any task in the save file was dropped or saved in the wrong month when it was last loaded,
+     * such that the save file no longer matches the loaded TaskList.
      *
-     * @param modules Contains all stored modules.
-     * @throws IOException If save file is not found.
+     * @return {@code true} if the save file should be overwritten, {@code false} otherwise.
      */
-    public void updateModule(ModuleList modules, Calendar calendar) throws IOException, InvalidSaveFile {
-        FileWriter overwrite = new FileWriter(moduleDataFilePath);
-        calendar.clearCalendar();
-        for (Module module : modules) {
-            calendar.addModule(module);
-            String code = module.getCode();
-            overwrite.write(code + "|");
-            writeModules(overwrite, module);
-        }
-        overwrite.close();
+    public boolean isTaskFileOutdated() {
+        return backend.isTaskFileOutdated();
     }
 
     /**
-     * Reads all lines in the moduleData file, initialises them as an ModuleList of Modules.
+     * Updates the moduleData file stored on the hard disk.
+     *
+     * @param modules Contains all stored modules.
+     * @throws IOException If save file is not found.
      */
-    private void writeModules(FileWriter overwrite, Module module) throws IOException {
-        ArrayList<Timetable> timetableList = module.getModuleTimetable();
-        if (timetableList != null) {
-            for (Timetable timetable : timetableList) {
-                overwrite.write(timetable.getLessonType() + ":" + timetable.getClassNumber() + "|");
-            }
+    public void updateModule(ModuleList modules) throws IOException {
+        StorageWriteEvent event = new StorageWriteEvent();
+        event.begin();
+        long start = System.nanoTime();
+        long bytesWritten = 0;
+        try {
+            bytesWritten = backend.updateModule(modules);
+        } finally {
+            Metrics.recordStorage("updateModule", System.nanoTime() - start);
+            commitWriteEvent(event, "updateModule", backend.getModuleLocation(), bytesWritten);
         }
-        overwrite.write("\n");
     }
 
     /**
@@ -161,35 +300,57 @@ public class Storage implements LoggerInterface {
      * @throws IOException If save file is not found.
      */
     public ModuleList loadModuleList(Ui ui, ModuleList allModules, Calendar calendar) throws IOException {
-        ModuleList newModuleList = new ModuleList();
-        File save = new File(moduleDataFilePath);
+        long start = System.nanoTime();
         try {
-            newModuleList = readModuleFileContents(save, ui, allModules, calendar);
-            return newModuleList;
-        } catch (FileNotFoundException e) {
-            logger.log(Level.INFO, "File for ModuleList not found, creating new file.");
-            assert (save.createNewFile()) : "Save file creation failed.";
-            return newModuleList;
+            return backend.loadModuleList(ui, allModules, calendar);
+        } finally {
+            Metrics.recordStorage("loadModuleList", System.nanoTime() - start);
         }
     }
 
     /**
      * Reads all lines in the save file, initialises them as an TaskList of Tasks.
-     * Loads data from the data file into a new ArrayList of Modules.
+     * Loads data from the data file of the current semester into a new ArrayList of Modules.
      *
      * @return ArrayList of Modules (containing data from save file / empty).
      * @throws FileNotFoundException If save file is not found.
      */
     public ModuleList loadModuleData() throws FileNotFoundException {
+        return loadModuleData(SemesterUtils.getSemester().getDataFile());
+    }
+
+    /**
+     * Loads the module data of one semester into a new ArrayList of Modules.
+     *
+     * @param dataFile Name of the resource containing the module data of the semester.
+     * @return ArrayList of Modules.
+     * @throws FileNotFoundException If there is no such resource.
+     */
+    public ModuleList loadModuleData(String dataFile) throws FileNotFoundException {
+        ModuleDataLoadEvent event = new ModuleDataLoadEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            ModuleList moduleDataList = readModuleData(dataFile);
+            event.modulesParsed = (moduleDataList == null) ? 0 : moduleDataList.size();
+            return moduleDataList;
+        } finally {
+            Metrics.recordStorage("loadModuleData", System.nanoTime() - start);
+            event.commit();
+        }
+    }
+
+    private ModuleList readModuleData(String dataFile) throws FileNotFoundException {
 
         try {
             ClassLoader classloader = Thread.currentThread().getContextClassLoader();
-            Reader reader = new InputStreamReader(classloader.getResourceAsStream("data.json"));
+            Reader reader = new InputStreamReader(classloader.getResourceAsStream(dataFile));
             Type moduleDataType = new TypeToken<ModuleList>() {
             }.getType();
             Gson gson = new Gson();
             ModuleList moduleDataList = gson.fromJson(reader, moduleDataType);
-            System.out.println("Module Data loaded");
+            // module data loads in the background, so it is logged rather than printed among command outputs
+            logger.log(Level.INFO, "Module Data loaded from " + dataFile);
             return moduleDataList;
         } catch (NullPointerException e) {
             throw new FileNotFoundException();
@@ -197,67 +358,6 @@ public class Storage implements LoggerInterface {
 
     }
 
-    /**
-     * Reads all lines in the save file, initialises them as an ArrayList of Tasks.
-     *
-     * @param save Save file.
-     * @return TaskList of initialised Tasks based on uncorrupted data in save file.
-     * @throws FileNotFoundException If the save file cannot be found at filePath.
-     */
-    private static TaskList readFileContents(File save, Ui ui) throws FileNotFoundException {
-        Scanner s = new Scanner(save);
-        TaskList newTaskList = new TaskList();
-        int counter = 0;
-        while (s.hasNext()) {
-            try {
-                counter++;
-                newTaskList.add(newTask(s.nextLine()));
-            } catch (InvalidSaveFile e) {
-                ui.printInvalidSaveFile(counter, filePath);
-                logger.log(Level.INFO, "Error in reading data from file");
-            } catch (DateOverException e) {
-                ui.printExistingDateOver(e);
-            }
-        }
-        logger.log(Level.INFO, "Successfully read " + counter + " tasks from save file.");
-        return newTaskList;
-    }
-
-    private static ModuleList readModuleFileContents(File save, Ui ui, ModuleList allModules, Calendar calendar)
-            throws FileNotFoundException {
-        Scanner s = new Scanner(save);
-        ModuleList newModuleList = new ModuleList();
-        int counter = 0;
-        while (s.hasNext()) {
-            try {
-                String moduleInfo = s.nextLine();
-                String[] moduleInfoArgs = moduleInfo.split("\\|");
-                String moduleCode = moduleInfoArgs[0];
-                if (moduleCode == null) {
-                    throw new InvalidSaveFile();
-                }
-                Module newModule = allModules.findModule(moduleCode);
-                if (newModule == null) {
-                    throw new InvalidSaveFile();
-                }
-
-                Module module = new Module(newModule.getCode(), newModule.getTitle(), newModule.getModuleCredits());
-                if (isAdded(newModuleList, module)) {
-                    throw new DuplicateModuleInTextFileException();
-                }
-                addLessons(module, newModule, moduleInfoArgs);
-                calendar.addModule(module);
-                newModuleList.add(module);
-                counter++;
-            } catch (InvalidSaveFile e) {
-                ui.printInvalidSaveFile(counter, filePath);
-            } catch (DuplicateModuleInTextFileException e) {
-                ui.printDuplicateModuleInTextFile(counter);
-            }
-        }
-        return newModuleList;
-    }
-
     /**
      * Checks if the module is already in the module file.
      *
@@ -273,116 +373,5 @@ public class Storage implements LoggerInterface {
         }
         return false;
     }
-    private static void addLessons(Module module, Module searchModule, String[] moduleInfo) {
-        module.createNewTimeTable();
-
-        for (int i = 1; i < moduleInfo.length; i++) {
-            String[] lessonInfo = moduleInfo[i].split(":");
-
-            for (Timetable timetable: searchModule.getModuleTimetable()) {
-                if (timetable.getLessonType().equals(lessonInfo[0])
-                        && timetable.getClassNumber().equals(lessonInfo[1])) {
-
-                    if (!module.getModuleTimetable().contains(timetable)) {
-                        module.getModuleTimetable().add(timetable);
-                    }
-
-                }
-            }
-        }
-
-
-    }
-
-    /**
-     * Interprets a line from the save file, returns it as a new Task.
-     *
-     * @param text Line from the save file.
-     * @return Corresponding Task to data stored in {@code text}.
-     * @throws InvalidSaveFile If any line in the input data is not of the right format.
-     */
-    private static Task newTask(String text) throws InvalidSaveFile, DateOverException {
-        char type;
-        Boolean isDone;
-        String param;
-        try {
-            type = getType(text);
-            isDone = isStatusDone(text);
-            param = getParam(text);
-        } catch (StringIndexOutOfBoundsException e) {
-            throw new InvalidSaveFile();
-        }
-        switch (type) {
-        case TXT_TODO_WORD:
-            return newToDo(isDone, param);
-        case TXT_DEADLINE_WORD:
-            return newDeadline(isDone, param);
-        case TXT_EVENT_WORD:
-            return newEvent(isDone, param);
-        default:
-            throw new InvalidSaveFile();
-        }
-    }
-
-    private static char getType(String text) throws InvalidSaveFile {
-        char type = text.charAt(TYPE_POS);
-        if (type != TXT_TODO_WORD & type != TXT_DEADLINE_WORD & type != TXT_EVENT_WORD) {
-            throw new InvalidSaveFile();
-        }
-        return type;
-    }
-
-    private static Boolean isStatusDone(String text) throws InvalidSaveFile {
-        char status = text.charAt(STATUS_POS);
-        if (status == 'X') {
-            return true;
-        } else if (status == ' ') {
-            return false;
-        } else {
-            throw new InvalidSaveFile();
-        }
-    }
-
-    private static String getParam(String text) {
-        return text.substring(PARAM_POS);
-    }
-
-    private static ToDo newToDo(Boolean isDone, String param) {
-        ToDo newToDo = new ToDo(param);
-        newToDo.setDone(isDone);
-        return newToDo;
-    }
-
-    private static Deadline newDeadline(Boolean isDone, String param) throws InvalidSaveFile, DateOverException {
-        final String[] paramAndBy;
-        try {
-            paramAndBy = Parser.parseDeadline(param);
-        } catch (InvalidDeadline e) {
-            throw new InvalidSaveFile();
-        }
-        try {
-            Deadline newDeadline = new Deadline(paramAndBy[0], paramAndBy[1]);
-            newDeadline.setDone(isDone);
-            return newDeadline;
-        } catch (DateTimeParseException e) {
-            throw new InvalidSaveFile();
-        }
-    }
-
-    private static Event newEvent(Boolean isDone, String param) throws InvalidSaveFile, DateOverException {
-        final String[] paramAndFromTo;
-        try {
-            paramAndFromTo = Parser.parseEvent(param);
-        } catch (InvalidEvent e) {
-            throw new InvalidSaveFile();
-        }
-        try {
-            Event newEvent = new Event(paramAndFromTo[0], paramAndFromTo[1], paramAndFromTo[2]);
-            newEvent.setDone(isDone);
-            return newEvent;
-        } catch (DateTimeParseException | DateOrderException e) {
-            throw new InvalidSaveFile();
-        }
-    }
 
 }
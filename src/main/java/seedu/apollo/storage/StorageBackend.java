@@ -0,0 +1,130 @@
+package seedu.apollo.storage;
+
+import seedu.apollo.calendar.Calendar;
+import seedu.apollo.module.ModuleList;
+import seedu.apollo.task.Task;
+import seedu.apollo.task.TaskList;
+import seedu.apollo.ui.Ui;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Where the tasks and modules of a user are saved, such as text files or an embedded database.
+ * Tasks that are over are kept by the backend but not loaded into the TaskList,
+ * so the backend answers queries on them, such as {@code find} and {@code date}, itself.
+ */
+public interface StorageBackend {
+
+    /**
+     * Returns where the tasks are saved, such as {@code save.txt}.
+     */
+    String getTaskLocation();
+
+    /**
+     * Returns where the modules are saved, such as {@code moduleData.txt}.
+     */
+    String getModuleLocation();
+
+    /**
+     * Loads the saved tasks that are not over into a new TaskList.
+     *
+     * @param ui Prints out error messages to user.
+     * @return TaskList of Tasks, which is empty if nothing was saved.
+     * @throws IOException If the tasks cannot be read.
+     */
+    TaskList loadTaskList(Ui ui) throws IOException;
+
+    /**
+     * Checks if any saved task was dropped or saved in the wrong place when the tasks were last loaded,
+     * such that the tasks should be saved again.
+     *
+     * @return {@code true} if the tasks should be saved again, {@code false} otherwise.
+     */
+    boolean isTaskFileOutdated();
+
+    /**
+     * Saves the current TaskList, along with the saved tasks that are over.
+     *
+     * @param taskList Contains all tasks that are not over.
+     * @return Number of bytes written.
+     * @throws IOException If the tasks cannot be written.
+     */
+    long updateTask(TaskList taskList) throws IOException;
+
+    /**
+     * Returns the number of saved tasks that are over and not in the TaskList, without loading them.
+     *
+     * @return Number of Tasks that {@link #loadPastTasks(LocalDate)} would load from the first one.
+     * @throws IOException If the tasks cannot be counted.
+     */
+    int getPastTaskCount() throws IOException;
+
+    /**
+     * Loads the saved tasks that are over and not in the TaskList.
+     *
+     * @param from Earliest date the Tasks may be over on, or {@code null} for every Task.
+     * @return Tasks that are over, which must not be modified.
+     * @throws IOException If the tasks cannot be read.
+     */
+    List<Task> loadPastTasks(LocalDate from) throws IOException;
+
+    /**
+     * Finds the saved tasks that are over and whose descriptions contain a keyword.
+     *
+     * @param keyword Keyword to search for, ignoring case.
+     * @return Tasks that are over, which must not be modified.
+     * @throws IOException If the tasks cannot be read.
+     */
+    default List<Task> findPastTasks(String keyword) throws IOException {
+        String lowerKeyword = keyword.toLowerCase(Locale.ROOT);
+        List<Task> found = new ArrayList<>();
+        for (Task task : loadPastTasks(null)) {
+            if (task.getDescription().toLowerCase(Locale.ROOT).contains(lowerKeyword)) {
+                found.add(task);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Finds the saved tasks that are over and occurred on a date.
+     *
+     * @param date The date.
+     * @return Tasks that are over, which must not be modified.
+     * @throws IOException If the tasks cannot be read.
+     */
+    default List<Task> getPastTasksOnDate(LocalDate date) throws IOException {
+        List<Task> found = new ArrayList<>();
+        for (Task task : loadPastTasks(date)) {
+            if (task.isOnDate(date)) {
+                found.add(task);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Loads the saved modules, adding their lessons to the calendar.
+     *
+     * @param ui         Prints out error messages to user.
+     * @param allModules Contains all modules of the semester.
+     * @param calendar   Receives the lessons of each module.
+     * @return ModuleList of Modules, which is empty if nothing was saved.
+     * @throws IOException If the modules cannot be read.
+     */
+    ModuleList loadModuleList(Ui ui, ModuleList allModules, Calendar calendar) throws IOException;
+
+    /**
+     * Saves the current ModuleList.
+     *
+     * @param modules Contains all modules.
+     * @return Number of bytes written.
+     * @throws IOException If the modules cannot be written.
+     */
+    long updateModule(ModuleList modules) throws IOException;
+
+}
@@ -0,0 +1,95 @@
+package seedu.apollo.storage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compressed file of the tasks that were done long ago, kept apart from the save file
+ * so that only active tasks are loaded on startup and rewritten after every change.
+ * Tasks are stored as lines of the save file, since past deadlines and events can no longer be loaded as Tasks.
+ * The archive is only ever appended to, each time as a new gzip member, and is only read when it is searched.
+ */
+public class TaskArchive {
+
+    private final Path path;
+
+    /**
+     * Initialises the archive of a save file, without reading or creating it.
+     *
+     * @param saveFilePath Location of the save file, such as {@code save.txt}.
+     */
+    public TaskArchive(String saveFilePath) {
+        this.path = Path.of(toArchivePath(saveFilePath));
+    }
+
+    /**
+     * Returns the location of the archive of a save file, such as {@code save.archive.gz} for {@code save.txt}.
+     */
+    private static String toArchivePath(String saveFilePath) {
+        int extension = saveFilePath.lastIndexOf('.');
+        boolean hasExtension = extension > Math.max(saveFilePath.lastIndexOf('/'), saveFilePath.lastIndexOf('\\'));
+        return (hasExtension ? saveFilePath.substring(0, extension) : saveFilePath) + ".archive.gz";
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Adds lines of the save file to the end of the archive, creating it if needed.
+     *
+     * @param lines Lines of the save file, without line breaks.
+     * @throws IOException If the archive cannot be written.
+     */
+    public void append(List<String> lines) throws IOException {
+        if (lines.isEmpty()) {
+            return;
+        }
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(path,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)), StandardCharsets.UTF_8))) {
+            for (String line : lines) {
+                out.write(line);
+                out.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Finds the archived lines that match a condition, reading the archive one line at a time.
+     *
+     * @param condition Condition on a line of the save file.
+     * @return Matching lines, in the order they were archived, or none if there is no archive.
+     * @throws IOException If the archive cannot be read.
+     */
+    public List<String> find(Predicate<String> condition) throws IOException {
+        List<String> found = new ArrayList<>();
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(new GZIPInputStream(
+                Files.newInputStream(path)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (condition.test(line)) {
+                    found.add(line);
+                }
+            }
+        } catch (NoSuchFileException | FileNotFoundException e) {
+            return found;
+        }
+        return found;
+    }
+
+}
@@ -0,0 +1,273 @@
+package seedu.apollo.storage;
+
+import seedu.apollo.task.Task;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Save files of the tasks, split by the month each task is over in.
+ * Todos are never over and stay in the save file itself, such as {@code save.txt}, which is also where every task
+ * was saved before they were split. Every other month is a file in a directory named after the save file,
+ * such as {@code save/2026-10.txt}, next to a manifest holding the number of tasks in each month.
+ * A month before the current one only holds tasks that are over, so it never has to be read on startup,
+ * and the manifest counts its tasks without reading it.
+ * Only the months whose tasks changed are rewritten.
+ */
+class TaskPartitions {
+
+    // key of the partition of tasks that are never over
+    static final String UNDATED = "undated";
+
+    private static final String MANIFEST_FILE = "manifest.txt";
+    private static final String PARTITION_EXTENSION = ".txt";
+    private static final String SEPARATOR = " | ";
+
+    private final Path undatedFile;
+    private final Path directory;
+    // lines of each partition as they were last read or written, for partitions whose tasks are loaded
+    private final Map<String, List<String>> loaded = new HashMap<>();
+    // number of tasks in each month, which is null until the manifest is first read
+    private volatile SortedMap<String, Integer> counts;
+    // whether the manifest is missing or unreadable, such that the counts were rebuilt from the months
+    private volatile boolean isManifestRebuilt = false;
+
+    /**
+     * Initialises the partitions of a save file, without reading or creating them.
+     *
+     * @param saveFilePath Location of the save file, such as {@code save.txt}.
+     */
+    TaskPartitions(String saveFilePath) {
+        this.undatedFile = Path.of(saveFilePath);
+        String fileName = undatedFile.getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        // a save file without an extension cannot share its name with the directory
+        String directoryName = (extension > 0) ? fileName.substring(0, extension) : fileName + ".d";
+        this.directory = undatedFile.resolveSibling(directoryName);
+    }
+
+    /**
+     * Returns the key of the partition a Task is saved in, which is the month it is over in,
+     * or {@link #UNDATED} if it is never over.
+     *
+     * @param task The Task to be saved.
+     * @return Key of the partition, such as {@code 2026-10}.
+     */
+    static String getKey(Task task) {
+        LocalDateTime end = SaveFormat.getEnd(task);
+        return (end == null) ? UNDATED : getKey(YearMonth.from(end));
+    }
+
+    static String getKey(YearMonth month) {
+        return month.toString();
+    }
+
+    Path getFile(String key) {
+        return key.equals(UNDATED) ? undatedFile : directory.resolve(key + PARTITION_EXTENSION);
+    }
+
+    /**
+     * Returns the number of tasks in each month that has any, from the manifest.
+     * If there is no manifest, it is rebuilt by counting the tasks in each month.
+     *
+     * @return Unmodifiable map from the key of each month to its number of tasks, earliest first.
+     * @throws IOException If the manifest or the months cannot be read.
+     */
+    SortedMap<String, Integer> getCounts() throws IOException {
+        if (counts == null) {
+            synchronized (this) {
+                if (counts == null) {
+                    counts = Collections.unmodifiableSortedMap(readManifest());
+                }
+            }
+        }
+        return counts;
+    }
+
+    private SortedMap<String, Integer> readManifest() throws IOException {
+        SortedMap<String, Integer> manifest = new TreeMap<>();
+        try {
+            for (String line : Files.readAllLines(directory.resolve(MANIFEST_FILE), StandardCharsets.UTF_8)) {
+                String[] keyAndCount = line.split(" \\| ", 2);
+                if (keyAndCount.length == 2 && isMonth(keyAndCount[0])) {
+                    manifest.put(keyAndCount[0], Integer.parseInt(keyAndCount[1].trim()));
+                }
+            }
+            return manifest;
+        } catch (NoSuchFileException | NumberFormatException e) {
+            isManifestRebuilt = true;
+            return countPartitions();
+        }
+    }
+
+    private SortedMap<String, Integer> countPartitions() throws IOException {
+        SortedMap<String, Integer> manifest = new TreeMap<>();
+        if (!Files.isDirectory(directory)) {
+            return manifest;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + PARTITION_EXTENSION)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                String key = name.substring(0, name.length() - PARTITION_EXTENSION.length());
+                if (isMonth(key)) {
+                    manifest.put(key, read(key).size());
+                }
+            }
+        }
+        return manifest;
+    }
+
+    private static boolean isMonth(String key) {
+        try {
+            YearMonth.parse(key);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads the lines of a partition whose tasks are being loaded, remembering them
+     * so that the partition is only rewritten once its tasks change.
+     *
+     * @param key Key of the partition.
+     * @return Lines of the partition, or none if it has no file.
+     * @throws IOException If the partition cannot be read.
+     */
+    List<String> load(String key) throws IOException {
+        List<String> lines = read(key);
+        loaded.put(key, lines);
+        return lines;
+    }
+
+    /**
+     * Reads the lines of a partition, such as one of a past month.
+     *
+     * @param key Key of the partition.
+     * @return Lines of the partition, or none if it has no file.
+     * @throws IOException If the partition cannot be read.
+     */
+    List<String> read(String key) throws IOException {
+        try {
+            List<String> lines = new ArrayList<>(Files.readAllLines(getFile(key), StandardCharsets.UTF_8));
+            lines.removeIf(String::isEmpty);
+            return lines;
+        } catch (NoSuchFileException e) {
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Forgets every loaded partition, before the tasks are loaded again.
+     */
+    void clearLoaded() {
+        loaded.clear();
+        counts = null;
+        isManifestRebuilt = false;
+    }
+
+    /**
+     * Saves the lines of each partition that has tasks in memory, as well as loaded partitions that are now empty.
+     * Lines of past months that were never loaded are added to the lines already in their files,
+     * as those files hold the tasks that were over before the tasks in memory were loaded.
+     * Partitions whose lines have not changed are not written,
+     * and the manifest is only written if a count changed or it had to be rebuilt.
+     *
+     * @param partitions Lines of each partition that has tasks in memory. The undated partition is always saved.
+     * @return Number of bytes written.
+     * @throws IOException If a partition or the manifest cannot be written.
+     */
+    long save(Map<String, List<String>> partitions) throws IOException {
+        SortedMap<String, Integer> newCounts = new TreeMap<>(getCounts());
+        String currentMonth = getKey(YearMonth.now());
+        long bytesWritten = 0;
+        TreeSet<String> keys = new TreeSet<>(partitions.keySet());
+        keys.addAll(loaded.keySet());
+        keys.add(UNDATED);
+        for (String key : keys) {
+            List<String> lines = new ArrayList<>();
+            // a past month that was never loaded is not held in memory, so its file stays the only copy of its tasks
+            boolean isHeld = loaded.containsKey(key) || key.equals(UNDATED) || key.compareTo(currentMonth) >= 0;
+            if (!isHeld) {
+                lines.addAll(read(key));
+            }
+            lines.addAll(partitions.getOrDefault(key, List.of()));
+            // the save file is written even without tasks, as its existence marks that tasks were saved
+            boolean isWritten = !key.equals(UNDATED) || Files.exists(undatedFile);
+            if (isWritten && lines.equals(loaded.get(key))) {
+                continue;
+            }
+            bytesWritten += write(key, lines);
+            if (isHeld) {
+                loaded.put(key, lines);
+            }
+            if (key.equals(UNDATED)) {
+                continue;
+            }
+            if (lines.isEmpty()) {
+                newCounts.remove(key);
+            } else {
+                newCounts.put(key, lines.size());
+            }
+        }
+        if (isManifestRebuilt || !newCounts.equals(counts)) {
+            bytesWritten += writeManifest(newCounts);
+            counts = Collections.unmodifiableSortedMap(newCounts);
+            isManifestRebuilt = false;
+        }
+        return bytesWritten;
+    }
+
+    private long write(String key, List<String> lines) throws IOException {
+        Path file = getFile(key);
+        if (lines.isEmpty() && !key.equals(UNDATED)) {
+            Files.deleteIfExists(file);
+            return 0;
+        }
+        if (!key.equals(UNDATED)) {
+            Files.createDirectories(directory);
+        }
+        return writeLines(file, lines);
+    }
+
+    private long writeManifest(SortedMap<String, Integer> manifest) throws IOException {
+        if (manifest.isEmpty() && !Files.isDirectory(directory)) {
+            return 0;
+        }
+        Files.createDirectories(directory);
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : manifest.entrySet()) {
+            lines.add(entry.getKey() + SEPARATOR + entry.getValue());
+        }
+        return writeLines(directory.resolve(MANIFEST_FILE), lines);
+    }
+
+    private static long writeLines(Path file, List<String> lines) throws IOException {
+        long bytesWritten = 0;
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (String line : lines) {
+                out.write(line);
+                out.write('\n');
+                bytesWritten += line.getBytes(StandardCharsets.UTF_8).length + 1;
+            }
+        }
+        return bytesWritten;
+    }
+
+}
@@ -0,0 +1,276 @@
+package seedu.apollo.storage;
+
+import seedu.apollo.calendar.Calendar;
+import seedu.apollo.exception.task.DateOverException;
+import seedu.apollo.exception.utils.DuplicateModuleInTextFileException;
+import seedu.apollo.exception.utils.InvalidSaveFile;
+import seedu.apollo.module.Module;
+import seedu.apollo.module.ModuleList;
+import seedu.apollo.task.Task;
+import seedu.apollo.task.TaskList;
+import seedu.apollo.ui.Ui;
+import seedu.apollo.utils.LoggerInterface;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Saves tasks and modules as lines of text files, with tasks split by the month they are over in.
+ * Every change rewrites the files of the months whose tasks changed, and tasks that are over are searched
+ * by reading their months.
+ */
+public class TextStorageBackend implements StorageBackend, LoggerInterface {
+
+    private static Logger logger = Logger.getLogger("TextStorageBackend");
+
+    // Location of save file
+    private final String filePath;
+    private final String moduleDataFilePath;
+
+    // whether the task save file contained tasks that were dropped when it was last loaded
+    private volatile boolean isTaskFileOutdated = false;
+    private final TaskPartitions partitions;
+    // key of the first month whose Tasks were loaded, as earlier months only hold Tasks that are over
+    private volatile String loadedFrom = TaskPartitions.getKey(YearMonth.now());
+    // Tasks of loaded months that were already over when they were loaded, which are saved but not in the TaskList
+    private volatile List<Task> overTasks = List.of();
+    // Tasks of each past month that has been read
+    private final Map<String, List<Task>> pastTasks = new ConcurrentHashMap<>();
+
+    /**
+     * Initialises the save files, without reading or creating them.
+     *
+     * @param filePath           Location of the task save file, such as {@code save.txt}.
+     * @param moduleDataFilePath Location of the module save file, such as {@code moduleData.txt}.
+     */
+    public TextStorageBackend(String filePath, String moduleDataFilePath) {
+        setUpLogger(logger);
+        this.filePath = filePath;
+        this.moduleDataFilePath = moduleDataFilePath;
+        this.partitions = new TaskPartitions(filePath);
+    }
+
+    @Override
+    public String getTaskLocation() {
+        return filePath;
+    }
+
+    @Override
+    public String getModuleLocation() {
+        return moduleDataFilePath;
+    }
+
+    /**
+     * Loads the undated tasks, and those of the current and future months.
+     * Tasks of past months are over, and are only loaded when {@link #loadPastTasks(LocalDate)} asks for them.
+     * If save file is not found, creates a new save file and returns an empty TaskList.
+     */
+    @Override
+    public TaskList loadTaskList(Ui ui) throws IOException {
+        isTaskFileOutdated = false;
+        partitions.clearLoaded();
+        pastTasks.clear();
+        loadedFrom = TaskPartitions.getKey(YearMonth.now());
+        TaskList newTaskList = new TaskList();
+        List<Task> newOverTasks = new ArrayList<>();
+        File save = new File(filePath);
+        if (!save.exists()) {
+            assert (save.createNewFile()) : "Save file creation failed.";
+            logger.log(Level.INFO, "File not found, creating new file.");
+        }
+        readFileContents(TaskPartitions.UNDATED, newTaskList, newOverTasks, ui);
+        for (String month : partitions.getCounts().keySet()) {
+            if (month.compareTo(loadedFrom) >= 0) {
+                readFileContents(month, newTaskList, newOverTasks, ui);
+            }
+        }
+        overTasks = newOverTasks;
+        return newTaskList;
+    }
+
+    /**
+     * Reads all lines in a partition of the save file, initialising them as Tasks.
+     * Tasks that are over are kept apart, so that they stay in the save file without being in the TaskList.
+     * Tasks in the wrong partition, such as those saved before the save file was split by month,
+     * mark the save file as outdated so that they are moved.
+     *
+     * @param key          Key of the partition.
+     * @param newTaskList  Receives the Tasks that are not over.
+     * @param newOverTasks Receives the Tasks that are over.
+     * @throws IOException If the partition cannot be read.
+     */
+    private void readFileContents(String key, TaskList newTaskList, List<Task> newOverTasks, Ui ui)
+            throws IOException {
+        List<String> lines = partitions.load(key);
+        LocalDateTime now = LocalDateTime.now();
+        int counter = 0;
+        for (String line : lines) {
+            Task task;
+            try {
+                counter++;
+                try {
+                    task = SaveFormat.newTask(line, now);
+                    newTaskList.add(task);
+                } catch (DateOverException e) {
+                    task = SaveFormat.newPastTask(line);
+                    newOverTasks.add(task);
+                }
+            } catch (InvalidSaveFile e) {
+                ui.printInvalidSaveFile(counter, partitions.getFile(key).toString());
+                logger.log(Level.INFO, "Error in reading data from file");
+                isTaskFileOutdated = true;
+                continue;
+            }
+            if (!TaskPartitions.getKey(task).equals(key)) {
+                isTaskFileOutdated = true;
+            }
+        }
+        logger.log(Level.INFO, "Successfully read " + counter + " tasks from " + partitions.getFile(key) + ".");
+    }
+
+    @Override
+    public boolean isTaskFileOutdated() {
+        return isTaskFileOutdated;
+    }
+
+    /**
+     * Saves each Task in the partition of the month it is over in, along with the loaded Tasks that are over.
+     */
+    @Override
+    public long updateTask(TaskList taskList) throws IOException {
+        Map<String, List<String>> lines = new HashMap<>();
+        List<Task> savedOverTasks = overTasks;
+        for (Task task : taskList) {
+            lines.computeIfAbsent(TaskPartitions.getKey(task), key -> new ArrayList<>())
+                    .add(SaveFormat.toSaveLine(task));
+        }
+        for (Task task : savedOverTasks) {
+            lines.computeIfAbsent(TaskPartitions.getKey(task), key -> new ArrayList<>())
+                    .add(SaveFormat.toSaveLine(task));
+        }
+        long bytesWritten = partitions.save(lines);
+        // Tasks of past months are now in their files, and are read from there like those that were never loaded
+        List<Task> loadedOverTasks = new ArrayList<>();
+        for (Task task : savedOverTasks) {
+            if (TaskPartitions.getKey(task).compareTo(loadedFrom) >= 0) {
+                loadedOverTasks.add(task);
+            }
+        }
+        overTasks = loadedOverTasks;
+        pastTasks.clear();
+        return bytesWritten;
+    }
+
+    /**
+     * Counts the Tasks of past months from the manifest of the save file rather than by loading them.
+     */
+    @Override
+    public int getPastTaskCount() throws IOException {
+        int count = overTasks.size();
+        for (Map.Entry<String, Integer> month : partitions.getCounts().headMap(loadedFrom).entrySet()) {
+            count += month.getValue();
+        }
+        return count;
+    }
+
+    /**
+     * Loads the Tasks of past months and those of the current month that were over on startup,
+     * earliest month first. Past months are only read the first time they are asked for.
+     */
+    @Override
+    public List<Task> loadPastTasks(LocalDate from) throws IOException {
+        String firstMonth = (from == null) ? "" : TaskPartitions.getKey(YearMonth.from(from));
+        List<Task> found = new ArrayList<>();
+        for (String month : partitions.getCounts().subMap(firstMonth, loadedFrom).keySet()) {
+            found.addAll(getPastMonth(month));
+        }
+        found.addAll(overTasks);
+        return found;
+    }
+
+    private List<Task> getPastMonth(String month) throws IOException {
+        List<Task> tasks = pastTasks.get(month);
+        if (tasks != null) {
+            return tasks;
+        }
+        tasks = new ArrayList<>();
+        for (String line : partitions.read(month)) {
+            try {
+                tasks.add(SaveFormat.newPastTask(line));
+            } catch (InvalidSaveFile e) {
+                logger.log(Level.INFO, "Error in reading data from " + partitions.getFile(month));
+            }
+        }
+        tasks = Collections.unmodifiableList(tasks);
+        pastTasks.putIfAbsent(month, tasks);
+        return tasks;
+    }
+
+    /**
+     * Reads all lines in the moduleData file, initialises them as an ModuleList of Modules.
+     * If the file is not found, creates a new one and returns an empty ModuleList.
+     */
+    @Override
+    public ModuleList loadModuleList(Ui ui, ModuleList allModules, Calendar calendar) throws IOException {
+        File save = new File(moduleDataFilePath);
+        try {
+            return readModuleFileContents(save, ui, allModules, calendar);
+        } catch (FileNotFoundException e) {
+            logger.log(Level.INFO, "File for ModuleList not found, creating new file.");
+            assert (save.createNewFile()) : "Save file creation failed.";
+            return new ModuleList();
+        }
+    }
+
+    private ModuleList readModuleFileContents(File save, Ui ui, ModuleList allModules, Calendar calendar)
+            throws FileNotFoundException {
+        Scanner s = new Scanner(save);
+        ModuleList newModuleList = new ModuleList();
+        int counter = 0;
+        while (s.hasNext()) {
+            try {
+                Module module = SaveFormat.newModule(s.nextLine(), allModules, newModuleList);
+                calendar.addModule(module);
+                newModuleList.add(module);
+                counter++;
+            } catch (InvalidSaveFile e) {
+                ui.printInvalidSaveFile(counter, moduleDataFilePath);
+            } catch (DuplicateModuleInTextFileException e) {
+                ui.printDuplicateModuleInTextFile(counter);
+            }
+        }
+        return newModuleList;
+    }
+
+    /**
+     * Overwrites the moduleData file with every Module and its lessons.
+     */
+    @Override
+    public long updateModule(ModuleList modules) throws IOException {
+        long bytesWritten = 0;
+        try (FileWriter overwrite = new FileWriter(moduleDataFilePath, StandardCharsets.UTF_8)) {
+            for (Module module : modules) {
+                String line = SaveFormat.toModuleLine(module) + "\n";
+                overwrite.write(line);
+                bytesWritten += line.getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+        return bytesWritten;
+    }
+
+}
@@ -27,9 +27,24 @@ public class Deadline extends Task {
      */
     public Deadline(String description, String byString)
             throws DateTimeParseException, DateOverException {
+        this(description, byString, LocalDateTime.now());
+    }
+
+    /**
+     * Initialises as in Task, with added parsing for due date.
+     *
+     * @param description String describing the Task.
+     * @param byString    String describing the due date.
+     * @param now         Time the deadline must not be over by. Tasks that are kept after they are over,
+     *                    such as those of past months in the save files, are read with {@link LocalDateTime#MIN}.
+     * @throws DateTimeParseException If due date is not entered in right format.
+     * @throws DateOverException If due date occurs before {@code now}.
+     */
+    public Deadline(String description, String byString, LocalDateTime now)
+            throws DateTimeParseException, DateOverException {
         super(description);
         this.by = LocalDateTime.parse(byString,storePattern);
-        if (by.isBefore(LocalDateTime.now())) {
+        if (by.isBefore(now)) {
             throw new DateOverException(getType(), description, by, null, null);
         }
 
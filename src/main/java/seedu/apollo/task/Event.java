@@ -36,6 +36,23 @@ public class Event extends Task {
      */
     public Event(String description, String fromString, String toString)
             throws DateTimeParseException, DateOrderException, DateOverException {
+        this(description, fromString, toString, LocalDateTime.now());
+    }
+
+    /**
+     * Initialises as in Task, with added parsing for start and end dates.
+     *
+     * @param description String describing the Task.
+     * @param fromString  String describing the start date.
+     * @param toString    String describing the end date.
+     * @param now         Time the event must not be over by. Tasks that are kept after they are over,
+     *                    such as those of past months in the save files, are read with {@link LocalDateTime#MIN}.
+     * @throws DateTimeParseException If either date is not entered in right format.
+     * @throws DateOrderException If end date occurs before the start date.
+     * @throws DateOverException If end date occurs before {@code now}.
+     */
+    public Event(String description, String fromString, String toString, LocalDateTime now)
+            throws DateTimeParseException, DateOrderException, DateOverException {
         super(description);
         this.from = LocalDateTime.parse(fromString,storePattern);
         this.to = LocalDateTime.parse(toString,storePattern);
@@ -44,7 +61,7 @@ public class Event extends Task {
             throw new DateOrderException();
         }
 
-        if (to.isBefore(LocalDateTime.now())) {
+        if (to.isBefore(now)) {
             throw new DateOverException(getType(), description, null, from, to);
         }
 
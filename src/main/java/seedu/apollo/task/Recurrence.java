@@ -0,0 +1,174 @@
+package seedu.apollo.task;
+
+import seedu.apollo.calendar.OccupancyBitmap;
+import seedu.apollo.calendar.SemesterUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.MINUTES;
+
+/**
+ * A rule for a task that takes place every week, from its first occurrence up to a last date.
+ * Occurrences are never stored. The occurrences within a period are worked out from the rule when they are needed,
+ * so a task repeating for a whole semester takes as little space and time as a one-off task.
+ */
+public class Recurrence {
+
+    private static final long MINUTES_PER_WEEK = Duration.ofDays(7).toMinutes();
+
+    private final LocalDateTime firstStart;
+    private final Duration length;
+    private final LocalDate until;
+    private final int count;
+
+    /**
+     * Initialises the rule.
+     *
+     * @param firstStart When the first occurrence starts.
+     * @param length     How long each occurrence lasts, which is zero for deadlines.
+     * @param until      The last date an occurrence may start on.
+     */
+    public Recurrence(LocalDateTime firstStart, Duration length, LocalDate until) {
+        assert !until.isBefore(firstStart.toLocalDate()) : "Recurrence should occur at least once";
+        this.firstStart = firstStart;
+        this.length = length;
+        this.until = until;
+        this.count = (int) (DAYS.between(firstStart.toLocalDate(), until) / 7) + 1;
+    }
+
+    /**
+     * Returns the date a task repeats until when no date is given,
+     * which is the end of the current semester, or 13 weeks if the semester ends before the task starts.
+     *
+     * @param firstDate The date of the first occurrence.
+     * @return The last date an occurrence may start on.
+     */
+    public static LocalDate getDefaultUntil(LocalDate firstDate) {
+        LocalDate semesterEnd = SemesterUtils.getSemester().getEnd();
+        if (semesterEnd.isAfter(firstDate)) {
+            return semesterEnd;
+        }
+        return firstDate.plusWeeks(OccupancyBitmap.TEACHING_WEEKS - 1);
+    }
+
+    public LocalDateTime getFirstStart() {
+        return firstStart;
+    }
+
+    public LocalDate getUntil() {
+        return until;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns when the last occurrence starts.
+     *
+     * @return The start of the last occurrence.
+     */
+    public LocalDateTime getLastStart() {
+        return firstStart.plusWeeks(count - 1);
+    }
+
+    /**
+     * Returns the starts of the occurrences that overlap with a period, including those that only touch it.
+     * Occurrences are worked out one at a time as the result is iterated over.
+     *
+     * @param from The start of the period.
+     * @param to   The end of the period.
+     * @return The starts of the overlapping occurrences, in chronological order.
+     */
+    public Iterable<LocalDateTime> getStartsBetween(LocalDateTime from, LocalDateTime to) {
+        int first = getFirstIndexEndingAfter(from);
+        return () -> new Iterator<>() {
+            private int index = first;
+
+            @Override
+            public boolean hasNext() {
+                return index < count && !firstStart.plusWeeks(index).isAfter(to);
+            }
+
+            @Override
+            public LocalDateTime next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return firstStart.plusWeeks(index++);
+            }
+        };
+    }
+
+    /**
+     * Checks if any occurrence overlaps with a period, including occurrences that only touch it.
+     *
+     * @param from The start of the period.
+     * @param to   The end of the period.
+     * @return True if an occurrence takes place during the period.
+     */
+    public boolean isDuring(LocalDateTime from, LocalDateTime to) {
+        return getStartsBetween(from, to).iterator().hasNext();
+    }
+
+    /**
+     * Checks if any occurrence takes place entirely within a period.
+     *
+     * @param from The start of the period.
+     * @param to   The end of the period.
+     * @return True if an occurrence starts and ends during the period.
+     */
+    public boolean isWithin(LocalDateTime from, LocalDateTime to) {
+        long minutesAfterFirstStart = MINUTES.between(firstStart, from);
+        // index of the first occurrence that does not start before the period
+        long index = (minutesAfterFirstStart <= 0) ? 0
+                : (minutesAfterFirstStart + MINUTES_PER_WEEK - 1) / MINUTES_PER_WEEK;
+        if (index >= count) {
+            return false;
+        }
+        return !firstStart.plusWeeks(index).plus(length).isAfter(to);
+    }
+
+    /**
+     * Checks if any occurrence overlaps with any occurrence of another weekly rule, including occurrences that only
+     * touch. As both rules repeat every week, two overlapping occurrences that are not the first of their rules
+     * mean that the occurrences a week before each of them overlap too, so only the first occurrence of each rule
+     * has to be checked against the other rule.
+     *
+     * @param other The other rule.
+     * @return True if an occurrence of each rule takes place at the same time.
+     */
+    public boolean isDuring(Recurrence other) {
+        return isDuring(other.firstStart, other.firstStart.plus(other.length))
+                || other.isDuring(firstStart, firstStart.plus(length));
+    }
+
+    /**
+     * Checks if any occurrence takes place on a date.
+     *
+     * @param date The date to be checked.
+     * @return True if an occurrence overlaps with the date.
+     */
+    public boolean isOnDate(LocalDate date) {
+        return isDuring(date.atStartOfDay(), date.atTime(LocalTime.MAX));
+    }
+
+    /**
+     * Returns the index of the first occurrence that has not ended before the given time.
+     */
+    private int getFirstIndexEndingAfter(LocalDateTime time) {
+        long minutesAfterFirstEnd = MINUTES.between(firstStart.plus(length), time);
+        if (minutesAfterFirstEnd <= 0) {
+            return 0;
+        }
+        long index = (minutesAfterFirstEnd + MINUTES_PER_WEEK - 1) / MINUTES_PER_WEEK;
+        return (int) Math.min(index, count);
+    }
+
+}
@@ -0,0 +1,106 @@
+package seedu.apollo.task;
+
+import seedu.apollo.exception.task.DateOrderException;
+import seedu.apollo.exception.task.DateOverException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * Recurring Deadlines are a type of Task that are due at the same time every week, up to a last date,
+ * along with the default description and status.
+ * They are stored as a single {@link Recurrence} rule, and marking one marks every week's deadline.
+ */
+public class RecurringDeadline extends Task {
+
+    public static final String RECURRING_DEADLINE_LABEL = "RD";
+    public static final DateTimeFormatter UNTIL_PATTERN = DateTimeFormatter.ofPattern("dd-MM-yyyy", Locale.ENGLISH);
+
+    protected Recurrence recurrence;
+
+    /**
+     * Initialises as in Task, with added parsing for the first due date.
+     *
+     * @param description String describing the Task.
+     * @param byString    String describing the first due date.
+     * @param until       The last date the deadline may be due on, or {@code null} for the default.
+     * @throws DateTimeParseException If the due date is not entered in right format.
+     * @throws DateOrderException If the last date occurs before the first due date.
+     * @throws DateOverException If every due date occurs before the current date.
+     */
+    public RecurringDeadline(String description, String byString, LocalDate until)
+            throws DateTimeParseException, DateOrderException, DateOverException {
+        this(description, byString, until, LocalDateTime.now());
+    }
+
+    /**
+     * Initialises as in Task, with added parsing for the first due date.
+     *
+     * @param description String describing the Task.
+     * @param byString    String describing the first due date.
+     * @param until       The last date the deadline may be due on, or {@code null} for the default.
+     * @param now         Time the last deadline must not be over by. Tasks that are kept after they are over,
+     *                    such as those of past months in the save files, are read with {@link LocalDateTime#MIN}.
+     * @throws DateTimeParseException If the due date is not entered in right format.
+     * @throws DateOrderException If the last date occurs before the first due date.
+     * @throws DateOverException If every due date occurs before {@code now}.
+     */
+    public RecurringDeadline(String description, String byString, LocalDate until, LocalDateTime now)
+            throws DateTimeParseException, DateOrderException, DateOverException {
+        super(description);
+        LocalDateTime by = LocalDateTime.parse(byString, storePattern);
+        LocalDate lastDate = (until == null) ? Recurrence.getDefaultUntil(by.toLocalDate()) : until;
+        if (lastDate.isBefore(by.toLocalDate())) {
+            throw new DateOrderException();
+        }
+        this.recurrence = new Recurrence(by, Duration.ZERO, lastDate);
+
+        if (recurrence.getLastStart().isBefore(now)) {
+            throw new DateOverException("deadline", description, recurrence.getLastStart(), null, null);
+        }
+    }
+
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    /**
+     * Get a String describing the first due date of the Recurring Deadline.
+     *
+     * @param pattern Desired format for String after parsing.
+     * @return Parsed first due date.
+     */
+    public String getBy(DateTimeFormatter pattern) {
+        return recurrence.getFirstStart().format(pattern);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getType() {
+        return "recurring deadline";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Boolean isOnDate(LocalDate date) {
+        return recurrence.isOnDate(date);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "[" + RECURRING_DEADLINE_LABEL + "][" + getStatus() + "] " + description + " (by: "
+                + getBy(printPattern) + ", weekly until: " + recurrence.getUntil().format(UNTIL_PATTERN) + ")";
+    }
+
+}
@@ -0,0 +1,141 @@
+package seedu.apollo.task;
+
+import seedu.apollo.exception.task.DateOrderException;
+import seedu.apollo.exception.task.DateOverException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import static seedu.apollo.task.RecurringDeadline.UNTIL_PATTERN;
+
+/**
+ * Recurring Events are a type of Task that take place at the same time every week, up to a last date,
+ * along with the default description and status.
+ * They are stored as a single {@link Recurrence} rule, and marking one marks every week's event.
+ */
+public class RecurringEvent extends Task {
+
+    public static final String RECURRING_EVENT_LABEL = "RE";
+
+    protected Recurrence recurrence;
+    protected Duration length;
+
+    /**
+     * Initialises as in Task, with added parsing for the start and end dates of the first occurrence.
+     *
+     * @param description String describing the Task.
+     * @param fromString  String describing the start date of the first occurrence.
+     * @param toString    String describing the end date of the first occurrence.
+     * @param until       The last date the event may start on, or {@code null} for the default.
+     * @throws DateTimeParseException If either date is not entered in right format.
+     * @throws DateOrderException If the end date occurs before the start date, or the last date before both.
+     * @throws DateOverException If every occurrence ends before the current date.
+     */
+    public RecurringEvent(String description, String fromString, String toString, LocalDate until)
+            throws DateTimeParseException, DateOrderException, DateOverException {
+        this(description, fromString, toString, until, LocalDateTime.now());
+    }
+
+    /**
+     * Initialises as in Task, with added parsing for the start and end dates of the first occurrence.
+     *
+     * @param description String describing the Task.
+     * @param fromString  String describing the start date of the first occurrence.
+     * @param toString    String describing the end date of the first occurrence.
+     * @param until       The last date the event may start on, or {@code null} for the default.
+     * @param now         Time the last occurrence must not be over by. Tasks that are kept after they are over,
+     *                    such as those of past months in the save files, are read with {@link LocalDateTime#MIN}.
+     * @throws DateTimeParseException If either date is not entered in right format.
+     * @throws DateOrderException If the end date occurs before the start date, or the last date before both.
+     * @throws DateOverException If every occurrence ends before {@code now}.
+     */
+    public RecurringEvent(String description, String fromString, String toString, LocalDate until,
+                          LocalDateTime now) throws DateTimeParseException, DateOrderException, DateOverException {
+        super(description);
+        LocalDateTime from = LocalDateTime.parse(fromString, storePattern);
+        LocalDateTime to = LocalDateTime.parse(toString, storePattern);
+        if (from.isAfter(to)) {
+            throw new DateOrderException();
+        }
+        LocalDate lastDate = (until == null) ? Recurrence.getDefaultUntil(from.toLocalDate()) : until;
+        if (lastDate.isBefore(from.toLocalDate())) {
+            throw new DateOrderException();
+        }
+        this.length = Duration.between(from, to);
+        this.recurrence = new Recurrence(from, length, lastDate);
+
+        LocalDateTime lastEnd = recurrence.getLastStart().plus(length);
+        if (lastEnd.isBefore(now)) {
+            throw new DateOverException("event", description, null, recurrence.getLastStart(), lastEnd);
+        }
+    }
+
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    public Duration getLength() {
+        return length;
+    }
+
+    /**
+     * Get a String describing the start date of the first occurrence.
+     *
+     * @param pattern Desired format for String after parsing.
+     * @return Parsed start date.
+     */
+    public String getFrom(DateTimeFormatter pattern) {
+        return recurrence.getFirstStart().format(pattern);
+    }
+
+    /**
+     * Get a String describing the end date of the first occurrence.
+     *
+     * @param pattern Desired format for String after parsing.
+     * @return Parsed end date.
+     */
+    public String getTo(DateTimeFormatter pattern) {
+        return recurrence.getFirstStart().plus(length).format(pattern);
+    }
+
+    /**
+     * Checks if any occurrence overlaps with a period, including occurrences that only touch it.
+     *
+     * @param from The start of the period.
+     * @param to   The end of the period.
+     * @return True if the event takes place during the period.
+     */
+    public boolean isDuring(LocalDateTime from, LocalDateTime to) {
+        return recurrence.isDuring(from, to);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getType() {
+        return "recurring event";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Boolean isOnDate(LocalDate date) {
+        return recurrence.isOnDate(date);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "[" + RECURRING_EVENT_LABEL + "][" + getStatus() + "] " + description + " (from: "
+                + getFrom(printPattern) + " to: " + getTo(printPattern) + ", weekly until: "
+                + recurrence.getUntil().format(UNTIL_PATTERN) + ")";
+    }
+
+}
@@ -1,12 +1,20 @@
 package seedu.apollo.task;
 
+import java.lang.ref.WeakReference;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Parent class of all types of Tasks.
- * Contains the Task's description and status.
+ * Contains the Task's description, status, and the tags in its description, such as {@code #CS2113}.
  */
 public abstract class Task {
 
@@ -15,9 +23,19 @@ public abstract class Task {
     public static DateTimeFormatter printPattern = DateTimeFormatter
             .ofPattern("dd MMM yyyy, hh:mma", Locale.ENGLISH);
 
+    public static final String TAG_PREFIX = "#";
+
+    private static final Pattern TAG_PATTERN = Pattern.compile("(?<=^|\\s)" + TAG_PREFIX + "([\\w-]+)");
 
     protected String description;
     protected boolean isDone;
+    // date the Task was marked as done, or null if it is not done
+    private LocalDate doneDate;
+    private final Set<String> tags;
+    // number of times the Task has changed since it was created, so that it is only saved again once it changes
+    private volatile int changeCount = 0;
+    // TaskLists whose indexes hold the status of the Task, which are told when it changes
+    private final List<WeakReference<TaskList>> indexedBy = new ArrayList<>(1);
 
     /**
      * Initialises the Task with its description sets its status as not done.
@@ -27,6 +45,41 @@ public abstract class Task {
     public Task(String description) {
         this.description = description;
         this.isDone = false;
+        this.tags = parseTags(description);
+    }
+
+    /**
+     * Returns the tags in a description, which are words that start with {@link #TAG_PREFIX}, in lower case.
+     */
+    private static Set<String> parseTags(String description) {
+        Set<String> tags = new LinkedHashSet<>();
+        Matcher matcher = TAG_PATTERN.matcher(description);
+        while (matcher.find()) {
+            tags.add(normaliseTag(matcher.group(1)));
+        }
+        return tags.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(tags);
+    }
+
+    /**
+     * Returns a tag in the form it is indexed in, so that tags differing only in case are the same.
+     *
+     * @param tag The tag, with or without {@link #TAG_PREFIX}.
+     * @return The tag in lower case, without the prefix.
+     */
+    public static String normaliseTag(String tag) {
+        String name = tag.startsWith(TAG_PREFIX) ? tag.substring(TAG_PREFIX.length()) : tag;
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Tells a TaskList whenever the Task changes status from now on, as its index holds the status of the Task.
+     * TaskLists that have been garbage collected are forgotten.
+     *
+     * @param taskList The TaskList that indexed the Task.
+     */
+    synchronized void addIndexedBy(TaskList taskList) {
+        indexedBy.removeIf(reference -> reference.get() == null || reference.get() == taskList);
+        indexedBy.add(new WeakReference<>(taskList));
     }
 
     /**
@@ -47,6 +100,15 @@ public abstract class Task {
         return description;
     }
 
+    /**
+     * Get the tags of the Task, in lower case and without {@link #TAG_PREFIX}.
+     *
+     * @return Unmodifiable set of the tags in the Task's description.
+     */
+    public Set<String> getTags() {
+        return tags;
+    }
+
     /**
      * Check if the Task has been done.
      *
@@ -67,11 +129,53 @@ public abstract class Task {
 
     /**
      * Set the status of the Task based on the input.
+     * A Task that becomes done is dated today, and a Task that becomes not done loses its date.
      *
      * @param done Boolean describing the status of the task
      */
-    public void setDone(boolean done) {
+    public synchronized void setDone(boolean done) {
+        if (isDone == done) {
+            return;
+        }
         isDone = done;
+        doneDate = done ? LocalDate.now() : null;
+        changeCount++;
+        for (WeakReference<TaskList> reference : indexedBy) {
+            TaskList taskList = reference.get();
+            if (taskList != null) {
+                taskList.onStatusChanged();
+            }
+        }
+    }
+
+    /**
+     * Get the date the Task was marked as done.
+     *
+     * @return Date the Task was done, or {@code null} if it is not done.
+     */
+    public LocalDate getDoneDate() {
+        return doneDate;
+    }
+
+    /**
+     * Set the date a done Task was marked as done, such as when it is read back from the save file.
+     *
+     * @param doneDate Date the Task was done.
+     */
+    public synchronized void setDoneDate(LocalDate doneDate) {
+        assert isDone : "Task: Only done tasks have a done date!";
+        this.doneDate = doneDate;
+        changeCount++;
+    }
+
+    /**
+     * Returns the number of times the Task has changed since it was created,
+     * which only changes when the Task would be saved differently.
+     *
+     * @return Number of changes.
+     */
+    public int getChangeCount() {
+        return changeCount;
     }
 
     /**
@@ -0,0 +1,113 @@
+package seedu.apollo.task;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bitmaps of the positions of the Tasks in a TaskList with each tag, of each type, and that are done,
+ * so that queries on several of them combine a few bitmaps instead of going through every Task.
+ * Appending a Task updates the bitmaps in place. Other changes to the order of the Tasks need a new index.
+ */
+class TaskIndex {
+
+    private final Map<String, BitSet> tags = new HashMap<>();
+    private final Map<String, BitSet> types = new HashMap<>();
+    private final BitSet done = new BitSet();
+    private int doneCount = 0;
+    private int size = 0;
+
+    /**
+     * Builds the index of a list of Tasks in one pass.
+     *
+     * @param tasks The Tasks to be indexed.
+     */
+    TaskIndex(List<Task> tasks) {
+        for (Task task : tasks) {
+            append(task);
+        }
+    }
+
+    /**
+     * Adds a Task after the last indexed Task.
+     *
+     * @param task The Task to be indexed.
+     */
+    void append(Task task) {
+        int position = size++;
+        for (String tag : task.getTags()) {
+            tags.computeIfAbsent(tag, key -> new BitSet()).set(position);
+        }
+        types.computeIfAbsent(task.getType(), key -> new BitSet()).set(position);
+        setDone(position, task.isDone());
+    }
+
+    /**
+     * Updates the status of the Task at a position.
+     *
+     * @param position Position of the Task.
+     * @param isDone   Whether the Task is done.
+     */
+    void setDone(int position, boolean isDone) {
+        if (done.get(position) != isDone) {
+            done.set(position, isDone);
+            doneCount += isDone ? 1 : -1;
+        }
+    }
+
+    /**
+     * Updates the status of every Task, after a Task of the TaskList has changed status without going through it.
+     *
+     * @param tasks The indexed Tasks, in the same order they were indexed in.
+     */
+    void refreshStatus(List<Task> tasks) {
+        done.clear();
+        doneCount = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            setDone(i, tasks.get(i).isDone());
+        }
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    int getDoneCount() {
+        return doneCount;
+    }
+
+    /**
+     * Returns the positions of the Tasks with a tag.
+     *
+     * @param tag The tag, as returned by {@link Task#normaliseTag(String)}.
+     * @return Bitmap that is not shared with the index.
+     */
+    BitSet getTagged(String tag) {
+        return copy(tags.get(tag));
+    }
+
+    /**
+     * Returns the positions of the Tasks of a type.
+     *
+     * @param type The type, as returned by {@link Task#getType()}.
+     * @return Bitmap that is not shared with the index.
+     */
+    BitSet getOfType(String type) {
+        return copy(types.get(type));
+    }
+
+    /**
+     * Returns the positions of the Tasks that are done.
+     *
+     * @return Bitmap that is not shared with the index.
+     */
+    BitSet getDone() {
+        return copy(done);
+    }
+
+    private static BitSet copy(BitSet positions) {
+        return (positions == null) ? new BitSet() : (BitSet) positions.clone();
+    }
+
+}
@@ -3,16 +3,146 @@ package seedu.apollo.task;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
 /**
  * TaskList class is a modified ArrayList of Tasks.
+ * Keeps bitmaps of which Tasks have each tag, type and status, which are built the first time they are queried,
+ * kept up to date as Tasks are appended or marked through the TaskList, and rebuilt after any other change.
+ * Tasks tell the TaskLists that indexed them when they are marked directly, so marking a Task of one TaskList
+ * does not make any other TaskList go through its Tasks again.
  */
 public class TaskList extends ArrayList<Task> {
 
+    private TaskIndex index;
+    // number of times an indexed Task has changed status, which its Task reports without locking the TaskList
+    private final AtomicLong statusChanges = new AtomicLong();
+    // changes to the list and to the status of its Tasks that the index has seen
+    private int indexedModCount;
+    private long indexedStatusChanges;
+
+    @Override
+    public synchronized boolean add(Task task) {
+        boolean isIndexCurrent = isIndexCurrent();
+        super.add(task);
+        if (isIndexCurrent) {
+            index.append(task);
+            task.addIndexedBy(this);
+            indexedModCount = modCount;
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized boolean addAll(Collection<? extends Task> tasks) {
+        boolean isIndexCurrent = isIndexCurrent();
+        boolean isChanged = super.addAll(tasks);
+        if (isIndexCurrent) {
+            for (Task task : tasks) {
+                index.append(task);
+                task.addIndexedBy(this);
+            }
+            indexedModCount = modCount;
+        }
+        return isChanged;
+    }
+
+    @Override
+    public synchronized Task set(int position, Task task) {
+        // replacing a Task does not count as a change to the list, so the index has to be dropped
+        index = null;
+        return super.set(position, task);
+    }
+
+    /**
+     * Marks the Task at an index as done or not done, keeping the bitmaps of the TaskList up to date.
+     *
+     * @param position Index of the Task, starting from {@code 0}.
+     * @param isDone   Whether the Task is done.
+     */
+    public synchronized void setDone(int position, boolean isDone) {
+        boolean isIndexCurrent = isIndexCurrent();
+        this.get(position).setDone(isDone);
+        if (isIndexCurrent) {
+            index.setDone(position, isDone);
+            indexedStatusChanges = statusChanges.get();
+        }
+    }
+
+    /**
+     * Returns the number of Tasks that are not done, without going through the Tasks unless they have changed
+     * other than by being appended or marked through the TaskList.
+     *
+     * @return Number of Tasks not done.
+     */
+    public synchronized int getUndoneCount() {
+        TaskIndex current = getIndex();
+        return current.getSize() - current.getDoneCount();
+    }
+
+    /**
+     * Finds the Tasks matching every criterion given, by combining the bitmaps of each criterion.
+     *
+     * @param tags   Tags the Tasks must all have, with or without {@link Task#TAG_PREFIX}, in any case.
+     * @param type   Type of the Tasks as given by {@link Task#getType()}, or {@code null} for any type.
+     * @param isDone Whether the Tasks must be done or not done, or {@code null} for either.
+     * @return Indexes of the matching Tasks, starting from {@code 0}.
+     */
+    public synchronized BitSet filter(Collection<String> tags, String type, Boolean isDone) {
+        TaskIndex current = getIndex();
+        BitSet matching = new BitSet(this.size());
+        matching.set(0, this.size());
+        for (String tag : tags) {
+            matching.and(current.getTagged(Task.normaliseTag(tag)));
+        }
+        if (type != null) {
+            matching.and(current.getOfType(type));
+        }
+        if (isDone != null && isDone) {
+            matching.and(current.getDone());
+        } else if (isDone != null) {
+            matching.andNot(current.getDone());
+        }
+        return matching;
+    }
+
+    private boolean isIndexCurrent() {
+        return index != null && indexedModCount == modCount && indexedStatusChanges == statusChanges.get();
+    }
+
+    /**
+     * Returns the index of the Tasks, rebuilding the parts of it that are out of date.
+     */
+    private TaskIndex getIndex() {
+        long currentStatusChanges = statusChanges.get();
+        if (index == null || indexedModCount != modCount) {
+            index = new TaskIndex(this);
+            for (Task task : this) {
+                task.addIndexedBy(this);
+            }
+        } else if (indexedStatusChanges != currentStatusChanges) {
+            index.refreshStatus(this);
+        }
+        indexedModCount = modCount;
+        indexedStatusChanges = currentStatusChanges;
+        return index;
+    }
+
+    /**
+     * Records that a Task in the index has changed status, so that the index refreshes the status of its Tasks
+     * the next time it is queried. Tasks that have since been removed may still report their changes.
+     */
+    void onStatusChanged() {
+        statusChanges.incrementAndGet();
+    }
+
     /**
      * Get a shortlisted list of all Tasks that overlap with the given date.
      *
@@ -44,6 +174,27 @@ public class TaskList extends ArrayList<Task> {
         return (ArrayList<Task>) filteredTasks.collect(Collectors.toList());
     }
 
+    /**
+     * Removes the Tasks at many indexes at once, shifting each remaining Task only once.
+     *
+     * @param indexes Indexes of the Tasks to be removed, starting from {@code 0}.
+     * @return The removed Tasks, in the order they were in.
+     */
+    public List<Task> removeTasks(BitSet indexes) {
+        List<Task> removed = new ArrayList<>(indexes.cardinality());
+        int kept = 0;
+        for (int i = 0; i < this.size(); i++) {
+            Task task = this.get(i);
+            if (indexes.get(i)) {
+                removed.add(task);
+            } else {
+                this.set(kept++, task);
+            }
+        }
+        this.subList(kept, this.size()).clear();
+        return removed;
+    }
+
     /**
      * Groups tasks with the same type within the TaskList
      */
@@ -150,6 +301,36 @@ public class TaskList extends ArrayList<Task> {
         });
     }
 
+    /**
+     * Checks if the TaskList is already in the order that {@link #sortTaskByDay()} would put it in,
+     * without modifying it.
+     *
+     * @return {@code true} if sorting the TaskList would not change it, {@code false} otherwise.
+     */
+    public boolean isSortedByDay() {
+        for (int i = 1; i < this.size(); i++) {
+            if (compareByDay(this.get(i - 1), this.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int compareByDay(Task task1, Task task2) {
+        int typeOrder = task1.getType().compareTo(task2.getType());
+        if (typeOrder != 0) {
+            return typeOrder;
+        }
+        if (task1 instanceof Deadline && task2 instanceof Deadline) {
+            return deterministicSortForDeadline(((Deadline) task1).getByDate(), ((Deadline) task2).getByDate());
+        }
+        if (task1 instanceof Event && task2 instanceof Event) {
+            return deterministicSortForEvent(((Event) task1).getFromDate(), ((Event) task1).getToDate(),
+                    ((Event) task2).getFromDate(), ((Event) task2).getToDate());
+        }
+        return 0;
+    }
+
     //@@author T-Wan-Lin
     /**
      * Sorts the TaskList by date.
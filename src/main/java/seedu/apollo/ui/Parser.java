@@ -4,12 +4,16 @@ import seedu.apollo.command.module.AddModuleCommand;
 import seedu.apollo.command.module.DeleteModuleCommand;
 import seedu.apollo.command.module.ListModuleCommand;
 import seedu.apollo.command.module.ListModuleWithLessonCommand;
+import seedu.apollo.command.module.ImportModuleCommand;
+import seedu.apollo.command.module.PlanCommand;
 import seedu.apollo.command.utils.WeekCommand;
 import seedu.apollo.command.module.ShowModuleCommand;
 import seedu.apollo.command.task.AddCommand;
 import seedu.apollo.command.Command;
 import seedu.apollo.command.task.DateCommand;
+import seedu.apollo.command.task.ArchiveCommand;
 import seedu.apollo.command.task.FindCommand;
+import seedu.apollo.command.task.ImportCommand;
 import seedu.apollo.command.task.ListCommand;
 import seedu.apollo.command.task.ModifyCommand;
 import seedu.apollo.command.utils.specifichelpcommand.AddModHelpCommand;
@@ -19,12 +23,24 @@ import seedu.apollo.command.utils.specifichelpcommand.DeleteHelpCommand;
 import seedu.apollo.command.utils.specifichelpcommand.DeleteModHelpCommand;
 import seedu.apollo.command.utils.specifichelpcommand.EventHelpCommand;
 import seedu.apollo.command.utils.ExitCommand;
+import seedu.apollo.command.utils.ExportCommand;
+import seedu.apollo.command.utils.FreeCommand;
 import seedu.apollo.command.utils.specifichelpcommand.ExitHelpCommand;
+import seedu.apollo.command.utils.specifichelpcommand.ArchiveHelpCommand;
+import seedu.apollo.command.utils.specifichelpcommand.ExportHelpCommand;
+import seedu.apollo.command.utils.specifichelpcommand.ImportHelpCommand;
+import seedu.apollo.command.utils.specifichelpcommand.ImportModuleHelpCommand;
 import seedu.apollo.command.utils.specifichelpcommand.FindHelpCommand;
+import seedu.apollo.command.utils.specifichelpcommand.FreeHelpCommand;
 import seedu.apollo.command.utils.HelpCommand;
+import seedu.apollo.command.utils.MeetCommand;
+import seedu.apollo.command.utils.StatsCommand;
 import seedu.apollo.command.utils.specifichelpcommand.ListHelpCommand;
 import seedu.apollo.command.utils.specifichelpcommand.ListModuleHelpCommand;
 import seedu.apollo.command.utils.specifichelpcommand.MarkHelpCommand;
+import seedu.apollo.command.utils.specifichelpcommand.MeetHelpCommand;
+import seedu.apollo.command.utils.specifichelpcommand.PlanHelpCommand;
+import seedu.apollo.command.utils.specifichelpcommand.RecurringHelpCommand;
 import seedu.apollo.command.utils.specifichelpcommand.ShowModHelpCommand;
 import seedu.apollo.command.utils.specifichelpcommand.SpecifiedAidHelpCommand;
 import seedu.apollo.command.utils.specifichelpcommand.TodoHelpCommand;
@@ -43,7 +59,11 @@ import seedu.apollo.exception.module.InvalidModule;
 import seedu.apollo.module.ModuleList;
 
 import java.rmi.UnexpectedException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Arrays;
+import java.util.function.Supplier;
 
 /**
  * Parser class that makes sense of user commands or text.
@@ -57,17 +77,33 @@ public class Parser {
     public static final String COMMAND_WEEK_WORD = "week";
     public static final String COMMAND_DATE_WORD = "date";
     public static final String COMMAND_FIND_WORD = "find";
+    public static final String COMMAND_ARCHIVE_WORD = "archive";
     public static final String COMMAND_MARK_WORD = "mark";
     public static final String COMMAND_UNMARK_WORD = "unmark";
     public static final String COMMAND_DELETE_WORD = "delete";
     public static final String COMMAND_TODO_WORD = "todo";
     public static final String COMMAND_DEADLINE_WORD = "deadline";
     public static final String COMMAND_EVENT_WORD = "event";
+    public static final String COMMAND_RECURRING_DEADLINE_WORD = "rdeadline";
+    public static final String COMMAND_RECURRING_EVENT_WORD = "revent";
 
     public static final String COMMAND_ADD_MODULE_WORD = "addmod";
     public static final String COMMAND_LIST_MODULE_WORD = "listmod";
     public static final String COMMAND_DELETE_MODULE_WORD = "delmod";
     public static final String COMMAND_SHOW_MODULE_DETAILS_WORD = "showmod";
+    public static final String COMMAND_STATS_WORD = "stats";
+    public static final String COMMAND_PLAN_WORD = "plan";
+    public static final String COMMAND_FREE_WORD = "free";
+    public static final String COMMAND_MEET_WORD = "meet";
+    public static final String COMMAND_EXPORT_WORD = "export";
+    public static final String COMMAND_IMPORT_WORD = "import";
+    public static final String COMMAND_IMPORT_MODULE_WORD = "importmod";
+
+    // Filters of mark, unmark and delete that choose tasks by their status or dates instead of their indexes
+    public static final String FILTER_DONE = "--done";
+    public static final String FILTER_BEFORE = "--before";
+    // Flag of find that searches the archive of done tasks as well
+    public static final String FLAG_FIND_ALL = "--all";
 
 
     /**
@@ -81,6 +117,23 @@ public class Parser {
      */
     public static Command getCommand(String userCommand, Ui ui, int size, ModuleList moduleData)
             throws UnexpectedException {
+        return getLazyCommand(userCommand, ui, size, () -> moduleData);
+    }
+
+    /**
+     * Returns the corresponding Command to the user input.
+     * The module data is only requested for commands that need it while being parsed,
+     * so that other commands can be parsed while it is still loading.
+     *
+     * @param userCommand Command line input from user.
+     * @param ui          Prints out error messages if command cannot be parsed.
+     * @param size        Number of tasks saved in TaskList.
+     * @param moduleData  Supplies the module data, possibly waiting for it to load.
+     * @return Corresponding Command class to user input.
+     * @throws UnexpectedException If an unexpected error occurs.
+     */
+    public static Command getLazyCommand(String userCommand, Ui ui, int size, Supplier<ModuleList> moduleData)
+            throws UnexpectedException {
         final String[] split = userCommand.trim().split("\\s+", 2);
         try {
             return parseCommand(split, size, moduleData);
@@ -112,6 +165,16 @@ public class Parser {
         return null;
     }
 
+    /**
+     * Returns the command word of the user input, which is its first word.
+     *
+     * @param userCommand Command line input from user.
+     * @return Command word of the input.
+     */
+    public static String getCommandWord(String userCommand) {
+        return userCommand.trim().split("\\s+", 2)[0];
+    }
+
     /**
      * Adds data from user input into the corresponding Command class that is returned.
      *
@@ -131,7 +194,7 @@ public class Parser {
      * @throws EmptyAddModException    If there is no input for module code
      * @throws EmptyShowModException   If there is no input for module code
      */
-    private static Command parseCommand(String[] split, int size, ModuleList moduleData)
+    private static Command parseCommand(String[] split, int size, Supplier<ModuleList> moduleData)
             throws InvalidDateTime, EmptyKeywordException, EmptyTaskDescException, InvalidDeadline, InvalidEvent,
             IllegalCommandException, IllegalArgumentException, NumberFormatException, UnexpectedException,
             InvalidModule, EmptyAddModException, EmptyDelModException, EmptyShowModException {
@@ -141,13 +204,13 @@ public class Parser {
             if (isEmptyParam(split)) {
                 throw new EmptyShowModException();
             }
-            return new ShowModuleCommand(split[1], moduleData);
+            return new ShowModuleCommand(split[1], moduleData.get());
 
         case COMMAND_LIST_MODULE_WORD:
             if (isOneWord(split)) {
                 return new ListModuleCommand();
             }
-            return new ListModuleWithLessonCommand(split[1], moduleData);
+            return new ListModuleWithLessonCommand(split[1], moduleData.get());
 
         case COMMAND_EXIT_WORD:
             if (!isOneWord(split)) {
@@ -162,10 +225,10 @@ public class Parser {
             return getHelpCommand(split[1]);
 
         case COMMAND_LIST_WORD:
-            if (!isOneWord(split)) {
-                throw new IllegalCommandException();
+            if (isOneWord(split)) {
+                return new ListCommand();
             }
-            return new ListCommand();
+            return new ListCommand(split[1]);
 
         case COMMAND_WEEK_WORD:
             if (!isOneWord(split)) {
@@ -183,7 +246,10 @@ public class Parser {
             if (isEmptyParam(split)) {
                 throw new EmptyKeywordException();
             }
-            return new FindCommand(split[1]);
+            return parseFind(split[1]);
+
+        case COMMAND_ARCHIVE_WORD:
+            return new ArchiveCommand(isOneWord(split) ? "" : split[1]);
 
         case COMMAND_MARK_WORD:
         case COMMAND_UNMARK_WORD:
@@ -191,11 +257,16 @@ public class Parser {
             if (isEmptyParam(split)) {
                 throw new NumberFormatException();
             }
+            if (split[1].startsWith("--")) {
+                return parseModifyFilters(command, split[1]);
+            }
             return new ModifyCommand(command, split[1], size);
 
         case COMMAND_TODO_WORD:
         case COMMAND_DEADLINE_WORD:
         case COMMAND_EVENT_WORD:
+        case COMMAND_RECURRING_DEADLINE_WORD:
+        case COMMAND_RECURRING_EVENT_WORD:
             if (isEmptyParam(split)) {
                 throw new EmptyTaskDescException();
             }
@@ -205,7 +276,7 @@ public class Parser {
             if (isEmptyParam(split)) {
                 throw new EmptyAddModException();
             }
-            return new AddModuleCommand(split[1], moduleData);
+            return new AddModuleCommand(split[1], moduleData.get());
 
         case COMMAND_DELETE_MODULE_WORD:
             if (isEmptyParam(split)) {
@@ -214,6 +285,48 @@ public class Parser {
             String moduleCode = split[1];
             return new DeleteModuleCommand(moduleCode);
 
+        case COMMAND_STATS_WORD:
+            if (!isOneWord(split)) {
+                throw new IllegalCommandException();
+            }
+            return new StatsCommand();
+
+        case COMMAND_PLAN_WORD:
+            if (isEmptyParam(split)) {
+                throw new IllegalCommandException();
+            }
+            return new PlanCommand(split[1], moduleData.get());
+
+        case COMMAND_FREE_WORD:
+            if (isEmptyParam(split)) {
+                throw new IllegalCommandException();
+            }
+            return new FreeCommand(split[1]);
+
+        case COMMAND_MEET_WORD:
+            if (isEmptyParam(split)) {
+                throw new IllegalCommandException();
+            }
+            return new MeetCommand(split[1]);
+
+        case COMMAND_EXPORT_WORD:
+            if (isEmptyParam(split)) {
+                throw new IllegalCommandException();
+            }
+            return new ExportCommand(split[1]);
+
+        case COMMAND_IMPORT_WORD:
+            if (isEmptyParam(split)) {
+                throw new IllegalCommandException();
+            }
+            return new ImportCommand(split[1]);
+
+        case COMMAND_IMPORT_MODULE_WORD:
+            if (isEmptyParam(split)) {
+                throw new IllegalCommandException();
+            }
+            return new ImportModuleCommand(split[1], moduleData.get());
+
         default:
             throw new IllegalCommandException();
         }
@@ -236,6 +349,9 @@ public class Parser {
             return new DeadlineHelpCommand();
         case "event":
             return new EventHelpCommand();
+        case "rdeadline":
+        case "revent":
+            return new RecurringHelpCommand();
         case "mark":
             return new MarkHelpCommand();
         case "unmark":
@@ -244,6 +360,8 @@ public class Parser {
             return new DeleteHelpCommand();
         case "find":
             return new FindHelpCommand();
+        case "archive":
+            return new ArchiveHelpCommand();
         case "date":
             return new DateHelpCommand();
         case "listmod":
@@ -260,11 +378,78 @@ public class Parser {
             return new ShowModHelpCommand();
         case "addmod":
             return new AddModHelpCommand();
+        case "plan":
+            return new PlanHelpCommand();
+        case "free":
+            return new FreeHelpCommand();
+        case "meet":
+            return new MeetHelpCommand();
+        case "export":
+            return new ExportHelpCommand();
+        case "import":
+            return new ImportHelpCommand();
+        case "importmod":
+            return new ImportModuleHelpCommand();
         default:
             throw new IllegalArgumentException(param);
         }
     }
 
+    /**
+     * Returns a command that finds tasks containing a keyword, which also searches the archive
+     * if the keyword follows {@code --all}.
+     *
+     * @param param User input containing the keyword.
+     * @return FindCommand with the keyword.
+     * @throws EmptyKeywordException If there is no keyword after {@code --all}.
+     */
+    private static FindCommand parseFind(String param) throws EmptyKeywordException {
+        String[] flagAndKeyword = param.trim().split("\\s+", 2);
+        if (!flagAndKeyword[0].equals(FLAG_FIND_ALL)) {
+            return new FindCommand(param);
+        }
+        if (flagAndKeyword.length == 1 || flagAndKeyword[1].isBlank()) {
+            throw new EmptyKeywordException();
+        }
+        return new FindCommand(flagAndKeyword[1].trim(), true);
+    }
+
+    /**
+     * Returns a command that modifies every task matching the filters given, such as {@code --done --before DATE}.
+     *
+     * @param command Type of modification command (mark, unmark, delete).
+     * @param param   User input containing the filters.
+     * @return ModifyCommand that chooses the tasks matching every filter.
+     * @throws IllegalCommandException If a filter is not recognised.
+     * @throws InvalidDateTime If the date of {@code --before} is missing, or not in the format {@code dd-MM-yyyy}.
+     */
+    private static ModifyCommand parseModifyFilters(String command, String param)
+            throws IllegalCommandException, InvalidDateTime {
+        String[] words = param.trim().split("\\s+");
+        boolean isDoneOnly = false;
+        LocalDate before = null;
+        for (int i = 0; i < words.length; i++) {
+            switch (words[i]) {
+            case FILTER_DONE:
+                isDoneOnly = true;
+                break;
+            case FILTER_BEFORE:
+                if (i + 1 == words.length) {
+                    throw new InvalidDateTime();
+                }
+                try {
+                    before = LocalDate.parse(words[++i], DateTimeFormatter.ofPattern("dd-MM-yyyy"));
+                } catch (DateTimeParseException e) {
+                    throw new InvalidDateTime();
+                }
+                break;
+            default:
+                throw new IllegalCommandException();
+            }
+        }
+        return new ModifyCommand(command, isDoneOnly, before);
+    }
+
     /**
      * Separates a Deadline's input data into its description, and due date.
      *
@@ -283,6 +468,18 @@ public class Parser {
         return split;
     }
 
+    /**
+     * Separates a recurring task's input data into the data of its first occurrence,
+     * and the last date it repeats until.
+     *
+     * @param param User input data describing the recurring task.
+     * @return Parsed user input split into the data of the first occurrence, and the last date or {@code null}.
+     */
+    public static String[] parseRecurrence(String param) {
+        String[] split = param.trim().split("\\s-until\\s", 2);
+        return new String[]{split[0].trim(), (split.length == 2) ? split[1].trim() : null};
+    }
+
     /**
      * Separates an Event's input data into its description, start date, and end date.
      *
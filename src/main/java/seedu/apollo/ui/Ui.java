@@ -1,7 +1,13 @@
 package seedu.apollo.ui;
 
 import seedu.apollo.calendar.Calendar;
+import seedu.apollo.calendar.FreeTimeFinder;
+import seedu.apollo.calendar.Semester;
+import seedu.apollo.calendar.SemesterUtils;
+import seedu.apollo.calendar.TimetablePlan;
+import seedu.apollo.calendar.TimetablePlan.PlannedClass;
 import seedu.apollo.exception.task.DateOverException;
+import seedu.apollo.metrics.LatencyHistogram;
 import seedu.apollo.module.CalendarModule;
 import seedu.apollo.module.LessonType;
 import seedu.apollo.module.Module;
@@ -11,14 +17,23 @@ import seedu.apollo.task.Task;
 import seedu.apollo.task.TaskList;
 import seedu.apollo.utils.LessonTypeUtil;
 
+import java.io.PrintStream;
+import java.time.Duration;
+import java.nio.file.Path;
 import java.rmi.UnexpectedException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.stream.Collectors;
 
+import static seedu.apollo.calendar.SemesterUtils.getSemester;
 import static seedu.apollo.calendar.SemesterUtils.getWeekNumber;
 import static seedu.apollo.utils.DayTypeUtil.determineDay;
 
@@ -40,6 +55,25 @@ public class Ui {
             "Your personal task and timetable manager!\n" +
             "Enter \"help\" to see a list of commands.";
 
+    // Stream that all output messages are printed to
+    private final PrintStream out;
+
+    /**
+     * Initialises the Ui to print to the console.
+     */
+    public Ui() {
+        this(System.out);
+    }
+
+    /**
+     * Initialises the Ui to print to the given stream, e.g. a client connected to the daemon.
+     *
+     * @param out Stream that all output messages are printed to.
+     */
+    public Ui(PrintStream out) {
+        this.out = out;
+    }
+
     /**
      * Get user input from CLI.
      *
@@ -53,21 +87,21 @@ public class Ui {
      * Prints out a line divider.
      */
     public void showLine() {
-        System.out.println(LONG_LINE_BREAK);
+        out.println(LONG_LINE_BREAK);
     }
 
     /**
      * Prints out a shorter line divider.
      */
     public void showSmallLine() {
-        System.out.println(SHORT_LINE_BREAK);
+        out.println(SHORT_LINE_BREAK);
     }
 
     /**
      * Prints out the Welcome Message without line dividers.
      */
     private void printApolloLogo() {
-        System.out.println(HELLO_MESSAGE);
+        out.println(HELLO_MESSAGE);
     }
 
     /**
@@ -98,7 +132,7 @@ public class Ui {
      * Prints out a summary of help menu.
      */
     private void printHelpCommandOptions(){
-        System.out.println("The help menu gives a summary of all the commands available in Apollo!\n" +
+        out.println("The help menu gives a summary of all the commands available in Apollo!\n" +
                 "Input `help` to see all available commands."+
                 "Input \"help [COMMAND]\" for usage help and more information for a specific command.\n");
     }
@@ -108,7 +142,7 @@ public class Ui {
      * Prints out the format of help and help [COMMAND] commands.
      */
     public void printHelpCommandHelpMessage(){
-        System.out.println("The help menu gives a summary of all the commands available in Apollo!\n" +
+        out.println("The help menu gives a summary of all the commands available in Apollo!\n" +
                 "Format: help\n" +
                 "For specific command help:\n"+
                 "Format: help [COMMAND]\n" + "Example: help showmod");
@@ -118,22 +152,30 @@ public class Ui {
      * Prints out a summary of all available task commands.
      */
     private void printTaskCommands(){
-        System.out.print("These are the available Task Commands and their corresponding commands (in brackets):\n\n" +
+        out.print("These are the available Task Commands and their corresponding commands (in brackets):\n\n" +
                 "1. `list` - Track and organises your tasklist!\n" +
+                "   (`list [#TAG] [--done | --undone] [--type TYPE]` lists only matching tasks, " +
+                "and `list --all` adds tasks that are over.)\n" +
                 "2. `todo [TASK]` - Adds a ToDo in your tasklist.\n" +
                 "3. `deadline [TASK] -[BY]` - Adds a Deadline in your tasklist.\n" +
                 "4. `event [TASK] -[FROM] -[TO]` - Adds an Event in your tasklist.\n" +
                 "5. `mark [IDX]` - Marks a task in your tasklist as done!\n" +
                 "6. `unmark [IDX]` - Unmarks a task in your tasklist as incomplete.\n" +
                 "7. `delete [IDX]` - Deletes a task from your list.\n" +
+                "   (`mark`, `unmark` and `delete` also take ranges like `1,4,9-12`, " +
+                "or `--done` and `--before [DATE]`.)\n" +
                 "8. `find [KEYWORD]` - Shows all tasks that contain a specified keyword.\n" +
-                "9. `date [DATE]` - Shows all tasks that occur on the specified date.\n\n");
+                "   (`find --all [KEYWORD]` searches archived tasks as well.)\n" +
+                "9. `date [DATE]` - Shows all tasks that occur on the specified date.\n" +
+                "10. `rdeadline [TASK] -[BY] -[UNTIL]` - Adds a Deadline that is due every week.\n" +
+                "11. `revent [TASK] -[FROM] -[TO] -[UNTIL]` - Adds an Event that takes place every week.\n" +
+                "12. `archive [KEYWORD]` - Shows tasks that were archived after being done for a while.\n\n");
     }
     /**
      * Prints out a summary of all available module commands.
      */
     private void printModuleCommands(){
-        System.out.print("These are the available Module Commands and their corresponding commands (in brackets):\n\n" +
+        out.print("These are the available Module Commands and their corresponding commands (in brackets):\n\n" +
                 "1. `listmod` - Track and organise your academic plan for this semester!\n" +
                 "2. `listmod [MODULE_CODE]` - See more information about the classes you've added " +
                 "for a module in your list.\n"+
@@ -151,16 +193,25 @@ public class Ui {
                 "8. `Remove a module (delmod [MODULE_CODE or IDX]` - Removes a Module you previously added by code " +
                 "or index in module list.\n" +
                 "9. `delmod [MODULE_CODE] -[FLAG] [LESSON NUMBER]` " +
-                "- Removes a lesson of a specified module from your timetable. \n\n");
+                "- Removes a lesson of a specified module from your timetable. \n" +
+                "10. `plan [MODULE_CODE] [MODULE_CODE]...` - Suggests the best clash-free classes to take " +
+                "for the specified modules.\n" +
+                "11. `importmod [NUSMODS_LINK]` - Adds every module and class in a NUSMods share link " +
+                "to your timetable.\n\n");
     }
     /**
      * Prints out a summary of all available utility commands.
      */
     private void printUtility() {
-        System.out.print("These are the Utility Commands:\n\n" +
+        out.print("These are the Utility Commands:\n\n" +
                 "1. `week` - Displays your schedule for the week.\n" +
                 "2. `bye` - Exit the program\n" +
                 "3. `help` - Get a summary of all the commands available on Apollo.\n" +
+                "4. `stats` - Shows how long commands have taken to run.\n" +
+                "5. `free [LENGTH]` - Finds when you are free for at least the given length of time this week.\n" +
+                "6. `meet [LENGTH] [DIRECTORY]...` - Finds when everyone in a group is free, from their save files.\n" +
+                "7. `export ics [FILE]` - Saves your lessons and tasks to a file for other calendar apps.\n" +
+                "8. `import ics [FILE]` - Adds every event in a file from another calendar app as a task.\n" +
                 "View help for a specific command by inputting help [COMMAND] \n"
         );
 
@@ -169,7 +220,7 @@ public class Ui {
      * Prints out a note for users to pay attention to.
      */
     private void printNote(){
-        System.out.println("NOTE: "+"showmod, addmod, delmod, listmod are commands with flags included in them. \n" +
+        out.println("NOTE: "+"showmod, addmod, delmod, listmod are commands with flags included in them. \n" +
                 "Whatever in [THE SQUARE BRACKETS] are provided by you." +
                 "For more information on the flags, please input \"help [COMMAND]\" exclusive of the square brackets." +
                 " \n" + "For example, if you want to know more about the addmod command and its flags, input " +
@@ -183,20 +234,72 @@ public class Ui {
      * @param allTasks TaskList of Tasks.
      */
     public void printList(TaskList allTasks) {
+        printList(allTasks, 0);
+    }
+
+    /**
+     * For {@code list} command.
+     * Prints out all Tasks within the TaskList, and counts the Tasks that are over without listing them.
+     *
+     * @param allTasks  TaskList of all Tasks that are not over.
+     * @param pastCount Number of Tasks that are over, which {@code list --all} lists.
+     */
+    public void printList(TaskList allTasks, int pastCount) {
+        if (allTasks.size() == 0 && pastCount == 0) {
+            out.println("There are no tasks in your list!");
+            return;
+        }
+        out.print("You have a total of " + (allTasks.size() + pastCount) + " tasks in your tasklist");
+        out.println((pastCount == 0) ? "."
+                : ", including " + pastCount + " that are over. Use `list --all` to see them as well.");
         if (allTasks.size() == 0) {
-            System.out.println("There are no tasks in your list!");
             return;
         }
-        System.out.println("You have a total of " + allTasks.size() + " tasks in your tasklist.\n"
-                + "Here are the tasks in your list:");
-        int unmarkedTaskSize = 0;
+        out.println("Here are the tasks in your list:");
         for (int i = 0; i < allTasks.size(); i++) {
-            System.out.println(i + 1 + "." + allTasks.get(i));
-            if (!allTasks.get(i).isDone()) {
-                unmarkedTaskSize += 1;
-            }
+            out.println(i + 1 + "." + allTasks.get(i));
+        }
+        out.println("There are " + allTasks.getUndoneCount() + " unmarked tasks in your tasklist.");
+    }
+
+    /**
+     * For {@code list --all} command.
+     * Prints out the Tasks that are over and match the filters, numbered separately as they cannot be modified.
+     *
+     * @param pastTasks TaskList of all Tasks that are over.
+     * @param matching  Indexes of the Tasks matching the filters.
+     */
+    public void printPastList(TaskList pastTasks, BitSet matching) {
+        if (matching.isEmpty()) {
+            out.println("There are no matching tasks that are over.");
+            return;
+        }
+        out.println("Here are the matching tasks that are over:");
+        int count = 0;
+        for (int i = matching.nextSetBit(0); i >= 0; i = matching.nextSetBit(i + 1)) {
+            out.println("P" + (++count) + "." + pastTasks.get(i));
         }
-        System.out.println("There are " + unmarkedTaskSize + " unmarked tasks in your tasklist.");
+    }
+
+    /**
+     * For {@code list} command with filters.
+     * Prints out the Tasks matching the filters, numbered by their index in the whole list.
+     *
+     * @param allTasks TaskList of all Tasks.
+     * @param matching Indexes of the Tasks matching the filters.
+     */
+    public void printFilteredList(TaskList allTasks, BitSet matching) {
+        if (matching.isEmpty()) {
+            out.println("There are no matching tasks in your list!");
+            return;
+        }
+        out.println("Here are the " + matching.cardinality() + " matching tasks in your list:");
+        int unmarkedTaskSize = 0;
+        for (int i = matching.nextSetBit(0); i >= 0; i = matching.nextSetBit(i + 1)) {
+            out.println(i + 1 + "." + allTasks.get(i));
+            unmarkedTaskSize += allTasks.get(i).isDone() ? 0 : 1;
+        }
+        out.println("There are " + unmarkedTaskSize + " unmarked tasks among them.");
     }
 
     /**
@@ -207,18 +310,18 @@ public class Ui {
      */
     public void printWeek(TaskList taskList, Calendar calendar, LocalDate startWeek, LocalDate endWeek) {
         int weekNumber = getWeekNumber(startWeek);
-        System.out.println("Here's your week from " + startWeek + " to " + endWeek + ":");
+        out.println("Here's your week from " + startWeek + " to " + endWeek + ":");
 
         if (weekNumber == 0) {
-            System.out.println("It is currently not AY22/23 Semester 2");
+            out.println("It is currently not " + getSemester().getName());
         } else if (weekNumber == -1) {
-            System.out.println("Recess Week");
+            out.println("Recess Week");
         } else if (weekNumber == 14) {
-            System.out.println("Reading Week");
+            out.println("Reading Week");
         } else if (weekNumber == 15 || weekNumber == 16) {
-            System.out.println("Examination Week");
+            out.println("Examination Week");
         } else {
-            System.out.println("Week " + weekNumber);
+            out.println("Week " + weekNumber);
         }
 
         printEachDayInWeek(taskList, calendar, startWeek, weekNumber);
@@ -227,21 +330,21 @@ public class Ui {
     private void printEachDayInWeek(TaskList taskList, Calendar calendar, LocalDate curr, int weekNumber) {
         for (int i = 0; i < 7; i++) {
             showSmallLine();
-            System.out.println(determineDay(i) + "\n");
+            out.println(determineDay(i) + "\n");
 
             // lessons
             ArrayList<CalendarModule> lessonsOnDay = calendar.getLessonsForDay(weekNumber, i);
             if (lessonsOnDay.size() == 0) {
-                System.out.println("There are no lessons on this day.");
+                out.println("There are no lessons on this day.");
             } else {
                 printLessonsOnDay(lessonsOnDay);
             }
-            System.out.println();
+            out.println();
 
             // tasks
             TaskList tasksOnDay = taskList.getTasksOnDate(curr);
             if (tasksOnDay.size() == 0) {
-                System.out.println("There are no tasks on this day.");
+                out.println("There are no tasks on this day.");
             } else {
                 printTasksOnDay(tasksOnDay);
             }
@@ -251,19 +354,201 @@ public class Ui {
         }
     }
 
+    /**
+     * For {@code free} command.
+     * Prints the times the user is free for at least the requested length.
+     *
+     * @param freeTimes Free times found, in chronological order.
+     * @param minLength The shortest free time that was looked for.
+     * @param from      The first date searched.
+     * @param to        The last date searched.
+     */
+    public void printFreeTimes(List<FreeTimeFinder.Interval> freeTimes, Duration minLength, LocalDate from,
+                               LocalDate to) {
+        String length = formatLength(minLength);
+        if (freeTimes.isEmpty()) {
+            out.println("You are not free for " + length + " between " + from + " and " + to + ".");
+            return;
+        }
+        out.println("Here are the times you are free for at least " + length + " between " + from + " and "
+                + to + ":");
+        printIntervals(freeTimes);
+    }
+
+    /**
+     * For {@code meet} command.
+     * Prints the times every member of a group is free for at least the requested length.
+     *
+     * @param memberCount Number of members whose save files were loaded.
+     * @param freeTimes   Common free times found, in chronological order.
+     * @param minLength   The shortest free time that was looked for.
+     * @param from        The first date searched.
+     * @param to          The last date searched.
+     */
+    public void printCommonFreeTimes(int memberCount, List<FreeTimeFinder.Interval> freeTimes, Duration minLength,
+                                     LocalDate from, LocalDate to) {
+        String length = formatLength(minLength);
+        if (freeTimes.isEmpty()) {
+            out.println("The " + memberCount + " members are never all free for " + length + " between " + from
+                    + " and " + to + ".");
+            return;
+        }
+        out.println("Here are the times all " + memberCount + " members are free for at least " + length
+                + " between " + from + " and " + to + ":");
+        printIntervals(freeTimes);
+    }
+
+    /**
+     * For {@code meet} command.
+     * Prints error message if none of the directories given contain save files.
+     */
+    public void printNoMembersFound() {
+        out.println("Could not find the save files of any members in those directories!\n"
+                + "Each directory should contain " + SemesterUtils.getSemester().getModuleSaveFile()
+                + ", or have one such directory for each member.");
+    }
+
+    /**
+     * For {@code export} command.
+     * Prints how many lessons and tasks were written to the file.
+     *
+     * @param lessonCount Number of lessons exported.
+     * @param taskCount   Number of tasks exported.
+     * @param file        Location of the file written.
+     */
+    public void printExported(int lessonCount, int taskCount, String file) {
+        out.println("Exported " + lessonCount + " lessons and " + taskCount + " tasks to " + file + ".\n"
+                + "ToDos are not exported, as they have no dates.");
+    }
+
+    /**
+     * For {@code import} command.
+     * Prints a summary of the events added from the file, and the reasons any were skipped.
+     *
+     * @param importedCount    Number of events added as tasks.
+     * @param clashCount       Number of added tasks that clash with other tasks or lessons.
+     * @param pastCount        Number of events skipped for being over.
+     * @param unsupportedCount Number of events skipped for repeating other than weekly.
+     * @param duplicateCount   Number of events skipped for already being in the task list.
+     * @param invalidCount     Number of events skipped for having invalid times.
+     * @param file             Location of the file read.
+     */
+    public void printImported(int importedCount, int clashCount, int pastCount, int unsupportedCount,
+                              int duplicateCount, int invalidCount, String file) {
+        out.println("Imported " + importedCount + " tasks from " + file + ".");
+        if (clashCount > 0) {
+            out.println(clashCount + " of them clash with your other tasks or lessons. "
+                    + "Use `week` or `date` to see where.");
+        }
+        if (pastCount > 0) {
+            out.println("Skipped " + pastCount + " events that are already over.");
+        }
+        if (unsupportedCount > 0) {
+            out.println("Skipped " + unsupportedCount + " events that repeat other than once a week.");
+        }
+        if (duplicateCount > 0) {
+            out.println("Skipped " + duplicateCount + " events that are already in your tasklist.");
+        }
+        if (invalidCount > 0) {
+            out.println("Skipped " + invalidCount + " events with invalid times.");
+        }
+    }
+
+    /**
+     * For {@code importmod} command.
+     * Prints a summary of the modules and classes added from a NUSMods share link, and any that were skipped.
+     *
+     * @param moduleCount    Number of modules added to the module list.
+     * @param classCount     Number of classes added to the timetable.
+     * @param clashCount     Number of added classes that clash with other lessons.
+     * @param addedCount     Number of classes skipped for being of a lesson type the module already has.
+     * @param unknownClasses Classes in the link that the modules do not have.
+     * @param moduleList     The module list after the modules were added.
+     */
+    public void printModulesImported(int moduleCount, int classCount, int clashCount, int addedCount,
+                                     List<String> unknownClasses, ModuleList moduleList) {
+        out.println("Imported " + moduleCount + " modules and " + classCount + " classes from NUSMods.");
+        printTotalModularCredits(moduleList);
+        if (clashCount > 0) {
+            out.println(clashCount + " of the classes clash with other lessons in your timetable. "
+                    + "Use `week` to see where.");
+        }
+        if (addedCount > 0) {
+            out.println("Skipped " + addedCount + " classes of lesson types you have already added. "
+                    + "Use `delmod` to remove them first.");
+        }
+        if (!unknownClasses.isEmpty()) {
+            out.println("Skipped these classes, which could not be found: " + String.join(", ", unknownClasses));
+        }
+    }
+
+    private void printIntervals(List<FreeTimeFinder.Interval> intervals) {
+        DateTimeFormatter dayPattern = DateTimeFormatter.ofPattern("EEE dd MMM yyyy, HH:mm", Locale.ENGLISH);
+        DateTimeFormatter timePattern = DateTimeFormatter.ofPattern("HH:mm", Locale.ENGLISH);
+        for (FreeTimeFinder.Interval interval : intervals) {
+            out.println("   " + interval.getStart().format(dayPattern) + " - "
+                    + interval.getEnd().format(timePattern) + " (" + formatLength(interval.getLength()) + ")");
+        }
+    }
+
+    /**
+     * Prints a reminder of a deadline that is due or an event that starts soon, while Apollo is running.
+     *
+     * @param task   The task to be reminded of.
+     * @param before How long until the task is due or starts.
+     * @param time   When this occurrence of the task is due or starts.
+     */
+    public void printReminder(Task task, Duration before, LocalDateTime time) {
+        String when = formatNotice(before) + " (" + time.format(Task.printPattern) + ")";
+        showLine();
+        if (task.getType().contains("deadline")) {
+            out.println("Reminder: this " + task.getType() + " is due in " + when + ":\n  " + task);
+        } else {
+            out.println("Reminder: this " + task.getType() + " starts in " + when + ":\n  " + task);
+        }
+        showLine();
+    }
+
+    /**
+     * Prints a notice that a deadline has become overdue while Apollo is running.
+     *
+     * @param task The deadline that is overdue.
+     * @param time When this occurrence of the deadline was due.
+     */
+    public void printOverdue(Task task, LocalDateTime time) {
+        showLine();
+        out.println("This " + task.getType() + " is now overdue (" + time.format(Task.printPattern) + "):\n  "
+                + task);
+        showLine();
+    }
+
+    private static String formatNotice(Duration before) {
+        if (before.toHoursPart() == 0 && before.toMinutesPart() == 0) {
+            return before.toDays() + ((before.toDays() == 1) ? " day" : " days");
+        }
+        if (before.toMinutesPart() == 0) {
+            return before.toHours() + ((before.toHours() == 1) ? " hour" : " hours");
+        }
+        return formatLength(before);
+    }
+
+    private static String formatLength(Duration length) {
+        return length.toHours() + "h " + length.toMinutesPart() + "m";
+    }
+
     private void printLessonsOnDay(ArrayList<CalendarModule> modulesOnDay) {
-        System.out.println("Lessons:");
+        out.println("Lessons:");
         for (CalendarModule module : modulesOnDay) {
             Timetable schedule = module.getSchedule();
-            System.out.println(schedule.getStartTime() + "-" + schedule.getEndTime() + ": " +
+            out.println(schedule.getStartTime() + "-" + schedule.getEndTime() + ": " +
                     module.getCode() + " " + schedule.getLessonType() + " (" + schedule.getClassNumber() + ")");
         }
     }
 
     private void printTasksOnDay(TaskList tasksOnDay) {
-        System.out.println("Tasks:");
+        out.println("Tasks:");
         for (Task task : tasksOnDay) {
-            System.out.println(" - " + task);
+            out.println(" - " + task);
         }
     }
 
@@ -271,7 +556,7 @@ public class Ui {
      * Prints our a warning message if an event clashes with deadline.
      */
     public void printClashingEventWithDeadlineMessage() {
-        System.out.println("This event clashes with another deadline in your task list.");
+        out.println("This event clashes with another deadline in your task list.");
     }
 
     /**
@@ -284,7 +569,7 @@ public class Ui {
         if (clashTasks.size() == 0 & clashLessons.size() == 0) {
             return;
         }
-        System.out.println("Heads up, your deadline occurs on the same day as these!");
+        out.println("Heads up, your deadline occurs on the same day as these!");
         showSmallLine();
         printClashWithLessons(clashLessons);
         printClashWithTasks(clashTasks);
@@ -294,11 +579,11 @@ public class Ui {
     /**
      * Prints the tasks that clashes with deadline.
      */
-    private static void printClashWithTasks(TaskList clashTasks) {
+    private void printClashWithTasks(TaskList clashTasks) {
         if (clashTasks.size() != 0) {
-            System.out.println("Tasks:");
+            out.println("Tasks:");
             for (Task task : clashTasks) {
-                System.out.println(" - " + task);
+                out.println(" - " + task);
             }
         }
     }
@@ -306,13 +591,13 @@ public class Ui {
     /**
      * Prints the events that clashes with deadline.
      */
-    private static void printClashWithLessons(ArrayList<CalendarModule> clashLessons) {
+    private void printClashWithLessons(ArrayList<CalendarModule> clashLessons) {
         if (clashLessons.size() != 0) {
-            System.out.println("Lessons:");
+            out.println("Lessons:");
             for (CalendarModule module : clashLessons) {
-                System.out.println( " - " + module.getCode() + " " + module.getSchedule());
+                out.println( " - " + module.getCode() + " " + module.getSchedule());
             }
-            System.out.println();
+            out.println();
         }
     }
 
@@ -324,7 +609,7 @@ public class Ui {
      */
     public void printModuleList(ModuleList allModules) {
         if (allModules.size() == 0) {
-            System.out.println("There are no modules in your module list!");
+            out.println("There are no modules in your module list!");
             return;
         }
         printAllModulesInList(allModules);
@@ -336,9 +621,9 @@ public class Ui {
      * @param allModules ArrayList of Modules
      */
     private void printAllModulesInList(ModuleList allModules) {
-        System.out.println("You are taking " + allModules.size() + " module(s) this semester:");
+        out.println("You are taking " + allModules.size() + " module(s) this semester:");
         for (int i = 0; i < allModules.size(); i++) {
-            System.out.printf("%d.%s (%s MCs)%n", i + 1, allModules.get(i).toString(),
+            out.printf("%d.%s (%s MCs)%n", i + 1, allModules.get(i).toString(),
                     allModules.get(i).getModuleCredits());
         }
         printTotalModularCredits(allModules);
@@ -350,7 +635,7 @@ public class Ui {
      * @param newModule Module that has just been added.
      */
     public void printModuleListWithLesson(Module newModule, ArrayList<Timetable> timetableList) {
-        System.out.println("These are your classes for Module " + newModule.getCode() + ": \n");
+        out.println("These are your classes for Module " + newModule.getCode() + ": \n");
         for (Timetable timetable : timetableList) {
             printTimetableInformation(timetable);
         }
@@ -362,8 +647,8 @@ public class Ui {
      *
      * @param timetable Timetable of a module to be printed.
      */
-    private static void printTimetableInformation(Timetable timetable) {
-        System.out.println(timetable.getLessonType() + " " + timetable.getClassNumber() + '\n' +
+    private void printTimetableInformation(Timetable timetable) {
+        out.println(timetable.getLessonType() + " " + timetable.getClassNumber() + '\n' +
                 "   " + timetable.getDay() + " " + timetable.getStartTime() + " - " +
                 timetable.getEndTime() + " " + timetable.compressedWeeks(timetable));
     }
@@ -374,7 +659,7 @@ public class Ui {
      * @param moduleCode The code of the module checked.
      */
     public void printLessonsNotAdded(String moduleCode) {
-        System.out.println("You have not added any lessons or classes to this module: " + moduleCode);
+        out.println("You have not added any lessons or classes to this module: " + moduleCode);
     }
 
     /**
@@ -384,7 +669,7 @@ public class Ui {
      * @param lessonType The lesson type of this module to be checked.
      */
     public void printLessonTypeNotAdded(String moduleCode, LessonType lessonType) {
-        System.out.println("You have not added " + lessonType + " lesson type for this module: " + moduleCode);
+        out.println("You have not added " + lessonType + " lesson type for this module: " + moduleCode);
 
     }
 
@@ -394,21 +679,21 @@ public class Ui {
      * @param moduleCode The code of the module checked.
      */
     public void printLessonNotInList(String moduleCode) {
-        System.out.println("This module " + moduleCode + " is not in your Module List.");
+        out.println("This module " + moduleCode + " is not in your Module List.");
     }
 
     /**
      * Prints out message to inform user that the module does not have this lesson type.
      */
     public void printLessonTypeNotInModule() {
-        System.out.println("This lesson type does not exist in this module!");
+        out.println("This lesson type does not exist in this module!");
     }
 
     /**
      * Prints out message to inform user that user has not added any classes.
      */
     public void printEmptyLessonTypeInModuleList() {
-        System.out.println("You have not any classes to this module.");
+        out.println("You have not any classes to this module.");
     }
 
     /**
@@ -418,7 +703,7 @@ public class Ui {
      * @param lessonType The lesson type of the module to be checked.
      */
     public void printSpecificTimetable(Module module, LessonType lessonType, ArrayList<Timetable> copyList) {
-        System.out.println("Here is your lesson of type: " + lessonType.toString() + " for "
+        out.println("Here is your lesson of type: " + lessonType.toString() + " for "
                 + module.getCode() + ":");
 
         printSpecificLessonInformation(copyList);
@@ -429,10 +714,10 @@ public class Ui {
      *
      * @param copyList Arraylist of timetable of the lesson.
      */
-    private static void printSpecificLessonInformation(ArrayList<Timetable> copyList) {
+    private void printSpecificLessonInformation(ArrayList<Timetable> copyList) {
         for (Timetable timetable : copyList) {
-            System.out.println("Class Number: " + timetable.getClassNumber());
-            System.out.println("   " + timetable.getDay() + " " + timetable.getStartTime() + " - " +
+            out.println("Class Number: " + timetable.getClassNumber());
+            out.println("   " + timetable.getDay() + " " + timetable.getStartTime() + " - " +
                                 timetable.getEndTime() + " " + timetable.compressedWeeks(timetable));
         }
     }
@@ -444,7 +729,7 @@ public class Ui {
      * @param moduleCode The code of the module which was deleted.
      */
     public void printModuleDeleteMessage(String moduleCode, ModuleList moduleList) {
-        System.out.println("Got it, removed " + moduleCode.toUpperCase() + " from your Module list.");
+        out.println("Got it, removed " + moduleCode.toUpperCase() + " from your Module list.");
         printTotalModularCredits(moduleList);
     }
 
@@ -455,7 +740,7 @@ public class Ui {
      * @param moduleCode The code of the module which was not found.
      */
     public void printUnsuccessfulModuleDelete(String moduleCode) {
-        System.out.println("Sorry, the module " + moduleCode + " does not exist in your Module list!");
+        out.println("Sorry, the module " + moduleCode + " does not exist in your Module list!");
     }
 
     /**
@@ -465,7 +750,7 @@ public class Ui {
      * @param newTask Task that has just been added.
      */
     public void printAddMessage(Task newTask) {
-        System.out.println("Got it. I've added this " + newTask.getType() + ":\n" +
+        out.println("Got it. I've added this " + newTask.getType() + ":\n" +
                 "  " + newTask);
     }
 
@@ -476,10 +761,10 @@ public class Ui {
      * @param newModule Module that has just been added.
      */
     public void printAddModuleMessage(Module newModule, ModuleList allModules, ArrayList<LessonType> lessonTypes) {
-        System.out.println("Got it. I've added this module:\n" +
+        out.println("Got it. I've added this module:\n" +
                 "  " + newModule);
         printTotalModularCredits(allModules);
-        System.out.println("Enter \"addmod " + newModule.getCode() + " -[FLAG] [LESSON NUMBER]\" " +
+        out.println("Enter \"addmod " + newModule.getCode() + " -[FLAG] [LESSON NUMBER]\" " +
                 "to add lessons for this module.");
         printLessonTypeMessage(lessonTypes);
     }
@@ -492,10 +777,10 @@ public class Ui {
      */
     public void printShowModuleMessage(Module newModule, ArrayList<LessonType> lessonTypes,
                                        ArrayList<Timetable> timetableList) {
-        System.out.println(newModule.getCode() + '\n' +
+        out.println(newModule.getCode() + '\n' +
                 "Number of MC: " + newModule.getModuleCredits());
         printLessonTypeMessage(lessonTypes);
-        System.out.println();
+        out.println();
         for (Timetable timetable : timetableList) {
             printTimetableInformation(timetable);
         }
@@ -509,7 +794,7 @@ public class Ui {
      */
     public void printTotalModularCredits(ModuleList allModules) {
         int moduleCredits = allModules.getTotalModuleCredits();
-        System.out.println("Total modular credits you have in this semester: " + moduleCredits);
+        out.println("Total modular credits you have in this semester: " + moduleCredits);
     }
 
     /**
@@ -519,7 +804,7 @@ public class Ui {
      * @param doneTask Task that has just been marked as done.
      */
     public void printMarkDone(Task doneTask) {
-        System.out.println("Nice!, I've marked this task as done:\n" +
+        out.println("Nice!, I've marked this task as done:\n" +
                 "  " + doneTask);
     }
 
@@ -530,7 +815,7 @@ public class Ui {
      * @param notDoneTask Task that has just been marked as not done.
      */
     public void printMarkNotDone(Task notDoneTask) {
-        System.out.println("OK, I've marked this task as not done yet:\n" +
+        out.println("OK, I've marked this task as not done yet:\n" +
                 "  " + notDoneTask);
     }
 
@@ -542,11 +827,53 @@ public class Ui {
      * @param size        Number of tasks left in the list after deletion.
      */
     public void printDeleted(Task deletedTask, int size) {
-        System.out.println("Noted, I've removed this task:\n" +
+        out.println("Noted, I've removed this task:\n" +
                 "  " + deletedTask + "\n" +
                 "Now you have " + (size - 1) + " tasks in the list");
     }
 
+    /**
+     * For {@code mark} and {@code unmark} commands on many tasks.
+     * Prints out the tasks that have just been marked as done or not done.
+     *
+     * @param markedTasks    Tasks that have just been marked.
+     * @param unchangedCount Number of chosen tasks that were already marked that way.
+     * @param isDone         Whether the tasks were marked as done.
+     */
+    public void printMarkedTasks(List<Task> markedTasks, int unchangedCount, boolean isDone) {
+        String status = isDone ? "done" : "not done yet";
+        if (markedTasks.isEmpty()) {
+            out.println("No tasks needed to be marked as " + status + ".");
+        } else {
+            out.println("OK, I've marked these " + markedTasks.size() + " tasks as " + status + ":");
+            for (Task task : markedTasks) {
+                out.println("  " + task);
+            }
+        }
+        if (unchangedCount > 0) {
+            out.println(unchangedCount + " of the tasks you chose were already marked as " + status + ".");
+        }
+    }
+
+    /**
+     * For {@code delete} command on many tasks.
+     * Prints out the tasks that have just been deleted.
+     *
+     * @param deletedTasks Tasks that have just been deleted.
+     * @param size         Number of tasks left in the list after deletion.
+     */
+    public void printDeletedTasks(List<Task> deletedTasks, int size) {
+        if (deletedTasks.isEmpty()) {
+            out.println("No tasks matched, so none were removed.");
+            return;
+        }
+        out.println("Noted, I've removed these " + deletedTasks.size() + " tasks:");
+        for (Task task : deletedTasks) {
+            out.println("  " + task);
+        }
+        out.println("Now you have " + size + " tasks in the list");
+    }
+
     /**
      * For {@code find} command.
      * Prints all Tasks within the TaskList given, all containing a certain keyword.
@@ -555,12 +882,32 @@ public class Ui {
      */
     public void printFoundList(ArrayList<Task> foundTasks) {
         if (foundTasks.size() == 0) {
-            System.out.println("There are no matching tasks!");
+            out.println("There are no matching tasks!");
             return;
         }
-        System.out.println("Here are the matching tasks in your list:");
+        out.println("Here are the matching tasks in your list:");
         for (int i = 0; i < foundTasks.size(); i++) {
-            System.out.println(i + 1 + "." + foundTasks.get(i));
+            out.println(i + 1 + "." + foundTasks.get(i));
+        }
+    }
+
+    /**
+     * For {@code archive} and {@code find --all} commands.
+     * Prints the archived Tasks found, numbered separately from the TaskList as they cannot be modified.
+     *
+     * @param archivedTasks Archived Tasks, in the form returned by
+     *                      {@link seedu.apollo.storage.Storage#findArchivedTasks(String)}.
+     * @param keyword       Keyword the archived Tasks were shortlisted for, which may be empty.
+     */
+    public void printArchivedList(List<String> archivedTasks, String keyword) {
+        if (archivedTasks.isEmpty()) {
+            out.println(keyword.isEmpty() ? "There are no archived tasks!" : "There are no matching archived tasks!");
+            return;
+        }
+        out.println(keyword.isEmpty() ? "Here are your archived tasks:"
+                : "Here are the matching archived tasks:");
+        for (int i = 0; i < archivedTasks.size(); i++) {
+            out.println("A" + (i + 1) + "." + archivedTasks.get(i));
         }
     }
 
@@ -574,12 +921,12 @@ public class Ui {
     public void printDateList(TaskList happeningTasks, LocalDate date) {
         String dateString = date.format(DateTimeFormatter.ofPattern("dd MMM yyyy", Locale.ENGLISH));
         if (happeningTasks.size() == 0) {
-            System.out.println("There are no tasks on " + dateString + "!");
+            out.println("There are no tasks on " + dateString + "!");
             return;
         }
-        System.out.println("Here are the tasks happening on " + dateString + ":");
+        out.println("Here are the tasks happening on " + dateString + ":");
         for (int i = 0; i < happeningTasks.size(); i++) {
-            System.out.println(i + 1 + "." + happeningTasks.get(i));
+            out.println(i + 1 + "." + happeningTasks.get(i));
         }
     }
 
@@ -587,7 +934,7 @@ public class Ui {
      * Prints the exit message.
      */
     public void printExitMessage() {
-        System.out.println("Bye. Hope to see you again soon!");
+        out.println("Bye. Hope to see you again soon!");
     }
 
     // error messages
@@ -600,9 +947,9 @@ public class Ui {
     public void printErrorForIdx(int size) {
         boolean isEmptyTaskList = (size == 0);
         if (!isEmptyTaskList) {
-            System.out.println("Please enter [idx] in the form of an integer from 1 to " + size);
+            out.println("Please enter [idx] in the form of an integer from 1 to " + size);
         } else {
-            System.out.println("There are no tasks in your list!");
+            out.println("There are no tasks in your list!");
         }
     }
 
@@ -614,9 +961,9 @@ public class Ui {
     public void printErrorForModIdx(int size) {
         boolean isEmptyModuleList = (size == 0);
         if (!isEmptyModuleList) {
-            System.out.println("Please enter [idx] in the form of an integer from 1 to " + size);
+            out.println("Please enter [idx] in the form of an integer from 1 to " + size);
         } else {
-            System.out.println("There are no modules in your list!");
+            out.println("There are no modules in your list!");
         }
     }
 
@@ -624,21 +971,28 @@ public class Ui {
      * Prints error message if reading or writing to the hard disk throws an IO error.
      */
     public void printErrorForIO() {
-        System.out.println("Something went wrong with the hard disk :(");
+        out.println("Something went wrong with the hard disk :(");
+    }
+
+    /**
+     * Prints error message if a command that opens files named by the user is sent to a server.
+     */
+    public void printLocalFilesNotAllowed() {
+        out.println("This command opens files on your own computer, so it cannot be used on a server.");
     }
 
     /**
      * Prints error message if the deadline entered does not fit the format.
      */
     public void printInvalidDeadline() {
-        System.out.println("Please enter deadline as \"deadline [task] -by [date]\".");
+        out.println("Please enter deadline as \"deadline [task] -by [date]\".");
     }
 
     /**
      * Prints error message if the event entered does not fit the format.
      */
     public void printInvalidEvent() {
-        System.out.println("Please enter event as \"event [task] -from [date] -to [date]\".");
+        out.println("Please enter event as \"event [task] -from [date] -to [date]\".");
     }
 
     /**
@@ -646,7 +1000,7 @@ public class Ui {
      * For new Deadline, Event.
      */
     public void printInvalidDateTime() {
-        System.out.println("Please enter [date]s in the format of dd-MM-yyyy-HH:mm.\n" +
+        out.println("Please enter [date]s in the format of dd-MM-yyyy-HH:mm.\n" +
                 "eg. \"30-10-2023-23:59\" for Oct 30 2023, 11:59PM");
     }
 
@@ -654,7 +1008,7 @@ public class Ui {
      * Prints error message if date cannot exist in calendar
      */
     public void dateNotWithinCalender() {
-        System.out.println("Please enter a valid date");
+        out.println("Please enter a valid date");
     }
 
     /**
@@ -662,17 +1016,17 @@ public class Ui {
      * For Date command.
      */
     public void printInvalidDate() {
-        System.out.println("Please enter date in the format of dd-MM-yyyy.");
+        out.println("Please enter date in the format of dd-MM-yyyy.");
     }
 
     /**
      * Prints error message if the command entered is not understood by Apollo.
      */
     public void printInvalidCommand() {
-        System.out.println("Sorry, but I don't know what that means :(");
+        out.println("Sorry, but I don't know what that means :(");
     }
     public void printInvalidCommandForHelp(IllegalArgumentException exception) {
-        System.out.println("Sorry, but the command \"" + exception.getMessage() + "\" does not exist in Apollo!\n" +
+        out.println("Sorry, but the command \"" + exception.getMessage() + "\" does not exist in Apollo!\n" +
                 "Input `help` to see all available commands.");
     }
 
@@ -684,7 +1038,8 @@ public class Ui {
      */
     public void printInvalidSaveFile(int counter, String filePath) {
         showLine();
-        System.out.println("There is an error in save.txt at line " + counter + "\n" +
+        String fileName = Path.of(filePath).getFileName().toString();
+        out.println("There is an error in " + fileName + " at line " + counter + "\n" +
                 "Task " + counter + " has been excluded. You can view the save file at:" + filePath);
         showLine();
     }
@@ -693,7 +1048,7 @@ public class Ui {
      * Prints error message if there are duplicate modules in the moduleData.txt file
      */
     public void printDuplicateModuleInTextFile(int counter){
-        System.out.println("There is a duplicate module detected in the moduleData.txt at line "
+        out.println("There is a duplicate module detected in the moduleData.txt at line "
                 + (counter + 1) + ".\n" + "Ignoring duplicate modules");
     }
 
@@ -701,28 +1056,28 @@ public class Ui {
      * Prints error message if the user does not specify the description of a task.
      */
     public void printEmptyDescription() {
-        System.out.println("Oops! The description of a task cannot be empty.");
+        out.println("Oops! The description of a task cannot be empty.");
     }
 
     /**
      * Prints error message if the user does not specify the keyword of a search.
      */
     public void printEmptyKeyword() {
-        System.out.println("Please specify a keyword to do the search with!");
+        out.println("Please specify a keyword to do the search with!");
     }
 
     /**
      * Prints error message if the user does not specify the module code for module information.
      */
     public void printEmptyShowModCode() {
-        System.out.println("Please enter a module code!");
+        out.println("Please enter a module code!");
     }
 
     /**
      * Prints error message if the start date of an event occurs after the end date.
      */
     public void printDateOrderException() {
-        System.out.println("Oops, the start date for your event occurs after the end date!");
+        out.println("Oops, the start date for your event occurs after the end date!");
     }
 
     /**
@@ -731,16 +1086,17 @@ public class Ui {
      * @param exception Contains details about the task that was not added successfully.
      */
     public void printDateOverException(DateOverException exception) {
-        System.out.println("Oops, your " + exception + " occurs before today!");
+        out.println("Oops, your " + exception + " occurs before today!");
     }
 
     /**
-     * Prints error message if the task being loaded from hard disk occurs before the current date.
+     * Prints the number of done tasks moved from the save file to the archive on startup.
      *
-     * @param exception Contains details about the task that was not added successfully.
+     * @param archivedCount Number of tasks archived.
      */
-    public void printExistingDateOver(DateOverException exception) {
-        System.out.println("Deleting old " + exception);
+    public void printArchivedOnLoad(int archivedCount) {
+        out.println("Archived " + archivedCount + ((archivedCount == 1) ? " task" : " tasks")
+                + " done a while ago. Use `archive` to see them.");
     }
 
     /**
@@ -749,30 +1105,124 @@ public class Ui {
      * @param unexpectedException Contains detail message saying where unexpected exception occurred.
      */
     public void printUnexpectedException(UnexpectedException unexpectedException) {
-        System.out.println("Oh no... Something went wrong while doing the following: " +
+        out.println("Oh no... Something went wrong while doing the following: " +
                 unexpectedException.getMessage() + "\nExiting Apollo...");
     }
 
+    /**
+     * Prints error message if Apollo is launched with an argument it does not understand.
+     *
+     * @param exception Contains the argument that was not understood.
+     */
+    public void printInvalidLaunchOption(IllegalArgumentException exception) {
+        out.println("Unknown launch option: " + exception.getMessage() + "\n" +
+                "Usage: apollo [--daemon | --client COMMAND | --serve [PORT]]\n" +
+                "              [--stats-file FILE] [--record FILE] [--timing] [--semester CODE]\n" +
+                "              [--archive-after DAYS] [--database]");
+    }
+
+    /**
+     * Prints message when Apollo is launched for a semester it has no module data for.
+     *
+     * @param code      Code of the semester given by the user.
+     * @param semesters Semesters that module data is available for.
+     */
+    public void printUnknownSemester(String code, List<Semester> semesters) {
+        out.println("There is no module data for semester " + code + ". Available semesters:");
+        for (Semester semester : semesters) {
+            out.println("  " + semester);
+        }
+    }
+
+    /**
+     * Prints message once the daemon is ready to accept commands.
+     *
+     * @param socketPath Location of the socket the daemon listens on.
+     */
+    public void printDaemonStarted(String socketPath) {
+        out.println("Apollo daemon is listening on " + socketPath + "\n" +
+                "Send commands with \"apollo --client COMMAND\", and stop it with \"apollo --client bye\".");
+    }
+
+    /**
+     * Prints error message if a daemon is started while another one is listening on the same socket.
+     *
+     * @param socketPath Location of the socket the other daemon listens on.
+     */
+    public void printDaemonAlreadyRunning(String socketPath) {
+        out.println("Another Apollo daemon is already listening on " + socketPath + "\n" +
+                "Stop it first with \"apollo --client bye\".");
+    }
+
+    /**
+     * Prints error message if a command cannot be forwarded to the daemon.
+     */
+    public void printDaemonNotRunning() {
+        out.println("Could not reach the Apollo daemon. Start it first with \"apollo --daemon\".");
+    }
+
+    /**
+     * Prints message once the server is ready to accept commands from users.
+     *
+     * @param port Port the server listens on.
+     */
+    public void printServerStarted(int port) {
+        out.println("Apollo server is listening on port " + port + "\n" +
+                "Send commands with \"POST /users/USER_ID/commands\". Stop it with Ctrl-C.");
+    }
+
     /**
      * Prints error message if the user tries to add a module which does not exist.
      */
     public void printInvalidModule() {
-        System.out.println("This module does not exist, or is not available this semester!\n" +
+        out.println("This module does not exist, or is not available this semester!\n" +
                 "Please refer to official NUS module list for more information.");
     }
 
+    /**
+     * For {@code plan} command.
+     * Prints the best clash-free timetables found for the modules, from best to worst.
+     *
+     * @param modules    Modules that were planned for.
+     * @param plans      The timetables found.
+     * @param isComplete Whether every combination of classes was searched.
+     */
+    public void printPlans(List<Module> modules, List<TimetablePlan> plans, boolean isComplete) {
+        String moduleCodes = modules.stream().map(Module::getCode).collect(Collectors.joining(", "));
+        if (plans.isEmpty()) {
+            out.println((isComplete ? "There are no clash-free timetables for " : "Could not find a clash-free "
+                    + "timetable in time for ") + moduleCodes + " with the lessons you have added.");
+            return;
+        }
+        out.println("Here are the best clash-free timetables for " + moduleCodes + ":");
+        for (int i = 0; i < plans.size(); i++) {
+            TimetablePlan plan = plans.get(i);
+            out.println("Plan " + (i + 1) + ": " + plan.getDaysOnCampus() + " days on campus, "
+                    + plan.getIdleMinutes() / 60 + "h " + plan.getIdleMinutes() % 60 + "m between lessons");
+            for (PlannedClass plannedClass : plan.getClasses()) {
+                out.println("   " + plannedClass.getModuleCode() + " "
+                        + LessonTypeUtil.enumToString(plannedClass.getLessonType(), true) + " "
+                        + String.join(" or ", plannedClass.getClassNumbers()));
+            }
+        }
+        if (!isComplete) {
+            out.println("Stopped searching early, so there may be better timetables.");
+        }
+        out.println("Enter \"addmod [MODULE_CODE] -[FLAG] [LESSON NUMBER]\" to add the lessons of a plan.");
+    }
+
     /**
      * Prints error message if the user does not specify the module to add.
      */
     public void printEmptyAddMod() {
-        System.out.println("Please specify a module to add!");
+        out.println("Please specify a module to add!");
     }
 
     /**
      * Prints error message if the user does not specify the module to delete.
      */
     public void printEmptyDelMod() {
-        System.out.println("Please specify a module to delete!");
+        out.println("Please specify a module to delete!");
     }
 
     /**
@@ -781,8 +1231,8 @@ public class Ui {
      * @param module The module being added.
      */
     public void printDuplicateModule(Module module) {
-        System.out.println("Module already added in Module List!");
-        System.out.println("Enter \"addmod " + module.getCode() + " -[FLAG] [LESSON NUMBER]\" " +
+        out.println("Module already added in Module List!");
+        out.println("Enter \"addmod " + module.getCode() + " -[FLAG] [LESSON NUMBER]\" " +
                 "to add lessons for this module.");
     }
 
@@ -793,14 +1243,14 @@ public class Ui {
      */
     public void printLessonTypeMessage(ArrayList<LessonType> lessonTypes) {
         if (lessonTypes.size() == 0) {
-            System.out.println("This module has no lessons.");
+            out.println("This module has no lessons.");
             return;
         }
-        System.out.println("Here are the lesson types for this module:");
+        out.println("Here are the lesson types for this module:");
         lessonTypes.sort(Comparator.comparing(Enum::toString));
 
         for (LessonType lessonType : lessonTypes) {
-            System.out.println(LessonTypeUtil.enumToString(lessonType, true));
+            out.println(LessonTypeUtil.enumToString(lessonType, true));
         }
     }
 
@@ -812,29 +1262,29 @@ public class Ui {
      * @param classNumber Class number of the lesson being added.
      */
     public void printClassAddedMessage(String moduleCode, LessonType lessonType, String classNumber) {
-        System.out.println("Adding lesson type: " + lessonType + " for Module: " + moduleCode);
-        System.out.println("Class Number: " + classNumber);
+        out.println("Adding lesson type: " + lessonType + " for Module: " + moduleCode);
+        out.println("Class Number: " + classNumber);
     }
 
     /**
      * Prints message when lesson is Invalid.
      */
     public void printInvalidLessonType() {
-        System.out.println("This lesson type does not exist!");
+        out.println("This lesson type does not exist!");
     }
 
     /**
      * Prints message when lesson has already been added to the timetable.
      */
     public void printLessonExists() {
-        System.out.println("This lesson type already exists for this lesson!");
+        out.println("This lesson type already exists for this lesson!");
     }
 
     /**
      * Prints message when lesson has not been added to the timetable.
      */
     public void printClassNotAdded() {
-        System.out.println("This class has not been added to your timetable!");
+        out.println("This class has not been added to your timetable!");
     }
 
     /**
@@ -845,15 +1295,15 @@ public class Ui {
      * @param lessonNumber Class number of the lesson being deleted.
      */
     public void printModuleLessonDeleteMessage(String moduleCode, LessonType lessonType, String lessonNumber) {
-        System.out.println("Deleting lessons for module: " + moduleCode.toUpperCase());
-        System.out.println("Lessons Deleted: " + lessonType + " - " + lessonNumber);
+        out.println("Deleting lessons for module: " + moduleCode.toUpperCase());
+        out.println("Lessons Deleted: " + lessonType + " - " + lessonNumber);
     }
 
     /**
      * Prints a message when a module does not have that particular lesson type.
      */
     public void printNoLessonType() {
-        System.out.println("This module does not have this lesson type");
+        out.println("This module does not have this lesson type");
     }
 
     /**
@@ -864,7 +1314,7 @@ public class Ui {
      * @param copyList The list of lessons of that lesson type for that module.
      */
     public void printModuleLessonTimetable(Module module, LessonType lessonType, ArrayList<Timetable> copyList) {
-        System.out.println("Here are all available lessons of type: " + lessonType.toString() + " for "
+        out.println("Here are all available lessons of type: " + lessonType.toString() + " for "
                 + module.getCode() + ":");
 
         printSpecificLessonInformation(copyList);
@@ -874,42 +1324,42 @@ public class Ui {
      * Prints message when the user tries to add a lesson that clashes with another lesson in the timetable.
      */
     public void printClashingLesson() {
-        System.out.println("This lesson clashes with another lesson in your timetable!");
+        out.println("This lesson clashes with another lesson in your timetable!");
     }
 
     /**
      * Prints message when the user tries to add an event that clashes with another event.
      */
     public void printClashingEventMessage() {
-        System.out.println("This event clashes with another event in your timetable!");
+        out.println("This event clashes with another event in your timetable!");
     }
 
     /**
      * Prints message when the user tries to add an event that clases with a lesson in the timetable.
      */
     public void printClashingEventModuleMessage() {
-        System.out.println("This event clashes with a lesson in your timetable!");
+        out.println("This event clashes with a lesson in your timetable!");
     }
 
     /**
      * Prints a message when user tries to mark an already done task as done again.
      */
     public void printTaskHasBeenMarkedPreviously() {
-        System.out.println("You have already marked this task as done previously.");
+        out.println("You have already marked this task as done previously.");
     }
 
     /**
      * Prints a message when user tries to mark an already incomplete task as not done again.
      */
     public void printTaskHasBeenUnmarkedPreviously(){
-        System.out.println("This task was never marked as done!");
+        out.println("This task was never marked as done!");
     }
 
     /**
      * Prints a message to suggest user to use a deadline task instead of todo task.
      */
     public void deadlineSuggestion(){
-        System.out.println("This todo seems to suggest that this is a deadline type task.\n" +"You could consider " +
+        out.println("This todo seems to suggest that this is a deadline type task.\n" +"You could consider " +
                 "using the deadline command instead.\n");
     }
 
@@ -918,7 +1368,7 @@ public class Ui {
      * Prints a help message for date command.
      */
     public void printDateHelpMessage() {
-        System.out.println("Shows all tasks in Apollo that occur on the specified date.\n" +
+        out.println("Shows all tasks in Apollo that occur on the specified date.\n" +
                 "\n" +
                 "Format: date DATE\n" +
                 "\n" +
@@ -928,72 +1378,121 @@ public class Ui {
      * Prints a help message for find command.
      */
     public void printFindHelpMessage() {
-        System.out.println("Shows all tasks in Apollo that contain the specified keyword.\n" +
+        out.println("Shows all tasks in Apollo that contain the specified keyword.\n" +
+                "\n" +
+                "Format: find KEYWORD\n" +
+                "\n" +
+                "To search archived tasks as well: find --all KEYWORD");
+    }
+
+    /**
+     * Prints a help message for archive command.
+     */
+    public void printArchiveHelpMessage() {
+        out.println("Shows tasks that were done a while ago, which are moved to an archive when Apollo starts.\n" +
+                "Tasks are archived 30 days after they are done, unless Apollo is launched with " +
+                "`--archive-after DAYS`.\n" +
                 "\n" +
-                "Format: find KEYWORD");
+                "Format: archive [KEYWORD]\n" +
+                "Example: archive report");
     }
     /**
      * Prints a help message for delete command.
      */
     public void printDeleteHelpMessage() {
-        System.out.println("Deletes the specified task from Apollo.\n" +
+        out.println("Deletes the specified task from Apollo.\n" +
                 "\n" +
                 "Format: `delete IDX`\n" +
                 "\n" +
                 "Note: `IDX` can be obtained by using `list` to find the task's index.\n");
+        printBatchHelpMessage("delete");
     }
     /**
      * Prints a help message for unmark command.
      */
     public void printUnmarkHelpMessage() {
-        System.out.println("Marks the specified task as not completed. \n" +
+        out.println("Marks the specified task as not completed. \n" +
                 "\n" +
                 "Format: unmark IDX\n" +
                 "\n" +
                 "Note: `IDX` can be obtained by using `list` to find the task's index.");
+        printBatchHelpMessage("unmark");
     }
     /**
      * Prints a help message for mark command.
      */
     public void printMarkHelpMessage() {
-        System.out.println("Marks the specified task as completed.\n" +
+        out.println("Marks the specified task as completed.\n" +
                 "\n" +
                 "Format: mark IDX\n" +
                 "\n" +
                 "Note: `IDX` can be obtained by using `list` to find the task's index.");
+        printBatchHelpMessage("mark");
+    }
+
+    /**
+     * Prints a help message for the forms of mark, unmark and delete commands that modify many tasks at once.
+     *
+     * @param command The command word.
+     */
+    private void printBatchHelpMessage(String command) {
+        out.println("\nTo do this for many tasks at once, give their indexes and ranges of indexes, "
+                + "or filters that choose them.\n"
+                + "Format: " + command + " IDX,IDX-IDX...\n"
+                + "Format: " + command + " [--done] [--before dd-MM-yyyy]\n"
+                + "Example: " + command + " 1,4,9-12\n"
+                + "Example: " + command + " --done --before 01-03-2023\n"
+                + "Note: `--before` chooses tasks that are over by the start of the date. ToDos are never chosen.");
     }
     /**
      * Prints a help message for event command.
      */
     public void printEventHelpMessage() {
-        System.out.println("Adds a task with a start and end date to Apollo.\n" +
+        out.println("Adds a task with a start and end date to Apollo.\n" +
                 "If there is an event in the tasklist that is clashing with any event added previously " +
                 "a warning message will be printed. \n" +
                 "However, you will still be able to add it.\n\n" +
                 "Format: event TASK -from DATE -to DATE\n" +
                 "Note: DATE must be entered in the format dd-MM-yyyy-hh:mm.");
     }
+    /**
+     * Prints a help message for rdeadline and revent commands.
+     */
+    public void printRecurringHelpMessage() {
+        out.println("Adds a deadline or event that repeats at the same time every week, up to a last date.\n" +
+                "Without a last date, it repeats until the end of the semester.\n" +
+                "Warnings are printed if any week's occurrence clashes with your other tasks or lessons.\n\n" +
+                "Format: rdeadline TASK -by DATE [-until LAST_DATE]\n" +
+                "        revent TASK -from DATE -to DATE [-until LAST_DATE]\n" +
+                "Note: DATE must be entered in the format dd-MM-yyyy-hh:mm, and LAST_DATE in dd-MM-yyyy.");
+    }
     /**
      * Prints a help message for list command.
      */
     public void printListHelpCommand() {
-        System.out.println("Shows a numbered list of all tasks (Todos, Events, Deadlines) in Apollo. " +
+        out.println("Shows a numbered list of all tasks (Todos, Events, Deadlines) in Apollo. " +
                 "`list` automatically sorts the tasks by type, \n" +
                 "then date within each type.\n" +
                 "Format: list");
+        out.println("\nTo list only some tasks, give the tags they must have, their status or their type.\n" +
+                "Tags are words in a task's description that start with #, such as #CS2113.\n" +
+                "Format: list [#TAG]... [--done | --undone] [--type todo|deadline|event|rdeadline|revent]\n" +
+                "Example: list #CS2113 --undone --type deadline");
+        out.println("\nTasks that are over are kept, but only counted. To list them as well, add --all.\n" +
+                "Example: list --all --type event");
     }
     /**
      * Prints a help message for todo command.
      */
     public void printTodoHelpMessage() {
-        System.out.println("Adds a normal task to Apollo.\nFormat: todo TASK");
+        out.println("Adds a normal task to Apollo.\nFormat: todo TASK");
     }
 
     /**
      * Prints a help message for deadline command.
      */
     public void printDeadlineHelpMessage() {
-        System.out.println("Adds a task with a due date to Apollo \n" + "Format: deadline TASK -by DATE\n" +
+        out.println("Adds a task with a due date to Apollo \n" + "Format: deadline TASK -by DATE\n" +
                 "Note: DATE must be entered in the format dd-MM-yyyy-HH:mm.\n"+
                 "If deadline clashes with any event or lesson type you will be alerted through a warning message. \n" +
                 "However, you will still be able to add it into the tasklist.");
@@ -1004,7 +1503,7 @@ public class Ui {
      * Prints a help message for listmod command.
      */
     public void printListModuleWithoutFlagsHelpMessage(){
-        System.out.println("Shows the list of modules you are taking for this semester, " +
+        out.println("Shows the list of modules you are taking for this semester, " +
                 "alongside total Modular Credits (MC).\n"+
                 "The list will be automatically sorted in alphabetical order according to EduRec standards.\n" +
                 "Format: listmod\n");
@@ -1015,7 +1514,7 @@ public class Ui {
      * Prints a help message for listmod command that is accompanied by a module code.
      */
     public void printListModuleWithCodeHelpMessage(){
-        System.out.println("To see all class timings for all lesson types that you have added for a module in your " +
+        out.println("To see all class timings for all lesson types that you have added for a module in your " +
                 "list, \n" + "you can append the module code to the listmod command. \n" +
                 "Format: listmod MODULE_CODE\n");
     }
@@ -1025,7 +1524,7 @@ public class Ui {
      * Prints a help message for listmod command that is accompanied by a module code and flags.
      */
     public void printListModuleWithFlagHelpMessage(){
-        System.out.println("To see all class timings for a specific lesson type that you have added " +
+        out.println("To see all class timings for a specific lesson type that you have added " +
                 "for a module in your list, \n" +
                 "you can append the module code and the lesson type flag to the listmod command. \n" +
                 "Format: listmod MODULE_CODE -FLAG\n" + "Example: listmod CS1010 -st\n\n" +
@@ -1050,7 +1549,7 @@ public class Ui {
      * Prints the overall help message for bye command.
      */
     public void printExitHelpMessage(){
-        System.out.println("Exit Apollo.\n" +
+        out.println("Exit Apollo.\n" +
                 "Format: bye");
     }
     /**
@@ -1058,7 +1557,7 @@ public class Ui {
      * Prints the overall help message for week command.
      */
     public void printWeekHelpMessage(){
-        System.out.println("Shows your timetable for the current week.\n" +
+        out.println("Shows your timetable for the current week.\n" +
                 "Format: week");
     }
 
@@ -1066,7 +1565,7 @@ public class Ui {
      * Prints out a list of all available lesson types and their flags.
      */
     public void printModuleFlagOptions() {
-        System.out.println("There are -FLAGS for the various lessons options per module:\n" +
+        out.println("There are -FLAGS for the various lessons options per module:\n" +
                 "-lec\t\t\t" + "LECTURE\n" +
                 "-plec\t\t\t" + "PACKAGED LECTURE\n" +
                 "-st \t\t\t" + "SECTIONAL TEACHING\n" +
@@ -1085,7 +1584,7 @@ public class Ui {
      * Prints the information on the format for delmod command.
      */
     public void printDelmodOptions() {
-        System.out.println("Removes a module from Apollo. Can be done using either IDX or MODULE_CODE.\n"+
+        out.println("Removes a module from Apollo. Can be done using either IDX or MODULE_CODE.\n"+
                "Deletion by IDX (Note: IDX can be obtained by using listmod to find the module's index):\n"+
                 "Format: delmod IDX\n\n" + "Delete by MODULE_CODE:\n"+"Format: delmod MODULE_CODE\n" );
     }
@@ -1094,7 +1593,7 @@ public class Ui {
      * Prints the information on the format for delmod command for lessons.
      */
     public void printDeleteLessonMessage(){
-        System.out.println("You can delete a module lesson from your timetable.\n" +
+        out.println("You can delete a module lesson from your timetable.\n" +
                 "Format: delmod MODULE_CODE -FLAG LESSON_NUMBER\n" +
                 "Example: delmod CS2113T -lec 1\n"+
                 "NOTE: LESSON_NUMBER must strictly follow that of NUSMods. If it is Lecture 01 and Lecture 1, \n" +
@@ -1115,7 +1614,7 @@ public class Ui {
      * Prints the format for addmod command.
      */
     public void printAddModuleHelp(){
-        System.out.println("Add a module into your module list.\n" +
+        out.println("Add a module into your module list.\n" +
                 "Format: addmod MODULE_CODE\n");
 
     }
@@ -1124,7 +1623,7 @@ public class Ui {
      * Prints the format for addmod command with lessons.
      */
     public void printAddModuleLessonHelp(){
-        System.out.println("You can also add module lessons into your timetable.\n" +
+        out.println("You can also add module lessons into your timetable.\n" +
                 "Format: addmod MODULE_CODE -FLAG LESSON_NUMBER\n" +
                 "Example: addmod CS2113 -lec 1\n"+
                 "NOTE: LESSON_NUMBER must strictly follow that of NUSMods. If it is Lecture 01 and Lecture 1, \n" +
@@ -1146,7 +1645,7 @@ public class Ui {
      * Prints help message for showmod command with module code.
      */
     public void printShowModuleInfoHelpMessage(){
-        System.out.println("Shows the information of a module, including Modular Credits, lesson types, lesson numbers "
+        out.println("Shows the information of a module, including Modular Credits, lesson types, lesson numbers "
                 + "and times.\n" +
                 "Format: showmod MODULE_CODE\n");
 
@@ -1157,7 +1656,7 @@ public class Ui {
      * Prints help message for showmod command with flags.
      */
     public void printShowLessonInfoHelpMessage(){
-        System.out.println("If you would like to view timing information on a specific lesson type of a module, " +
+        out.println("If you would like to view timing information on a specific lesson type of a module, " +
                 "you can use flags.\n"
                 +  "Format: showmod MODULE_CODE -FLAG\n" + "Example: showmod CS1010 -st\n\n" +
                 "NOTE: Different modules have different lesson types.\n" +
@@ -1173,4 +1672,144 @@ public class Ui {
         printModuleFlagOptions();
     }
 
+    /**
+     * For {@code help free} command
+     * Prints help message for free command.
+     */
+    public void printFreeHelpMessage() {
+        out.println("Finds the times you have no lessons or events for at least the given length of time, "
+                + "between " + FreeTimeFinder.DAY_START + " and " + FreeTimeFinder.DAY_END + " each day.\n"
+                + "Without dates, the rest of this week is searched.\n"
+                + "Format: free LENGTH [-from dd-MM-yyyy] [-to dd-MM-yyyy]\n"
+                + "Example: free 2h\n"
+                + "Example: free 1h30m -from 20-02-2023 -to 24-02-2023\n");
+    }
+
+    /**
+     * For {@code help meet} command
+     * Prints help message for meet command.
+     */
+    public void printMeetHelpMessage() {
+        out.println("Finds the times everyone in a group has no lessons or events for at least the given length of "
+                + "time, between " + FreeTimeFinder.DAY_START + " and " + FreeTimeFinder.DAY_END + " each day.\n"
+                + "Each directory should contain the save files of one member, "
+                + "or one directory of save files for each member.\n"
+                + "Without dates, the rest of this week is searched.\n"
+                + "Format: meet LENGTH [-from dd-MM-yyyy] [-to dd-MM-yyyy] DIRECTORY [DIRECTORY]...\n"
+                + "Example: meet 2h group\n");
+    }
+
+    /**
+     * For {@code help export} command
+     * Prints help message for export command.
+     */
+    public void printExportHelpMessage() {
+        out.println("Saves your lessons, deadlines and events to an iCalendar file, which other calendar apps "
+                + "such as Google Calendar and Outlook can import.\n"
+                + "Each lesson is saved once as a weekly event, skipping recess week and any other weeks "
+                + "it does not take place in.\n"
+                + "Format: export ics FILE\n"
+                + "Example: export ics timetable.ics\n");
+    }
+
+    /**
+     * For {@code help import} command
+     * Prints help message for import command.
+     */
+    public void printImportHelpMessage() {
+        out.println("Adds every event in an iCalendar file, such as one exported from Google Calendar or Outlook, "
+                + "to your tasklist.\n"
+                + "Events that take no time, or whose titles start with \"Deadline: \", are added as deadlines.\n"
+                + "Events that repeat weekly are added as recurring events. "
+                + "Events that are over, or that repeat in other ways, are skipped.\n"
+                + "Clashes are counted, rather than shown one by one.\n"
+                + "Format: import ics FILE\n"
+                + "Example: import ics calendar.ics\n");
+    }
+
+    /**
+     * For {@code help importmod} command
+     * Prints help message for importmod command.
+     */
+    public void printImportModuleHelpMessage() {
+        out.println("Adds every module and class in a NUSMods share link to your timetable at once.\n"
+                + "Get the link from \"Share/Sync\" on your NUSMods timetable. "
+                + "It is read without going online, so it must be for the semester Apollo is planning.\n"
+                + "Classes of lesson types you have already added are skipped, and clashes are counted.\n"
+                + "Format: importmod NUSMODS_LINK\n"
+                + "Example: importmod https://nusmods.com/timetable/sem-2/share?CS2113=LEC:1,TUT:03\n");
+    }
+
+    /**
+     * For {@code help plan} command
+     * Prints help message for plan command.
+     */
+    public void printPlanHelpMessage() {
+        out.println("Suggests the best clash-free classes to take for a set of modules, "
+                + "working around the lessons you have added for other modules.\n"
+                + "Timetables with fewer days on campus come first, then those with less time between lessons.\n"
+                + "Format: plan MODULE_CODE [MODULE_CODE]...\n"
+                + "Example: plan CS2113 CS2040C ST2334\n");
+    }
+
+    /**
+     * For {@code stats} command.
+     * Prints the number of times and how long each command and save file access has taken so far.
+     *
+     * @param parseLatency     Latencies of parsing command lines.
+     * @param commandLatencies Latencies of executing each command word.
+     * @param storageLatencies Latencies of each kind of save file access.
+     */
+    public void printStats(LatencyHistogram parseLatency, Map<String, LatencyHistogram> commandLatencies,
+                           Map<String, LatencyHistogram> storageLatencies) {
+        if (commandLatencies.isEmpty()) {
+            out.println("No commands have been run yet.");
+            return;
+        }
+        out.println("Commands run since Apollo was started:");
+        printStatsHeader();
+        printStatsRow("(parsing)", parseLatency);
+        for (Map.Entry<String, LatencyHistogram> entry : commandLatencies.entrySet()) {
+            printStatsRow(entry.getKey(), entry.getValue());
+        }
+        if (!storageLatencies.isEmpty()) {
+            out.println("\nTime spent on save files:");
+            printStatsHeader();
+            for (Map.Entry<String, LatencyHistogram> entry : storageLatencies.entrySet()) {
+                printStatsRow(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Prints how long each phase of startup took.
+     *
+     * @param phaseNanos Wall time of each phase in nanoseconds.
+     */
+    public void printStartupTiming(Map<String, Long> phaseNanos) {
+        out.println("Startup took:");
+        for (Map.Entry<String, Long> phase : phaseNanos.entrySet()) {
+            out.println(String.format("%-16s %10s", phase.getKey(), formatNanos(phase.getValue())));
+        }
+    }
+
+    private void printStatsHeader() {
+        out.println(String.format("%-14s %7s %10s %10s %10s %10s", "", "Count", "p50", "p99", "Max", "Total"));
+    }
+
+    private void printStatsRow(String name, LatencyHistogram latency) {
+        out.println(String.format(Locale.ENGLISH, "%-14s %7d %10s %10s %10s %10s", name, latency.getCount(),
+                formatNanos(latency.getPercentileNanos(50)), formatNanos(latency.getPercentileNanos(99)),
+                formatNanos(latency.getMaxNanos()), formatNanos(latency.getTotalNanos())));
+    }
+
+    private static String formatNanos(long nanos) {
+        if (nanos < 1_000_000) {
+            return String.format(Locale.ENGLISH, "%.1fus", nanos / 1e3);
+        } else if (nanos < 1_000_000_000) {
+            return String.format(Locale.ENGLISH, "%.1fms", nanos / 1e6);
+        }
+        return String.format(Locale.ENGLISH, "%.2fs", nanos / 1e9);
+    }
+
 }
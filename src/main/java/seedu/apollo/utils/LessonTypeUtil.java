@@ -41,6 +41,44 @@ public class LessonTypeUtil {
         }
     }
 
+    /**
+     * Converts the abbreviation NUSMods uses for a lesson type in its share links to a LessonType enum.
+     *
+     * @param abbreviation The abbreviation to be converted, e.g. LEC in {@code CS2113=LEC:1}.
+     * @return The LessonType enum of the abbreviation, or {@code null} if it is not known.
+     */
+    public static LessonType determineShareLinkType(String abbreviation) {
+        switch (abbreviation.toUpperCase()) {
+        case "LEC":
+            return LessonType.LECTURE;
+        case "PLEC":
+            return LessonType.PACKAGED_LECTURE;
+        case "SEC":
+            return LessonType.SECTIONAL_TEACHING;
+        case "DLEC":
+            return LessonType.DESIGN_LECTURE;
+        case "TUT":
+            return LessonType.TUTORIAL;
+        case "PTUT":
+            return LessonType.PACKAGED_TUTORIAL;
+        case "REC":
+            return LessonType.RECITATION;
+        case "LAB":
+            return LessonType.LABORATORY;
+        case "WS":
+            return LessonType.WORKSHOP;
+        case "SEM":
+            return LessonType.SEMINAR_STYLE_MODULE_CLASS;
+        case "MINI":
+        case "MP":
+            return LessonType.MINI_PROJECT;
+        case "TUT2":
+            return LessonType.TUTORIAL_TYPE_2;
+        default:
+            return null;
+        }
+    }
+
     /**
      * Converts a LessonType enum to a string.
      *
@@ -0,0 +1,55 @@
+package seedu.apollo.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+
+/**
+ * Holds the log handlers shared by all loggers set up through {@link LoggerInterface},
+ * so that apollo.log is only opened once no matter how many commands are created.
+ */
+final class LogHandlers {
+
+    private static Handler consoleHandler;
+    private static Handler fileHandler;
+
+    private LogHandlers() {
+    }
+
+    /**
+     * Returns the shared handlers, creating them on first use.
+     *
+     * @return Handlers that log to the console and to apollo.log.
+     * @throws IOException If apollo.log cannot be opened.
+     */
+    static synchronized Handler[] getHandlers() throws IOException {
+        if (consoleHandler == null) {
+            // removes the default console output of the root logger
+            LogManager.getLogManager().reset();
+            consoleHandler = new ConsoleHandler();
+            consoleHandler.setLevel(Level.SEVERE);
+        }
+        if (fileHandler == null) {
+            if (!new File("apollo.log").exists()) {
+                assert (new File("apollo.log").createNewFile()) : "Error creating logger.";
+            }
+            fileHandler = new FileHandler("apollo.log", true);
+            fileHandler.setLevel(Level.FINE);
+        }
+        return new Handler[]{consoleHandler, fileHandler};
+    }
+
+    /**
+     * Returns the shared console handler, used on its own if apollo.log cannot be opened.
+     *
+     * @return Handler that logs to the console.
+     */
+    static synchronized Handler getConsoleHandler() {
+        return consoleHandler;
+    }
+
+}
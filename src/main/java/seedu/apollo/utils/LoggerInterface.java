@@ -1,31 +1,29 @@
 package seedu.apollo.utils;
 
-import java.io.File;
 import java.io.IOException;
-import java.util.logging.ConsoleHandler;
-import java.util.logging.FileHandler;
+import java.util.Arrays;
+import java.util.logging.Handler;
 import java.util.logging.Level;
-import java.util.logging.LogManager;
 import java.util.logging.Logger;
 
 public interface LoggerInterface {
     default void setUpLogger(Logger logger) {
-        LogManager.getLogManager().reset();
         logger.setLevel(Level.WARNING);
-        ConsoleHandler logConsole = new ConsoleHandler();
-        logConsole.setLevel(Level.SEVERE);
-        logger.addHandler(logConsole);
         try {
-            if (!new File("apollo.log").exists()) {
-                assert (new File("apollo.log").createNewFile()) : "Error creating logger.";
+            for (Handler handler : LogHandlers.getHandlers()) {
+                addHandlerOnce(logger, handler);
             }
-
-            FileHandler logFile = new FileHandler("apollo.log", true);
-            logFile.setLevel(Level.FINE);
-            logger.addHandler(logFile);
-
         } catch (IOException e) {
+            addHandlerOnce(logger, LogHandlers.getConsoleHandler());
             logger.log(Level.SEVERE, "Error creating logger.", e);
         }
     }
+
+    private static void addHandlerOnce(Logger logger, Handler handler) {
+        synchronized (logger) {
+            if (!Arrays.asList(logger.getHandlers()).contains(handler)) {
+                logger.addHandler(handler);
+            }
+        }
+    }
 }
@@ -0,0 +1,102 @@
+package seedu.apollo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LaunchOptionsTest {
+
+    @Test
+    void parse_noArguments_expectInteractive() {
+        LaunchOptions options = LaunchOptions.parse(new String[]{});
+        assertFalse(options.isDaemon());
+        assertFalse(options.isClient());
+    }
+
+    @Test
+    void parse_daemon_expectDaemon() {
+        assertTrue(LaunchOptions.parse(new String[]{"--daemon"}).isDaemon());
+    }
+
+    @Test
+    void parse_clientWithCommand_expectJoinedCommand() {
+        LaunchOptions options = LaunchOptions.parse(new String[]{"--client", "todo", "buy", "milk"});
+        assertTrue(options.isClient());
+        assertEquals("todo buy milk", options.getClientCommand());
+    }
+
+    @Test
+    void parse_clientWithoutCommand_expectException() {
+        assertThrows(IllegalArgumentException.class, () -> LaunchOptions.parse(new String[]{"--client"}));
+    }
+
+    @Test
+    void parse_unknownOption_expectException() {
+        assertThrows(IllegalArgumentException.class, () -> LaunchOptions.parse(new String[]{"--foo"}));
+    }
+
+    @Test
+    void parse_serveWithoutPort_expectDefaultPort() {
+        LaunchOptions options = LaunchOptions.parse(new String[]{"--serve"});
+        assertTrue(options.isServer());
+        assertEquals(8080, options.getServerPort());
+    }
+
+    @Test
+    void parse_serveWithPort_expectPort() {
+        assertEquals(9000, LaunchOptions.parse(new String[]{"--serve", "9000"}).getServerPort());
+    }
+
+    @Test
+    void parse_serveWithDaemon_expectException() {
+        assertThrows(IllegalArgumentException.class, () -> LaunchOptions.parse(new String[]{"--serve", "--daemon"}));
+    }
+
+    @Test
+    void parse_statsFile_expectFile() {
+        LaunchOptions options = LaunchOptions.parse(new String[]{"--stats-file", "stats.txt", "--daemon"});
+        assertTrue(options.isDaemon());
+        assertEquals("stats.txt", options.getStatsFile());
+    }
+
+    @Test
+    void parse_statsFileWithoutFile_expectException() {
+        assertThrows(IllegalArgumentException.class, () -> LaunchOptions.parse(new String[]{"--stats-file"}));
+    }
+
+    @Test
+    void parse_record_expectRecordingFile() {
+        LaunchOptions options = LaunchOptions.parse(new String[]{"--record", "apollo.jfr"});
+        assertTrue(options.isRecording());
+        assertEquals("apollo.jfr", options.getRecordingFile());
+    }
+
+    @Test
+    void parse_timing_expectTimingShown() {
+        assertTrue(LaunchOptions.parse(new String[]{"--timing"}).isTimingShown());
+        assertFalse(LaunchOptions.parse(new String[]{}).isTimingShown());
+    }
+
+    @Test
+    void parse_semester_expectCode() {
+        LaunchOptions options = LaunchOptions.parse(new String[]{"--semester", "AY2223S2"});
+        assertTrue(options.hasSemester());
+        assertEquals("AY2223S2", options.getSemesterCode());
+        assertFalse(LaunchOptions.parse(new String[]{}).hasSemester());
+    }
+
+    @Test
+    void parse_semesterWithoutCode_expectException() {
+        assertThrows(IllegalArgumentException.class, () -> LaunchOptions.parse(new String[]{"--semester"}));
+    }
+
+    @Test
+    void parse_database_expectDatabaseUsed() {
+        assertTrue(LaunchOptions.parse(new String[]{"--database", "--timing"}).isUsingDatabase());
+        assertFalse(LaunchOptions.parse(new String[]{}).isUsingDatabase());
+    }
+
+}
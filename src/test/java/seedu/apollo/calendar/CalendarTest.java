@@ -0,0 +1,42 @@
+package seedu.apollo.calendar;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+import seedu.apollo.exception.utils.InvalidSaveFile;
+import seedu.apollo.module.Module;
+import seedu.apollo.module.Timetable;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CalendarTest {
+
+    // Monday 1000 - 1200 in weeks 1 and 7, i.e. 9 Jan 2023 and 27 Feb 2023
+    private static Calendar newCalendar() throws InvalidSaveFile {
+        String json = "{\"classNumber\": \"1\", \"lessonType\": \"Lecture\", \"day\": \"Monday\", "
+                + "\"startTime\": \"1000\", \"endTime\": \"1200\", \"weeks\": [1, 7]}";
+        Calendar calendar = new Calendar();
+        Timetable lecture = new Gson().fromJson(json, Timetable.class);
+        calendar.addLesson(new Module("CS2113", "Software Engineering", "4"), lecture);
+        return calendar;
+    }
+
+    @Test
+    void isClashing_eventDuringLesson_expectTrue() throws InvalidSaveFile {
+        Calendar calendar = newCalendar();
+        assertTrue(calendar.isClashing(LocalDateTime.of(2023, 1, 9, 11, 0), LocalDateTime.of(2023, 1, 9, 13, 0)));
+        assertTrue(calendar.isClashing(LocalDateTime.of(2023, 2, 27, 10, 30), LocalDateTime.of(2023, 2, 27, 11, 0)));
+        assertTrue(calendar.isClashing(LocalDateTime.of(2023, 1, 1, 0, 0), LocalDateTime.of(2023, 5, 1, 0, 0)));
+    }
+
+    @Test
+    void isClashing_eventOutsideLesson_expectFalse() throws InvalidSaveFile {
+        Calendar calendar = newCalendar();
+        assertFalse(calendar.isClashing(LocalDateTime.of(2023, 1, 9, 8, 0), LocalDateTime.of(2023, 1, 9, 10, 0)));
+        assertFalse(calendar.isClashing(LocalDateTime.of(2023, 1, 16, 10, 0), LocalDateTime.of(2023, 1, 16, 12, 0)));
+        assertFalse(calendar.isClashing(LocalDateTime.of(2023, 1, 10, 0, 0), LocalDateTime.of(2023, 2, 26, 0, 0)));
+    }
+
+}
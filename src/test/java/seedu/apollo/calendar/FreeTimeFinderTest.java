@@ -0,0 +1,59 @@
+package seedu.apollo.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FreeTimeFinderTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2023, 2, 13);
+
+    @Test
+    void findFreeTimes_overlappingBusyTimes_expectMergedGaps() {
+        FreeTimeFinder finder = new FreeTimeFinder();
+        finder.addBusy(MONDAY.atTime(10, 0), MONDAY.atTime(12, 0));
+        finder.addBusy(MONDAY.atTime(11, 0), MONDAY.atTime(13, 0));
+        finder.addBusy(MONDAY.atTime(15, 0), MONDAY.atTime(16, 0));
+
+        List<FreeTimeFinder.Interval> freeTimes = finder.findFreeTimes(MONDAY.atStartOfDay(),
+                MONDAY.plusDays(1).atStartOfDay(), Duration.ofHours(2));
+        assertEquals(3, freeTimes.size());
+        assertEquals(MONDAY.atTime(8, 0), freeTimes.get(0).getStart());
+        assertEquals(MONDAY.atTime(10, 0), freeTimes.get(0).getEnd());
+        assertEquals(MONDAY.atTime(13, 0), freeTimes.get(1).getStart());
+        assertEquals(MONDAY.atTime(15, 0), freeTimes.get(1).getEnd());
+        assertEquals(MONDAY.atTime(16, 0), freeTimes.get(2).getStart());
+        assertEquals(MONDAY.atTime(22, 0), freeTimes.get(2).getEnd());
+    }
+
+    @Test
+    void findFreeTimes_gapsTooShort_expectSkipped() {
+        FreeTimeFinder finder = new FreeTimeFinder();
+        finder.addBusy(MONDAY.atTime(9, 0), MONDAY.atTime(21, 0));
+
+        List<FreeTimeFinder.Interval> freeTimes = finder.findFreeTimes(MONDAY.atStartOfDay(),
+                MONDAY.plusDays(1).atStartOfDay(), Duration.ofMinutes(90));
+        assertTrue(freeTimes.isEmpty());
+    }
+
+    @Test
+    void findFreeTimes_eventOverSeveralDays_expectFreeAfterEventEnds() {
+        FreeTimeFinder finder = new FreeTimeFinder();
+        finder.addBusy(MONDAY.atTime(20, 0), MONDAY.plusDays(2).atTime(9, 30));
+
+        LocalDateTime from = MONDAY.atTime(18, 0);
+        List<FreeTimeFinder.Interval> freeTimes = finder.findFreeTimes(from, MONDAY.plusDays(3).atStartOfDay(),
+                Duration.ofHours(1));
+        assertEquals(2, freeTimes.size());
+        assertEquals(from, freeTimes.get(0).getStart());
+        assertEquals(Duration.ofHours(2), freeTimes.get(0).getLength());
+        assertEquals(MONDAY.plusDays(2).atTime(9, 30), freeTimes.get(1).getStart());
+    }
+
+}
@@ -0,0 +1,68 @@
+package seedu.apollo.calendar;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+import seedu.apollo.module.Module;
+import seedu.apollo.module.ModuleList;
+import seedu.apollo.module.Timetable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupAvailabilityTest {
+
+    // Monday of week 2 of AY22/23 Semester 2
+    private static final LocalDate MONDAY = LocalDate.of(2023, 1, 16);
+
+    private static Timetable lesson(String lessonType, String startTime, String endTime) {
+        String json = "{\"classNumber\": \"1\", \"lessonType\": \"" + lessonType + "\", \"day\": \"Monday\", "
+                + "\"startTime\": \"" + startTime + "\", \"endTime\": \"" + endTime + "\", "
+                + "\"weeks\": [1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13]}";
+        return new Gson().fromJson(json, Timetable.class);
+    }
+
+    private static Module module(String code, Timetable lesson) {
+        Module module = new Module(code, code, "4");
+        module.setTimetable(new ArrayList<>(List.of(lesson)));
+        return module;
+    }
+
+    private static Path member(Path group, String name, String moduleLine) throws IOException {
+        Path directory = Files.createDirectories(group.resolve(name));
+        Files.writeString(directory.resolve(SemesterUtils.getSemester().getModuleSaveFile()), moduleLine + "\n");
+        return directory;
+    }
+
+    @Test
+    void findFreeTimes_twoMembers_expectOnlyCommonFreeTimes() throws IOException {
+        ModuleList allModules = new ModuleList();
+        allModules.add(module("CS2113", lesson("Lecture", "1000", "1200")));
+        allModules.add(module("CS2040C", lesson("Tutorial", "1300", "1400")));
+
+        Path group = Files.createTempDirectory("apollo-group");
+        Path first = member(group, "first", "CS2113|Lecture:1|");
+        Path second = member(group, "second", "CS2040C|Tutorial:1|");
+        assertTrue(GroupAvailability.isMemberDirectory(first));
+        assertFalse(GroupAvailability.isMemberDirectory(group));
+
+        GroupAvailability availability = GroupAvailability.load(List.of(first, second), allModules);
+        assertEquals(2, availability.getMemberCount());
+
+        List<FreeTimeFinder.Interval> freeTimes = availability.findFreeTimes(MONDAY.atStartOfDay(),
+                MONDAY.plusDays(1).atStartOfDay(), Duration.ofHours(2));
+        assertEquals(2, freeTimes.size());
+        assertEquals(MONDAY.atTime(8, 0), freeTimes.get(0).getStart());
+        assertEquals(MONDAY.atTime(10, 0), freeTimes.get(0).getEnd());
+        assertEquals(MONDAY.atTime(14, 0), freeTimes.get(1).getStart());
+    }
+
+}
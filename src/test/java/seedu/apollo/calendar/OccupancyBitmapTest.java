@@ -0,0 +1,48 @@
+package seedu.apollo.calendar;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+import seedu.apollo.module.Timetable;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OccupancyBitmapTest {
+
+    private static Timetable lesson(String day, String startTime, String endTime, String weeks) {
+        String json = "{\"classNumber\": \"1\", \"lessonType\": \"Lecture\", \"day\": \"" + day + "\", "
+                + "\"startTime\": \"" + startTime + "\", \"endTime\": \"" + endTime + "\", "
+                + "\"weeks\": [" + weeks + "]}";
+        return new Gson().fromJson(json, Timetable.class);
+    }
+
+    @Test
+    void isOccupied_overlappingLesson_expectTrue() {
+        OccupancyBitmap occupancy = new OccupancyBitmap();
+        occupancy.add(lesson("Monday", "1000", "1200", "1, 2, 3"));
+        assertTrue(occupancy.isOccupied(lesson("Monday", "1130", "1330", "3")));
+        assertTrue(occupancy.isOccupied(lesson("Monday", "1000", "1200", "1")));
+        assertTrue(occupancy.isOccupied(lesson("Monday", "0900", "1300", "2")));
+    }
+
+    @Test
+    void isOccupied_touchingOrOtherWeekOrDay_expectFalse() {
+        OccupancyBitmap occupancy = new OccupancyBitmap();
+        occupancy.add(lesson("Monday", "1000", "1200", "1, 2, 3"));
+        assertFalse(occupancy.isOccupied(lesson("Monday", "1200", "1400", "1")));
+        assertFalse(occupancy.isOccupied(lesson("Monday", "0800", "1000", "1")));
+        assertFalse(occupancy.isOccupied(lesson("Monday", "1000", "1200", "4")));
+        assertFalse(occupancy.isOccupied(lesson("Tuesday", "1000", "1200", "1")));
+    }
+
+    @Test
+    void remove_addedLesson_expectFree() {
+        OccupancyBitmap occupancy = new OccupancyBitmap();
+        Timetable lecture = lesson("Sunday", "2200", "2400", "13");
+        occupancy.add(lecture);
+        assertTrue(occupancy.isOccupied(lesson("Sunday", "2355", "2400", "13")));
+        occupancy.remove(lecture);
+        assertFalse(occupancy.isOccupied(lecture));
+    }
+
+}
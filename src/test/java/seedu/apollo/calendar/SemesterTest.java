@@ -0,0 +1,37 @@
+package seedu.apollo.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SemesterTest {
+
+    // AY23/24 Semester 1, with recess week from 23 Sep to 1 Oct 2023
+    private final Semester semester = new Semester("AY2324S1", "AY23/24 Semester 1",
+            LocalDate.of(2023, 8, 14), LocalDate.of(2023, 9, 24), LocalDate.of(2023, 10, 2),
+            LocalDate.of(2023, 12, 2), "data.json", "moduleData-AY2324S1.txt");
+
+    @Test
+    void getWeekNumber_everyKindOfWeek_expectWeekCode() {
+        assertEquals(0, semester.getWeekNumber(LocalDate.of(2023, 8, 13)));
+        assertEquals(1, semester.getWeekNumber(LocalDate.of(2023, 8, 14)));
+        assertEquals(6, semester.getWeekNumber(LocalDate.of(2023, 9, 24)));
+        assertEquals(-1, semester.getWeekNumber(LocalDate.of(2023, 9, 27)));
+        assertEquals(7, semester.getWeekNumber(LocalDate.of(2023, 10, 2)));
+        assertEquals(14, semester.getWeekNumber(LocalDate.of(2023, 11, 20)));
+        assertEquals(15, semester.getWeekNumber(LocalDate.of(2023, 12, 2)));
+        assertEquals(0, semester.getWeekNumber(LocalDate.of(2023, 12, 3)));
+    }
+
+    @Test
+    void getWeekStart_weeksOfSemester_expectMondays() {
+        assertEquals(LocalDate.of(2023, 8, 14), semester.getWeekStart(1));
+        assertEquals(LocalDate.of(2023, 10, 2), semester.getWeekStart(7));
+        assertEquals(LocalDate.of(2023, 11, 13), semester.getWeekStart(13));
+        assertNull(semester.getWeekStart(17));
+    }
+
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 public class SemesterUtilsTest {
 
@@ -32,4 +33,18 @@ public class SemesterUtilsTest {
                 .getWeekNumber(LocalDate.of(2023, 4, 5)));
     }
 
+    @Test
+    void testGetWeekStart_weeksAroundRecess_expectMondays() {
+        assertEquals(LocalDate.of(2023, 1, 9), SemesterUtils.getWeekStart(1));
+        assertEquals(LocalDate.of(2023, 2, 13), SemesterUtils.getWeekStart(6));
+        assertEquals(LocalDate.of(2023, 2, 27), SemesterUtils.getWeekStart(7));
+        assertEquals(12, SemesterUtils.getWeekNumber(SemesterUtils.getWeekStart(12)));
+    }
+
+    @Test
+    void testGetWeekStart_weekOutsideSemester_expectNull() {
+        assertNull(SemesterUtils.getWeekStart(0));
+        assertNull(SemesterUtils.getWeekStart(30));
+    }
+
 }
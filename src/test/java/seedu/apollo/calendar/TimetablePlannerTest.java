@@ -0,0 +1,99 @@
+package seedu.apollo.calendar;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+import seedu.apollo.calendar.TimetablePlan.PlannedClass;
+import seedu.apollo.module.LessonType;
+import seedu.apollo.module.Module;
+import seedu.apollo.module.Timetable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimetablePlannerTest {
+
+    private static Timetable lesson(String classNumber, String lessonType, String day, String startTime,
+                                    String endTime) {
+        String json = "{\"classNumber\": \"" + classNumber + "\", \"lessonType\": \"" + lessonType + "\", "
+                + "\"day\": \"" + day + "\", \"startTime\": \"" + startTime + "\", \"endTime\": \"" + endTime + "\", "
+                + "\"weeks\": [1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13]}";
+        return new Gson().fromJson(json, Timetable.class);
+    }
+
+    private static Module module(String code, Timetable... lessons) {
+        Module module = new Module(code, code, "4");
+        module.setTimetable(new ArrayList<>(List.of(lessons)));
+        return module;
+    }
+
+    private static final Module CS2113 = module("CS2113",
+            lesson("1", "Lecture", "Friday", "1600", "1800"),
+            lesson("01", "Tutorial", "Wednesday", "0900", "1000"),
+            lesson("02", "Tutorial", "Wednesday", "1000", "1100"),
+            lesson("03", "Tutorial", "Thursday", "1600", "1700"),
+            lesson("04", "Tutorial", "Wednesday", "1000", "1100"));
+
+    private static final Module CS2040C = module("CS2040C",
+            lesson("1", "Lecture", "Monday", "1000", "1200"),
+            lesson("1", "Lecture", "Thursday", "1000", "1100"),
+            lesson("01", "Laboratory", "Friday", "1600", "1800"),
+            lesson("02", "Laboratory", "Tuesday", "1400", "1600"),
+            lesson("05", "Tutorial", "Wednesday", "0900", "1000"));
+
+    private static String getClassNumbers(TimetablePlan plan, String moduleCode, LessonType lessonType) {
+        for (PlannedClass plannedClass : plan.getClasses()) {
+            if (plannedClass.getModuleCode().equals(moduleCode) && plannedClass.getLessonType() == lessonType) {
+                return String.join(",", plannedClass.getClassNumbers());
+            }
+        }
+        return null;
+    }
+
+    @Test
+    void plan_clashingClasses_expectBestClashFreePlanFirst() {
+        TimetablePlanner.Result result = new TimetablePlanner().plan(List.of(CS2113, CS2040C), List.of());
+        assertTrue(result.isComplete());
+        assertEquals(2, result.getPlans().size());
+
+        TimetablePlan best = result.getPlans().get(0);
+        assertEquals(5, best.getDaysOnCampus());
+        assertEquals(0, best.getIdleMinutes());
+        assertEquals(300, result.getPlans().get(1).getIdleMinutes());
+        assertEquals("02,04", getClassNumbers(best, "CS2113", LessonType.TUTORIAL));
+        assertEquals("02", getClassNumbers(best, "CS2040C", LessonType.LABORATORY));
+        assertEquals("03", getClassNumbers(result.getPlans().get(1), "CS2113", LessonType.TUTORIAL));
+    }
+
+    @Test
+    void plan_fixedLessonsClash_expectNoPlans() {
+        List<Timetable> fixedLessons = List.of(lesson("1", "Lecture", "Monday", "1100", "1300"));
+        TimetablePlanner.Result result = new TimetablePlanner().plan(List.of(CS2040C), fixedLessons);
+        assertTrue(result.isComplete());
+        assertTrue(result.getPlans().isEmpty());
+    }
+
+    @Test
+    void plan_fewerDaysOnCampus_expectRankedFirst() {
+        Module module = module("ST2334",
+                lesson("1", "Lecture", "Monday", "1200", "1400"),
+                lesson("1", "Tutorial", "Tuesday", "0800", "0900"),
+                lesson("2", "Tutorial", "Monday", "1500", "1600"));
+        TimetablePlanner.Result result = new TimetablePlanner().plan(List.of(module), List.of());
+        assertEquals(1, result.getPlans().get(0).getDaysOnCampus());
+        assertEquals("2", getClassNumbers(result.getPlans().get(0), "ST2334", LessonType.TUTORIAL));
+        assertEquals(2, result.getPlans().get(1).getDaysOnCampus());
+    }
+
+    @Test
+    void plan_noTimeBudget_expectIncomplete() {
+        TimetablePlanner planner = new TimetablePlanner(ForkJoinPool.commonPool(), Duration.ZERO, 1);
+        assertFalse(planner.plan(List.of(CS2113, CS2040C), List.of()).isComplete());
+    }
+
+}
@@ -0,0 +1,70 @@
+package seedu.apollo.command.module;
+
+import org.junit.jupiter.api.Test;
+import seedu.apollo.calendar.Calendar;
+import seedu.apollo.exception.module.InvalidModule;
+import seedu.apollo.exception.utils.IllegalCommandException;
+import seedu.apollo.module.LessonType;
+import seedu.apollo.module.ModuleList;
+import seedu.apollo.storage.Storage;
+import seedu.apollo.task.TaskList;
+import seedu.apollo.ui.Ui;
+
+import java.io.FileNotFoundException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImportModuleCommandTest {
+
+    Storage storage = new Storage("test.txt", "testModuleData.txt");
+    ModuleList allModules = storage.loadModuleData();
+    ModuleList moduleList = new ModuleList();
+    TaskList taskList = new TaskList();
+    Ui ui = new Ui();
+    Calendar calendar = new Calendar();
+
+    ImportModuleCommandTest() throws FileNotFoundException {
+    }
+
+    @Test
+    void testImportModuleCommand_unknownModule_expectsInvalidModule() {
+        assertThrows(InvalidModule.class, () -> new ImportModuleCommand(
+                "https://nusmods.com/timetable/sem-2/share?XX9999=LEC:1", allModules));
+    }
+
+    @Test
+    void testImportModuleCommand_noModules_expectsIllegalCommandException() {
+        assertThrows(IllegalCommandException.class, () -> new ImportModuleCommand(
+                "https://nusmods.com/timetable/sem-2/share?hidden=", allModules));
+    }
+
+    @Test
+    void testImportModuleCommand_shareLink_expectsAllClassesAdded() throws InvalidModule, IllegalCommandException {
+        new ImportModuleCommand("https://nusmods.com/timetable/sem-2/share?CS2113=LEC:1,TUT:03"
+                + "&CS2040C=LEC:1%2CLAB:01,TUT:99&ST2334=", allModules)
+                .execute(taskList, ui, storage, moduleList, allModules, calendar);
+
+        assertEquals(3, moduleList.size());
+        assertTrue(moduleList.findModule("CS2113").hasLessonType(LessonType.TUTORIAL));
+        assertTrue(moduleList.findModule("CS2040C").hasLessonType(LessonType.LABORATORY));
+        int lessonCount = calendar.stream().mapToInt(day -> day.size()).sum();
+        // CS2040C has two lectures a week, and its tutorial 99 does not exist
+        assertEquals(5, lessonCount);
+    }
+
+    @Test
+    void testImportModuleCommand_addedLessonType_expectsClassSkipped() throws InvalidModule,
+            IllegalCommandException {
+        new AddModuleCommand("cs2113 -tut 01", allModules)
+                .execute(taskList, ui, storage, moduleList, allModules, calendar);
+        new ImportModuleCommand("CS2113=LEC:1,TUT:03", allModules)
+                .execute(taskList, ui, storage, moduleList, allModules, calendar);
+
+        assertEquals(1, moduleList.size());
+        assertEquals(2, moduleList.findModule("CS2113").getModuleTimetable().size());
+        assertEquals("01", moduleList.findModule("CS2113").getLessons(LessonType.TUTORIAL).get(0).getClassNumber());
+    }
+
+}
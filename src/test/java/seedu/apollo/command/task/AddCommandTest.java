@@ -13,9 +13,12 @@ import seedu.apollo.task.TaskList;
 import seedu.apollo.task.ToDo;
 import seedu.apollo.ui.Ui;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
 import java.rmi.UnexpectedException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.apollo.task.Task.printPattern;
@@ -79,6 +82,21 @@ class AddCommandTest {
         assertEquals("01 Jan 2024, 01:00PM", ((Event) result).getTo(printPattern));
     }
 
+    @Test
+    void execute_recurringEventForYears_expectClashWithLaterDeadlineFound()
+            throws InvalidDeadline, InvalidEvent, UnexpectedException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Ui outputUi = new Ui(new PrintStream(output));
+        // the 4th of January 2100 is a Monday, 73 years into the recurring event
+        new AddCommand("deadline", "pay rent -by 04-01-2100-22:30").execute(taskList, ui, storage, moduleList,
+                allModules, calendar);
+        new AddCommand("revent", "gym -from 05-10-2026-22:00 -to 05-10-2026-23:00 -until 31-12-9999")
+                .execute(taskList, outputUi, storage, moduleList, allModules, calendar);
+        assertEquals(2, taskList.size());
+        assertTrue(output.toString().contains("clashes with another deadline"));
+        assertFalse(output.toString().contains("clashes with another event"));
+    }
+
     @Test
     void newAddCommand_invalidEvent_expectException() {
         assertThrows(InvalidEvent.class, () -> new AddCommand("event", "concert"));
@@ -0,0 +1,108 @@
+package seedu.apollo.command.task;
+
+import org.junit.jupiter.api.Test;
+import seedu.apollo.calendar.Calendar;
+import seedu.apollo.exception.task.DateOrderException;
+import seedu.apollo.exception.task.DateOverException;
+import seedu.apollo.exception.utils.IllegalCommandException;
+import seedu.apollo.module.ModuleList;
+import seedu.apollo.storage.Storage;
+import seedu.apollo.task.Deadline;
+import seedu.apollo.task.Event;
+import seedu.apollo.task.RecurringEvent;
+import seedu.apollo.task.Task;
+import seedu.apollo.task.TaskList;
+import seedu.apollo.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImportCommandTest {
+
+    private static final String CALENDAR = String.join("\r\n",
+            "BEGIN:VCALENDAR",
+            "BEGIN:VEVENT",
+            "DTSTART;TZID=Asia/Singapore:20300107T100000",
+            "DTEND;TZID=Asia/Singapore:20300107T120000",
+            "SUMMARY:project -from meeting",
+            "END:VEVENT",
+            "BEGIN:VEVENT",
+            "DTSTART:20300107T030000Z",
+            "DTEND:20300107T050000Z",
+            "SUMMARY:overlapping talk\\, part 1",
+            "BEGIN:VALARM",
+            "TRIGGER:-PT15M",
+            "END:VALARM",
+            "END:VEVENT",
+            "BEGIN:VEVENT",
+            "DTSTART:20300108T235900",
+            "SUMMARY:Deadline: report",
+            "END:VEVENT",
+            "BEGIN:VEVENT",
+            "DTSTART:20300109T090000",
+            "DURATION:PT1H",
+            "RRULE:FREQ=WEEKLY;COUNT=4",
+            "SUMMARY:gym",
+            "END:VEVENT",
+            "BEGIN:VEVENT",
+            "DTSTART:20300109T090000",
+            "RRULE:FREQ=DAILY",
+            "SUMMARY:daily standup",
+            "END:VEVENT",
+            "BEGIN:VEVENT",
+            "DTSTART:20200101T090000",
+            "DTEND:20200101T100000",
+            "SUMMARY:over",
+            "END:VEVENT",
+            "END:VCALENDAR", "");
+
+    @Test
+    void execute_mixedCalendar_expectSupportedEventsAddedAndSavedOnce() throws IOException, IllegalCommandException,
+            DateOrderException, DateOverException {
+        Path directory = Files.createTempDirectory("apollo-import");
+        Path file = Files.writeString(directory.resolve("calendar.ics"), CALENDAR);
+        Storage storage = new Storage(directory.resolve("save.txt").toString(),
+                directory.resolve("moduleData.txt").toString());
+        TaskList taskList = new TaskList();
+        // touches the recurring event without overlapping it
+        taskList.add(new Event("existing", "16-01-2030-10:00", "16-01-2030-11:00"));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Ui ui = new Ui(new PrintStream(output, true, StandardCharsets.UTF_8));
+
+        new ImportCommand("ics " + file).execute(taskList, ui, storage, new ModuleList(), new ModuleList(),
+                new Calendar());
+
+        assertEquals(5, taskList.size());
+        assertEquals("project from meeting", taskList.get(1).getDescription());
+        assertTrue(taskList.get(2) instanceof Event);
+        assertEquals("overlapping talk, part 1", taskList.get(2).getDescription());
+        assertEquals("07-01-2030-11:00", ((Event) taskList.get(2)).getFrom(Task.storePattern));
+        assertTrue(taskList.get(3) instanceof Deadline);
+        assertEquals("report", taskList.get(3).getDescription());
+        assertTrue(taskList.get(4) instanceof RecurringEvent);
+        assertEquals(4, ((RecurringEvent) taskList.get(4)).getRecurrence().getCount());
+        assertEquals(5, new Storage(directory.resolve("save.txt").toString(),
+                directory.resolve("moduleData.txt").toString()).loadTaskList(new Ui()).size());
+
+        String printed = output.toString(StandardCharsets.UTF_8);
+        assertTrue(printed.contains("Imported 4 tasks"));
+        assertTrue(printed.contains("2 of them clash"));
+        assertTrue(printed.contains("Skipped 1 events that are already over."));
+        assertTrue(printed.contains("Skipped 1 events that repeat other than once a week."));
+    }
+
+    @Test
+    void newImportCommand_unknownFormat_expectException() {
+        assertThrows(IllegalCommandException.class, () -> new ImportCommand("csv calendar.csv"));
+        assertThrows(IllegalCommandException.class, () -> new ImportCommand("ics"));
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.apollo.command.task;
 
 import org.junit.jupiter.api.Test;
 import seedu.apollo.calendar.Calendar;
+import seedu.apollo.exception.utils.IllegalCommandException;
 import seedu.apollo.module.ModuleList;
 import seedu.apollo.storage.Storage;
 import seedu.apollo.task.TaskList;
@@ -11,6 +12,7 @@ import seedu.apollo.ui.Ui;
 import java.io.FileNotFoundException;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ListCommandTest {
 
@@ -39,4 +41,18 @@ class ListCommandTest {
 
         assertDoesNotThrow(() -> newCommand.execute(taskList, ui, storage, moduleList, allModules, calendar));
     }
+
+    @Test
+    void testListCommand_filters_expectsNoException() {
+        taskList.add(new ToDo("read notes #CS2113"));
+        assertDoesNotThrow(() -> new ListCommand("#CS2113 --undone --type todo")
+                .execute(taskList, ui, storage, moduleList, allModules, calendar));
+    }
+
+    @Test
+    void testListCommand_invalidFilters_expectsIllegalCommandException() {
+        assertThrows(IllegalCommandException.class, () -> new ListCommand("--done --undone"));
+        assertThrows(IllegalCommandException.class, () -> new ListCommand("--type lesson"));
+        assertThrows(IllegalCommandException.class, () -> new ListCommand("CS2113"));
+    }
 }
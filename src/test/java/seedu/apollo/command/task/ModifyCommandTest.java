@@ -3,17 +3,24 @@ package seedu.apollo.command.task;
 import org.junit.jupiter.api.Test;
 import seedu.apollo.calendar.Calendar;
 
+import seedu.apollo.exception.task.DateOverException;
 import seedu.apollo.module.ModuleList;
 import seedu.apollo.storage.Storage;
+import seedu.apollo.task.Deadline;
 import seedu.apollo.task.TaskList;
 import seedu.apollo.task.ToDo;
 import seedu.apollo.ui.Ui;
 
 import java.io.FileNotFoundException;
+import java.rmi.UnexpectedException;
+import java.time.LocalDate;
 
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ModifyCommandTest {
 
@@ -75,4 +82,57 @@ class ModifyCommandTest {
         ModifyCommand newModifyCommand = new ModifyCommand("mark", "1", taskList.size());
         assertDoesNotThrow(() -> newModifyCommand.execute(taskList, ui, storage, moduleList, allModules, calendar));
     }
+
+    @Test
+    void newModifyCommand_reversedRange_expectException() {
+        for (int i = 0; i < 5; i++) {
+            taskList.add(new ToDo("task " + i));
+        }
+        assertThrows(NumberFormatException.class, () -> new ModifyCommand("delete", "4-2", taskList.size()));
+        assertThrows(NumberFormatException.class, () -> new ModifyCommand("delete", "1,4-6", taskList.size()));
+    }
+
+    @Test
+    void testExecute_markRanges_expectAllMarked() throws UnexpectedException {
+        for (int i = 0; i < 12; i++) {
+            taskList.add(new ToDo("task " + i));
+        }
+        new ModifyCommand("mark", "1, 4,9-12", taskList.size())
+                .execute(taskList, ui, storage, moduleList, allModules, calendar);
+        for (int i = 0; i < 12; i++) {
+            assertEquals(i == 0 || i == 3 || i >= 8, taskList.get(i).isDone());
+        }
+    }
+
+    @Test
+    void testExecute_deleteRanges_expectRemainingOrderKept() throws UnexpectedException {
+        for (int i = 0; i < 12; i++) {
+            taskList.add(new ToDo("task " + i));
+        }
+        new ModifyCommand("delete", "1,4,9-12", taskList.size())
+                .execute(taskList, ui, storage, moduleList, allModules, calendar);
+        assertEquals(6, taskList.size());
+        assertEquals("task 1", taskList.get(0).getDescription());
+        assertEquals("task 7", taskList.get(5).getDescription());
+    }
+
+    @Test
+    void testExecute_deleteDoneBefore_expectOnlyMatchingDeleted() throws UnexpectedException, DateOverException {
+        Deadline early = new Deadline("early", "01-01-2100-10:00");
+        Deadline late = new Deadline("late", "01-02-2100-10:00");
+        ToDo todo = new ToDo("todo");
+        early.setDone(true);
+        late.setDone(true);
+        todo.setDone(true);
+        taskList.add(early);
+        taskList.add(late);
+        taskList.add(todo);
+        taskList.add(new Deadline("not done", "01-01-2100-09:00"));
+
+        new ModifyCommand("delete", true, LocalDate.of(2100, 1, 2))
+                .execute(taskList, ui, storage, moduleList, allModules, calendar);
+        assertEquals(3, taskList.size());
+        assertFalse(taskList.contains(early));
+        assertTrue(taskList.contains(todo));
+    }
 }
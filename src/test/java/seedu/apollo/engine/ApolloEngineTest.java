@@ -0,0 +1,64 @@
+package seedu.apollo.engine;
+
+import org.junit.jupiter.api.Test;
+import seedu.apollo.module.ModuleList;
+import seedu.apollo.storage.Storage;
+import seedu.apollo.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApolloEngineTest {
+
+    private ApolloEngine newEngine() throws IOException {
+        Path directory = Files.createTempDirectory("apollo-engine");
+        Storage storage = new Storage(directory.resolve("save.txt").toString(),
+                directory.resolve("moduleData.txt").toString());
+        Ui silentUi = new Ui(new PrintStream(new ByteArrayOutputStream()));
+        return new ApolloEngine(storage, new ModuleList(), silentUi);
+    }
+
+    @Test
+    void execute_todo_expectOutputAndTask() throws Exception {
+        ApolloEngine engine = newEngine();
+        CommandResult result = engine.execute("todo read book");
+        assertTrue(result.getOutput().contains("read book"));
+        assertFalse(result.isExit());
+        assertEquals(1, engine.getTasks().size());
+        assertEquals(1, engine.findTasks("BOOK").size());
+    }
+
+    @Test
+    void execute_bye_expectExit() throws Exception {
+        assertTrue(newEngine().execute("bye").isExit());
+    }
+
+    @Test
+    void execute_readersAlongsideWriters_expectAllTasksAdded() throws Exception {
+        ApolloEngine engine = newEngine();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<CommandResult>> results = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String command = (i % 4 == 0) ? "todo task " + i : ((i % 2 == 0) ? "list" : "find task");
+            results.add(executor.submit(() -> engine.execute(command)));
+        }
+        for (Future<CommandResult> result : results) {
+            result.get();
+        }
+        executor.shutdown();
+        assertEquals(50, engine.getTasks().size());
+    }
+
+}
@@ -0,0 +1,85 @@
+package seedu.apollo.engine;
+
+import org.junit.jupiter.api.Test;
+import seedu.apollo.storage.Storage;
+import seedu.apollo.task.TaskList;
+import seedu.apollo.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupPipelineTest {
+
+    private final Ui silentUi = new Ui(new PrintStream(new ByteArrayOutputStream()));
+
+    @Test
+    void run_validSaveFile_expectNoRewrite() throws Exception {
+        Path directory = Files.createTempDirectory("apollo-startup");
+        Path saveFile = directory.resolve("save.txt");
+        Files.writeString(saveFile, "T |   | read book\n");
+        Storage storage = new Storage(saveFile.toString(), directory.resolve("moduleData.txt").toString());
+
+        StartupPipeline startup = new StartupPipeline(storage, silentUi);
+        ApolloEngine engine = startup.run();
+
+        assertEquals(1, engine.getTasks().size());
+        assertEquals(0, engine.getModules().size());
+        Map<String, Long> phases = startup.getPhaseNanos();
+        assertTrue(phases.containsKey(StartupPipeline.PHASE_MODULE_DATA));
+        assertTrue(phases.containsKey(StartupPipeline.PHASE_MODULE_LIST));
+        assertTrue(phases.containsKey(StartupPipeline.PHASE_READY));
+        assertFalse(phases.containsKey(StartupPipeline.PHASE_UPDATE_TASK));
+    }
+
+    @Test
+    void run_corruptedSaveFile_expectRewrite() throws Exception {
+        Path directory = Files.createTempDirectory("apollo-startup");
+        Path saveFile = directory.resolve("save.txt");
+        Files.writeString(saveFile, "T |   | read book\nnot a task\n");
+        Storage storage = new Storage(saveFile.toString(), directory.resolve("moduleData.txt").toString());
+
+        StartupPipeline startup = new StartupPipeline(storage, silentUi);
+        startup.run();
+
+        assertTrue(startup.getPhaseNanos().containsKey(StartupPipeline.PHASE_UPDATE_TASK));
+        assertEquals("T |   | read book\n", Files.readString(saveFile));
+    }
+
+    @Test
+    void run_tasksDoneLongAgo_expectArchivedAndRewrite() throws Exception {
+        Path directory = Files.createTempDirectory("apollo-startup");
+        Path saveFile = directory.resolve("save.txt");
+        Files.writeString(saveFile, "T | X 01-01-2000 | read book\nT |   | read notes\n");
+        Storage storage = new Storage(saveFile.toString(), directory.resolve("moduleData.txt").toString());
+
+        StartupPipeline startup = new StartupPipeline(storage, silentUi);
+        ApolloEngine engine = startup.run();
+
+        assertEquals(1, engine.getTasks().size());
+        assertTrue(startup.getPhaseNanos().containsKey(StartupPipeline.PHASE_UPDATE_TASK));
+        assertEquals("T |   | read notes\n", Files.readString(saveFile));
+        assertEquals(1, storage.findArchivedTasks("book").size());
+    }
+
+    @Test
+    void run_taskCommandWhileModulesLoading_expectNoWait() throws Exception {
+        Path directory = Files.createTempDirectory("apollo-startup");
+        Storage storage = new Storage(directory.resolve("save.txt").toString(),
+                directory.resolve("moduleData.txt").toString());
+        CompletableFuture<LoadedModules> neverLoaded = new CompletableFuture<>();
+        ApolloEngine engine = new ApolloEngine(storage, new TaskList(), neverLoaded);
+
+        assertTrue(engine.execute("todo read book").getOutput().contains("read book"));
+        assertTrue(engine.execute("list").getOutput().contains("read book"));
+        assertFalse(neverLoaded.isDone());
+    }
+
+}
@@ -0,0 +1,51 @@
+package seedu.apollo.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import seedu.apollo.engine.ApolloEngine;
+import seedu.apollo.module.ModuleList;
+import seedu.apollo.storage.Storage;
+import seedu.apollo.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandExecutionEventTest {
+
+    @Test
+    void execute_whileRecording_expectCommandAndWriteEvents() throws Exception {
+        Path directory = Files.createTempDirectory("apollo-jfr");
+        Storage storage = new Storage(directory.resolve("save.txt").toString(),
+                directory.resolve("moduleData.txt").toString());
+        ApolloEngine engine = new ApolloEngine(storage, new ModuleList(),
+                new Ui(new PrintStream(new ByteArrayOutputStream())));
+        Path file = directory.resolve("apollo.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(CommandExecutionEvent.class);
+            recording.enable(StorageWriteEvent.class);
+            recording.start();
+            engine.execute("todo read book");
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent command = events.stream()
+                .filter(event -> event.getEventType().getName().equals("seedu.apollo.CommandExecution"))
+                .findFirst().orElseThrow();
+        assertEquals("todo", command.getString("command"));
+        assertEquals(1, command.getInt("taskCount"));
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("seedu.apollo.StorageWrite")
+                && event.getLong("bytesWritten") > 0));
+    }
+
+}
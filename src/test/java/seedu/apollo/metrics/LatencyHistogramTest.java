@@ -0,0 +1,35 @@
+package seedu.apollo.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void getPercentileNanos_noLatencies_expectZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileNanos(99));
+    }
+
+    @Test
+    void getPercentileNanos_skewedLatencies_expectWithinFactorOfTwo() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(1_000);
+        }
+        histogram.record(5_000_000);
+
+        long p50 = histogram.getPercentileNanos(50);
+        assertTrue(p50 >= 1_000 && p50 < 2_000);
+        long p99 = histogram.getPercentileNanos(99);
+        assertTrue(p99 >= 1_000 && p99 < 2_000);
+        assertEquals(5_000_000, histogram.getPercentileNanos(100));
+        assertEquals(5_000_000, histogram.getMaxNanos());
+        assertEquals(100, histogram.getCount());
+        assertEquals(99 * 1_000 + 5_000_000, histogram.getTotalNanos());
+    }
+
+}
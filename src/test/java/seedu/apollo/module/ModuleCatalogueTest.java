@@ -0,0 +1,52 @@
+package seedu.apollo.module;
+
+import org.junit.jupiter.api.Test;
+import seedu.apollo.calendar.Semester;
+import seedu.apollo.storage.Storage;
+
+import java.io.FileNotFoundException;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ModuleCatalogueTest {
+
+    private static final Semester LATER_SEMESTER = new Semester("AY2324S1", "AY23/24 Semester 1",
+            LocalDate.of(2023, 8, 14), LocalDate.of(2023, 9, 24), LocalDate.of(2023, 10, 2),
+            LocalDate.of(2023, 12, 2), "data.json", "moduleData-AY2324S1.txt");
+
+    private static ModuleCatalogue newCatalogue(int maxCachedShards) {
+        return new ModuleCatalogue(List.of(Semester.AY2223_S2, LATER_SEMESTER),
+                new Storage("test.txt", "testModuleData.txt"), maxCachedShards);
+    }
+
+    @Test
+    void chooseSemester_dates_expectContainingOrLatestStarted() {
+        ModuleCatalogue catalogue = newCatalogue(1);
+        assertEquals("AY2223S2", catalogue.chooseSemester(LocalDate.of(2023, 3, 1)).getCode());
+        assertEquals("AY2223S2", catalogue.chooseSemester(LocalDate.of(2023, 6, 1)).getCode());
+        assertEquals("AY2324S1", catalogue.chooseSemester(LocalDate.of(2024, 6, 1)).getCode());
+        assertEquals("AY2223S2", catalogue.chooseSemester(LocalDate.of(2020, 1, 1)).getCode());
+        assertNull(catalogue.findSemester("AY9999S1"));
+        assertNotNull(catalogue.findSemester("ay2324s1"));
+    }
+
+    @Test
+    void getModules_moreSemestersThanCached_expectLeastRecentlyUsedEvicted() throws FileNotFoundException {
+        ModuleCatalogue catalogue = newCatalogue(1);
+        ModuleList first = catalogue.getModules(Semester.AY2223_S2);
+        assertSame(first, catalogue.getModules(Semester.AY2223_S2));
+        catalogue.getModules(LATER_SEMESTER);
+        assertEquals(List.of("AY2324S1"), catalogue.getCachedSemesters());
+    }
+
+    @Test
+    void loadSemesters_bundledList_expectCurrentSemester() {
+        assertEquals("AY2223S2", ModuleCatalogue.loadSemesters().get(0).getCode());
+    }
+
+}
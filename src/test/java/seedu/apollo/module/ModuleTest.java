@@ -4,9 +4,12 @@ import org.junit.jupiter.api.Test;
 import seedu.apollo.storage.Storage;
 
 import java.io.FileNotFoundException;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ModuleTest {
 
@@ -59,4 +62,36 @@ public class ModuleTest {
         assertNull(allModules.findModule("help"));
     }
 
+    @Test
+    void getLessons_classOfModule_expectOnlyThatClass() throws FileNotFoundException {
+        Storage storage = new Storage("test.txt", "testModuleData.txt" );
+        Module module = storage.loadModuleData().findModule("CS2113");
+        assertTrue(module.hasLessonType(LessonType.LECTURE));
+        assertFalse(module.hasLessonType(LessonType.LABORATORY));
+        String classNumber = module.getLessons(LessonType.TUTORIAL).get(0).getClassNumber();
+        assertFalse(module.getLessons(LessonType.TUTORIAL, classNumber).isEmpty());
+        for (Timetable lesson : module.getLessons(LessonType.TUTORIAL, classNumber)) {
+            assertEquals("Tutorial", lesson.getLessonType());
+            assertEquals(classNumber, lesson.getClassNumber());
+        }
+        assertTrue(module.getLessons(LessonType.TUTORIAL, "no such class").isEmpty());
+    }
+
+    @Test
+    void removeLessons_addedClass_expectIndexUpdated() throws FileNotFoundException {
+        Storage storage = new Storage("test.txt", "testModuleData.txt" );
+        Module reference = storage.loadModuleData().findModule("CS2113");
+        Module module = new Module(reference.getCode(), reference.getTitle(), reference.getModuleCredits());
+        assertTrue(module.getLessonTypes().isEmpty());
+
+        for (Timetable lesson : reference.getLessons(LessonType.LECTURE, "1")) {
+            module.addLesson(lesson);
+        }
+        assertEquals(Set.of(LessonType.LECTURE), module.getLessonTypes());
+
+        assertTrue(module.removeLessons(LessonType.LECTURE, "1"));
+        assertFalse(module.hasLessonType(LessonType.LECTURE));
+        assertFalse(module.removeLessons(LessonType.LECTURE, "1"));
+    }
+
 }
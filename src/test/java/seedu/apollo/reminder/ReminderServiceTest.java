@@ -0,0 +1,83 @@
+package seedu.apollo.reminder;
+
+import org.junit.jupiter.api.Test;
+import seedu.apollo.exception.task.DateOrderException;
+import seedu.apollo.exception.task.DateOverException;
+import seedu.apollo.task.Deadline;
+import seedu.apollo.task.RecurringEvent;
+import seedu.apollo.task.Task;
+import seedu.apollo.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReminderServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final ReminderService reminders = new ReminderService(
+            new Ui(new PrintStream(output, true, StandardCharsets.UTF_8)), NOW);
+
+    private String takeOutput() {
+        String printed = output.toString(StandardCharsets.UTF_8);
+        output.reset();
+        return printed;
+    }
+
+    @Test
+    void advanceTo_deadline_expectDayHourAndOverdueNotices() throws DateOverException {
+        Deadline deadline = new Deadline("essay", "03-01-2030-12:00");
+        reminders.update(List.of(deadline));
+        assertEquals(3, reminders.getScheduledCount());
+
+        reminders.advanceTo(LocalDateTime.of(2030, 1, 2, 11, 59));
+        assertEquals("", takeOutput());
+        reminders.advanceTo(LocalDateTime.of(2030, 1, 2, 12, 0));
+        assertTrue(takeOutput().contains("due in 1 day"));
+        reminders.advanceTo(LocalDateTime.of(2030, 1, 3, 11, 0));
+        assertTrue(takeOutput().contains("due in 1 hour"));
+        reminders.advanceTo(LocalDateTime.of(2030, 1, 3, 12, 0));
+        assertTrue(takeOutput().contains("now overdue"));
+        assertEquals(0, reminders.getScheduledCount());
+    }
+
+    @Test
+    void advanceTo_deletedOrDoneTask_expectNoNotices() throws DateOverException {
+        Deadline deleted = new Deadline("deleted", "03-01-2030-12:00");
+        Deadline done = new Deadline("done", "03-01-2030-12:00");
+        reminders.update(List.of(deleted, done));
+        reminders.update(List.<Task>of(done));
+        done.setDone(true);
+
+        reminders.advanceTo(LocalDateTime.of(2030, 1, 4, 0, 0));
+        assertEquals("", takeOutput());
+    }
+
+    @Test
+    void advanceTo_recurringEvent_expectNextOccurrenceScheduledLazily() throws DateOrderException, DateOverException {
+        RecurringEvent event = new RecurringEvent("gym", "07-01-2030-10:00", "07-01-2030-11:00",
+                LocalDate.of(2030, 6, 30));
+        reminders.update(List.<Task>of(event));
+        // only the first week is scheduled
+        assertEquals(3, reminders.getScheduledCount());
+
+        reminders.advanceTo(LocalDateTime.of(2030, 1, 7, 10, 0));
+        String printed = takeOutput();
+        assertTrue(printed.contains("starts in 1 day"));
+        assertFalse(printed.contains("overdue"));
+        assertEquals(3, reminders.getScheduledCount());
+
+        reminders.advanceTo(LocalDateTime.of(2030, 1, 14, 9, 0));
+        assertTrue(takeOutput().contains("14 Jan 2030"));
+    }
+
+}
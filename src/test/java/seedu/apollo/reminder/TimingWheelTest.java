@@ -0,0 +1,47 @@
+package seedu.apollo.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    @Test
+    void advanceTo_itemsAtEveryLevel_expectEachExpiredOnItsTick() {
+        long start = 1_000_003;
+        TimingWheel<Long> wheel = new TimingWheel<>(start);
+        long[] delays = {1, 63, 64, 65, 4095, 4096, 300_000, 16_777_300};
+        for (long delay : delays) {
+            wheel.schedule(start + delay, start + delay);
+        }
+        assertEquals(delays.length, wheel.size());
+
+        List<Long> expiredOnTick = new ArrayList<>();
+        long[] tick = {start};
+        while (wheel.size() > 0) {
+            tick[0]++;
+            wheel.advanceTo(tick[0], due -> {
+                assertEquals(tick[0], due.longValue());
+                expiredOnTick.add(due);
+            });
+        }
+        assertEquals(delays.length, expiredOnTick.size());
+        assertEquals(start + delays[delays.length - 1], wheel.getCurrentTick());
+    }
+
+    @Test
+    void schedule_pastTick_expectExpiredOnNextTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(100);
+        wheel.schedule("late", 50);
+        List<String> expired = new ArrayList<>();
+        wheel.advanceTo(100, expired::add);
+        assertTrue(expired.isEmpty());
+        wheel.advanceTo(101, expired::add);
+        assertEquals(List.of("late"), expired);
+    }
+
+}
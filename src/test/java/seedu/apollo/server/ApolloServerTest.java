@@ -0,0 +1,170 @@
+package seedu.apollo.server;
+
+import org.junit.jupiter.api.Test;
+import seedu.apollo.module.ModuleList;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApolloServerTest {
+
+    private static final int USERS = 1000;
+    private static final int MAX_IN_FLIGHT = 200;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    private ApolloServer startServer() throws IOException {
+        Path root = Files.createTempDirectory("apollo-users");
+        ApolloServer server = new ApolloServer(new InetSocketAddress("localhost", 0), root, new ModuleList());
+        server.start();
+        return server;
+    }
+
+    private HttpRequest post(ApolloServer server, String path, String body) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    @Test
+    void commands_manyUsersConcurrently_expectAllAdded() throws Exception {
+        ApolloServer server = startServer();
+        try {
+            Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+            List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < USERS; i++) {
+                inFlight.acquire();
+                HttpRequest request = post(server, "/users/user" + i + "/commands", "todo read chapter " + i);
+                responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                        .whenComplete((response, error) -> inFlight.release()));
+            }
+            for (int i = 0; i < USERS; i++) {
+                HttpResponse<String> response = responses.get(i).join();
+                assertEquals(200, response.statusCode());
+                assertTrue(response.body().contains("read chapter " + i));
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    void commands_sameUserTwice_expectTasksKept() throws Exception {
+        ApolloServer server = startServer();
+        try {
+            client.send(post(server, "/users/alice/commands", "todo first"), HttpResponse.BodyHandlers.ofString());
+            client.send(post(server, "/users/alice/commands", "todo second"), HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = client.send(post(server, "/users/alice/commands", "list"),
+                    HttpResponse.BodyHandlers.ofString());
+            assertTrue(response.body().contains("first"));
+            assertTrue(response.body().contains("second"));
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    void commands_exitWhileOtherRequestsRun_expectNoTaskLost() throws Exception {
+        ApolloServer server = startServer();
+        try {
+            List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                String command = (i % 10 == 0) ? "bye" : "todo task " + i;
+                responses.add(client.sendAsync(post(server, "/users/alice/commands", command),
+                        HttpResponse.BodyHandlers.ofString()));
+            }
+            responses.forEach(CompletableFuture::join);
+            HttpResponse<String> response = client.send(post(server, "/users/alice/commands", "list"),
+                    HttpResponse.BodyHandlers.ofString());
+            for (int i = 0; i < 50; i++) {
+                assertEquals(i % 10 != 0, response.body().contains("task " + i + "\\n"), "task " + i);
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    void commands_exportToServerFile_expectRefused() throws Exception {
+        ApolloServer server = startServer();
+        try {
+            Path file = Files.createTempDirectory("apollo-export").resolve("timetable.ics");
+            HttpResponse<String> response = client.send(post(server, "/users/alice/commands", "export ics " + file),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, response.statusCode());
+            assertTrue(response.body().contains("cannot be used on a server"));
+            assertFalse(Files.exists(file));
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    void commands_importServerFile_expectRefused() throws Exception {
+        ApolloServer server = startServer();
+        try {
+            Path file = Files.createTempFile("apollo-import", ".ics");
+            Files.writeString(file, "BEGIN:VCALENDAR\nBEGIN:VEVENT\nSUMMARY:secret meeting\n"
+                    + "DTSTART:20991231T090000\nDTEND:20991231T100000\nEND:VEVENT\nEND:VCALENDAR\n");
+            HttpResponse<String> response = client.send(post(server, "/users/alice/commands", "import ics " + file),
+                    HttpResponse.BodyHandlers.ofString());
+            assertTrue(response.body().contains("cannot be used on a server"));
+            response = client.send(post(server, "/users/alice/commands", "list"), HttpResponse.BodyHandlers.ofString());
+            assertFalse(response.body().contains("secret meeting"));
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    void commands_meetWithServerDirectory_expectRefused() throws Exception {
+        ApolloServer server = startServer();
+        try {
+            Path directory = Files.createTempDirectory("apollo-group");
+            HttpResponse<String> response = client.send(post(server, "/users/alice/commands", "meet 1h " + directory),
+                    HttpResponse.BodyHandlers.ofString());
+            assertTrue(response.body().contains("cannot be used on a server"));
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    void commands_invalidUser_expectBadRequest() throws Exception {
+        ApolloServer server = startServer();
+        try {
+            HttpResponse<String> response = client.send(post(server, "/users/a.b/commands", "list"),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(400, response.statusCode());
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    void commands_unknownPath_expectNotFound() throws Exception {
+        ApolloServer server = startServer();
+        try {
+            HttpResponse<String> response = client.send(post(server, "/users/alice/tasks", "list"),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(404, response.statusCode());
+        } finally {
+            server.stop();
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+package seedu.apollo.storage;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+import seedu.apollo.calendar.Semester;
+import seedu.apollo.exception.task.DateOverException;
+import seedu.apollo.module.CalendarModule;
+import seedu.apollo.module.Timetable;
+import seedu.apollo.task.Deadline;
+import seedu.apollo.task.ToDo;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IcsWriterTest {
+
+    private static CalendarModule lesson(String weeks) {
+        String json = "{\"classNumber\": \"1\", \"lessonType\": \"Tutorial\", \"day\": \"Monday\", "
+                + "\"startTime\": \"1000\", \"endTime\": \"1100\", \"weeks\": [" + weeks + "]}";
+        CalendarModule lesson = new CalendarModule("CS2113", "Software Engineering", "4");
+        lesson.setSchedule(new Gson().fromJson(json, Timetable.class));
+        return lesson;
+    }
+
+    @Test
+    void writeLesson_oddWeeks_expectOneRecurrenceWithSkippedWeeksExcluded() throws IOException {
+        StringWriter out = new StringWriter();
+        try (IcsWriter writer = new IcsWriter(out, Semester.AY2223_S2)) {
+            assertTrue(writer.writeLesson(lesson("3, 5, 7")));
+        }
+        String ics = out.toString();
+        assertEquals(1, ics.split("BEGIN:VEVENT", -1).length - 1);
+        // week 3 starts on 23 Jan, and week 7 on 27 Feb after recess week
+        assertTrue(ics.contains("DTSTART;TZID=Asia/Singapore:20230123T100000\r\n"));
+        assertTrue(ics.contains("RRULE:FREQ=WEEKLY;UNTIL=20230227T155959Z\r\n"));
+        assertTrue(ics.contains("EXDATE;TZID=Asia/Singapore:20230130T100000\r\n"));
+        assertTrue(ics.contains("EXDATE;TZID=Asia/Singapore:20230213T100000\r\n"));
+        assertTrue(ics.contains("EXDATE;TZID=Asia/Singapore:20230220T100000\r\n"));
+        assertFalse(ics.contains("EXDATE;TZID=Asia/Singapore:20230206T100000"));
+        assertTrue(ics.endsWith("END:VCALENDAR\r\n"));
+    }
+
+    @Test
+    void writeTask_longDescriptionAndTodo_expectFoldedLinesAndTodoSkipped() throws IOException,
+            DateOverException {
+        StringWriter out = new StringWriter();
+        try (IcsWriter writer = new IcsWriter(out, Semester.AY2223_S2)) {
+            assertTrue(writer.writeTask(new Deadline("a; b, c " + "x".repeat(100), "01-01-2030-23:59")));
+            assertFalse(writer.writeTask(new ToDo("read")));
+            assertEquals(1, writer.getEventCount());
+        }
+        String ics = out.toString();
+        assertTrue(ics.contains("SUMMARY:Deadline: a\\; b\\, c "));
+        for (String line : ics.split("\r\n")) {
+            assertTrue(line.length() <= 75);
+        }
+        assertTrue(ics.contains("\r\n x"));
+    }
+
+}
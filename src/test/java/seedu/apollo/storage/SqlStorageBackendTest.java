@@ -0,0 +1,156 @@
+package seedu.apollo.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.apollo.calendar.Calendar;
+import seedu.apollo.exception.task.DateOverException;
+import seedu.apollo.module.Module;
+import seedu.apollo.module.ModuleList;
+import seedu.apollo.task.Deadline;
+import seedu.apollo.task.TaskList;
+import seedu.apollo.task.ToDo;
+import seedu.apollo.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class SqlStorageBackendTest {
+
+    private static final int NEXT_YEAR = LocalDate.now().getYear() + 1;
+
+    private final Ui silentUi = new Ui(new PrintStream(new ByteArrayOutputStream()));
+
+    @Test
+    void updateTask_oneTaskChanged_expectOnlyItsRowWritten() throws IOException, DateOverException {
+        Path directory = newDatabaseDirectory();
+        SqlStorageBackend backend = newBackend(directory);
+        TaskList taskList = backend.loadTaskList(silentUi);
+        assertEquals(0, taskList.size());
+        taskList.add(new ToDo("read book"));
+        taskList.add(new Deadline("submit report", "05-01-" + NEXT_YEAR + "-23:59"));
+        assertTrue(backend.updateTask(taskList) > 0);
+
+        taskList.get(0).setDone(true);
+        String doneLine = SaveFormat.toSaveLine(taskList.get(0));
+        assertEquals(doneLine.length(), backend.updateTask(taskList));
+        assertEquals(0, backend.updateTask(taskList));
+
+        TaskList loaded = newBackend(directory).loadTaskList(silentUi);
+        assertEquals(2, loaded.size());
+        assertTrue(loaded.get(0).isDone());
+        assertEquals("submit report", loaded.get(1).getDescription());
+    }
+
+    @Test
+    void updateTask_tasksRemovedAndMoved_expectOrderKept() throws IOException, DateOverException {
+        Path directory = newDatabaseDirectory();
+        SqlStorageBackend backend = newBackend(directory);
+        TaskList taskList = backend.loadTaskList(silentUi);
+        taskList.add(new ToDo("first"));
+        taskList.add(new ToDo("second"));
+        taskList.add(new ToDo("third"));
+        backend.updateTask(taskList);
+
+        taskList.remove(0);
+        taskList.add(0, taskList.remove(1));
+        taskList.add(1, new ToDo("new"));
+        // the moved Task only has its sort key written, and the Task that did not move is not written at all
+        assertEquals(SaveFormat.toSaveLine(taskList.get(1)).length(), backend.updateTask(taskList));
+
+        TaskList loaded = newBackend(directory).loadTaskList(silentUi);
+        assertEquals(3, loaded.size());
+        assertEquals("third", loaded.get(0).getDescription());
+        assertEquals("new", loaded.get(1).getDescription());
+        assertEquals("second", loaded.get(2).getDescription());
+    }
+
+    @Test
+    void getSortKeys_firstTaskRemoved_expectKeysKept() {
+        long gap = SqlStorageBackend.SORT_KEY_GAP;
+        assertArrayEquals(new long[] {2 * gap, 3 * gap},
+                SqlStorageBackend.getSortKeys(new Long[] {2 * gap, 3 * gap}));
+    }
+
+    @Test
+    void getSortKeys_tasksAddedAndMoved_expectOnlyTheirKeysChanged() {
+        long gap = SqlStorageBackend.SORT_KEY_GAP;
+        // a new Task at the start, the last Task moved between the first two, and a new Task at the end
+        long[] sortKeys = SqlStorageBackend.getSortKeys(new Long[] {null, gap, 4 * gap, 2 * gap, 3 * gap, null});
+        assertEquals(0, sortKeys[0]);
+        assertEquals(gap, sortKeys[1]);
+        assertEquals(2 * gap, sortKeys[3]);
+        assertEquals(3 * gap, sortKeys[4]);
+        assertEquals(4 * gap, sortKeys[5]);
+        assertTrue(gap < sortKeys[2] && sortKeys[2] < 2 * gap);
+    }
+
+    @Test
+    void getSortKeys_noGapLeft_expectEveryKeyRenewed() {
+        long gap = SqlStorageBackend.SORT_KEY_GAP;
+        assertArrayEquals(new long[] {gap, 2 * gap, 3 * gap}, SqlStorageBackend.getSortKeys(new Long[] {5L, null, 6L}));
+    }
+
+    @Test
+    void getPastTasksOnDate_taskOver_expectFoundWithoutLoading() throws IOException, DateOverException {
+        Path directory = newDatabaseDirectory();
+        SqlStorageBackend backend = newBackend(directory);
+        TaskList taskList = backend.loadTaskList(silentUi);
+        taskList.add(new ToDo("read book"));
+        taskList.add(new Deadline("submit draft", "02-01-2025-23:59", LocalDateTime.MIN));
+        backend.updateTask(taskList);
+
+        SqlStorageBackend reopened = newBackend(directory);
+        assertEquals(1, reopened.loadTaskList(silentUi).size());
+        assertEquals(1, reopened.getPastTaskCount());
+        assertEquals(1, reopened.findPastTasks("DRAFT").size());
+        assertEquals(0, reopened.findPastTasks("book").size());
+        assertEquals(1, reopened.getPastTasksOnDate(LocalDate.of(2025, 1, 2)).size());
+        assertEquals(0, reopened.getPastTasksOnDate(LocalDate.of(2025, 1, 3)).size());
+        assertEquals(0, reopened.loadPastTasks(LocalDate.of(2025, 1, 3)).size());
+    }
+
+    @Test
+    void updateModule_moduleRemoved_expectRowDeleted() throws IOException {
+        Path directory = newDatabaseDirectory();
+        SqlStorageBackend backend = newBackend(directory);
+        ModuleList allModules = new Storage("test.txt", "testModuleData.txt").loadModuleData();
+        Module module = allModules.findModule("CS2113");
+        ModuleList moduleList = new ModuleList();
+        moduleList.add(new Module(module.getCode(), module.getTitle(), module.getModuleCredits()));
+
+        backend.updateModule(moduleList);
+        assertEquals(1, newBackend(directory).loadModuleList(silentUi, allModules, new Calendar()).size());
+        backend.updateModule(new ModuleList());
+        assertEquals(0, newBackend(directory).loadModuleList(silentUi, allModules, new Calendar()).size());
+    }
+
+    /**
+     * Creates a directory for a new database, skipping the test if the H2 driver is not on the classpath.
+     */
+    private static Path newDatabaseDirectory() throws IOException {
+        boolean isDriverFound;
+        try {
+            Class.forName("org.h2.Driver");
+            isDriverFound = true;
+        } catch (ClassNotFoundException e) {
+            isDriverFound = false;
+        }
+        assumeTrue(isDriverFound, "H2 is not on the classpath");
+        return Files.createTempDirectory("apollo-database");
+    }
+
+    private static SqlStorageBackend newBackend(Path directory) {
+        return new SqlStorageBackend(directory.resolve("save" + SqlStorageBackend.DATABASE_EXTENSION).toString(),
+                directory.resolve("moduleData.txt").toString());
+    }
+
+}
@@ -0,0 +1,82 @@
+package seedu.apollo.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.apollo.task.TaskList;
+import seedu.apollo.task.ToDo;
+import seedu.apollo.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskArchiveTest {
+
+    private final Ui silentUi = new Ui(new PrintStream(new ByteArrayOutputStream()));
+
+    @Test
+    void find_twoAppends_expectLinesOfBoth() throws IOException {
+        Path directory = Files.createTempDirectory("apollo-archive");
+        TaskArchive archive = new TaskArchive(directory.resolve("save.txt").toString());
+        assertTrue(archive.find(line -> true).isEmpty());
+
+        archive.append(List.of("T | X 01-01-2026 | read book"));
+        archive.append(List.of("T | X 02-01-2026 | read notes", "T | X 03-01-2026 | write report"));
+
+        assertEquals(directory.resolve("save.archive.gz"), archive.getPath());
+        assertEquals(3, archive.find(line -> true).size());
+        assertEquals(List.of("T | X 02-01-2026 | read notes"), archive.find(line -> line.endsWith("notes")));
+    }
+
+    @Test
+    void archiveDoneTasks_oldAndRecentTasks_expectOnlyOldTasksArchived() throws IOException {
+        Path directory = Files.createTempDirectory("apollo-archive");
+        Storage storage = new Storage(directory.resolve("save.txt").toString(),
+                directory.resolve("moduleData.txt").toString());
+        storage.setArchiveAfterDays(7);
+        TaskList taskList = new TaskList();
+        taskList.add(done("read book", LocalDate.now().minusDays(8)));
+        taskList.add(done("read notes", LocalDate.now().minusDays(7)));
+        taskList.add(new ToDo("write report"));
+
+        assertEquals(1, storage.archiveDoneTasks(taskList));
+        assertEquals(2, taskList.size());
+        assertEquals("read notes", taskList.get(0).getDescription());
+        List<String> found = storage.findArchivedTasks("BOOK");
+        assertEquals(1, found.size());
+        assertTrue(found.get(0).startsWith("[T][X] read book (done: "));
+        assertTrue(storage.findArchivedTasks("T |").isEmpty());
+    }
+
+    @Test
+    void loadTaskList_doneDates_expectKeptAfterSaving() throws IOException {
+        Path directory = Files.createTempDirectory("apollo-archive");
+        Path saveFile = directory.resolve("save.txt");
+        Files.writeString(saveFile, "T | X 01-02-2026 | read book\nT | X | read notes\nT |   | write report\n");
+        Storage storage = new Storage(saveFile.toString(), directory.resolve("moduleData.txt").toString());
+
+        TaskList taskList = storage.loadTaskList(silentUi);
+        assertEquals(LocalDate.of(2026, 2, 1), taskList.get(0).getDoneDate());
+        // done tasks saved without a date are dated the day they are loaded
+        assertEquals(LocalDate.now(), taskList.get(1).getDoneDate());
+        assertFalse(taskList.get(2).isDone());
+
+        storage.updateTask(taskList);
+        assertTrue(Files.readString(saveFile).startsWith("T | X 01-02-2026 | read book\n"));
+    }
+
+    private static ToDo done(String description, LocalDate doneDate) {
+        ToDo toDo = new ToDo(description);
+        toDo.setDone(true);
+        toDo.setDoneDate(doneDate);
+        return toDo;
+    }
+
+}
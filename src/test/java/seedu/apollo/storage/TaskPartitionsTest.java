@@ -0,0 +1,105 @@
+package seedu.apollo.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.apollo.exception.task.DateOverException;
+import seedu.apollo.task.Deadline;
+import seedu.apollo.task.TaskList;
+import seedu.apollo.task.ToDo;
+import seedu.apollo.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskPartitionsTest {
+
+    private static final int NEXT_YEAR = LocalDate.now().getYear() + 1;
+
+    private final Ui silentUi = new Ui(new PrintStream(new ByteArrayOutputStream()));
+
+    @Test
+    void getKey_deadlineAndTodo_expectMonthOfDeadlineAndUndated() throws DateOverException {
+        Deadline deadline = new Deadline("submit report", "05-01-" + NEXT_YEAR + "-23:59");
+
+        assertEquals(NEXT_YEAR + "-01", TaskPartitions.getKey(deadline));
+        assertEquals(TaskPartitions.UNDATED, TaskPartitions.getKey(new ToDo("read book")));
+    }
+
+    @Test
+    void updateTask_legacySaveFile_expectTasksSplitByMonth() throws IOException {
+        Path directory = Files.createTempDirectory("apollo-partitions");
+        Path saveFile = directory.resolve("save.txt");
+        Files.writeString(saveFile, "T |   | read book\n"
+                + "D |   | submit report -by 05-01-" + NEXT_YEAR + "-23:59\n"
+                + "D | X 01-01-2025 | submit draft -by 02-01-2025-23:59\n"
+                + "E |   | attend talk -from 03-03-2025-10:00 -to 03-03-2025-12:00\n");
+        Storage storage = new Storage(saveFile.toString(), directory.resolve("moduleData.txt").toString());
+
+        TaskList taskList = storage.loadTaskList(silentUi);
+        assertEquals(2, taskList.size());
+        assertEquals(2, storage.getPastTaskCount());
+        assertTrue(storage.isTaskFileOutdated());
+
+        storage.updateTask(taskList);
+        assertEquals(List.of("T |   | read book"), Files.readAllLines(saveFile));
+        assertEquals(1, Files.readAllLines(directory.resolve("save/2025-01.txt")).size());
+        assertEquals(List.of("2025-01 | 1", "2025-03 | 1", NEXT_YEAR + "-01 | 1"),
+                Files.readAllLines(directory.resolve("save/manifest.txt")));
+    }
+
+    @Test
+    void updateTask_legacySaveFileSavedTwice_expectPastMonthsKept() throws IOException {
+        Path directory = Files.createTempDirectory("apollo-partitions");
+        Path saveFile = directory.resolve("save.txt");
+        Files.writeString(saveFile, "T |   | read book\n"
+                + "D | X 01-01-2025 | submit draft -by 02-01-2025-23:59\n"
+                + "E |   | attend talk -from 03-03-2025-10:00 -to 03-03-2025-12:00\n");
+        Storage storage = new Storage(saveFile.toString(), directory.resolve("moduleData.txt").toString());
+
+        TaskList taskList = storage.loadTaskList(silentUi);
+        storage.updateTask(taskList);
+        taskList.add(new ToDo("write report"));
+        storage.updateTask(taskList);
+
+        assertEquals(1, Files.readAllLines(directory.resolve("save/2025-01.txt")).size());
+        assertEquals(1, Files.readAllLines(directory.resolve("save/2025-03.txt")).size());
+        assertEquals(List.of("2025-01 | 1", "2025-03 | 1"), Files.readAllLines(directory.resolve("save/manifest.txt")));
+        assertEquals(2, storage.getPastTaskCount());
+        assertEquals(2, new Storage(saveFile.toString(), directory.resolve("moduleData.txt").toString())
+                .getPastTaskCount());
+    }
+
+    @Test
+    void loadTaskList_pastMonths_expectCountedButOnlyLoadedWhenAskedFor() throws IOException {
+        Path directory = Files.createTempDirectory("apollo-partitions");
+        Path saveFile = directory.resolve("save.txt");
+        Files.writeString(saveFile, "T |   | read book\n");
+        Files.createDirectories(directory.resolve("save"));
+        Files.writeString(directory.resolve("save/2025-01.txt"), "D |   | submit draft -by 02-01-2025-23:59\n");
+        Files.writeString(directory.resolve("save/2025-03.txt"),
+                "E |   | attend talk -from 03-03-2025-10:00 -to 03-03-2025-12:00\n");
+        // the manifest is rebuilt from the months if it is missing
+        Storage storage = new Storage(saveFile.toString(), directory.resolve("moduleData.txt").toString());
+
+        TaskList taskList = storage.loadTaskList(silentUi);
+        assertEquals(1, taskList.size());
+        assertFalse(storage.isTaskFileOutdated());
+        assertEquals(2, storage.getPastTaskCount());
+        assertEquals(2, storage.loadPastTasks(null).size());
+        assertEquals(1, storage.loadPastTasks(LocalDate.of(2025, 3, 3)).size());
+        assertEquals("attend talk", storage.loadPastTasks(LocalDate.of(2025, 3, 3)).get(0).getDescription());
+
+        storage.updateTask(taskList);
+        assertEquals(1, Files.readAllLines(directory.resolve("save/2025-01.txt")).size());
+        assertEquals(List.of("2025-01 | 1", "2025-03 | 1"), Files.readAllLines(directory.resolve("save/manifest.txt")));
+    }
+
+}
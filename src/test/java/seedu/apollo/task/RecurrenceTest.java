@@ -0,0 +1,85 @@
+package seedu.apollo.task;
+
+import org.junit.jupiter.api.Test;
+import seedu.apollo.exception.task.DateOrderException;
+import seedu.apollo.exception.task.DateOverException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecurrenceTest {
+
+    // Monday 10:00 to 12:00, for ten weeks
+    private final Recurrence recurrence = new Recurrence(LocalDateTime.of(2030, 1, 7, 10, 0), Duration.ofHours(2),
+            LocalDate.of(2030, 3, 11));
+
+    @Test
+    void getCount_tenWeeks_expectTenOccurrences() {
+        assertEquals(10, recurrence.getCount());
+        assertEquals(LocalDateTime.of(2030, 3, 11, 10, 0), recurrence.getLastStart());
+    }
+
+    @Test
+    void getStartsBetween_partOfPeriod_expectOnlyOverlappingOccurrences() {
+        List<LocalDateTime> starts = new ArrayList<>();
+        // starts during the second occurrence and ends at the start of the fourth
+        recurrence.getStartsBetween(LocalDateTime.of(2030, 1, 14, 11, 0), LocalDateTime.of(2030, 1, 28, 10, 0))
+                .forEach(starts::add);
+        assertEquals(List.of(LocalDateTime.of(2030, 1, 14, 10, 0), LocalDateTime.of(2030, 1, 21, 10, 0),
+                LocalDateTime.of(2030, 1, 28, 10, 0)), starts);
+    }
+
+    @Test
+    void isOnDate_variousDates_expectOnlyWeeklyDatesWithinRule() {
+        assertTrue(recurrence.isOnDate(LocalDate.of(2030, 2, 4)));
+        assertFalse(recurrence.isOnDate(LocalDate.of(2030, 2, 5)));
+        assertFalse(recurrence.isOnDate(LocalDate.of(2030, 3, 18)));
+        assertFalse(recurrence.isOnDate(LocalDate.of(2029, 12, 31)));
+    }
+
+    @Test
+    void isWithin_periodsAroundOccurrences_expectOnlyWholeOccurrences() {
+        assertTrue(recurrence.isWithin(LocalDateTime.of(2030, 2, 4, 9, 0), LocalDateTime.of(2030, 2, 4, 12, 0)));
+        assertFalse(recurrence.isWithin(LocalDateTime.of(2030, 2, 4, 11, 0), LocalDateTime.of(2030, 2, 10, 12, 0)));
+        assertTrue(recurrence.isWithin(LocalDateTime.of(2030, 2, 4, 11, 0), LocalDateTime.of(2030, 2, 11, 12, 0)));
+        assertFalse(recurrence.isWithin(LocalDateTime.of(2030, 3, 12, 0, 0), LocalDateTime.of(2031, 1, 1, 0, 0)));
+    }
+
+    @Test
+    void isDuring_otherRule_expectClashFoundFromFirstOccurrences() {
+        // Monday 11:00 to 13:00, starting in the last week of the rule
+        assertTrue(recurrence.isDuring(new Recurrence(LocalDateTime.of(2030, 3, 11, 11, 0), Duration.ofHours(2),
+                LocalDate.of(2040, 1, 1))));
+        // Monday 9:00 to 10:00 for years, starting long before the rule
+        assertTrue(recurrence.isDuring(new Recurrence(LocalDateTime.of(2020, 1, 6, 9, 0), Duration.ofHours(1),
+                LocalDate.of(9999, 12, 31))));
+        // Tuesdays never clash
+        assertFalse(recurrence.isDuring(new Recurrence(LocalDateTime.of(2020, 1, 7, 10, 0), Duration.ofHours(2),
+                LocalDate.of(9999, 12, 31))));
+        // Mondays that only start after the rule has ended
+        assertFalse(recurrence.isDuring(new Recurrence(LocalDateTime.of(2030, 3, 18, 10, 0), Duration.ofHours(2),
+                LocalDate.of(9999, 12, 31))));
+    }
+
+    @Test
+    void newRecurringEvent_untilBeforeStart_expectException() {
+        assertThrows(DateOrderException.class, () -> new RecurringEvent("test", "07-01-2030-10:00",
+                "07-01-2030-12:00", LocalDate.of(2030, 1, 6)));
+    }
+
+    @Test
+    void newRecurringDeadline_normalDeadline_expectDeadline() throws DateOrderException, DateOverException {
+        RecurringDeadline deadline = new RecurringDeadline("test", "07-01-2030-23:59", LocalDate.of(2030, 1, 21));
+        assertEquals("[RD][ ] test (by: 07 Jan 2030, 11:59PM, weekly until: 21-01-2030)", deadline.toString());
+        assertTrue(deadline.isOnDate(LocalDate.of(2030, 1, 14)));
+    }
+
+}
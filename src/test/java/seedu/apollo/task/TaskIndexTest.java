@@ -0,0 +1,77 @@
+package seedu.apollo.task;
+
+import org.junit.jupiter.api.Test;
+import seedu.apollo.exception.task.DateOverException;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TaskIndexTest {
+
+    @Test
+    void filter_tagsTypeAndStatus_expectOnlyMatching() throws DateOverException {
+        TaskList taskList = new TaskList();
+        taskList.add(new ToDo("read notes #CS2113"));
+        taskList.add(new Deadline("submit quiz #cs2113 #graded", "05-06-2099-23:59"));
+        taskList.add(new Deadline("submit essay #ES2660", "05-06-2099-23:59"));
+        taskList.add(new Deadline("submit iP #CS2113", "06-06-2099-23:59"));
+        taskList.setDone(3, true);
+
+        BitSet expected = new BitSet();
+        expected.set(1);
+        assertEquals(expected, taskList.filter(List.of("#CS2113"), "deadline", false));
+        expected.set(3);
+        assertEquals(expected, taskList.filter(List.of("cs2113"), "deadline", null));
+        assertEquals(new BitSet(), taskList.filter(List.of("#missing"), null, null));
+    }
+
+    @Test
+    void getUndoneCount_tasksChangedOutsideList_expectCountKeptUpToDate() {
+        ToDo toDo = new ToDo("todo");
+        ToDo toDoA = new ToDo("todoA");
+        ToDo toDoB = new ToDo("todoB");
+        TaskList taskList = new TaskList();
+        taskList.add(toDo);
+        taskList.add(toDoA);
+        assertEquals(2, taskList.getUndoneCount());
+
+        taskList.add(toDoB);
+        taskList.setDone(0, true);
+        assertEquals(2, taskList.getUndoneCount());
+
+        toDoA.setDone(true);
+        assertEquals(1, taskList.getUndoneCount());
+        taskList.remove(toDoB);
+        assertEquals(0, taskList.getUndoneCount());
+        taskList.set(0, toDoB);
+        assertEquals(1, taskList.getUndoneCount());
+    }
+
+    @Test
+    void getUndoneCount_taskInTwoLists_expectBothKeptUpToDate() {
+        ToDo shared = new ToDo("shared");
+        TaskList first = new TaskList();
+        first.add(shared);
+        first.add(new ToDo("first only"));
+        TaskList second = new TaskList();
+        second.add(shared);
+        assertEquals(2, first.getUndoneCount());
+        assertEquals(1, second.getUndoneCount());
+
+        first.setDone(0, true);
+        assertEquals(1, first.getUndoneCount());
+        assertEquals(0, second.getUndoneCount());
+        shared.setDone(false);
+        assertEquals(2, first.getUndoneCount());
+        assertEquals(1, second.getUndoneCount());
+    }
+
+    @Test
+    void getTags_descriptionWithTags_expectTagsInLowerCase() {
+        ToDo toDo = new ToDo("read #CS2113 notes#not-a-tag #week_5");
+        assertEquals(List.of("cs2113", "week_5"), List.copyOf(toDo.getTags()));
+    }
+
+}
@@ -7,6 +7,8 @@ import seedu.apollo.exception.task.DateOverException;
 import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TaskListTest {
 
@@ -106,4 +108,16 @@ class TaskListTest {
         assertEquals(toDoB, taskList.get(7));
     }
 
+    @Test
+    void isSortedByDay_unorderedTasks_expectFalseUntilSorted() {
+        TaskList taskList = new TaskList();
+        taskList.add(toDo);
+        taskList.add(eventB);
+        taskList.add(deadlineB);
+        taskList.add(deadline);
+        assertFalse(taskList.isSortedByDay());
+        taskList.sortTaskByDay();
+        assertTrue(taskList.isSortedByDay());
+    }
+
 }